@@ -44,6 +44,11 @@ public class ApplicationConfig {
         private Long registrationTimeoutMs;
         private Long authenticationTimeoutMs;
         private Boolean skipAttestationVerification;
+        private String challengeStore = "memory"; // "memory" (single node) or "database" (multi-node)
+        private Integer challengeStoreMaxEntries = 100000;
+        private Integer publicKeyCacheMaxEntries = 10000; // Decoded COSE keys of vanilla passkeys, by credential id
+        private String metadataBlobPath; // Locally provisioned FIDO MDS3 blob (JWS); enables strict attestation
+        private String metadataRootCertificatePath; // PEM/DER root the blob's x5c chain must lead to
 
         // Getters and Setters for all fields
         public String getRelyingPartyId() {
@@ -93,5 +98,45 @@ public class ApplicationConfig {
         public void setSkipAttestationVerification(Boolean skipAttestationVerification) {
             this.skipAttestationVerification = skipAttestationVerification;
         }
+
+        public String getChallengeStore() {
+            return challengeStore;
+        }
+
+        public void setChallengeStore(String challengeStore) {
+            this.challengeStore = challengeStore;
+        }
+
+        public Integer getChallengeStoreMaxEntries() {
+            return challengeStoreMaxEntries;
+        }
+
+        public void setChallengeStoreMaxEntries(Integer challengeStoreMaxEntries) {
+            this.challengeStoreMaxEntries = challengeStoreMaxEntries;
+        }
+
+        public Integer getPublicKeyCacheMaxEntries() {
+            return publicKeyCacheMaxEntries;
+        }
+
+        public void setPublicKeyCacheMaxEntries(Integer publicKeyCacheMaxEntries) {
+            this.publicKeyCacheMaxEntries = publicKeyCacheMaxEntries;
+        }
+
+        public String getMetadataBlobPath() {
+            return metadataBlobPath;
+        }
+
+        public void setMetadataBlobPath(String metadataBlobPath) {
+            this.metadataBlobPath = metadataBlobPath;
+        }
+
+        public String getMetadataRootCertificatePath() {
+            return metadataRootCertificatePath;
+        }
+
+        public void setMetadataRootCertificatePath(String metadataRootCertificatePath) {
+            this.metadataRootCertificatePath = metadataRootCertificatePath;
+        }
     }
 }
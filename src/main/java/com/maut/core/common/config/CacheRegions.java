@@ -0,0 +1,23 @@
+package com.maut.core.common.config;
+
+/**
+ * Hibernate second-level cache region names. Each region must be declared (and bounded) in
+ * {@code ehcache.xml}, together with a {@code <region>##NaturalId} sibling for entities using
+ * {@code @NaturalIdCache}.
+ */
+public final class CacheRegions {
+
+    private CacheRegions() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static final String TEAM = "team";
+    public static final String TEAM_ROLE = "teamRole";
+    public static final String ADMIN_ROLE = "adminRole";
+    public static final String TEAM_MEMBERSHIP = "teamMembership";
+
+    /**
+     * Query hint enabling the query cache on a Spring Data repository method.
+     */
+    public static final String QUERY_CACHEABLE_HINT = "org.hibernate.cacheable";
+}
@@ -60,6 +60,9 @@ public class DatabaseConfig {
         // Add dialect with default
         jpaProperties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
         
+        // Second-level cache for slowly changing reference data (teams, roles, memberships)
+        applySecondLevelCacheProperties(jpaProperties);
+
         // Add any additional Hibernate properties from the configuration
         if (databaseProperties.getJpa() != null && databaseProperties.getJpa().getProperties() != null) {
             databaseProperties.getJpa().getProperties().forEach(jpaProperties::put);
@@ -69,6 +72,28 @@ public class DatabaseConfig {
         return em;
     }
 
+    /**
+     * Enables the JCache-backed (Ehcache 3) second-level cache. Regions are declared and bounded in
+     * ehcache.xml; undeclared regions fail fast instead of silently creating unbounded caches.
+     * Statistics are on by default so per-region hit ratios can be exported as metrics; operators can
+     * turn them off to save the per-session bookkeeping.
+     */
+    private void applySecondLevelCacheProperties(Properties jpaProperties) {
+        DatabaseProperties.SecondLevelCacheProperties cache = databaseProperties.getSecondLevelCache();
+        if (cache == null || !cache.isEnabled()) {
+            jpaProperties.put("hibernate.cache.use_second_level_cache", "false");
+            return;
+        }
+        jpaProperties.put("hibernate.cache.use_second_level_cache", "true");
+        jpaProperties.put("hibernate.cache.use_query_cache", String.valueOf(cache.isQueryCacheEnabled()));
+        jpaProperties.put("hibernate.cache.region.factory_class", "jcache");
+        jpaProperties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+        jpaProperties.put("hibernate.javax.cache.uri", cache.getConfigUri());
+        jpaProperties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        jpaProperties.put("javax.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+        jpaProperties.put("hibernate.generate_statistics", String.valueOf(cache.isStatisticsEnabled()));
+    }
+
     /**
      * Configures the transaction manager.
      */
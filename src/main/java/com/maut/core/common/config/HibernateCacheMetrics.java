@@ -0,0 +1,84 @@
+package com.maut.core.common.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exports Hibernate second-level cache statistics per region: hit/miss/put counters and a hit ratio
+ * gauge ({@code hibernate.cache.region.hit.ratio}), all tagged with {@code region}.
+ */
+@Component
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(HibernateCacheMetrics.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            log.info("Hibernate statistics disabled; second-level cache metrics not registered");
+            return;
+        }
+
+        // The query results region is created lazily on first use, so it is not listed yet at bind time.
+        Set<String> regions = new LinkedHashSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()));
+        regions.add(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+        for (String region : regions) {
+            FunctionCounter.builder("hibernate.cache.region.hits", statistics, s -> count(regionStats(s, region), CacheRegionStatistics::getHitCount))
+                    .tag("region", region)
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.region.misses", statistics, s -> count(regionStats(s, region), CacheRegionStatistics::getMissCount))
+                    .tag("region", region)
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.region.puts", statistics, s -> count(regionStats(s, region), CacheRegionStatistics::getPutCount))
+                    .tag("region", region)
+                    .register(registry);
+            Gauge.builder("hibernate.cache.region.hit.ratio", statistics, s -> hitRatio(regionStats(s, region)))
+                    .tag("region", region)
+                    .description("Second-level cache hits / (hits + misses) since startup")
+                    .register(registry);
+        }
+    }
+
+    private static CacheRegionStatistics regionStats(Statistics statistics, String region) {
+        if (RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME.equals(region)) {
+            return statistics.getQueryRegionStatistics(region);
+        }
+        return statistics.getCacheRegionStatistics(region);
+    }
+
+    private static double count(CacheRegionStatistics stats, ToLongFunction<CacheRegionStatistics> counter) {
+        return stats == null ? 0 : counter.applyAsLong(stats);
+    }
+
+    private static double hitRatio(CacheRegionStatistics stats) {
+        if (stats == null) {
+            return Double.NaN;
+        }
+        long hits = stats.getHitCount();
+        long total = hits + stats.getMissCount();
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+}
@@ -1,10 +1,24 @@
 package com.maut.core.common.config;
 
+import com.maut.core.modules.authenticator.metadata.CachingCertPathTrustworthinessVerifier;
+import com.maut.core.modules.authenticator.metadata.FidoMetadataService;
+import com.maut.core.modules.authenticator.metadata.MetadataStatusRegistrationVerifier;
 import com.webauthn4j.WebAuthnManager;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.verifier.attestation.statement.androidkey.AndroidKeyAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.androidsafetynet.AndroidSafetyNetAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.apple.AppleAnonymousAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.none.NoneAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.packed.PackedAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.tpm.TPMAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.u2f.FIDOU2FAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 /**
  * Configuration class for WebAuthn4J beans.
  */
@@ -29,17 +43,35 @@ public class WebAuthnConfiguration {
      * Provides a singleton bean of {@link WebAuthnManager}.
      * This manager is the central component for WebAuthn operations like registration
      * and authentication validation.
+     * <p>
+     * When a FIDO metadata blob is configured, attestation statements are fully verified: every
+     * attestation format is checked and certificate chains must lead to a trust anchor from the
+     * metadata index (see {@link CachingCertPathTrustworthinessVerifier}). Without metadata there is
+     * no trust-anchor source, so the non-strict manager is used.
      *
      * @param objectConverter The {@link ObjectConverter} bean to be used by the WebAuthnManager.
+     * @param metadataService Source of attestation trust anchors and authenticator status.
+     * @param meterRegistry Registry for the certificate path cache metrics.
      * @return A configured {@link WebAuthnManager} instance.
      */
     @Bean
-    public WebAuthnManager webAuthnManager(ObjectConverter objectConverter) {
-        // Creates a WebAuthnManager with default authenticator validators (for registration and authentication)
-        // and the provided ObjectConverter. "NonStrict" typically implies more lenient validation rules,
-        // which can be helpful for broader authenticator compatibility.
-        // For stricter production environments, consider `WebAuthnManager.createDefaultWebAuthnManager()`
-        // or manually providing a list of configured `AuthenticatorValidator`s.
-        return WebAuthnManager.createNonStrictWebAuthnManager(objectConverter);
+    public WebAuthnManager webAuthnManager(ObjectConverter objectConverter, FidoMetadataService metadataService, MeterRegistry meterRegistry) {
+        if (!metadataService.isEnabled()) {
+            return WebAuthnManager.createNonStrictWebAuthnManager(objectConverter);
+        }
+        return new WebAuthnManager(
+                List.of(
+                        new NoneAttestationStatementVerifier(),
+                        new PackedAttestationStatementVerifier(),
+                        new FIDOU2FAttestationStatementVerifier(),
+                        new AndroidKeyAttestationStatementVerifier(),
+                        new AndroidSafetyNetAttestationStatementVerifier(),
+                        new TPMAttestationStatementVerifier(),
+                        new AppleAnonymousAttestationStatementVerifier()),
+                new CachingCertPathTrustworthinessVerifier(metadataService, meterRegistry),
+                new DefaultSelfAttestationTrustworthinessVerifier(),
+                List.of(new MetadataStatusRegistrationVerifier(metadataService)),
+                List.of(),
+                objectConverter);
     }
 }
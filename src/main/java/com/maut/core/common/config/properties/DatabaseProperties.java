@@ -25,6 +25,7 @@ public class DatabaseProperties {
     private String driverClassName;
     private JpaProperties jpa;
     private FlywayProperties flyway;
+    private SecondLevelCacheProperties secondLevelCache = new SecondLevelCacheProperties();
     
     public String getUrl() {
         return url;
@@ -49,6 +50,10 @@ public class DatabaseProperties {
     public FlywayProperties getFlyway() {
         return flyway;
     }
+
+    public SecondLevelCacheProperties getSecondLevelCache() {
+        return secondLevelCache;
+    }
     
     /**
      * JPA specific configuration properties.
@@ -108,4 +113,16 @@ public class DatabaseProperties {
             return locations;
         }
     }
+
+    /**
+     * Hibernate second-level cache (JCache/Ehcache) configuration properties.
+     */
+    @Data
+    public static class SecondLevelCacheProperties {
+        private boolean enabled = true;
+        private boolean queryCacheEnabled = true;
+        private String configUri = "ehcache.xml";
+        /** Collects Hibernate statistics so per-region cache metrics are exported; adds per-session overhead. */
+        private boolean statisticsEnabled = true;
+    }
 }
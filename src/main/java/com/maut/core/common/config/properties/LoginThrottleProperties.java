@@ -0,0 +1,104 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+
+/**
+ * Settings for throttling failed dashboard logins ({@code /v1/auth/client/login}, {@code /v1/auth/admin/login}).
+ * Attempts are limited per email and per client IP using independent token buckets.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "security.login-throttle")
+public class LoginThrottleProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Where throttle state lives: "memory" (per node) or "postgres" (shared across nodes).
+     */
+    @NotBlank
+    private String store = "memory";
+
+    /**
+     * Number of independent map stripes used by the in-memory store.
+     */
+    @Min(1)
+    private int stripes = 16;
+
+    /**
+     * Upper bound on tracked keys (emails + IPs) held by the in-memory store.
+     */
+    @Min(1)
+    private int maxEntries = 100_000;
+
+    /**
+     * Idle entries (bucket full, no active lockout) are dropped after this long.
+     */
+    @Min(1)
+    private long idleExpirySeconds = 3600;
+
+    /**
+     * How often idle entries are purged.
+     */
+    @Min(1000)
+    private long purgeIntervalMs = 60_000;
+
+    /**
+     * Use the first X-Forwarded-For hop as the client IP. Only enable behind a trusted proxy.
+     */
+    private boolean trustForwardedFor = false;
+
+    @Valid
+    private Bucket email = new Bucket(5, 1.0, 30, 3600);
+
+    @Valid
+    private Bucket ip = new Bucket(50, 10.0, 30, 3600);
+
+    @Getter
+    @Setter
+    public static class Bucket {
+
+        /**
+         * Failed attempts allowed in a burst before a lockout starts.
+         */
+        @Min(1)
+        private int capacity;
+
+        /**
+         * Tokens regained per minute while no lockout is active.
+         */
+        private double refillPerMinute;
+
+        /**
+         * Duration of the first lockout; each consecutive lockout doubles it.
+         */
+        @Min(1)
+        private long baseLockoutSeconds;
+
+        /**
+         * Upper bound for the exponential lockout.
+         */
+        @Min(1)
+        private long maxLockoutSeconds;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, double refillPerMinute, long baseLockoutSeconds, long maxLockoutSeconds) {
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+            this.baseLockoutSeconds = baseLockoutSeconds;
+            this.maxLockoutSeconds = maxLockoutSeconds;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Detection of blocking outbound HTTP calls made while a database transaction or connection is bound to
+ * the calling thread.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "database.outbound-call-guard")
+public class OutboundCallGuardProperties {
+
+    /**
+     * When enabled a violation throws instead of logging a warning; tests run with this on.
+     */
+    private boolean failOnViolation = false;
+}
@@ -0,0 +1,50 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+/**
+ * Settings for password hashing: the bcrypt work factor and the bounded executor that
+ * all hash/verify operations run on.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * bcrypt log rounds used for new hashes. Existing hashes with a lower cost are
+     * transparently re-hashed on the next successful login.
+     */
+    @Min(4)
+    @Max(31)
+    private int bcryptStrength = 10;
+
+    /**
+     * Number of threads dedicated to hashing. Defaults to the number of available cores.
+     */
+    @Min(1)
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Maximum number of hash operations allowed to wait for a free thread. Requests beyond
+     * this are rejected immediately with a 429.
+     */
+    @Min(0)
+    private int queueCapacity = 64;
+
+    /**
+     * Maximum time a caller waits for its hash operation (queue wait + hashing) before
+     * giving up with a 429.
+     */
+    @Min(1)
+    private long timeoutMs = 5000;
+}
@@ -0,0 +1,52 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Settings for the background TTL retention job.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "retention")
+public class RetentionProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Delay after startup before the first run, so retention does not compete with warm-up.
+     */
+    @Min(0)
+    private long initialDelayMs = 60_000;
+
+    /**
+     * Delay between retention runs.
+     */
+    @Min(1000)
+    private long runIntervalMs = 300_000;
+
+    /**
+     * Minimum pause between two delete batches, regardless of the row budget.
+     */
+    @Min(0)
+    private long batchPauseMs = 100;
+
+    /**
+     * Upper bound on rows deleted per second across all tables; the job sleeps to stay under it.
+     */
+    @Min(1)
+    private long maxRowsPerSecond = 5_000;
+
+    /**
+     * Maximum delete batches per table per run; remaining rows are picked up by the next run.
+     */
+    @Min(1)
+    private int maxBatchesPerRun = 100;
+}
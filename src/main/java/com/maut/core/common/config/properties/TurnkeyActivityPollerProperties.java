@@ -0,0 +1,62 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Settings for the background poller that refreshes pending Turnkey activities.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "turnkey.activity-poller")
+public class TurnkeyActivityPollerProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Delay between poll rounds.
+     */
+    @Min(100)
+    private long intervalMs = 1_000;
+
+    /**
+     * Maximum activities checked per round; their status requests are issued concurrently.
+     */
+    @Min(1)
+    private int batchSize = 100;
+
+    /**
+     * Deadline for all status requests of one round; unanswered ones are retried with backoff.
+     */
+    @Min(1)
+    private long batchTimeoutMs = 10_000;
+
+    /**
+     * How long claimed activities stay hidden from other nodes' pollers; must exceed {@code batchTimeoutMs}.
+     * Activities of a node that dies mid-round are picked up again once it runs out.
+     */
+    @Min(1)
+    private long claimLeaseMs = 30_000;
+
+    /**
+     * Delay before the first re-check of an unchanged activity; doubles per unchanged check.
+     */
+    @Min(1)
+    private long initialBackoffMs = 1_000;
+
+    @Min(1)
+    private long maxBackoffMs = 60_000;
+
+    /**
+     * Activities still pending after this long are no longer polled.
+     */
+    @Min(1)
+    private long maxPollAgeHours = 72;
+}
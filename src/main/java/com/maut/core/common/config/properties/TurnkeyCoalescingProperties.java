@@ -0,0 +1,34 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Single-flight coalescing of identical concurrent Turnkey read ({@code /public/v1/query/*}) requests.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "turnkey.coalescing")
+public class TurnkeyCoalescingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a completed read keeps answering identical requests; 0 only shares reads that are in flight.
+     */
+    @Min(0)
+    private long resultTtlMs = 0;
+
+    /**
+     * Upper bound on cached read results when {@code resultTtlMs} is set.
+     */
+    @Min(1)
+    private int maxCachedResults = 1_000;
+}
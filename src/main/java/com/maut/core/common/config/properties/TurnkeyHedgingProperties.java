@@ -0,0 +1,65 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+
+/**
+ * Hedging of Turnkey reads: a slow read gets a second, identical request and the first answer wins.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "turnkey.hedging")
+public class TurnkeyHedgingProperties {
+
+    /**
+     * Opt-in; hedges cost Turnkey quota.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Latency percentile of recent reads (per endpoint) after which a hedge is sent.
+     */
+    @DecimalMin("0.5")
+    @DecimalMax("0.999")
+    private double percentile = 0.95;
+
+    /**
+     * Recent read latencies kept per endpoint to compute the percentile.
+     */
+    @Min(10)
+    private int windowSize = 500;
+
+    /**
+     * Reads an endpoint must have seen before it is hedged at all.
+     */
+    @Min(1)
+    private int minSamples = 50;
+
+    @Min(1)
+    private long minDelayMs = 20;
+
+    @Min(1)
+    private long maxDelayMs = 2_000;
+
+    /**
+     * Hedges allowed per read, e.g. 0.05 caps the extra load at 5% of reads.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double budgetRatio = 0.05;
+
+    /**
+     * Unused budget that may accumulate, i.e. the largest burst of back-to-back hedges.
+     */
+    @Min(1)
+    private int budgetBurst = 10;
+}
@@ -0,0 +1,43 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Connection settings for the HTTP client used for all Turnkey API calls.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "turnkey.http")
+public class TurnkeyHttpProperties {
+
+    /**
+     * Deadline for establishing the TCP + TLS connection.
+     */
+    @Min(1)
+    private long connectTimeoutMs = 3_000;
+
+    /**
+     * Deadline for a whole request, from send until the response body has been read.
+     */
+    @Min(1)
+    private long requestTimeoutMs = 15_000;
+
+    /**
+     * Negotiate HTTP/2 (multiplexed over a single connection); falls back to HTTP/1.1 if the server declines.
+     */
+    private boolean http2 = true;
+
+    /**
+     * Threads completing async responses.
+     */
+    @Min(1)
+    private int executorThreads = 4;
+}
@@ -0,0 +1,46 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Settings for the local mirror of Turnkey sub-organization state (keys, authenticators, policies).
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "turnkey.mirror")
+public class TurnkeyMirrorProperties {
+
+    /**
+     * When disabled nothing is synchronized; reads fall back to what the mirror already holds.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between sweeps that backfill never-synced and reconcile stale sub-organizations.
+     */
+    @Min(1_000)
+    private long sweepIntervalMs = 60_000;
+
+    /**
+     * A sub-organization not refreshed by an activity for this long is re-read by the sweep.
+     */
+    @Min(1)
+    private long reconcileAfterMinutes = 60;
+
+    /**
+     * Maximum sub-organizations refreshed per sweep; their reads are issued concurrently.
+     */
+    @Min(1)
+    private int batchSize = 50;
+
+    @Min(1)
+    private long batchTimeoutMs = 30_000;
+}
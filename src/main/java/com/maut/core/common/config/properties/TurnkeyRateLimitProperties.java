@@ -0,0 +1,86 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+
+/**
+ * Client-side limits applied to every outbound Turnkey call: a token bucket for the API quota plus an
+ * adaptive (AIMD) concurrency limit, with a short bounded queue in front of both.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "turnkey.rate-limit")
+public class TurnkeyRateLimitProperties {
+
+    /**
+     * When disabled, calls go straight to Turnkey and 429s are returned to the caller as before.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Sustained request rate allowed by the Turnkey quota.
+     */
+    @DecimalMin("0.1")
+    private double requestsPerSecond = 50;
+
+    /**
+     * Requests that may be sent back-to-back before the sustained rate applies.
+     */
+    @Min(1)
+    private int burst = 50;
+
+    @Min(1)
+    private int initialConcurrency = 16;
+
+    @Min(1)
+    private int minConcurrency = 2;
+
+    @Min(1)
+    private int maxConcurrency = 64;
+
+    /**
+     * Responses slower than this count as congestion and shrink the concurrency limit.
+     */
+    @Min(1)
+    private long latencyThresholdMs = 2_000;
+
+    /**
+     * Factor applied to the concurrency limit on congestion, a 429 or a failed call.
+     */
+    @DecimalMin("0.1")
+    @DecimalMax("0.99")
+    private double backoffRatio = 0.9;
+
+    /**
+     * Calls allowed to wait for a permit; further calls are rejected immediately.
+     */
+    @Min(0)
+    private int maxQueueSize = 200;
+
+    /**
+     * Longest a call waits for a permit, including any {@code Retry-After} pause, before it is rejected.
+     */
+    @Min(0)
+    private long maxQueueWaitMs = 2_000;
+
+    /**
+     * Times a call answered with 429 is re-sent once the {@code Retry-After} pause has passed.
+     */
+    @Min(0)
+    private int maxRetries = 2;
+
+    /**
+     * Pause used when a 429 carries no usable {@code Retry-After} header.
+     */
+    @Min(0)
+    private long defaultRetryAfterMs = 1_000;
+}
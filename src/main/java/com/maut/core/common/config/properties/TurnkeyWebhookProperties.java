@@ -0,0 +1,64 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+
+/**
+ * Inbound Turnkey activity callbacks ({@code POST /v1/webhooks/turnkey}).
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "turnkey.webhook")
+public class TurnkeyWebhookProperties {
+
+    /**
+     * When disabled the endpoint answers 404 and activities are settled by polling alone.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Shared secret for the HMAC-SHA256 signature of each callback.
+     */
+    private String secret;
+
+    /**
+     * Callbacks whose signed timestamp is further than this from our clock are rejected as replays.
+     */
+    @Min(1)
+    private long toleranceSeconds = 300;
+
+    /**
+     * Directory of the callback journal and its checkpoint; must be on local, persistent disk.
+     */
+    @NotBlank
+    private String journalDir = "data/turnkey-webhooks";
+
+    /**
+     * fsync every append. Off, an acknowledged callback survives a process crash but not a host crash;
+     * the poller still picks up anything lost.
+     */
+    private boolean fsyncOnAppend = false;
+
+    /**
+     * Callbacks accepted but not yet applied; beyond this the endpoint answers 503 and Turnkey retries.
+     */
+    @Min(1)
+    private int queueCapacity = 10_000;
+
+    /**
+     * Callbacks applied per transaction.
+     */
+    @Min(1)
+    private int batchSize = 200;
+
+    @Min(10)
+    private long batchIntervalMs = 200;
+}
@@ -0,0 +1,66 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Asynchronous wallet enrollment: the worker pool that runs enrollment jobs and the sweep that recovers
+ * jobs no worker is on.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "wallet.enrollment")
+public class WalletEnrollmentProperties {
+
+    @Min(1)
+    private int workerThreads = 4;
+
+    /**
+     * Jobs waiting for a worker thread; jobs submitted beyond this stay pending until the recovery sweep.
+     */
+    @Min(0)
+    private int queueCapacity = 100;
+
+    /**
+     * When enabled (and the wallet pool is off), jobs create the sub-organization and keys in Turnkey
+     * themselves; otherwise they enroll from the pool or in demo mode like the synchronous endpoint.
+     */
+    private boolean provisionWithTurnkey = false;
+
+    /**
+     * Attempts before a job is marked failed; each attempt resumes from the resources already recorded.
+     */
+    @Min(1)
+    private int maxAttempts = 3;
+
+    /**
+     * Deadline for a single Turnkey step (sub-organization or keys).
+     */
+    @Min(1)
+    private long stepTimeoutMs = 30_000;
+
+    /**
+     * A released job is picked up again by the recovery sweep once it has been pending this long.
+     */
+    @Min(0)
+    private long retryDelayMs = 5_000;
+
+    /**
+     * A running job whose worker has not reported for this long is presumed abandoned and reclaimed.
+     */
+    @Min(1)
+    private long staleAfterMs = 300_000;
+
+    @Min(1)
+    private long recoveryIntervalMs = 10_000;
+
+    @Min(1)
+    private int recoveryBatchSize = 50;
+}
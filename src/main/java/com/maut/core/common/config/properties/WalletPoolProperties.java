@@ -0,0 +1,59 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+
+/**
+ * Pool of Turnkey sub-organizations and keys provisioned ahead of wallet enrollment.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "wallet.pool")
+public class WalletPoolProperties {
+
+    /**
+     * When disabled, enrollment keeps generating local demo wallets and nothing is provisioned.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Pool partition; each deployment environment provisions and claims only its own wallets.
+     */
+    @NotBlank
+    private String environment = "default";
+
+    /**
+     * Available wallets the provisioner tops the pool up to.
+     */
+    @Min(1)
+    private int targetSize = 50;
+
+    /**
+     * Below this many available wallets every refill round logs a warning and bumps {@code wallet.pool.low}.
+     */
+    @Min(0)
+    private int lowWaterMark = 10;
+
+    /**
+     * Wallets provisioned concurrently per refill round; bounds the burst of Turnkey activities.
+     */
+    @Min(1)
+    private int maxProvisionPerRound = 5;
+
+    @Min(1)
+    private long refillIntervalMs = 10_000;
+
+    /**
+     * Deadline for one refill round; wallets still being created keep going and are saved when done.
+     */
+    @Min(1)
+    private long roundTimeoutMs = 60_000;
+}
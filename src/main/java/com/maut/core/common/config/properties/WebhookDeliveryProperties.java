@@ -0,0 +1,29 @@
+package com.maut.core.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Background delivery of outgoing webhook events to team subscriptions.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "webhooks.delivery")
+public class WebhookDeliveryProperties {
+
+    @Min(1)
+    private int threads = 2;
+
+    /**
+     * Events waiting for a delivery thread; beyond this new events are dropped and counted.
+     */
+    @Min(0)
+    private int queueCapacity = 1000;
+}
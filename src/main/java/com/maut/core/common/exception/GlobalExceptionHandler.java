@@ -1,9 +1,11 @@
 package com.maut.core.common.exception;
 
 import com.maut.core.common.exception.dto.ErrorResponseDto;
+import com.maut.core.modules.auth.exception.LoginThrottledException;
 import com.maut.core.modules.auth.exception.PasswordMismatchException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import javax.persistence.EntityNotFoundException;
@@ -244,6 +247,98 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, status);
     }
 
+    /**
+     * Handle PasswordHashingCapacityException - when the bounded password hashing executor is saturated.
+     *
+     * @param ex      the exception
+     * @param request the web request
+     * @return a ResponseEntity with a 429 Too Many Requests status and a Retry-After header
+     */
+    @ExceptionHandler(PasswordHashingCapacityException.class)
+    public ResponseEntity<ErrorResponseDto> handlePasswordHashingCapacityException(
+            PasswordHashingCapacityException ex, WebRequest request) {
+        log.warn("Password hashing capacity exceeded for path: {}", request.getDescription(false));
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), ex.getRetryAfterSeconds(), request);
+    }
+
+    /**
+     * Handle LoginThrottledException - when an email or client IP is locked out after repeated failed logins.
+     *
+     * @param ex      the exception
+     * @param request the web request
+     * @return a ResponseEntity with a 429 Too Many Requests status and a Retry-After header
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ErrorResponseDto> handleLoginThrottledException(
+            LoginThrottledException ex, WebRequest request) {
+        log.warn("Login throttled for path: {}: {}", request.getDescription(false), ex.getMessage());
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), ex.getRetryAfterSeconds(), request);
+    }
+
+    /**
+     * Handle TurnkeyCapacityException - when outbound Turnkey calls are being rate limited.
+     *
+     * @param ex      the exception
+     * @param request the web request
+     * @return a ResponseEntity with a 429 Too Many Requests status and a Retry-After header
+     */
+    @ExceptionHandler(TurnkeyCapacityException.class)
+    public ResponseEntity<ErrorResponseDto> handleTurnkeyCapacityException(
+            TurnkeyCapacityException ex, WebRequest request) {
+        log.warn("Turnkey rate limit reached for path: {}: {}", request.getDescription(false), ex.getMessage());
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), ex.getRetryAfterSeconds(), request);
+    }
+
+    /**
+     * Handle WalletPoolExhaustedException - when no pre-provisioned wallet is available for enrollment.
+     *
+     * @param ex      the exception
+     * @param request the web request
+     * @return a ResponseEntity with a 503 Service Unavailable status and a Retry-After header
+     */
+    @ExceptionHandler(WalletPoolExhaustedException.class)
+    public ResponseEntity<ErrorResponseDto> handleWalletPoolExhaustedException(
+            WalletPoolExhaustedException ex, WebRequest request) {
+        log.warn("Wallet pool exhausted for path: {}", request.getDescription(false));
+        return retryLater(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), ex.getRetryAfterSeconds(), request);
+    }
+
+    /**
+     * Builds a 429/503 error response carrying a Retry-After header.
+     */
+    private ResponseEntity<ErrorResponseDto> retryLater(HttpStatus status, String message, long retryAfterSeconds, WebRequest request) {
+        ErrorResponseDto errorResponse = ErrorResponseDto.builder()
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return new ResponseEntity<>(errorResponse, headers, status);
+    }
+
+    /**
+     * Handle AsyncRequestTimeoutException - when an asynchronous endpoint's external call outlived
+     * {@code spring.mvc.async.request-timeout}.
+     *
+     * @param ex      the exception
+     * @param request the web request
+     * @return a ResponseEntity with a 504 Gateway Timeout status
+     */
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<ErrorResponseDto> handleAsyncRequestTimeoutException(
+            AsyncRequestTimeoutException ex, WebRequest request) {
+        log.warn("Asynchronous request timed out for path: {}", request.getDescription(false));
+        ErrorResponseDto errorResponse = ErrorResponseDto.builder()
+                .status(HttpStatus.GATEWAY_TIMEOUT.value())
+                .error(HttpStatus.GATEWAY_TIMEOUT.getReasonPhrase())
+                .message("The upstream service did not respond in time. Please retry shortly.")
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+        return new ResponseEntity<>(errorResponse, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
     // Generic fallback handler for any other unhandled exceptions
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleAllUncaughtException(
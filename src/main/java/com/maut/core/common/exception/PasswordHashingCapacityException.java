@@ -0,0 +1,23 @@
+package com.maut.core.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the password hashing executor is saturated and cannot accept more work.
+ * Surfaces to clients as a 429 so they back off instead of piling onto the CPU.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS) // 429
+public class PasswordHashingCapacityException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingCapacityException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,23 @@
+package com.maut.core.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an outbound Turnkey call cannot get a permit from the client-side rate limiter in time,
+ * either because Turnkey asked us to back off or because too many calls are already waiting.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS) // 429
+public class TurnkeyCapacityException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TurnkeyCapacityException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,23 @@
+package com.maut.core.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when wallet enrollment finds no pre-provisioned wallet to claim. The provisioner refills the pool
+ * in the background, so clients should retry after a short delay.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE) // 503
+public class WalletPoolExhaustedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public WalletPoolExhaustedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
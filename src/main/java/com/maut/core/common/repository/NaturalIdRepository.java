@@ -0,0 +1,22 @@
+package com.maut.core.common.repository;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * Repository fragment for entities mapped with a single {@code @NaturalId}; only the repositories of those
+ * entities extend it.
+ * <p>
+ * Derived queries such as {@code findByName} run JPQL and never consult the natural-id cache.
+ * {@link #findBySimpleNaturalId} goes through {@code Session#bySimpleNaturalId} instead, so an
+ * entity marked {@code @NaturalIdCache} resolves from the second-level cache without a query.
+ */
+public interface NaturalIdRepository {
+
+    /**
+     * @param entityType entity class to load
+     * @param naturalId value of the entity's natural id
+     * @return the entity, or empty if none has that natural id
+     */
+    <T> Optional<T> findBySimpleNaturalId(Class<T> entityType, Serializable naturalId);
+}
@@ -0,0 +1,29 @@
+package com.maut.core.common.repository;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * Implementation of the {@link NaturalIdRepository} fragment, picked up by Spring Data for the repositories
+ * that extend it.
+ */
+@Transactional(readOnly = true)
+public class NaturalIdRepositoryImpl implements NaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    public NaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public <T> Optional<T> findBySimpleNaturalId(Class<T> entityType, Serializable naturalId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(entityType)
+                .loadOptional(naturalId);
+    }
+}
@@ -0,0 +1,151 @@
+package com.maut.core.common.retention;
+
+import com.maut.core.common.config.properties.RetentionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background job that enforces {@link TtlRetention} policies.
+ * <p>
+ * Batch deletes remove at most {@code batchSize} rows per statement, addressed by ctid so Postgres
+ * never has to sort or hold long locks, and each statement commits on its own. Between batches the
+ * job sleeps long enough to stay under {@code retention.maxRowsPerSecond}, and it stops after
+ * {@code maxBatchesPerRun} batches per table so a large backlog is worked off over several runs
+ * instead of competing with foreground traffic. Partitioned tables drop whole expired partitions.
+ * <p>
+ * Rows reclaimed are reported per table via the {@code retention.rows.reclaimed} counter and the log.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetentionJob {
+
+    // Postgres has no DELETE ... LIMIT; select a bounded set of ctids and delete exactly those.
+    private static final String BATCH_DELETE_SQL =
+            "DELETE FROM %1$s WHERE ctid = ANY(ARRAY(SELECT ctid FROM %1$s WHERE %2$s < ? LIMIT ?))";
+
+    // Child partitions of a range-partitioned table whose upper bound is at or before the cutoff.
+    private static final String EXPIRED_PARTITIONS_SQL =
+            "SELECT child_name, row_estimate FROM (" +
+            "  SELECT c.relname AS child_name, c.reltuples::bigint AS row_estimate," +
+            "         (regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \\(''([^'']+)''\\)'))[1] AS upper_bound" +
+            "  FROM pg_inherits i" +
+            "  JOIN pg_class c ON c.oid = i.inhrelid" +
+            "  JOIN pg_class p ON p.oid = i.inhparent" +
+            "  WHERE p.relname = ?" +
+            ") parts WHERE upper_bound IS NOT NULL AND upper_bound::timestamptz <= ?";
+
+    private final RetentionPolicyRegistry registry;
+    private final RetentionProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${retention.runIntervalMs:300000}", initialDelayString = "${retention.initialDelayMs:60000}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (RetentionPolicyRegistry.Policy policy : registry.getPolicies()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                long reclaimed = policy.getStrategy() == RetentionStrategy.DROP_PARTITIONS
+                        ? dropExpiredPartitions(policy)
+                        : deleteExpiredRows(policy);
+                if (reclaimed > 0) {
+                    log.info("Retention reclaimed {} rows from {} (ttl {})", reclaimed, policy.getTable(), policy.getTtl());
+                }
+            } catch (Exception e) {
+                // One misconfigured table must not stop retention for the others.
+                log.error("Retention failed for table {}: {}", policy.getTable(), e.getMessage(), e);
+                meterRegistry.counter("retention.failures", "table", policy.getTable()).increment();
+            } finally {
+                sample.stop(meterRegistry.timer("retention.run", "table", policy.getTable()));
+            }
+        }
+    }
+
+    long deleteExpiredRows(RetentionPolicyRegistry.Policy policy) {
+        String sql = String.format(BATCH_DELETE_SQL, policy.getTable(), policy.getTimestampColumn());
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(policy.getTtl()));
+        Counter reclaimedCounter = reclaimedCounter(policy);
+
+        long total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            long started = System.nanoTime();
+            int deleted = jdbcTemplate.update(sql, cutoff, policy.getBatchSize());
+            total += deleted;
+            reclaimedCounter.increment(deleted);
+            if (deleted < policy.getBatchSize()) {
+                break; // Caught up
+            }
+            if (!pace(deleted, started)) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    long dropExpiredPartitions(RetentionPolicyRegistry.Policy policy) {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(policy.getTtl()));
+        List<Map<String, Object>> expired = jdbcTemplate.queryForList(EXPIRED_PARTITIONS_SQL, policy.getTable(), cutoff);
+        Counter reclaimedCounter = reclaimedCounter(policy);
+
+        long total = 0;
+        for (Map<String, Object> partition : expired) {
+            String child = (String) partition.get("child_name");
+            long rowEstimate = Math.max(0L, ((Number) partition.get("row_estimate")).longValue());
+            // Identifiers come from pg_class, not user input; quote them anyway.
+            jdbcTemplate.execute("ALTER TABLE " + quote(policy.getTable()) + " DETACH PARTITION " + quote(child));
+            jdbcTemplate.execute("DROP TABLE " + quote(child));
+            log.info("Retention dropped partition {} of {} (~{} rows)", child, policy.getTable(), rowEstimate);
+            meterRegistry.counter("retention.partitions.dropped", "table", policy.getTable()).increment();
+            reclaimedCounter.increment(rowEstimate);
+            total += rowEstimate;
+        }
+        return total;
+    }
+
+    /**
+     * Sleeps long enough to respect both the fixed inter-batch pause and the rows-per-second budget.
+     *
+     * @return false if interrupted (shutdown), in which case the run should stop
+     */
+    private boolean pace(int deletedRows, long batchStartedNanos) {
+        long budgetMs = deletedRows * 1000L / properties.getMaxRowsPerSecond();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStartedNanos);
+        long sleepMs = Math.max(properties.getBatchPauseMs(), budgetMs - elapsedMs);
+        try {
+            Thread.sleep(sleepMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Counter reclaimedCounter(RetentionPolicyRegistry.Policy policy) {
+        return Counter.builder("retention.rows.reclaimed")
+                .description("Rows removed by the TTL retention job")
+                .tag("table", policy.getTable())
+                .register(meterRegistry);
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,103 @@
+package com.maut.core.common.retention;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Collects {@link TtlRetention} policies declared on Spring Data repository interfaces.
+ * Policies are resolved lazily on first use (repositories are proxies created late in startup)
+ * and validated once: identifiers must be plain SQL identifiers and TTLs valid ISO-8601 durations.
+ */
+@Slf4j
+@Component
+public class RetentionPolicyRegistry {
+
+    private static final Pattern SQL_IDENTIFIER = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    private final ApplicationContext applicationContext;
+    private final Environment environment;
+    private volatile List<Policy> policies;
+
+    public RetentionPolicyRegistry(ApplicationContext applicationContext, Environment environment) {
+        this.applicationContext = applicationContext;
+        this.environment = environment;
+    }
+
+    public List<Policy> getPolicies() {
+        List<Policy> resolved = policies;
+        if (resolved == null) {
+            synchronized (this) {
+                if (policies == null) {
+                    policies = discover();
+                }
+                resolved = policies;
+            }
+        }
+        return resolved;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private List<Policy> discover() {
+        Map<String, Policy> byTable = new LinkedHashMap<>();
+        for (Map.Entry<String, Repository> bean : applicationContext.getBeansOfType(Repository.class).entrySet()) {
+            for (Class<?> repositoryInterface : ClassUtils.getAllInterfaces(bean.getValue())) {
+                TtlRetention annotation = AnnotationUtils.findAnnotation(repositoryInterface, TtlRetention.class);
+                if (annotation == null) {
+                    continue;
+                }
+                Policy policy = toPolicy(annotation, repositoryInterface.getSimpleName());
+                Policy previous = byTable.putIfAbsent(policy.getTable(), policy);
+                if (previous != null && !previous.getSource().equals(policy.getSource())) {
+                    throw new IllegalStateException("Duplicate @TtlRetention for table " + policy.getTable()
+                            + " on " + previous.getSource() + " and " + policy.getSource());
+                }
+            }
+        }
+        byTable.values().forEach(p -> log.info("Retention policy: table={}, column={}, ttl={}, strategy={}, batchSize={} (declared on {})",
+                p.getTable(), p.getTimestampColumn(), p.getTtl(), p.getStrategy(), p.getBatchSize(), p.getSource()));
+        return Collections.unmodifiableList(new ArrayList<>(byTable.values()));
+    }
+
+    private Policy toPolicy(TtlRetention annotation, String source) {
+        requireIdentifier(annotation.table(), source);
+        requireIdentifier(annotation.timestampColumn(), source);
+        if (annotation.batchSize() <= 0) {
+            throw new IllegalStateException("@TtlRetention batchSize must be positive on " + source);
+        }
+        Duration ttl = Duration.parse(environment.resolveRequiredPlaceholders(annotation.ttl()));
+        if (ttl.isNegative()) {
+            throw new IllegalStateException("@TtlRetention ttl must not be negative on " + source);
+        }
+        return new Policy(annotation.table(), annotation.timestampColumn(), ttl, annotation.batchSize(), annotation.strategy(), source);
+    }
+
+    private static void requireIdentifier(String identifier, String source) {
+        if (!SQL_IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalStateException("Invalid SQL identifier '" + identifier + "' in @TtlRetention on " + source);
+        }
+    }
+
+    @Value
+    public static class Policy {
+        String table;
+        String timestampColumn;
+        Duration ttl;
+        int batchSize;
+        RetentionStrategy strategy;
+        String source;
+    }
+}
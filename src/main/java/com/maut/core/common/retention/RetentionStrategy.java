@@ -0,0 +1,16 @@
+package com.maut.core.common.retention;
+
+/**
+ * How expired rows of a table are reclaimed.
+ */
+public enum RetentionStrategy {
+    /**
+     * Delete expired rows in bounded ctid chunks, one short autocommit statement per chunk.
+     */
+    BATCH_DELETE,
+    /**
+     * The table is range-partitioned on the timestamp column: drop whole partitions whose upper
+     * bound is older than the cutoff.
+     */
+    DROP_PARTITIONS
+}
@@ -0,0 +1,44 @@
+package com.maut.core.common.retention;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a time-to-live policy on a Spring Data repository. The {@link RetentionJob} periodically
+ * reclaims rows of {@link #table()} whose {@link #timestampColumn()} is older than {@link #ttl()}.
+ * <pre>
+ * &#64;TtlRetention(table = "webauthn_registration_challenges", timestampColumn = "expires_at", ttl = "PT1H")
+ * public interface WebauthnRegistrationChallengeRepository extends JpaRepository&lt;...&gt; { }
+ * </pre>
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TtlRetention {
+
+    /**
+     * Physical table name.
+     */
+    String table();
+
+    /**
+     * Timestamp column the TTL is measured against (e.g. {@code created_at}, {@code expires_at}).
+     */
+    String timestampColumn();
+
+    /**
+     * ISO-8601 duration, e.g. {@code P30D}. Supports property placeholders, e.g.
+     * {@code ${retention.ttl.webhookDeliveries:P30D}}.
+     */
+    String ttl();
+
+    /**
+     * Rows deleted per statement; keeps each delete short so it never holds locks for long.
+     */
+    int batchSize() default 1000;
+
+    RetentionStrategy strategy() default RetentionStrategy.BATCH_DELETE;
+}
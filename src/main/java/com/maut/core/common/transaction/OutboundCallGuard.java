@@ -0,0 +1,65 @@
+package com.maut.core.common.transaction;
+
+import com.maut.core.common.config.properties.OutboundCallGuardProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Flags blocking outbound HTTP calls made while the calling thread holds a database transaction or a bound
+ * connection/EntityManager. Such a call keeps a pooled connection checked out for the whole round trip, so
+ * the pool saturates on external latency instead of on database work.
+ * <p>
+ * Clients call {@link #check} on the calling thread right before they block. A violation increments
+ * {@code outbound.calls.in_transaction}; it is logged, or thrown with {@code failOnViolation}.
+ */
+@Slf4j
+@Component
+public class OutboundCallGuard {
+
+    private final boolean failOnViolation;
+    private final MeterRegistry meterRegistry;
+
+    public OutboundCallGuard(OutboundCallGuardProperties properties, MeterRegistry meterRegistry) {
+        this.failOnViolation = properties.isFailOnViolation();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param client short name of the outbound client, used in the metric and the message
+     * @param target what is being called, e.g. a path or URL
+     * @throws IllegalStateException with {@code failOnViolation}, if a transaction or connection is bound
+     */
+    public void check(String client, String target) {
+        String bound = boundResource();
+        if (bound == null) {
+            return;
+        }
+        meterRegistry.counter("outbound.calls.in_transaction", "client", client).increment();
+        String message = "Outbound " + client + " call to " + target + " made while " + bound + " is bound to thread "
+                + Thread.currentThread().getName() + "; move it outside the transaction";
+        if (failOnViolation) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * Describes the transaction or connection bound to the current thread, or {@code null} if there is none.
+     */
+    static String boundResource() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            String name = TransactionSynchronizationManager.getCurrentTransactionName();
+            return name != null ? "transaction " + name : "a transaction";
+        }
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof ConnectionHolder || resource instanceof EntityManagerHolder) {
+                return "a " + resource.getClass().getSimpleName();
+            }
+        }
+        return null;
+    }
+}
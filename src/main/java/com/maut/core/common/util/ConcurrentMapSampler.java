@@ -0,0 +1,50 @@
+package com.maut.core.common.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bounded random sampling of a {@link ConcurrentHashMap}, for eviction on hot insert paths.
+ * <p>
+ * Iterating from the start always visits the same hash buckets first, so repeated evictions would keep
+ * hitting the same keys. Instead the map's spliterator is halved at random until a part holds about
+ * {@code size} entries, and the sample is read from there: O(log n + size) with a random starting point.
+ */
+public final class ConcurrentMapSampler {
+
+    private ConcurrentMapSampler() {
+    }
+
+    /**
+     * @return up to {@code size} entries from a random region of {@code map}; empty only if the map is empty
+     */
+    public static <K, V> List<Map.Entry<K, V>> sample(ConcurrentHashMap<K, V> map, int size) {
+        List<Map.Entry<K, V>> sample = new ArrayList<>(size);
+        Spliterator<Map.Entry<K, V>> part = map.entrySet().spliterator();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (part.estimateSize() > size) {
+            Spliterator<Map.Entry<K, V>> prefix = part.trySplit();
+            if (prefix == null) {
+                break;
+            }
+            if (random.nextBoolean()) {
+                part = prefix;
+            }
+        }
+        while (sample.size() < size && part.tryAdvance(sample::add)) {
+            // collect up to size entries
+        }
+        if (sample.isEmpty()) {
+            // The chosen region happened to be empty; fall back to the start of the map.
+            for (Iterator<Map.Entry<K, V>> it = map.entrySet().iterator(); it.hasNext() && sample.size() < size; ) {
+                sample.add(it.next());
+            }
+        }
+        return sample;
+    }
+}
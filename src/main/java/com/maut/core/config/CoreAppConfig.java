@@ -1,5 +1,6 @@
 package com.maut.core.config;
 
+import com.maut.core.common.transaction.OutboundCallGuard;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -8,7 +9,12 @@ import org.springframework.web.client.RestTemplate;
 public class CoreAppConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(OutboundCallGuard outboundCallGuard) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            outboundCallGuard.check("rest_template", request.getURI().getHost());
+            return execution.execute(request, body);
+        });
+        return restTemplate;
     }
 }
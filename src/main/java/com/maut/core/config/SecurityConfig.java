@@ -1,8 +1,11 @@
 package com.maut.core.config;
 
+import com.maut.core.common.config.properties.PasswordHashingProperties;
+import com.maut.core.config.security.BoundedPasswordEncoder;
 import com.maut.core.config.security.CustomAccessDeniedHandler;
 import com.maut.core.config.security.CustomAuthenticationEntryPoint;
 import com.maut.core.config.security.JwtAuthFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,8 +19,10 @@ import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -26,6 +31,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -33,14 +40,27 @@ import java.util.Arrays;
 @EnableGlobalMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    private static final String BCRYPT_ENCODING_ID = "bcrypt";
+
     private final JwtAuthFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final MeterRegistry meterRegistry;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // New hashes are written as "{bcrypt}<hash>" with the configured work factor. Legacy hashes
+        // stored without an id prefix are still verified as bcrypt and get upgraded on next login.
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength());
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ENCODING_ID, bcrypt);
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder(BCRYPT_ENCODING_ID, encoders);
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegatingEncoder, passwordHashingProperties, meterRegistry);
     }
 
     @Bean
@@ -53,6 +73,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService); // Re-hash outdated hashes on successful login
         return authProvider;
     }
 
@@ -113,6 +134,7 @@ public class SecurityConfig {
                 .mvcMatchers("/v1/authenticator/**").permitAll() // Added for MautUser authentication
                 .mvcMatchers("/v1/authenticators/**").permitAll() // Added for MautUser authentication
                 .mvcMatchers("/v1/wallets/**").permitAll()     // Added for MautUser authentication
+                .mvcMatchers(HttpMethod.POST, "/v1/webhooks/turnkey").permitAll() // Turnkey callbacks; authenticated by HMAC signature
                 .anyRequest().authenticated()
             )
             .authenticationProvider(authenticationProvider())
@@ -0,0 +1,142 @@
+package com.maut.core.config.security;
+
+import com.maut.core.common.config.properties.PasswordHashingProperties;
+import com.maut.core.common.exception.PasswordHashingCapacityException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link PasswordEncoder} that runs every encode/matches call on a small, bounded thread pool.
+ * <p>
+ * bcrypt is deliberately CPU-expensive; letting every servlet thread hash concurrently means a
+ * burst of logins saturates the CPU and drags down unrelated endpoints. This encoder caps hashing
+ * concurrency at {@code poolSize}, lets at most {@code queueCapacity} operations wait, and fails
+ * fast with {@link PasswordHashingCapacityException} (429) once both are full.
+ * <p>
+ * Hash latency (queue wait + hashing) is published as the {@code auth.password.hash} timer,
+ * tagged by operation and outcome.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String METRIC_NAME = "auth.password.hash";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final MeterRegistry meterRegistry;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutMs = properties.getTimeoutMs();
+        this.meterRegistry = meterRegistry;
+
+        BlockingQueue<Runnable> queue = properties.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder(METRIC_NAME + ".queue.size", queue, BlockingQueue::size)
+                .description("Password hash operations waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hash operations currently running")
+                .register(meterRegistry);
+
+        log.info("Password hashing executor started: poolSize={}, queueCapacity={}, timeoutMs={}",
+                properties.getPoolSize(), properties.getQueueCapacity(), timeoutMs);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only inspects the hash prefix/cost, no hashing involved, so stay on the caller thread.
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(String operation, Callable<T> task) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        Future<T> future = null;
+        try {
+            future = executor.submit(task);
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            outcome = "rejected";
+            log.warn("Password hashing executor saturated, rejecting {} (queue size: {})", operation, executor.getQueue().size());
+            throw new PasswordHashingCapacityException("Too many concurrent authentication requests. Please retry shortly.", 1);
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            future.cancel(true);
+            log.warn("Password hash {} did not complete within {} ms", operation, timeoutMs);
+            throw new PasswordHashingCapacityException("Authentication is temporarily overloaded. Please retry shortly.", 1);
+        } catch (InterruptedException e) {
+            outcome = "interrupted";
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hash", e);
+        } catch (ExecutionException e) {
+            outcome = "error";
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Password hash " + operation + " failed", cause);
+        } finally {
+            Timer.builder(METRIC_NAME)
+                    .description("Latency of password hash operations including queue wait")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.maut.core.external.turnkey;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.maut.core.common.config.properties.TurnkeyHttpProperties;
+import com.maut.core.common.transaction.OutboundCallGuard;
+import com.maut.core.external.turnkey.util.TurnkeyJsonCodec;
+import com.maut.core.external.turnkey.util.TurnkeyStamper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.UnknownHttpStatusCodeException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends stamped requests to the Turnkey API: serialize once, stamp those bytes, send them unchanged.
+ * Shared by {@link TurnkeyServiceImpl} and {@code TurnkeyClientImpl}.
+ * <p>
+ * Runs on a dedicated {@link HttpClient} rather than the default {@code RestTemplate}: connections are pooled
+ * and kept alive (HTTP/2 multiplexes concurrent calls over one TLS session), every call has a connect and
+ * an overall request deadline from {@link TurnkeyHttpProperties}, and {@code postAsync} returns a
+ * {@link CompletableFuture} so independent activities can be in flight together. Failures surface as the
+ * usual {@link RestClientException} types (from the future, wrapped in a {@link CompletionException}) so
+ * existing error handling keeps working.
+ * <p>
+ * Every send first takes a permit from {@link TurnkeyRateLimiter}. A 429 is reported back to the limiter,
+ * which pauses all calls for the {@code Retry-After}, and the same bytes are re-sent up to
+ * {@code turnkey.rate-limit.maxRetries} times; Turnkey did not process a throttled request, so this is safe
+ * for submissions too.
+ * <p>
+ * Reads ({@code /public/v1/query/*}) go through {@link TurnkeyReadCoalescer}, so identical reads issued
+ * concurrently are sent (and stamped) once; the one that is sent may be hedged by {@link TurnkeyRequestHedger}.
+ */
+@Slf4j
+@Component
+public class TurnkeyApiTransport implements DisposableBean {
+
+    private static final String QUERY_PATH_PREFIX = "/public/v1/query/";
+
+    private final TurnkeyStamper turnkeyStamper;
+    private final TurnkeyJsonCodec turnkeyJsonCodec;
+    private final TurnkeyRateLimiter rateLimiter;
+    private final TurnkeyReadCoalescer readCoalescer;
+    private final TurnkeyRequestHedger requestHedger;
+    private final OutboundCallGuard outboundCallGuard;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final String turnkeyApiBaseUrl;
+
+    public TurnkeyApiTransport(TurnkeyStamper turnkeyStamper,
+                               TurnkeyJsonCodec turnkeyJsonCodec,
+                               TurnkeyRateLimiter rateLimiter,
+                               TurnkeyReadCoalescer readCoalescer,
+                               TurnkeyRequestHedger requestHedger,
+                               OutboundCallGuard outboundCallGuard,
+                               TurnkeyHttpProperties properties,
+                               @Value("${turnkey.api.baseUrl}") String turnkeyApiBaseUrl) {
+        this.turnkeyStamper = turnkeyStamper;
+        this.turnkeyJsonCodec = turnkeyJsonCodec;
+        this.rateLimiter = rateLimiter;
+        this.readCoalescer = readCoalescer;
+        this.requestHedger = requestHedger;
+        this.outboundCallGuard = outboundCallGuard;
+        this.turnkeyApiBaseUrl = turnkeyApiBaseUrl;
+        this.requestTimeout = Duration.ofMillis(properties.getRequestTimeoutMs());
+
+        // Idle pooled connections live for jdk.httpclient.keepalive.timeout, a JVM-wide flag set at launch (see pom.xml).
+        this.executor = Executors.newFixedThreadPool(properties.getExecutorThreads(), new TransportThreadFactory());
+        this.httpClient = HttpClient.newBuilder()
+                .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(executor)
+                .build();
+
+        log.info("Turnkey HTTP transport ready: baseUrl={}, http2={}, connectTimeoutMs={}, requestTimeoutMs={}",
+                turnkeyApiBaseUrl, properties.isHttp2(), properties.getConnectTimeoutMs(), properties.getRequestTimeoutMs());
+    }
+
+    public <T> T post(String path, Object payload, Class<T> responseType) {
+        return turnkeyJsonCodec.read(send(path, payload), responseType);
+    }
+
+    public <T> T post(String path, Object payload, TypeReference<T> responseType) {
+        return turnkeyJsonCodec.read(send(path, payload), responseType);
+    }
+
+    public <T> CompletableFuture<T> postAsync(String path, Object payload, Class<T> responseType) {
+        return sendAsync(path, payload).thenApply(body -> turnkeyJsonCodec.read(body, responseType));
+    }
+
+    public <T> CompletableFuture<T> postAsync(String path, Object payload, TypeReference<T> responseType) {
+        return sendAsync(path, payload).thenApply(body -> turnkeyJsonCodec.read(body, responseType));
+    }
+
+    private byte[] send(String path, Object payload) {
+        outboundCallGuard.check("turnkey", path);
+        return await(sendAsync(path, payload));
+    }
+
+    private CompletableFuture<byte[]> sendAsync(String path, Object payload) {
+        byte[] body = turnkeyJsonCodec.write(payload);
+        if (path.startsWith(QUERY_PATH_PREFIX)) {
+            return readCoalescer.read(path, body, () -> {
+                HttpRequest request = buildRequest(path, body);
+                return requestHedger.send(path, () -> exchange(request, 0));
+            });
+        }
+        return exchange(buildRequest(path, body), 0);
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<byte[]> exchange(HttpRequest request, int retries) {
+        return rateLimiter.acquire()
+                .thenCompose(permit -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                        .handle((response, error) -> {
+                            if (error != null) {
+                                permit.onFailure();
+                                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                                if (cause instanceof IOException) {
+                                    throw ioError(request, (IOException) cause);
+                                }
+                                throw new CompletionException(cause);
+                            }
+                            int status = response.statusCode();
+                            if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                                permit.onThrottled(rateLimiter.parseRetryAfter(response.headers().firstValue(HttpHeaders.RETRY_AFTER).orElse(null)));
+                            } else if (status >= 500) {
+                                permit.onFailure();
+                            } else {
+                                permit.onSuccess();
+                            }
+                            return response;
+                        }))
+                .thenCompose(response -> {
+                    if (response.statusCode() == HttpStatus.TOO_MANY_REQUESTS.value() && retries < rateLimiter.getMaxRetries()) {
+                        log.info("Turnkey throttled {}; re-sending (retry {} of {})", request.uri().getPath(), retries + 1, rateLimiter.getMaxRetries());
+                        return exchange(request, retries + 1);
+                    }
+                    return CompletableFuture.completedFuture(bodyOf(response));
+                });
+    }
+
+    private HttpRequest buildRequest(String path, byte[] body) {
+        URI uri = URI.create(turnkeyApiBaseUrl + path);
+        if (log.isDebugEnabled()) {
+            log.debug("Sending Turnkey request to {}: Body: {}", uri, new String(body, StandardCharsets.UTF_8));
+        }
+        return HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header("X-Stamp", turnkeyStamper.stamp(body))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private byte[] bodyOf(HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        byte[] body = response.body();
+        log.debug("Received Turnkey response from {}: status {} ({} bytes)",
+                response.uri(), status, body != null ? body.length : 0);
+        if (status < 400) {
+            return body;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        HttpStatus httpStatus = HttpStatus.resolve(status);
+        if (httpStatus == null) {
+            throw new UnknownHttpStatusCodeException(status, "", headers, body, StandardCharsets.UTF_8);
+        }
+        String message = status + " " + httpStatus.getReasonPhrase() + " from Turnkey " + response.uri().getPath();
+        if (httpStatus.is4xxClientError()) {
+            throw HttpClientErrorException.create(message, httpStatus, httpStatus.getReasonPhrase(), headers, body, StandardCharsets.UTF_8);
+        }
+        throw HttpServerErrorException.create(message, httpStatus, httpStatus.getReasonPhrase(), headers, body, StandardCharsets.UTF_8);
+    }
+
+    private static ResourceAccessException ioError(HttpRequest request, IOException e) {
+        return new ResourceAccessException("I/O error on POST request for \"" + request.uri() + "\": " + e.getMessage(), e);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static final class TransportThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "turnkey-http-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
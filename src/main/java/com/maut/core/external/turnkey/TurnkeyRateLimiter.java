@@ -0,0 +1,384 @@
+package com.maut.core.external.turnkey;
+
+import com.maut.core.common.config.properties.TurnkeyRateLimitProperties;
+import com.maut.core.common.exception.TurnkeyCapacityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side admission control for outbound Turnkey calls.
+ * <p>
+ * A call may start once it holds both a token from a bucket sized to the Turnkey quota and a slot under an
+ * adaptive concurrency limit. The limit grows by one per limit's worth of fast responses and shrinks by
+ * {@code backoffRatio} on slow responses, failures and 429s (AIMD), so it settles just below the point where
+ * Turnkey starts pushing back. A 429 also pauses all admissions until its {@code Retry-After} has passed.
+ * <p>
+ * Calls that cannot start immediately wait in a bounded FIFO queue for at most {@code maxQueueWaitMs};
+ * when the queue is full, or the wait (including a pending pause) would exceed that, the call fails with
+ * {@link TurnkeyCapacityException}. Waiting never blocks a thread: {@link #acquire()} returns a future.
+ * <p>
+ * Exported metrics: gauges {@code turnkey.limiter.limit}, {@code .inflight}, {@code .queue.size} and
+ * {@code .tokens}; timer {@code turnkey.limiter.queue.wait} tagged by outcome; counter
+ * {@code turnkey.limiter.responses} tagged by outcome.
+ */
+@Slf4j
+@Component
+public class TurnkeyRateLimiter implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "turnkey.limiter";
+
+    private final TurnkeyRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final double tokensPerNano;
+    private final long latencyThresholdNanos;
+
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+    private ScheduledFuture<?> wakeUp;
+
+    private final Counter successes;
+    private final Counter congested;
+    private final Counter throttled;
+    private final Counter failures;
+
+    @Autowired
+    public TurnkeyRateLimiter(TurnkeyRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    TurnkeyRateLimiter(TurnkeyRateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.tokensPerNano = properties.getRequestsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLatencyThresholdMs());
+        this.limit = Math.max(properties.getMinConcurrency(), Math.min(properties.getMaxConcurrency(), properties.getInitialConcurrency()));
+        this.tokens = properties.getBurst();
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.pausedUntilNanos = lastRefillNanos;
+
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "turnkey-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+
+        Gauge.builder(METRIC_PREFIX + ".limit", this, limiter -> limiter.snapshot(() -> limiter.limit))
+                .description("Current adaptive concurrency limit for Turnkey calls")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".inflight", this, limiter -> limiter.snapshot(() -> limiter.inFlight))
+                .description("Turnkey calls currently in flight")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.size", this, limiter -> limiter.snapshot(limiter.queue::size))
+                .description("Turnkey calls waiting for a permit")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".tokens", this, limiter -> limiter.snapshot(() -> {
+                    limiter.refill(limiter.nanoClock.getAsLong());
+                    return limiter.tokens;
+                }))
+                .description("Tokens left in the Turnkey quota bucket")
+                .register(meterRegistry);
+        this.successes = responseCounter("success");
+        this.congested = responseCounter("slow");
+        this.throttled = responseCounter("throttled");
+        this.failures = responseCounter("failed");
+
+        log.info("Turnkey rate limiter ready: enabled={}, requestsPerSecond={}, burst={}, concurrency={}..{} (start {}), maxQueueWaitMs={}",
+                properties.isEnabled(), properties.getRequestsPerSecond(), properties.getBurst(),
+                properties.getMinConcurrency(), properties.getMaxConcurrency(), limit, properties.getMaxQueueWaitMs());
+    }
+
+    /**
+     * Times a call answered with 429 may be re-sent; 0 when the limiter is disabled, since nothing would
+     * then hold the retry back until {@code Retry-After}.
+     */
+    public int getMaxRetries() {
+        return properties.isEnabled() ? properties.getMaxRetries() : 0;
+    }
+
+    /**
+     * Completes with a permit once the call may start, or exceptionally with {@link TurnkeyCapacityException}.
+     * Every permit must be released exactly once through one of its outcome methods.
+     */
+    public CompletableFuture<Permit> acquire() {
+        if (!properties.isEnabled()) {
+            return CompletableFuture.completedFuture(Permit.NOOP);
+        }
+        Waiter waiter = new Waiter(nanoClock.getAsLong());
+        List<Waiter> ready;
+        synchronized (this) {
+            long now = waiter.enqueuedNanos;
+            long pauseLeft = pausedUntilNanos - now;
+            if (pauseLeft > TimeUnit.MILLISECONDS.toNanos(properties.getMaxQueueWaitMs())) {
+                return reject(waiter, "paused", "Turnkey asked us to back off; retry later.", pauseLeft);
+            }
+            if (queue.size() >= properties.getMaxQueueSize() && !canAdmit(now)) {
+                return reject(waiter, "queue_full", "Too many Turnkey calls are waiting; retry later.", pauseLeft);
+            }
+            queue.addLast(waiter);
+            ready = drain(now);
+        }
+        complete(ready);
+        if (!waiter.future.isDone()) {
+            waiter.timeout = scheduler.schedule(() -> expire(waiter), properties.getMaxQueueWaitMs(), TimeUnit.MILLISECONDS);
+        }
+        return waiter.future;
+    }
+
+    private CompletableFuture<Permit> reject(Waiter waiter, String outcome, String message, long pauseLeftNanos) {
+        recordWait(waiter, outcome);
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(Math.max(0, pauseLeftNanos)) + 1);
+        return CompletableFuture.failedFuture(new TurnkeyCapacityException(message, retryAfterSeconds));
+    }
+
+    private void expire(Waiter waiter) {
+        synchronized (this) {
+            if (!queue.remove(waiter)) {
+                return;
+            }
+        }
+        recordWait(waiter, "timeout");
+        log.warn("Turnkey call waited {} ms for a rate limiter permit and was rejected", properties.getMaxQueueWaitMs());
+        waiter.future.completeExceptionally(new TurnkeyCapacityException(
+                "Turnkey is rate limiting requests; retry later.", Math.max(1, TimeUnit.MILLISECONDS.toSeconds(properties.getMaxQueueWaitMs()))));
+    }
+
+    private boolean canAdmit(long now) {
+        refill(now);
+        return now >= pausedUntilNanos && inFlight < Math.floor(limit) && tokens >= 1;
+    }
+
+    /**
+     * Hands permits to queued waiters while capacity lasts; caller holds the lock and completes the
+     * returned waiters after releasing it.
+     */
+    private List<Waiter> drain(long now) {
+        List<Waiter> ready = null;
+        while (!queue.isEmpty() && canAdmit(now)) {
+            Waiter waiter = queue.pollFirst();
+            tokens -= 1;
+            inFlight++;
+            if (ready == null) {
+                ready = new ArrayList<>();
+            }
+            ready.add(waiter);
+        }
+        if (!queue.isEmpty() && inFlight < Math.floor(limit)) {
+            // Blocked on tokens or a pause, not on concurrency: nothing will release a permit, so wake up ourselves.
+            long delay = Math.max(pausedUntilNanos - now, tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano));
+            scheduleWakeUp(Math.max(delay, TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+        return ready != null ? ready : List.of();
+    }
+
+    private void scheduleWakeUp(long delayNanos) {
+        if (wakeUp != null && !wakeUp.isDone() && wakeUp.getDelay(TimeUnit.NANOSECONDS) <= delayNanos) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        wakeUp = scheduler.schedule(() -> {
+            List<Waiter> ready;
+            synchronized (this) {
+                ready = drain(nanoClock.getAsLong());
+            }
+            complete(ready);
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void complete(List<Waiter> ready) {
+        for (Waiter waiter : ready) {
+            if (waiter.timeout != null) {
+                waiter.timeout.cancel(false);
+            }
+            recordWait(waiter, "acquired");
+            if (!waiter.future.complete(new Permit(this))) {
+                // Caller gave up on the future; hand the slot straight back.
+                release(0, Outcome.IGNORED);
+            }
+        }
+    }
+
+    private void refill(long now) {
+        if (now > lastRefillNanos) {
+            tokens = Math.min(properties.getBurst(), tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+        }
+    }
+
+    private void release(long latencyNanos, Outcome outcome) {
+        List<Waiter> ready;
+        synchronized (this) {
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS:
+                    if (latencyNanos > latencyThresholdNanos) {
+                        decrease();
+                    } else {
+                        limit = Math.min(properties.getMaxConcurrency(), limit + 1.0 / limit);
+                    }
+                    break;
+                case THROTTLED:
+                case FAILED:
+                    decrease();
+                    break;
+                default:
+                    break;
+            }
+            ready = drain(nanoClock.getAsLong());
+        }
+        complete(ready);
+    }
+
+    private void decrease() {
+        limit = Math.max(properties.getMinConcurrency(), limit * properties.getBackoffRatio());
+    }
+
+    private void pause(Duration retryAfter) {
+        List<Waiter> ready;
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + retryAfter.toNanos());
+            ready = drain(now);
+        }
+        complete(ready);
+    }
+
+    /**
+     * Parses a {@code Retry-After} header given either as delta-seconds or as an HTTP date;
+     * falls back to {@code defaultRetryAfterMs} when it is absent or unreadable.
+     */
+    public Duration parseRetryAfter(String header) {
+        Duration fallback = Duration.ofMillis(properties.getDefaultRetryAfterMs());
+        if (header == null || header.isBlank()) {
+            return fallback;
+        }
+        String value = header.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            try {
+                Duration untilDate = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException ignored) {
+                return fallback;
+            }
+        }
+    }
+
+    private void recordWait(Waiter waiter, String outcome) {
+        Timer.builder(METRIC_PREFIX + ".queue.wait")
+                .description("Time Turnkey calls spent waiting for a rate limiter permit")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(nanoClock.getAsLong() - waiter.enqueuedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter responseCounter(String outcome) {
+        return Counter.builder(METRIC_PREFIX + ".responses")
+                .description("Turnkey responses as seen by the rate limiter")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private synchronized double snapshot(DoubleSupplier value) {
+        return value.getAsDouble();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private enum Outcome { SUCCESS, THROTTLED, FAILED, IGNORED }
+
+    private static final class Waiter {
+        final long enqueuedNanos;
+        final CompletableFuture<Permit> future = new CompletableFuture<>();
+        volatile ScheduledFuture<?> timeout;
+
+        Waiter(long enqueuedNanos) {
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    /**
+     * Right to send one Turnkey request. Report how the call went through exactly one of the outcome methods.
+     */
+    public static final class Permit {
+
+        static final Permit NOOP = new Permit(null);
+
+        private final TurnkeyRateLimiter limiter;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(TurnkeyRateLimiter limiter) {
+            this.limiter = limiter;
+            this.startNanos = limiter != null ? limiter.nanoClock.getAsLong() : 0;
+        }
+
+        /**
+         * The call got a response Turnkey actually processed (2xx, or a 4xx other than 429).
+         */
+        public void onSuccess() {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                long latency = limiter.nanoClock.getAsLong() - startNanos;
+                (latency > limiter.latencyThresholdNanos ? limiter.congested : limiter.successes).increment();
+                limiter.release(latency, Outcome.SUCCESS);
+            }
+        }
+
+        /**
+         * Turnkey answered 429: shrink the limit and hold every call back for {@code retryAfter}.
+         */
+        public void onThrottled(Duration retryAfter) {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                limiter.throttled.increment();
+                log.warn("Turnkey returned 429; pausing outbound calls for {} ms", retryAfter.toMillis());
+                limiter.pause(retryAfter);
+                limiter.release(0, Outcome.THROTTLED);
+            }
+        }
+
+        /**
+         * The call timed out, failed at the network level or got a 5xx.
+         */
+        public void onFailure() {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                limiter.failures.increment();
+                limiter.release(0, Outcome.FAILED);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.maut.core.external.turnkey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maut.core.common.config.properties.TurnkeyCoalescingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Lets identical concurrent Turnkey reads share one outbound call.
+ * <p>
+ * Reads are keyed by path and a SHA-256 of the serialized body, which carries the organization id and all
+ * query parameters. The first caller (the leader) sends the request; callers arriving while it is in flight
+ * get the same raw response bytes, so each still decodes its own objects. With {@code resultTtlMs} set, a
+ * completed response also answers identical reads for that long. Only successes are cached; a failure is
+ * shared by the callers that were waiting on it and the next read tries again. Outcomes are counted as
+ * {@code turnkey.reads{outcome=sent|joined|cached}}.
+ */
+@Slf4j
+@Component
+public class TurnkeyReadCoalescer {
+
+    private final TurnkeyCoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, byte[]> results;
+
+    public TurnkeyReadCoalescer(TurnkeyCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        if (properties.isEnabled() && properties.getResultTtlMs() > 0) {
+            this.results = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaxCachedResults())
+                    .expireAfterWrite(Duration.ofMillis(properties.getResultTtlMs()))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, results, "turnkey.reads");
+        } else {
+            this.results = null;
+        }
+    }
+
+    /**
+     * Returns the response for {@code path} and {@code body}, calling {@code send} only if no identical read
+     * is in flight (or cached). The returned future is shared; callers must not complete or cancel it.
+     */
+    public CompletableFuture<byte[]> read(String path, byte[] body, Supplier<CompletableFuture<byte[]>> send) {
+        if (!properties.isEnabled()) {
+            return send.get();
+        }
+        String key = path + ':' + DigestUtils.sha256Hex(body);
+        if (results != null) {
+            byte[] cached = results.getIfPresent(key);
+            if (cached != null) {
+                record("cached");
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+
+        CompletableFuture<byte[]> created = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            record("joined");
+            return existing;
+        }
+        record("sent");
+        CompletableFuture<byte[]> sent;
+        try {
+            sent = send.get();
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((response, error) -> {
+            if (error == null && results != null) {
+                results.put(key, response);
+            }
+            // Removed before completing, so a caller woken by this result that reads again sends a fresh request.
+            inFlight.remove(key, created);
+            if (error != null) {
+                created.completeExceptionally(error);
+            } else {
+                created.complete(response);
+            }
+        });
+        return created;
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("turnkey.reads", "outcome", outcome).increment();
+    }
+}
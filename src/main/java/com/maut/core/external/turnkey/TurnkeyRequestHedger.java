@@ -0,0 +1,247 @@
+package com.maut.core.external.turnkey;
+
+import com.maut.core.common.config.properties.TurnkeyHedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Cuts the latency tail of Turnkey reads by hedging.
+ * <p>
+ * Each endpoint keeps a window of recent primary-request latencies. Once it has {@code minSamples}, a read
+ * that has not answered by the window's {@code percentile} (clamped to {@code minDelayMs..maxDelayMs}) gets a
+ * second, identical request, and whichever succeeds first answers the caller; the other is left to finish
+ * and release its rate limiter permit. Every read earns {@code budgetRatio} of a hedge (up to
+ * {@code budgetBurst}) and every hedge spends one, so hedges stay a fixed small fraction of reads even when
+ * Turnkey is slow across the board. Only used for reads, which are safe to send twice.
+ * <p>
+ * Exported metrics: counters {@code turnkey.hedge.reads}, {@code turnkey.hedge.sent},
+ * {@code turnkey.hedge.skipped} (no budget) and {@code turnkey.hedge.wins} tagged by winner; gauge
+ * {@code turnkey.hedge.delay} per path.
+ */
+@Slf4j
+@Component
+public class TurnkeyRequestHedger implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "turnkey.hedge";
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final TurnkeyHedgingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ConcurrentMap<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private double budget;
+
+    private final Counter reads;
+    private final Counter hedges;
+    private final Counter skipped;
+    private final Counter primaryWins;
+    private final Counter hedgeWins;
+
+    @Autowired
+    public TurnkeyRequestHedger(TurnkeyHedgingProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    TurnkeyRequestHedger(TurnkeyHedgingProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "turnkey-hedger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+
+        this.reads = Counter.builder(METRIC_PREFIX + ".reads")
+                .description("Turnkey reads eligible for hedging")
+                .register(meterRegistry);
+        this.hedges = Counter.builder(METRIC_PREFIX + ".sent")
+                .description("Hedge requests sent for slow Turnkey reads")
+                .register(meterRegistry);
+        this.skipped = Counter.builder(METRIC_PREFIX + ".skipped")
+                .description("Slow Turnkey reads not hedged because the hedging budget was spent")
+                .register(meterRegistry);
+        this.primaryWins = winCounter("primary");
+        this.hedgeWins = winCounter("hedge");
+
+        log.info("Turnkey read hedging: enabled={}, percentile={}, delayMs={}..{}, budgetRatio={}",
+                properties.isEnabled(), properties.getPercentile(), properties.getMinDelayMs(), properties.getMaxDelayMs(),
+                properties.getBudgetRatio());
+    }
+
+    /**
+     * Sends a read via {@code call}, and once more if the first attempt is slow. {@code call} must be safe
+     * to invoke twice.
+     */
+    public CompletableFuture<byte[]> send(String path, Supplier<CompletableFuture<byte[]>> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        LatencyWindow window = windows.computeIfAbsent(path, this::newWindow);
+        long delayNanos = window.delayNanos();
+        earnBudget();
+        reads.increment();
+
+        long startNanos = nanoClock.getAsLong();
+        CompletableFuture<byte[]> primary = call.get();
+        primary.whenComplete((body, error) -> {
+            if (error == null) {
+                window.record(nanoClock.getAsLong() - startNanos);
+            }
+        });
+        if (delayNanos < 0) {
+            return primary;
+        }
+
+        Race race = new Race(primary);
+        ScheduledFuture<?> timer = scheduler.schedule(() -> race.hedge(call), delayNanos, TimeUnit.NANOSECONDS);
+        primary.whenComplete((body, error) -> timer.cancel(false));
+        return race.result;
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(properties.getBudgetBurst(), budget + properties.getBudgetRatio());
+    }
+
+    private synchronized boolean spendBudget() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    private LatencyWindow newWindow(String path) {
+        LatencyWindow window = new LatencyWindow(properties.getWindowSize());
+        Gauge.builder(METRIC_PREFIX + ".delay", window, w -> w.delayNanos() < 0 ? Double.NaN : w.delayNanos() / 1_000_000.0)
+                .description("Latency (ms) after which a Turnkey read is hedged; NaN while warming up")
+                .tag("path", path)
+                .register(meterRegistry);
+        return window;
+    }
+
+    private Counter winCounter(String winner) {
+        return Counter.builder(METRIC_PREFIX + ".wins")
+                .description("Which request answered a hedged Turnkey read first")
+                .tag("winner", winner)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * The first success among the primary and (maybe) the hedge completes {@link #result}; it fails only
+     * once every request sent has failed.
+     */
+    private final class Race {
+        final CompletableFuture<byte[]> result = new CompletableFuture<>();
+        final AtomicInteger pending = new AtomicInteger(1);
+        final AtomicBoolean won = new AtomicBoolean();
+        volatile boolean hedged;
+
+        Race(CompletableFuture<byte[]> primary) {
+            primary.whenComplete((body, error) -> settle(body, error, false));
+        }
+
+        void hedge(Supplier<CompletableFuture<byte[]>> call) {
+            if (result.isDone()) {
+                return;
+            }
+            if (!spendBudget()) {
+                skipped.increment();
+                return;
+            }
+            pending.incrementAndGet();
+            hedged = true;
+            hedges.increment();
+            CompletableFuture<byte[]> hedge;
+            try {
+                hedge = call.get();
+            } catch (RuntimeException e) {
+                hedge = CompletableFuture.failedFuture(e);
+            }
+            hedge.whenComplete((body, error) -> settle(body, error, true));
+        }
+
+        void settle(byte[] body, Throwable error, boolean fromHedge) {
+            int stillPending = pending.decrementAndGet();
+            if (error == null) {
+                if (won.compareAndSet(false, true)) {
+                    // Counted before completing, so whoever the result wakes up already sees the win.
+                    if (hedged) {
+                        (fromHedge ? hedgeWins : primaryWins).increment();
+                    }
+                    result.complete(body);
+                }
+            } else if (stillPending == 0) {
+                result.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * Ring buffer of recent latencies; the hedge delay is recomputed every few samples rather than per read.
+     */
+    private final class LatencyWindow {
+        private final long[] samples;
+        private int size;
+        private int next;
+        private int sinceRecompute;
+        private long delayNanos = -1;
+
+        LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        synchronized void record(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+            if (++sinceRecompute >= RECOMPUTE_EVERY || delayNanos < 0) {
+                sinceRecompute = 0;
+                recompute();
+            }
+        }
+
+        /**
+         * Current hedge delay, or -1 while fewer than {@code minSamples} latencies are known.
+         */
+        synchronized long delayNanos() {
+            return delayNanos;
+        }
+
+        private void recompute() {
+            if (size < properties.getMinSamples()) {
+                delayNanos = -1;
+                return;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            long percentile = sorted[Math.min(size - 1, (int) Math.ceil(properties.getPercentile() * size) - 1)];
+            delayNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(properties.getMinDelayMs()),
+                    Math.min(TimeUnit.MILLISECONDS.toNanos(properties.getMaxDelayMs()), percentile));
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.maut.core.external.turnkey;
 
+import com.maut.core.external.turnkey.model.TurnkeyActivityDetails;
 import com.maut.core.external.turnkey.model.TurnkeyPrivateKey;
 import com.maut.core.external.turnkey.model.TurnkeySubOrganization;
+import com.maut.core.external.turnkey.model.TurnkeySubOrganizationState;
+import com.maut.core.integration.turnkey.TurnkeyIdempotencyKeys;
 import com.maut.core.integration.turnkey.exception.TurnkeyOperationException;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface TurnkeyService {
 
     /**
@@ -14,6 +19,17 @@ public interface TurnkeyService {
      */
     TurnkeySubOrganization createSubOrganization(String subOrganizationName) throws TurnkeyOperationException;
 
+    /**
+     * Non-blocking variant of {@link #createSubOrganization(String)}; the future fails with the same exceptions.
+     */
+    CompletableFuture<TurnkeySubOrganization> createSubOrganizationAsync(String subOrganizationName);
+
+    /**
+     * Same as {@link #createSubOrganizationAsync(String)}, but submitted at most once per {@code idempotencyKey}
+     * (see {@link TurnkeyIdempotencyKeys}); calling again with the same key resumes the original activity.
+     */
+    CompletableFuture<TurnkeySubOrganization> createSubOrganizationAsync(String subOrganizationName, String idempotencyKey);
+
     /**
      * Creates a new Maut-managed private key within a specified Turnkey sub-organization.
      * This key is primarily managed by the Maut system.
@@ -24,6 +40,18 @@ public interface TurnkeyService {
      */
     TurnkeyPrivateKey createMautManagedPrivateKey(String subOrganizationId, String privateKeyName) throws TurnkeyOperationException;
 
+    /**
+     * Non-blocking variant of {@link #createMautManagedPrivateKey(String, String)}, so several keys can be
+     * created concurrently; the future fails with the same exceptions.
+     */
+    CompletableFuture<TurnkeyPrivateKey> createMautManagedPrivateKeyAsync(String subOrganizationId, String privateKeyName);
+
+    /**
+     * Same as {@link #createMautManagedPrivateKeyAsync(String, String)}, but submitted at most once per
+     * {@code idempotencyKey}.
+     */
+    CompletableFuture<TurnkeyPrivateKey> createMautManagedPrivateKeyAsync(String subOrganizationId, String privateKeyName, String idempotencyKey);
+
     /**
      * Creates a new user-controlled private key within a specified Turnkey sub-organization.
      * This key is intended to be more directly associated with the end-user.
@@ -35,6 +63,26 @@ public interface TurnkeyService {
      */
     TurnkeyPrivateKey createUserControlledPrivateKey(String subOrganizationId, String userId, String privateKeyName) throws TurnkeyOperationException;
 
+    /**
+     * Fetches the current status (and result, once completed) of an activity.
+     * @param organizationId The (sub-)organization the activity was submitted in.
+     * @param activityId The Turnkey activity ID.
+     * @return The activity details.
+     * @throws TurnkeyOperationException if the operation fails.
+     */
+    TurnkeyActivityDetails getActivity(String organizationId, String activityId) throws TurnkeyOperationException;
+
+    /**
+     * Non-blocking variant of {@link #getActivity(String, String)}, used to poll many activities at once.
+     */
+    CompletableFuture<TurnkeyActivityDetails> getActivityAsync(String organizationId, String activityId);
+
+    /**
+     * Reads the private keys, users (with authenticators) and policies of a sub-organization with three
+     * concurrent queries; the future fails if any of them fails.
+     */
+    CompletableFuture<TurnkeySubOrganizationState> getSubOrganizationStateAsync(String subOrganizationId);
+
     // Optional: Method to assign a default policy
     /**
      * Assigns a default policy to a private key in Turnkey.
@@ -1,10 +1,14 @@
 package com.maut.core.external.turnkey;
 
+import com.maut.core.common.exception.TurnkeyCapacityException;
+import com.maut.core.common.transaction.OutboundCallGuard;
+import com.maut.core.external.turnkey.model.TurnkeyActivityDetails;
 import com.maut.core.external.turnkey.model.TurnkeyPrivateKey;
 import com.maut.core.external.turnkey.model.TurnkeySubOrganization;
+import com.maut.core.external.turnkey.model.TurnkeySubOrganizationState;
 import com.maut.core.external.turnkey.model.request.CreatePrivateKeysParameters;
-import com.maut.core.external.turnkey.model.request.CreatePrivateKeysRequest;
-import com.maut.core.external.turnkey.model.request.CreateSubOrganizationRequest;
+import com.maut.core.external.turnkey.model.request.GetActivityRequest;
+import com.maut.core.external.turnkey.model.request.OrganizationQueryRequest;
 import com.maut.core.external.turnkey.model.request.PrivateKeySpecification;
 import com.maut.core.external.turnkey.model.request.RootUserPayload;
 import com.maut.core.external.turnkey.model.request.SubOrganizationParameters;
@@ -12,28 +16,26 @@ import com.maut.core.external.turnkey.model.response.ActivityResponsePayload;
 import com.maut.core.external.turnkey.model.response.Address;
 import com.maut.core.external.turnkey.model.response.CreatePrivateKeysActivityResult;
 import com.maut.core.external.turnkey.model.response.CreateSubOrgActivityResult;
+import com.maut.core.external.turnkey.model.response.ListPoliciesResponse;
+import com.maut.core.external.turnkey.model.response.ListPrivateKeysResponse;
+import com.maut.core.external.turnkey.model.response.ListUsersResponse;
 import com.maut.core.external.turnkey.model.response.PrivateKeyDetails;
 import com.maut.core.external.turnkey.model.response.SubOrganizationDetails;
 import com.maut.core.external.turnkey.model.response.TurnkeyActivityResponseWrapper;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.maut.core.integration.turnkey.TurnkeyActivitySubmitter;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Instant;
 import java.util.Collections;
-
-import com.maut.core.external.turnkey.util.TurnkeyAuthenticator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @Slf4j
@@ -47,97 +49,107 @@ public class TurnkeyServiceImpl implements TurnkeyService {
     private static final String DEFAULT_PRIVATE_KEY_CURVE = "CURVE_SECP256K1";
     private static final String DEFAULT_ADDRESS_FORMAT = "ADDRESS_FORMAT_ETHEREUM";
 
-    private final RestTemplate restTemplate;
-
-    @Value("${turnkey.api.baseUrl}")
-    private String turnkeyApiBaseUrl;
-
-    @Value("${turnkey.api.key}")
-    private String turnkeyApiKey;
+    private static final TypeReference<TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreateSubOrgActivityResult>>> CREATE_SUB_ORG_RESPONSE =
+            new TypeReference<>() {};
+    private static final TypeReference<TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreatePrivateKeysActivityResult>>> CREATE_PRIVATE_KEYS_RESPONSE =
+            new TypeReference<>() {};
+    private static final TypeReference<TurnkeyActivityResponseWrapper<TurnkeyActivityDetails>> GET_ACTIVITY_RESPONSE =
+            new TypeReference<>() {};
 
-    @Value("${turnkey.api.secret}")
-    private String turnkeyApiSecret;
+    private final TurnkeyApiTransport turnkeyApiTransport;
+    private final TurnkeyActivitySubmitter turnkeyActivitySubmitter;
+    private final OutboundCallGuard outboundCallGuard;
 
     @Value("${turnkey.api.organizationId}")
     private String turnkeyOrganizationId;
 
-    public TurnkeyServiceImpl(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+    public TurnkeyServiceImpl(TurnkeyApiTransport turnkeyApiTransport, TurnkeyActivitySubmitter turnkeyActivitySubmitter,
+                              OutboundCallGuard outboundCallGuard) {
+        this.turnkeyApiTransport = turnkeyApiTransport;
+        this.turnkeyActivitySubmitter = turnkeyActivitySubmitter;
+        this.outboundCallGuard = outboundCallGuard;
     }
 
     @Override
     public TurnkeySubOrganization createSubOrganization(String subOrganizationName) {
-        String url = turnkeyApiBaseUrl + "/public/v1/submit/create_sub_organization";
-        log.info("Attempting to create Turnkey sub-organization '{}' for organization ID: {}. URL: {}", subOrganizationName, turnkeyOrganizationId, url);
-
-        CreateSubOrganizationRequest requestPayload = CreateSubOrganizationRequest.builder()
-            .type(ACTIVITY_TYPE_CREATE_SUB_ORGANIZATION_V7)
-            .timestampMs(String.valueOf(System.currentTimeMillis()))
-            .organizationId(turnkeyOrganizationId)
-            .parameters(SubOrganizationParameters.builder()
-                    .subOrganizationName(subOrganizationName)
-                    .rootUsers(Collections.singletonList(RootUserPayload.builder()
-                            .userName("root")
-                            .apiKeys(Collections.emptyList())
-                            .authenticators(Collections.emptyList())
-                            .oauthProviders(Collections.emptyList())
-                            .build()))
-                    .rootQuorumThreshold(1)
-                    .build())
-            .build();
+        outboundCallGuard.check("turnkey", "create_sub_organization");
+        return await(createSubOrganizationAsync(subOrganizationName));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-        headers.set("X-Stamp", TurnkeyAuthenticator.getStamp(convertPayloadToString(requestPayload), turnkeyApiKey, turnkeyApiSecret));
+    @Override
+    public CompletableFuture<TurnkeySubOrganization> createSubOrganizationAsync(String subOrganizationName) {
+        return createSubOrganizationAsync(subOrganizationName, null);
+    }
 
-        HttpEntity<CreateSubOrganizationRequest> entity = new HttpEntity<>(requestPayload, headers);
+    @Override
+    public CompletableFuture<TurnkeySubOrganization> createSubOrganizationAsync(String subOrganizationName, String idempotencyKey) {
+        String path = "/public/v1/submit/create_sub_organization";
+        log.info("Attempting to create Turnkey sub-organization '{}' for organization ID: {}. Path: {}", subOrganizationName, turnkeyOrganizationId, path);
+
+        SubOrganizationParameters parameters = SubOrganizationParameters.builder()
+                .subOrganizationName(subOrganizationName)
+                .rootUsers(Collections.singletonList(RootUserPayload.builder()
+                        .userName("root")
+                        .apiKeys(Collections.emptyList())
+                        .authenticators(Collections.emptyList())
+                        .oauthProviders(Collections.emptyList())
+                        .build()))
+                .rootQuorumThreshold(1)
+                .build();
+        log.debug("Turnkey Request Parameters: {}", parameters);
+
+        return turnkeyActivitySubmitter.submitAsync(
+                        TurnkeyActivitySubmitter.Activity.<TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreateSubOrgActivityResult>>>builder()
+                                .path(path)
+                                .type(ACTIVITY_TYPE_CREATE_SUB_ORGANIZATION_V7)
+                                .organizationId(turnkeyOrganizationId)
+                                .parameters(parameters)
+                                .idempotencyKey(idempotencyKey)
+                                .responseType(CREATE_SUB_ORG_RESPONSE)
+                                .activityIdOf(TurnkeyServiceImpl::activityIdOf)
+                                .statusOf(TurnkeyServiceImpl::statusOf)
+                                .build())
+                .handle((responseBody, error) -> {
+                    if (error != null) {
+                        throw translate(error, "creating Turnkey sub-organization");
+                    }
+                    return toSubOrganization(responseBody, subOrganizationName);
+                });
+    }
 
-        try {
-            log.debug("Turnkey Request Payload: {}", requestPayload);
-
-            ResponseEntity<TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreateSubOrgActivityResult>>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    new ParameterizedTypeReference<TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreateSubOrgActivityResult>>>() {}
-            );
-            log.info("Turnkey API response status: {}", response.getStatusCode());
-            log.debug("Turnkey API response body: {}", response.getBody());
-
-            TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreateSubOrgActivityResult>> responseBody = response.getBody();
-            if (responseBody != null && responseBody.getActivity() != null && responseBody.getActivity().getResult() != null &&
-                responseBody.getActivity().getResult().getCreateSubOrganizationResultV7() != null) {
-                SubOrganizationDetails subOrgDetails = responseBody.getActivity().getResult().getCreateSubOrganizationResultV7();
-                if (subOrgDetails.getSubOrganizationId() != null) {
-                    String newSubOrganizationId = subOrgDetails.getSubOrganizationId();
-                    log.info("Successfully created Turnkey sub-organization with ID: {}", newSubOrganizationId);
-                    return TurnkeySubOrganization.builder()
-                            .subOrganizationId(newSubOrganizationId)
-                            .name(subOrganizationName)
-                            .build();
-                }
+    private TurnkeySubOrganization toSubOrganization(
+            TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreateSubOrgActivityResult>> responseBody, String subOrganizationName) {
+        log.debug("Turnkey API response body: {}", responseBody);
+        if (responseBody != null && responseBody.getActivity() != null && responseBody.getActivity().getResult() != null &&
+            responseBody.getActivity().getResult().getCreateSubOrganizationResultV7() != null) {
+            SubOrganizationDetails subOrgDetails = responseBody.getActivity().getResult().getCreateSubOrganizationResultV7();
+            if (subOrgDetails.getSubOrganizationId() != null) {
+                String newSubOrganizationId = subOrgDetails.getSubOrganizationId();
+                log.info("Successfully created Turnkey sub-organization with ID: {}", newSubOrganizationId);
+                return TurnkeySubOrganization.builder()
+                        .subOrganizationId(newSubOrganizationId)
+                        .name(subOrganizationName)
+                        .build();
             }
-            // If any part of the expected structure is missing, log an error
-            log.error("Failed to create Turnkey sub-organization: Invalid or incomplete response structure. Response: {}", responseBody);
-            // Consider throwing a specific exception for clarity and better error handling downstream
-            throw new RuntimeException("Failed to create Turnkey sub-organization due to invalid or incomplete response.");
-
-        } catch (HttpClientErrorException e) {
-            log.error("HttpClientErrorException while creating Turnkey sub-organization: {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            throw new RuntimeException("Error creating Turnkey sub-organization: " + e.getResponseBodyAsString(), e);
-        } catch (RestClientException e) { // More general RestClientException
-            log.error("RestClientException while creating Turnkey sub-organization: {}", e.getMessage(), e);
-            throw new RuntimeException("Network or communication error creating Turnkey sub-organization", e);
-        } catch (Exception e) { // Catch-all for any other unexpected exceptions
-            log.error("Unexpected exception while creating Turnkey sub-organization: {}", e.getMessage(), e);
-            throw new RuntimeException("Unexpected error creating Turnkey sub-organization", e);
         }
+        // If any part of the expected structure is missing, log an error
+        log.error("Failed to create Turnkey sub-organization: Invalid or incomplete response structure. Response: {}", responseBody);
+        throw new RuntimeException("Failed to create Turnkey sub-organization due to invalid or incomplete response.");
     }
 
     @Override
     public TurnkeyPrivateKey createMautManagedPrivateKey(String subOrganizationId, String privateKeyName) {
-        String timestampMs = String.valueOf(System.currentTimeMillis());
+        outboundCallGuard.check("turnkey", "create_private_keys");
+        return await(createMautManagedPrivateKeyAsync(subOrganizationId, privateKeyName));
+    }
+
+    @Override
+    public CompletableFuture<TurnkeyPrivateKey> createMautManagedPrivateKeyAsync(String subOrganizationId, String privateKeyName) {
+        return createMautManagedPrivateKeyAsync(subOrganizationId, privateKeyName, null);
+    }
+
+    @Override
+    public CompletableFuture<TurnkeyPrivateKey> createMautManagedPrivateKeyAsync(String subOrganizationId, String privateKeyName, String idempotencyKey) {
         PrivateKeySpecification keySpec = PrivateKeySpecification.builder()
             .privateKeyName(privateKeyName)
             .algorithm(DEFAULT_PRIVATE_KEY_ALGORITHM)
@@ -150,80 +162,154 @@ public class TurnkeyServiceImpl implements TurnkeyService {
             .privateKeys(Collections.singletonList(keySpec))
             .build();
 
-        CreatePrivateKeysRequest requestPayload = CreatePrivateKeysRequest.builder()
-            .type(ACTIVITY_TYPE_CREATE_PRIVATE_KEYS_V2)
-            .timestampMs(timestampMs)
-            .organizationId(turnkeyOrganizationId)
-            .parameters(params)
-            .build();
+        String path = "/public/v1/submit/create_private_keys";
+        log.info("Sending Turnkey request to create Maut-managed private key. Path: {}, SubOrgID: {}, KeyName: {}", path, subOrganizationId, privateKeyName);
+
+        return turnkeyActivitySubmitter.submitAsync(
+                        TurnkeyActivitySubmitter.Activity.<TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreatePrivateKeysActivityResult>>>builder()
+                                .path(path)
+                                .type(ACTIVITY_TYPE_CREATE_PRIVATE_KEYS_V2)
+                                .organizationId(turnkeyOrganizationId)
+                                .parameters(params)
+                                .idempotencyKey(idempotencyKey)
+                                .responseType(CREATE_PRIVATE_KEYS_RESPONSE)
+                                .activityIdOf(TurnkeyServiceImpl::activityIdOf)
+                                .statusOf(TurnkeyServiceImpl::statusOf)
+                                .build())
+                .handle((responseBody, error) -> {
+                    if (error != null) {
+                        throw translate(error, "creating Maut-managed private key (name: " + privateKeyName + ")");
+                    }
+                    return toPrivateKey(responseBody, privateKeyName);
+                });
+    }
+
+    private static String activityIdOf(TurnkeyActivityResponseWrapper<? extends ActivityResponsePayload<?>> responseBody) {
+        return responseBody.getActivity() != null ? responseBody.getActivity().getId() : null;
+    }
+
+    private static String statusOf(TurnkeyActivityResponseWrapper<? extends ActivityResponsePayload<?>> responseBody) {
+        return responseBody.getActivity() != null ? responseBody.getActivity().getStatus() : null;
+    }
 
-        String requestPayloadString = convertPayloadToString(requestPayload);
-        // A null check for requestPayloadString is good practice, though convertPayloadToString throws an exception on failure.
-        // However, defensive programming might still warrant it if convertPayloadToString could be refactored to return null.
-        if (requestPayloadString == null) {
-             log.error("Request payload string is null for createMautManagedPrivateKey. SubOrgID: {}, KeyName: {}", subOrganizationId, privateKeyName);
-            throw new RuntimeException("Failed to serialize request payload for Turnkey API stamp generation.");
+    private TurnkeyPrivateKey toPrivateKey(
+            TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreatePrivateKeysActivityResult>> responseBody, String privateKeyName) {
+        log.info("Received Turnkey response for Maut-managed private key creation.");
+
+        if (responseBody != null && responseBody.getActivity() != null && responseBody.getActivity().getResult() != null &&
+            responseBody.getActivity().getResult().getCreatePrivateKeysResultV2() != null &&
+            responseBody.getActivity().getResult().getCreatePrivateKeysResultV2().getPrivateKeys() != null &&
+            !responseBody.getActivity().getResult().getCreatePrivateKeysResultV2().getPrivateKeys().isEmpty()) {
+
+            PrivateKeyDetails pkDetails = responseBody.getActivity().getResult().getCreatePrivateKeysResultV2().getPrivateKeys().get(0);
+            String keyAddress = null;
+            if (pkDetails.getAddresses() != null) {
+                keyAddress = pkDetails.getAddresses().stream()
+                    .filter(addr -> DEFAULT_ADDRESS_FORMAT.equals(addr.getFormat()))
+                    .map(Address::getAddress)
+                    .findFirst()
+                     // Fallback to the first address if the default format is not found, or if addresses list is empty.
+                    .orElse(pkDetails.getAddresses().isEmpty() ? null : pkDetails.getAddresses().get(0).getAddress());
+            }
+
+            if (pkDetails.getPrivateKeyId() == null || keyAddress == null) {
+                log.error("Failed to extract privateKeyId or address from Turnkey response for keyName: {}. Details: {}", privateKeyName, pkDetails);
+                throw new RuntimeException("Turnkey private key creation succeeded but response format was unexpected (missing ID or address).");
+            }
+
+            log.info("Successfully created Maut-managed private key. Name: {}, ID: {}, Address: {}", privateKeyName, pkDetails.getPrivateKeyId(), keyAddress);
+            return TurnkeyPrivateKey.builder()
+                    .privateKeyId(pkDetails.getPrivateKeyId())
+                    .address(keyAddress)
+                    .build();
         }
+        log.error("Turnkey Maut-managed private key creation for name '{}' failed or response format was unexpected. Response: {}", privateKeyName, responseBody);
+        throw new RuntimeException("Turnkey Maut-managed private key creation failed or response format was unexpected.");
+    }
+
+    @Override
+    public TurnkeyActivityDetails getActivity(String organizationId, String activityId) {
+        outboundCallGuard.check("turnkey", "get_activity");
+        return await(getActivityAsync(organizationId, activityId));
+    }
+
+    @Override
+    public CompletableFuture<TurnkeyActivityDetails> getActivityAsync(String organizationId, String activityId) {
+        log.debug("Fetching Turnkey activity {} in organization {}", activityId, organizationId);
+        return turnkeyApiTransport.postAsync("/public/v1/query/get_activity", new GetActivityRequest(organizationId, activityId), GET_ACTIVITY_RESPONSE)
+                .handle((responseBody, error) -> {
+                    if (error != null) {
+                        throw translate(error, "fetching Turnkey activity " + activityId);
+                    }
+                    if (responseBody == null || responseBody.getActivity() == null || responseBody.getActivity().getStatus() == null) {
+                        log.error("Turnkey get_activity for {} returned no activity. Response: {}", activityId, responseBody);
+                        throw new RuntimeException("Turnkey get_activity returned no activity for " + activityId);
+                    }
+                    return responseBody.getActivity();
+                });
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("X-Stamp", TurnkeyAuthenticator.getStamp(requestPayloadString, turnkeyApiKey, turnkeyApiSecret));
+    @Override
+    public CompletableFuture<TurnkeySubOrganizationState> getSubOrganizationStateAsync(String subOrganizationId) {
+        log.debug("Reading state of Turnkey sub-organization {}", subOrganizationId);
+        Instant fetchedAt = Instant.now();
+        OrganizationQueryRequest query = new OrganizationQueryRequest(subOrganizationId);
+        CompletableFuture<ListPrivateKeysResponse> privateKeys =
+                turnkeyApiTransport.postAsync("/public/v1/query/list_private_keys", query, ListPrivateKeysResponse.class);
+        CompletableFuture<ListUsersResponse> users =
+                turnkeyApiTransport.postAsync("/public/v1/query/list_users", query, ListUsersResponse.class);
+        CompletableFuture<ListPoliciesResponse> policies =
+                turnkeyApiTransport.postAsync("/public/v1/query/list_policies", query, ListPoliciesResponse.class);
+        return CompletableFuture.allOf(privateKeys, users, policies)
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        throw translate(error, "reading state of Turnkey sub-organization " + subOrganizationId);
+                    }
+                    return TurnkeySubOrganizationState.builder()
+                            .subOrganizationId(subOrganizationId)
+                            .privateKeys(orEmpty(privateKeys.join() != null ? privateKeys.join().getPrivateKeys() : null))
+                            .users(orEmpty(users.join() != null ? users.join().getUsers() : null))
+                            .policies(orEmpty(policies.join() != null ? policies.join().getPolicies() : null))
+                            .fetchedAt(fetchedAt)
+                            .build();
+                });
+    }
 
-        HttpEntity<CreatePrivateKeysRequest> entity = new HttpEntity<>(requestPayload, headers);
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list != null ? list : Collections.emptyList();
+    }
 
-        String url = turnkeyApiBaseUrl + "/public/v1/submit/create_private_keys";
-        log.info("Sending Turnkey request to create Maut-managed private key. URL: {}, SubOrgID: {}, KeyName: {}", url, subOrganizationId, privateKeyName);
+    /**
+     * Maps a transport failure to the exception the synchronous API has always thrown.
+     */
+    private RuntimeException translate(Throwable error, String operation) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TurnkeyCapacityException) {
+            // Already a client-facing 429; keep it so callers can pass the Retry-After on.
+            log.warn("Rate limited while {}: {}", operation, cause.getMessage());
+            return (TurnkeyCapacityException) cause;
+        }
+        if (cause instanceof HttpClientErrorException) {
+            HttpClientErrorException e = (HttpClientErrorException) cause;
+            log.error("HttpClientErrorException while {}: {} - {}", operation, e.getStatusCode(), e.getResponseBodyAsString(), e);
+            return new RuntimeException("Error " + operation + ": " + e.getResponseBodyAsString(), e);
+        }
+        if (cause instanceof RestClientException) {
+            log.error("RestClientException while {}: {}", operation, cause.getMessage(), cause);
+            return new RuntimeException("Network or communication error " + operation, cause);
+        }
+        log.error("Unexpected exception while {}: {}", operation, cause.getMessage(), cause);
+        return new RuntimeException("Unexpected error " + operation, cause);
+    }
 
+    private static <T> T await(CompletableFuture<T> future) {
         try {
-            ResponseEntity<TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreatePrivateKeysActivityResult>>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    new ParameterizedTypeReference<TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreatePrivateKeysActivityResult>>>() {}
-            );
-
-            log.info("Received Turnkey response for Maut-managed private key creation. Status: {}", response.getStatusCode());
-
-            TurnkeyActivityResponseWrapper<ActivityResponsePayload<CreatePrivateKeysActivityResult>> responseBody = response.getBody();
-            if (responseBody != null && responseBody.getActivity() != null && responseBody.getActivity().getResult() != null &&
-                responseBody.getActivity().getResult().getCreatePrivateKeysResultV2() != null &&
-                responseBody.getActivity().getResult().getCreatePrivateKeysResultV2().getPrivateKeys() != null &&
-                !responseBody.getActivity().getResult().getCreatePrivateKeysResultV2().getPrivateKeys().isEmpty()) {
-
-                PrivateKeyDetails pkDetails = responseBody.getActivity().getResult().getCreatePrivateKeysResultV2().getPrivateKeys().get(0);
-                String keyAddress = null;
-                if (pkDetails.getAddresses() != null) {
-                    keyAddress = pkDetails.getAddresses().stream()
-                        .filter(addr -> DEFAULT_ADDRESS_FORMAT.equals(addr.getFormat()))
-                        .map(Address::getAddress)
-                        .findFirst()
-                         // Fallback to the first address if the default format is not found, or if addresses list is empty.
-                        .orElse(pkDetails.getAddresses().isEmpty() ? null : pkDetails.getAddresses().get(0).getAddress());
-                }
-
-                if (pkDetails.getPrivateKeyId() == null || keyAddress == null) {
-                    log.error("Failed to extract privateKeyId or address from Turnkey response for keyName: {}. Details: {}", privateKeyName, pkDetails);
-                    throw new RuntimeException("Turnkey private key creation succeeded but response format was unexpected (missing ID or address).");
-                }
-
-                log.info("Successfully created Maut-managed private key. Name: {}, ID: {}, Address: {}", privateKeyName, pkDetails.getPrivateKeyId(), keyAddress);
-                return TurnkeyPrivateKey.builder()
-                        .privateKeyId(pkDetails.getPrivateKeyId())
-                        .address(keyAddress)
-                        .build();
-            } else {
-                log.error("Turnkey Maut-managed private key creation for name '{}' failed or response format was unexpected. Response: {}", privateKeyName, responseBody);
-                throw new RuntimeException("Turnkey Maut-managed private key creation failed or response format was unexpected.");
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-        } catch (HttpClientErrorException e) {
-            log.error("HttpClientErrorException while creating Maut-managed private key (name: {}): {} - {}", privateKeyName, e.getStatusCode(), e.getResponseBodyAsString(), e);
-            throw new RuntimeException("Error creating Maut-managed private key: " + e.getResponseBodyAsString(), e);
-        } catch (RestClientException e) {
-            log.error("RestClientException while creating Maut-managed private key (name: {}): {}", privateKeyName, e.getMessage(), e);
-            throw new RuntimeException("Network or communication error creating Maut-managed private key", e);
-        } catch (Exception e) {
-            log.error("Unexpected exception while creating Maut-managed private key (name: {}): {}", privateKeyName, e.getMessage(), e);
-            throw new RuntimeException("Unexpected error creating Maut-managed private key", e);
+            throw e;
         }
     }
 
@@ -236,16 +322,4 @@ public class TurnkeyServiceImpl implements TurnkeyService {
         log.warn("createUserControlledPrivateKey is not yet implemented. SubOrgID: {}, UserID: {}, PrivateKeyName: {}", subOrganizationId, userId, privateKeyName);
         throw new UnsupportedOperationException("createUserControlledPrivateKey is not yet implemented.");
     }
-
-    private String convertPayloadToString(Object payload) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        // objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL); // Ensure this is consistent with Turnkey's expectations if re-enabled. Usually handled by DTO annotations (@JsonInclude).
-        try {
-            return objectMapper.writeValueAsString(payload);
-        } catch (JsonProcessingException e) {
-            log.error("Error converting payload to string for X-Stamp generation", e);
-            // Propagate as a runtime exception because this is a critical step.
-            throw new RuntimeException("Failed to serialize payload to string", e);
-        }
-    }
 }
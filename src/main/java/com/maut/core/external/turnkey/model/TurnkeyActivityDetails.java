@@ -0,0 +1,25 @@
+package com.maut.core.external.turnkey.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Current state of a Turnkey activity as returned by {@code get_activity}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TurnkeyActivityDetails {
+    private String id;
+    private String organizationId;
+    private String type;
+    private String status; // e.g., "ACTIVITY_STATUS_PENDING", "ACTIVITY_STATUS_COMPLETED"
+    private Map<String, Object> result; // Present once the activity has completed
+}
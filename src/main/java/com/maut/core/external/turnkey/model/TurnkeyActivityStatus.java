@@ -0,0 +1,50 @@
+package com.maut.core.external.turnkey.model;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * Turnkey activity status values. Only {@link #COMPLETED}, {@link #FAILED}, {@link #REJECTED} and
+ * {@link #CANCELED} are final; everything else (created, pending, consensus needed) may still change.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TurnkeyActivityStatus {
+
+    public static final String CREATED = "ACTIVITY_STATUS_CREATED";
+    public static final String PENDING = "ACTIVITY_STATUS_PENDING";
+    public static final String CONSENSUS_NEEDED = "ACTIVITY_STATUS_CONSENSUS_NEEDED";
+    public static final String COMPLETED = "ACTIVITY_STATUS_COMPLETED";
+    public static final String FAILED = "ACTIVITY_STATUS_FAILED";
+    public static final String REJECTED = "ACTIVITY_STATUS_REJECTED";
+    public static final String CANCELED = "ACTIVITY_STATUS_CANCELED";
+
+    private static final String PREFIX = "ACTIVITY_STATUS_";
+
+    public static boolean isTerminal(String status) {
+        return COMPLETED.equals(status) || isUnsuccessful(status);
+    }
+
+    /**
+     * Final without a result: the operation did not happen and may be submitted again.
+     */
+    public static boolean isUnsuccessful(String status) {
+        return FAILED.equals(status) || REJECTED.equals(status) || CANCELED.equals(status);
+    }
+
+    /**
+     * Maut API responses use the status without the {@code ACTIVITY_STATUS_} prefix, e.g. {@code COMPLETED}.
+     */
+    public static String toApiStatus(String status) {
+        return status != null && status.startsWith(PREFIX) ? status.substring(PREFIX.length()) : status;
+    }
+
+    /**
+     * Accepts either form ({@code COMPLETED} or {@code ACTIVITY_STATUS_COMPLETED}), case-insensitively.
+     */
+    public static String fromApiStatus(String apiStatus) {
+        String normalized = apiStatus.trim().toUpperCase(Locale.ROOT);
+        return normalized.startsWith(PREFIX) ? normalized : PREFIX + normalized;
+    }
+}
@@ -0,0 +1,26 @@
+package com.maut.core.external.turnkey.model;
+
+import com.maut.core.external.turnkey.model.response.PolicyDetails;
+import com.maut.core.external.turnkey.model.response.PrivateKeyDetails;
+import com.maut.core.external.turnkey.model.response.UserDetails;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Private keys, users (with their authenticators) and policies of one sub-organization, read together.
+ */
+@Value
+@Builder
+public class TurnkeySubOrganizationState {
+    String subOrganizationId;
+    List<PrivateKeyDetails> privateKeys;
+    List<UserDetails> users;
+    List<PolicyDetails> policies;
+    /**
+     * When the queries were issued; the state is at least this fresh.
+     */
+    Instant fetchedAt;
+}
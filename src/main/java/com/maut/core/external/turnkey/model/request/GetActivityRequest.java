@@ -0,0 +1,11 @@
+package com.maut.core.external.turnkey.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class GetActivityRequest {
+    private String organizationId;
+    private String activityId;
+}
@@ -0,0 +1,13 @@
+package com.maut.core.external.turnkey.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Body of the organization-scoped list queries ({@code list_private_keys}, {@code list_users}, {@code list_policies}).
+ */
+@Data
+@AllArgsConstructor
+public class OrganizationQueryRequest {
+    private String organizationId;
+}
@@ -0,0 +1,12 @@
+package com.maut.core.external.turnkey.model.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor // For Jackson deserialization
+public class AuthenticatorDetails {
+    private String authenticatorId;
+    private String authenticatorName;
+    private String credentialId; // WebAuthn credential ID, base64url
+}
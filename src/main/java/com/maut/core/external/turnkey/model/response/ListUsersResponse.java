@@ -0,0 +1,12 @@
+package com.maut.core.external.turnkey.model.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor // For Jackson deserialization
+public class ListUsersResponse {
+    private List<UserDetails> users;
+}
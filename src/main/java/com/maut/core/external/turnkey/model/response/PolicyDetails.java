@@ -0,0 +1,15 @@
+package com.maut.core.external.turnkey.model.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor // For Jackson deserialization
+public class PolicyDetails {
+    private String policyId;
+    private String policyName;
+    private String effect; // e.g., "EFFECT_ALLOW"
+    private String condition;
+    private String consensus;
+    private String notes;
+}
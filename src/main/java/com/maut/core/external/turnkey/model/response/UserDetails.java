@@ -0,0 +1,14 @@
+package com.maut.core.external.turnkey.model.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor // For Jackson deserialization
+public class UserDetails {
+    private String userId;
+    private String userName;
+    private List<AuthenticatorDetails> authenticators;
+}
@@ -0,0 +1,63 @@
+package com.maut.core.external.turnkey.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON codec for Turnkey API payloads.
+ * <p>
+ * Requests are serialized exactly once to {@code byte[]}; those bytes are what gets stamped and what goes on
+ * the wire, so the signature always covers the body Turnkey receives. {@link ObjectWriter}s and
+ * {@link ObjectReader}s are resolved once per type and reused. The mapper is configured like the one
+ * {@code RestTemplate} used before, so unknown response properties are still ignored.
+ */
+@Slf4j
+@Component
+public class TurnkeyJsonCodec {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public byte[] write(Object payload) {
+        if (payload == null) {
+            throw new IllegalArgumentException("Turnkey request payload cannot be null.");
+        }
+        try {
+            return writers.computeIfAbsent(payload.getClass(), objectMapper::writerFor).writeValueAsBytes(payload);
+        } catch (IOException e) {
+            log.error("Error serializing Turnkey payload of type {}", payload.getClass().getSimpleName(), e);
+            throw new IllegalStateException("Failed to serialize Turnkey request payload", e);
+        }
+    }
+
+    public <T> T read(byte[] body, Class<T> type) {
+        return read(body, objectMapper.constructType(type));
+    }
+
+    public <T> T read(byte[] body, TypeReference<T> type) {
+        return read(body, objectMapper.getTypeFactory().constructType(type));
+    }
+
+    private <T> T read(byte[] body, JavaType type) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return readers.computeIfAbsent(type, objectMapper::readerFor).readValue(body);
+        } catch (IOException e) {
+            log.error("Error deserializing Turnkey response as {}", type, e);
+            throw new IllegalStateException("Failed to deserialize Turnkey response", e);
+        }
+    }
+}
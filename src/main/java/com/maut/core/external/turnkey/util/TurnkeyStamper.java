@@ -0,0 +1,199 @@
+package com.maut.core.external.turnkey.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.Security;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPrivateKeySpec;
+import java.security.spec.KeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Produces the {@code X-Stamp} header Turnkey requires on every API request: a Base64Url-encoded JSON
+ * document holding the API public key, the hex DER ECDSA P-256 signature of the request body and the
+ * signature scheme.
+ * <p>
+ * The API private key is parsed once at startup, either as the raw 32-byte scalar Turnkey hands out or
+ * as a PKCS#8 blob. Signing runs on per-thread {@link Signature} instances that stay initialised with that
+ * key, and the JSON is assembled from a precomputed prefix/suffix around the signature. Unless
+ * {@code turnkey.api.signatureProvider} pins one, the JCA provider (SunEC or BouncyCastle) is picked by a
+ * short signing benchmark at startup.
+ */
+@Slf4j
+@Component
+public class TurnkeyStamper {
+
+    static final String SIGNATURE_SCHEME = "SIGNATURE_SCHEME_TK_API_P256";
+    private static final String ECDSA_ALGORITHM = "SHA256withECDSA";
+    private static final String CURVE = "secp256r1";
+    private static final String SUN_EC = "SunEC";
+    private static final int BENCHMARK_WARMUP = 200;
+    private static final int BENCHMARK_ITERATIONS = 500;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final String providerName;
+    private final ThreadLocal<Signature> signatures;
+    private final byte[] stampPrefix;
+    private final byte[] stampSuffix;
+
+    public TurnkeyStamper(@Value("${turnkey.api.key}") String publicKeyHex,
+                          @Value("${turnkey.api.secret}") String privateKeyHex,
+                          @Value("${turnkey.api.signatureProvider:auto}") String signatureProvider) {
+        if (publicKeyHex == null || !publicKeyHex.matches("[0-9a-fA-F]+")) {
+            throw new IllegalStateException("turnkey.api.key must be a hex-encoded public key.");
+        }
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+
+        byte[] privateKeyBytes = decodeHex(privateKeyHex);
+        Map<String, PrivateKey> candidates = new LinkedHashMap<>();
+        for (String provider : new String[]{SUN_EC, BouncyCastleProvider.PROVIDER_NAME}) {
+            if (!"auto".equalsIgnoreCase(signatureProvider) && !provider.equalsIgnoreCase(signatureProvider)) {
+                continue;
+            }
+            try {
+                candidates.put(provider, parsePrivateKey(privateKeyBytes, provider));
+            } catch (GeneralSecurityException e) {
+                log.warn("JCA provider {} cannot load the Turnkey API key: {}", provider, e.getMessage());
+            }
+        }
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("No usable JCA provider for the Turnkey API key (requested: " + signatureProvider + ").");
+        }
+
+        this.providerName = candidates.size() == 1 ? candidates.keySet().iterator().next() : fastestProvider(candidates);
+        PrivateKey privateKey = candidates.get(providerName);
+        this.signatures = ThreadLocal.withInitial(() -> newSignature(providerName, privateKey));
+
+        String prefix = "{\"publicKey\":\"" + publicKeyHex.toLowerCase(Locale.ROOT) + "\",\"signature\":\"";
+        String suffix = "\",\"scheme\":\"" + SIGNATURE_SCHEME + "\"}";
+        this.stampPrefix = prefix.getBytes(StandardCharsets.US_ASCII);
+        this.stampSuffix = suffix.getBytes(StandardCharsets.US_ASCII);
+        log.info("Turnkey stamper ready using {} for {}", providerName, ECDSA_ALGORITHM);
+    }
+
+    public String stamp(String requestBody) {
+        if (requestBody == null) {
+            throw new IllegalArgumentException("Request body to stamp cannot be null.");
+        }
+        return stamp(requestBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Signs {@code requestBody} exactly as it will be sent and returns the {@code X-Stamp} header value.
+     */
+    public String stamp(byte[] requestBody) {
+        if (requestBody == null) {
+            throw new IllegalArgumentException("Request body to stamp cannot be null.");
+        }
+        byte[] derSignature;
+        try {
+            Signature signature = signatures.get();
+            signature.update(requestBody);
+            derSignature = signature.sign();
+        } catch (GeneralSecurityException e) {
+            // Drop the instance; a failed sign() can leave it in an undefined state.
+            signatures.remove();
+            log.error("Error generating Turnkey API stamp: {}", e.getMessage(), e);
+            throw new IllegalStateException("Failed to generate Turnkey API stamp", e);
+        }
+
+        byte[] json = new byte[stampPrefix.length + derSignature.length * 2 + stampSuffix.length];
+        System.arraycopy(stampPrefix, 0, json, 0, stampPrefix.length);
+        int offset = stampPrefix.length;
+        for (byte b : derSignature) {
+            json[offset++] = HEX_DIGITS[(b >> 4) & 0x0f];
+            json[offset++] = HEX_DIGITS[b & 0x0f];
+        }
+        System.arraycopy(stampSuffix, 0, json, offset, stampSuffix.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    }
+
+    public String getProviderName() {
+        return providerName;
+    }
+
+    private static byte[] decodeHex(String hex) {
+        if (hex == null || hex.isBlank()) {
+            throw new IllegalStateException("turnkey.api.secret is not configured.");
+        }
+        try {
+            return Hex.decodeHex(hex.trim());
+        } catch (DecoderException e) {
+            throw new IllegalStateException("turnkey.api.secret must be hex-encoded.", e);
+        }
+    }
+
+    private static PrivateKey parsePrivateKey(byte[] keyBytes, String provider) throws GeneralSecurityException {
+        KeySpec keySpec;
+        if (keyBytes.length == 32) {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC", provider);
+            parameters.init(new ECGenParameterSpec(CURVE));
+            keySpec = new ECPrivateKeySpec(new BigInteger(1, keyBytes), parameters.getParameterSpec(ECParameterSpec.class));
+        } else {
+            keySpec = new PKCS8EncodedKeySpec(keyBytes);
+        }
+        return KeyFactory.getInstance("EC", provider).generatePrivate(keySpec);
+    }
+
+    private static Signature newSignature(String provider, PrivateKey privateKey) {
+        try {
+            Signature signature = Signature.getInstance(ECDSA_ALGORITHM, provider);
+            signature.initSign(privateKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise " + ECDSA_ALGORITHM + " with provider " + provider, e);
+        }
+    }
+
+    private static String fastestProvider(Map<String, PrivateKey> candidates) {
+        byte[] sample = new byte[512];
+        String fastest = null;
+        long fastestNanos = Long.MAX_VALUE;
+        for (Map.Entry<String, PrivateKey> candidate : candidates.entrySet()) {
+            try {
+                Signature signature = newSignature(candidate.getKey(), candidate.getValue());
+                for (int i = 0; i < BENCHMARK_WARMUP; i++) {
+                    signature.update(sample);
+                    signature.sign();
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+                    signature.update(sample);
+                    signature.sign();
+                }
+                long elapsed = System.nanoTime() - start;
+                log.info("Turnkey stamp benchmark: {} signs {} payloads in {} µs/op",
+                        candidate.getKey(), sample.length, elapsed / BENCHMARK_ITERATIONS / 1_000);
+                if (elapsed < fastestNanos) {
+                    fastestNanos = elapsed;
+                    fastest = candidate.getKey();
+                }
+            } catch (GeneralSecurityException | IllegalStateException e) {
+                log.warn("Skipping JCA provider {} for Turnkey stamps: {}", candidate.getKey(), e.getMessage());
+            }
+        }
+        if (fastest == null) {
+            throw new IllegalStateException("None of the JCA providers could sign with the Turnkey API key.");
+        }
+        return fastest;
+    }
+}
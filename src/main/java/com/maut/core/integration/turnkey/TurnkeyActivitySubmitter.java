@@ -0,0 +1,246 @@
+package com.maut.core.integration.turnkey;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.maut.core.external.turnkey.TurnkeyApiTransport;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import com.maut.core.external.turnkey.model.request.GetActivityRequest;
+import com.maut.core.external.turnkey.util.TurnkeyJsonCodec;
+import com.maut.core.modules.activity.model.TurnkeySubmission;
+import com.maut.core.modules.activity.service.TurnkeySubmissionLedger;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Submits Turnkey activities at most once per idempotency key, through the {@link TurnkeySubmissionLedger}.
+ * <p>
+ * The submission is recorded before the first send. Every send wraps the recorded parameters in a request
+ * stamped with the current time and a fingerprint derived from the key, so a late retry is not rejected as
+ * stale while Turnkey still deduplicates it. Once an activity id is known, repeat calls fetch that activity
+ * instead of submitting again; if it failed, was rejected or canceled, the ledger row is superseded and the
+ * operation is submitted afresh under a new fingerprint.
+ * <p>
+ * Callers that pass no key get one derived from the parameters, which only deduplicates within
+ * {@code turnkey.submission.fallbackKeyWindowMs}. Ledger writes that follow a response run on the
+ * application task executor, never on the Turnkey HTTP threads.
+ */
+@Slf4j
+@Component
+public class TurnkeyActivitySubmitter {
+
+    private static final String GET_ACTIVITY_PATH = "/public/v1/query/get_activity";
+
+    private final TurnkeyApiTransport turnkeyApiTransport;
+    private final TurnkeyJsonCodec turnkeyJsonCodec;
+    private final TurnkeySubmissionLedger turnkeySubmissionLedger;
+    private final Executor ledgerExecutor;
+
+    @Value("${turnkey.submission.maxAttempts:3}")
+    private int maxSubmitAttempts;
+
+    @Value("${turnkey.submission.retryBackoffMs:200}")
+    private long retryBackoffMs;
+
+    @Value("${turnkey.submission.fallbackKeyWindowMs:600000}")
+    private long fallbackKeyWindowMs;
+
+    public TurnkeyActivitySubmitter(TurnkeyApiTransport turnkeyApiTransport,
+                                    TurnkeyJsonCodec turnkeyJsonCodec,
+                                    TurnkeySubmissionLedger turnkeySubmissionLedger,
+                                    @Qualifier("applicationTaskExecutor") Executor ledgerExecutor) {
+        this.turnkeyApiTransport = turnkeyApiTransport;
+        this.turnkeyJsonCodec = turnkeyJsonCodec;
+        this.turnkeySubmissionLedger = turnkeySubmissionLedger;
+        this.ledgerExecutor = ledgerExecutor;
+    }
+
+    /**
+     * One activity to submit. {@code activityIdOf} and {@code statusOf} read the activity from a response of
+     * either the submit endpoint or {@code get_activity}, which share the {@code {"activity": ...}} shape.
+     */
+    @Getter
+    @Builder
+    public static class Activity<R> {
+        @NonNull
+        private final String path;
+        @NonNull
+        private final String type;
+        @NonNull
+        private final String organizationId;
+        @NonNull
+        private final Object parameters;
+        private final String idempotencyKey; // null derives a short-lived key from the parameters
+        @NonNull
+        private final TypeReference<R> responseType;
+        @NonNull
+        private final Function<R, String> activityIdOf;
+        @NonNull
+        private final Function<R, String> statusOf;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ActivityRequest {
+        private final String type;
+        private final String timestampMs;
+        private final String organizationId;
+        @JsonRawValue
+        private final String parameters;
+        private final String fingerprint;
+    }
+
+    /**
+     * Submits on the calling thread; timeouts, I/O errors and 5xx responses are retried up to
+     * {@code turnkey.submission.maxAttempts} times under the same key.
+     */
+    public <R> R submit(Activity<R> activity) {
+        String key = keyOf(activity);
+        TurnkeySubmission submission = reserve(activity, key);
+        R response = withRetries(activity, () -> send(activity, submission));
+        TurnkeySubmission next = settle(activity, submission, response);
+        if (next != null && submission.getActivityId() != null) {
+            // The activity found in the ledger failed; this call is the retry, so submit the new generation.
+            R resubmitted = withRetries(activity, () -> send(activity, next));
+            settle(activity, next, resubmitted);
+            return resubmitted;
+        }
+        return response;
+    }
+
+    /**
+     * Submits without holding the calling thread. Nothing is retried here; callers retry the whole operation
+     * with the same key, which resumes from the ledger.
+     */
+    public <R> CompletableFuture<R> submitAsync(Activity<R> activity) {
+        String key = keyOf(activity);
+        return CompletableFuture.supplyAsync(() -> reserve(activity, key), ledgerExecutor)
+                .thenCompose(submission -> sendAsync(activity, submission)
+                        .thenComposeAsync(response -> {
+                            TurnkeySubmission next = settle(activity, submission, response);
+                            if (next != null && submission.getActivityId() != null) {
+                                return sendAsync(activity, next)
+                                        .thenApplyAsync(resubmitted -> {
+                                            settle(activity, next, resubmitted);
+                                            return resubmitted;
+                                        }, ledgerExecutor);
+                            }
+                            return CompletableFuture.completedFuture(response);
+                        }, ledgerExecutor));
+    }
+
+    private String keyOf(Activity<?> activity) {
+        return activity.getIdempotencyKey() != null
+                ? activity.getIdempotencyKey()
+                : TurnkeyIdempotencyKeys.forParameters(activity.getType(), activity.getOrganizationId(), turnkeyJsonCodec.write(activity.getParameters()));
+    }
+
+    private TurnkeySubmission reserve(Activity<?> activity, String key) {
+        Duration reuseWindow = activity.getIdempotencyKey() == null ? Duration.ofMillis(fallbackKeyWindowMs) : null;
+        return turnkeySubmissionLedger.reserve(key, activity.getType(), activity.getOrganizationId(),
+                () -> turnkeyJsonCodec.write(activity.getParameters()), reuseWindow);
+    }
+
+    private <R> R send(Activity<R> activity, TurnkeySubmission submission) {
+        if (submission.getActivityId() != null) {
+            logAlreadySubmitted(submission);
+            return turnkeyApiTransport.post(GET_ACTIVITY_PATH, activityQuery(submission), activity.getResponseType());
+        }
+        turnkeySubmissionLedger.recordAttempt(submission);
+        return turnkeyApiTransport.post(activity.getPath(), request(submission), activity.getResponseType());
+    }
+
+    private <R> CompletableFuture<R> sendAsync(Activity<R> activity, TurnkeySubmission submission) {
+        if (submission.getActivityId() != null) {
+            logAlreadySubmitted(submission);
+            return turnkeyApiTransport.postAsync(GET_ACTIVITY_PATH, activityQuery(submission), activity.getResponseType());
+        }
+        turnkeySubmissionLedger.recordAttempt(submission);
+        return turnkeyApiTransport.postAsync(activity.getPath(), request(submission), activity.getResponseType());
+    }
+
+    /**
+     * Records the activity a response reports. A failed, rejected or canceled activity supersedes the ledger
+     * row instead, so the operation is not blocked by it.
+     *
+     * @return the new generation if the row was superseded, otherwise null
+     */
+    private <R> TurnkeySubmission settle(Activity<R> activity, TurnkeySubmission submission, R response) {
+        String activityId = response != null ? activity.getActivityIdOf().apply(response) : null;
+        if (activityId == null) {
+            return null;
+        }
+        String status = activity.getStatusOf().apply(response);
+        if (TurnkeyActivityStatus.isUnsuccessful(status)) {
+            log.warn("Turnkey {} activity {} (key {}) ended {}; the next call submits it again",
+                    submission.getActivityType(), activityId, submission.getIdempotencyKey(), status);
+            return turnkeySubmissionLedger.supersede(submission, () -> turnkeyJsonCodec.write(activity.getParameters()));
+        }
+        if (!activityId.equals(submission.getActivityId()) || !Objects.equals(status, submission.getStatus())) {
+            turnkeySubmissionLedger.recordActivity(submission, activityId, status);
+        }
+        return null;
+    }
+
+    private ActivityRequest request(TurnkeySubmission submission) {
+        return new ActivityRequest(
+                submission.getActivityType(),
+                String.valueOf(System.currentTimeMillis()),
+                submission.getOrganizationId(),
+                submission.getParametersJson(),
+                TurnkeyIdempotencyKeys.fingerprint(submission.getIdempotencyKey(), submission.getGeneration()));
+    }
+
+    private static GetActivityRequest activityQuery(TurnkeySubmission submission) {
+        return new GetActivityRequest(submission.getOrganizationId(), submission.getActivityId());
+    }
+
+    private static void logAlreadySubmitted(TurnkeySubmission submission) {
+        log.info("Turnkey {} for key {} already submitted as activity {}; fetching it instead of re-submitting",
+                submission.getActivityType(), submission.getIdempotencyKey(), submission.getActivityId());
+    }
+
+    private <R> R withRetries(Activity<R> activity, Supplier<R> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                R response = call.get();
+                log.debug("Received Turnkey {} response: {}", activity.getType(), response);
+                return response;
+            } catch (ResourceAccessException | HttpServerErrorException e) {
+                if (attempt >= maxSubmitAttempts) {
+                    log.error("Error calling Turnkey API for activity {} after {} attempts: {}", activity.getType(), attempt, e.getMessage(), e);
+                    throw new RuntimeException("Failed to call Turnkey API for activity: " + activity.getType(), e);
+                }
+                log.warn("Turnkey {} attempt {} failed ({}); retrying under the same key", activity.getType(), attempt, e.getMessage());
+                backOff(attempt);
+            } catch (RestClientException e) {
+                log.error("Error calling Turnkey API for activity {}: {}", activity.getType(), e.getMessage(), e);
+                throw new RuntimeException("Failed to call Turnkey API for activity: " + activity.getType(), e);
+            }
+        }
+    }
+
+    private void backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a Turnkey submission", e);
+        }
+    }
+}
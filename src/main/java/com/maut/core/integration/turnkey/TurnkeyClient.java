@@ -2,6 +2,8 @@ package com.maut.core.integration.turnkey;
 
 import com.maut.core.integration.turnkey.dto.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for interacting with the Turnkey API.
  */
@@ -18,6 +20,15 @@ public interface TurnkeyClient {
         TurnkeyCreateSubOrganizationRequest request
     );
 
+    /**
+     * Same as {@link #createSubOrganizationWithPasskey(TurnkeyCreateSubOrganizationRequest)}, but submitted at most
+     * once per {@code idempotencyKey} (see {@link TurnkeyIdempotencyKeys}); calling again with the same key returns
+     * the original activity instead of creating another sub-organization.
+     */
+    TurnkeyCreateSubOrganizationResponse createSubOrganizationWithPasskey(
+        TurnkeyCreateSubOrganizationRequest request, String idempotencyKey
+    );
+
     /**
      * Creates a new Maut-managed private key within a specified Turnkey sub-organization.
      * This key will be controlled by the Maut backend's API key.
@@ -29,6 +40,14 @@ public interface TurnkeyClient {
         TurnkeyCreateMautManagedKeyRequest request
     );
 
+    /**
+     * Same as {@link #createMautManagedKey(TurnkeyCreateMautManagedKeyRequest)}, but submitted at most once per
+     * {@code idempotencyKey}.
+     */
+    TurnkeyCreateMautManagedKeyResponse createMautManagedKey(
+        TurnkeyCreateMautManagedKeyRequest request, String idempotencyKey
+    );
+
     // Potentially other methods like:
     // TurnkeyGetPolicyResponse getPolicy(String subOrganizationId, String policyId);
     // TurnkeySetPolicyResponse setPolicy(TurnkeySetPolicyRequest request);
@@ -51,6 +70,12 @@ public interface TurnkeyClient {
      */
     TurnkeyFinalizePasskeyRegistrationResponse finalizePasskeyRegistration(TurnkeyFinalizePasskeyRegistrationRequest request);
 
+    /**
+     * Non-blocking variant of {@link #finalizePasskeyRegistration}; the caller's thread is not held while
+     * Turnkey processes the attestation.
+     */
+    CompletableFuture<TurnkeyFinalizePasskeyRegistrationResponse> finalizePasskeyRegistrationAsync(TurnkeyFinalizePasskeyRegistrationRequest request);
+
     /**
      * Verifies a passkey assertion (login) with Turnkey.
      *
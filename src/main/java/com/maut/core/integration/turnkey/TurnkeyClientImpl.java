@@ -1,122 +1,75 @@
 package com.maut.core.integration.turnkey;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.maut.core.integration.turnkey.dto.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 // Added imports
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.maut.core.external.turnkey.util.TurnkeyAuthenticator;
-import lombok.Builder;
-import lombok.Data;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.web.client.RestClientException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
 
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class TurnkeyClientImpl implements TurnkeyClient {
 
     private static final Logger logger = LoggerFactory.getLogger(TurnkeyClientImpl.class);
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String SUBMIT_ACTIVITY_PATH = "/public/v1/submit_activity";
 
-    @Value("${turnkey.api.baseUrl}")
-    private String turnkeyApiBaseUrl;
+    private static final TypeReference<TurnkeyCreateSubOrganizationResponse.TurnkeyActivityResponseWrapper> CREATE_SUB_ORG_RESPONSE =
+            new TypeReference<>() {};
+    private static final TypeReference<TurnkeyCreateMautManagedKeyResponse.TurnkeyActivityResponseWrapper> CREATE_PRIVATE_KEYS_RESPONSE =
+            new TypeReference<>() {};
 
-    @Value("${turnkey.api.key}") // This is the public key part of the API key pair
-    private String turnkeyApiKeyHex;
-
-    @Value("${turnkey.api.secret}") // This is the private key part of the API key pair
-    private String turnkeyApiSecretHex;
+    private final TurnkeyActivitySubmitter turnkeyActivitySubmitter;
 
     @Value("${turnkey.api.organizationId}") // Parent Organization ID making the API call
     private String turnkeyParentOrganizationId;
 
     // Constructor for dependency injection
-    public TurnkeyClientImpl(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
-    }
-
-    @Data
-    @Builder
-    private static class TurnkeyActivityRequest<P> {
-        @JsonProperty("type")
-        private String type;
-        @JsonProperty("timestampMs")
-        private String timestampMs;
-        @JsonProperty("organizationId")
-        private String organizationId;
-        @JsonProperty("parameters")
-        private P parameters;
-        @JsonProperty("fingerprint")
-        private String fingerprint;
+    public TurnkeyClientImpl(TurnkeyActivitySubmitter turnkeyActivitySubmitter) {
+        this.turnkeyActivitySubmitter = turnkeyActivitySubmitter;
     }
 
-    private <P_PARAMS, R_WRAPPER> R_WRAPPER postTurnkeyActivity(
-            String activityType,
-            String targetOrganizationId, // ID of the org to perform activity in (parent or sub-org)
-            P_PARAMS parameters, // The 'parameters' object for the Turnkey activity
-            Class<R_WRAPPER> responseWrapperClass) {
-
-        TurnkeyActivityRequest<P_PARAMS> activityRequest = TurnkeyActivityRequest.<P_PARAMS>builder()
-                .type(activityType)
-                .organizationId(targetOrganizationId) // Use the passed targetOrganizationId
-                .timestampMs(String.valueOf(System.currentTimeMillis()))
-                .parameters(parameters)
-                .fingerprint(UUID.randomUUID().toString())
-                .build();
-
-        String requestBodyJson;
-        try {
-            requestBodyJson = objectMapper.writeValueAsString(activityRequest);
-        } catch (JsonProcessingException e) {
-            logger.error("Error serializing Turnkey request for activity {}: {}", activityType, e.getMessage());
-            throw new RuntimeException("Failed to serialize request to Turnkey for activity: " + activityType, e);
-        }
-
-        String stamp = TurnkeyAuthenticator.getStamp(requestBodyJson, turnkeyApiKeyHex, turnkeyApiSecretHex);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("X-Stamp", stamp);
-
-        HttpEntity<String> entity = new HttpEntity<>(requestBodyJson, headers);
-        String url = turnkeyApiBaseUrl + "/public/v1/submit_activity";
-
-        try {
-            logger.debug("Sending Turnkey {} request to {}: Body: {}", activityType, url, requestBodyJson);
-            R_WRAPPER response = restTemplate.postForObject(url, entity, responseWrapperClass);
-            logger.debug("Received Turnkey {} response: {}", activityType, response);
-            return response;
-        } catch (RestClientException e) {
-            logger.error("Error calling Turnkey API for activity {}: {}", activityType, e.getMessage(), e);
-            throw new RuntimeException("Failed to call Turnkey API for activity: " + activityType, e);
-        }
+    @Override
+    public TurnkeyCreateSubOrganizationResponse createSubOrganizationWithPasskey(TurnkeyCreateSubOrganizationRequest request) {
+        return createSubOrganizationWithPasskey(request, null);
     }
 
     @Override
-    public TurnkeyCreateSubOrganizationResponse createSubOrganizationWithPasskey(TurnkeyCreateSubOrganizationRequest request) {
+    public TurnkeyCreateSubOrganizationResponse createSubOrganizationWithPasskey(TurnkeyCreateSubOrganizationRequest request, String idempotencyKey) {
 
         // The request object itself is now the 'requestParams' to be sent to Turnkey.
         // We assume the caller has fully constructed the TurnkeyCreateSubOrganizationRequest object
         // with all necessary nested details (RootUserParams, WalletParams, etc.)
 
         try {
-            TurnkeyCreateSubOrganizationResponse.TurnkeyActivityResponseWrapper responseWrapper = postTurnkeyActivity(
-                    "CREATE_SUB_ORGANIZATION_V7",
-                    turnkeyParentOrganizationId, // Activity occurs under the parent org
-                    request, // The TurnkeyCreateSubOrganizationRequest is the 'parameters'
-                    TurnkeyCreateSubOrganizationResponse.TurnkeyActivityResponseWrapper.class
-            );
+            TurnkeyCreateSubOrganizationResponse.TurnkeyActivityResponseWrapper responseWrapper = turnkeyActivitySubmitter.submit(
+                    TurnkeyActivitySubmitter.Activity.<TurnkeyCreateSubOrganizationResponse.TurnkeyActivityResponseWrapper>builder()
+                            .path(SUBMIT_ACTIVITY_PATH)
+                            .type("CREATE_SUB_ORGANIZATION_V7")
+                            .organizationId(turnkeyParentOrganizationId) // Activity occurs under the parent org
+                            .parameters(request) // The TurnkeyCreateSubOrganizationRequest is the 'parameters'
+                            .idempotencyKey(idempotencyKey)
+                            .responseType(CREATE_SUB_ORG_RESPONSE)
+                            .activityIdOf(wrapper -> wrapper.getActivity() != null ? wrapper.getActivity().getId() : null)
+                            .statusOf(wrapper -> wrapper.getActivity() != null ? wrapper.getActivity().getStatus() : null)
+                            .build());
+
+            if (responseWrapper != null && responseWrapper.getActivity() != null &&
+                !TurnkeyActivityStatus.isTerminal(responseWrapper.getActivity().getStatus())) {
+                logger.info("Turnkey activity {} for create_sub_organization_v7 is still {}", 
+                        responseWrapper.getActivity().getId(), responseWrapper.getActivity().getStatus());
+                return TurnkeyCreateSubOrganizationResponse.builder()
+                        .success(false)
+                        .pending(true)
+                        .activityId(responseWrapper.getActivity().getId())
+                        .activityStatus(responseWrapper.getActivity().getStatus())
+                        .build();
+            }
 
             if (responseWrapper != null && responseWrapper.getActivity() != null &&
                 responseWrapper.getActivity().getResult() != null &&
@@ -142,6 +95,8 @@ public class TurnkeyClientImpl implements TurnkeyClient {
 
                 return TurnkeyCreateSubOrganizationResponse.builder()
                         .success(success)
+                        .activityId(responseWrapper.getActivity().getId())
+                        .activityStatus(responseWrapper.getActivity().getStatus())
                         .subOrganizationId(createdSubOrgId)
                         .userPrivateKeyId(userKeyId)
                         .userPrivateKeyAddress(userKeyAddress)
@@ -163,6 +118,11 @@ public class TurnkeyClientImpl implements TurnkeyClient {
 
     @Override
     public TurnkeyCreateMautManagedKeyResponse createMautManagedKey(TurnkeyCreateMautManagedKeyRequest request) {
+        return createMautManagedKey(request, null);
+    }
+
+    @Override
+    public TurnkeyCreateMautManagedKeyResponse createMautManagedKey(TurnkeyCreateMautManagedKeyRequest request, String idempotencyKey) {
         if (request == null || request.getSubOrganizationId() == null || request.getPrivateKeys() == null || request.getPrivateKeys().isEmpty()) {
             logger.error("Invalid request for createMautManagedKey: request, subOrganizationId, or privateKeys list is null/empty.");
             return TurnkeyCreateMautManagedKeyResponse.builder()
@@ -177,15 +137,29 @@ public class TurnkeyClientImpl implements TurnkeyClient {
                 Map.of("privateKeys", request.getPrivateKeys());
 
         try {
-            TurnkeyCreateMautManagedKeyResponse.TurnkeyActivityResponseWrapper responseWrapper = postTurnkeyActivity(
-                    "CREATE_PRIVATE_KEYS_V2",
-                    request.getSubOrganizationId(), // Activity occurs within this sub-organization
-                    activityParameters, // Map.of("privateKeys", request.getPrivateKeys())
-                    TurnkeyCreateMautManagedKeyResponse.TurnkeyActivityResponseWrapper.class
-            );
+            TurnkeyCreateMautManagedKeyResponse.TurnkeyActivityResponseWrapper responseWrapper = turnkeyActivitySubmitter.submit(
+                    TurnkeyActivitySubmitter.Activity.<TurnkeyCreateMautManagedKeyResponse.TurnkeyActivityResponseWrapper>builder()
+                            .path(SUBMIT_ACTIVITY_PATH)
+                            .type("CREATE_PRIVATE_KEYS_V2")
+                            .organizationId(request.getSubOrganizationId()) // Activity occurs within this sub-organization
+                            .parameters(activityParameters) // Map.of("privateKeys", request.getPrivateKeys())
+                            .idempotencyKey(idempotencyKey)
+                            .responseType(CREATE_PRIVATE_KEYS_RESPONSE)
+                            .activityIdOf(wrapper -> wrapper.getActivity() != null ? wrapper.getActivity().getId() : null)
+                            .statusOf(wrapper -> wrapper.getActivity() != null ? wrapper.getActivity().getStatus() : null)
+                            .build());
 
             if (responseWrapper != null && responseWrapper.getActivity() != null) {
                 TurnkeyCreateMautManagedKeyResponse.Activity activity = responseWrapper.getActivity();
+                if (!TurnkeyActivityStatus.isTerminal(activity.getStatus())) {
+                    logger.info("Turnkey activity {} for CREATE_PRIVATE_KEYS_V2 is still {}", activity.getId(), activity.getStatus());
+                    return TurnkeyCreateMautManagedKeyResponse.builder()
+                            .success(false)
+                            .pending(true)
+                            .activityId(activity.getId())
+                            .activityStatus(activity.getStatus())
+                            .build();
+                }
                 if ("ACTIVITY_STATUS_COMPLETED".equals(activity.getStatus()) && 
                     activity.getResult() != null && 
                     activity.getResult().getCreatePrivateKeysResultV2() != null && 
@@ -201,6 +175,8 @@ public class TurnkeyClientImpl implements TurnkeyClient {
 
                     return TurnkeyCreateMautManagedKeyResponse.builder()
                             .success(true)
+                            .activityId(activity.getId())
+                            .activityStatus(activity.getStatus())
                             .privateKeyId(pkDetails.getPrivateKeyId())
                             .privateKeyName(pkDetails.getPrivateKeyName())
                             .privateKeyAddress(address)
@@ -246,7 +222,9 @@ public class TurnkeyClientImpl implements TurnkeyClient {
         logger.info("Placeholder: Finalizing passkey registration with Turnkey using context: {}", request.getRegistrationContextId());
         // This is a placeholder implementation.
         // In a real scenario, this method would call the Turnkey API to finalize registration.
-        // It would verify the attestation object and create the passkey.
+        // It would verify the attestation object and create the passkey. It stays a placeholder until
+        // initiatePasskeyRegistration obtains its challenge from Turnkey, since create_authenticators must be
+        // sent the challenge Turnkey issued; demo sub-organizations would also have to skip the call.
         return TurnkeyFinalizePasskeyRegistrationResponse.builder()
                 .success(true)
                 .turnkeyAuthenticatorId("mock-turnkey-authenticator-id-" + System.currentTimeMillis()) // Example authenticator ID
@@ -254,6 +232,13 @@ public class TurnkeyClientImpl implements TurnkeyClient {
                 .build();
     }
 
+    @Override
+    public CompletableFuture<TurnkeyFinalizePasskeyRegistrationResponse> finalizePasskeyRegistrationAsync(TurnkeyFinalizePasskeyRegistrationRequest request) {
+        // The placeholder does no I/O, so completing inline holds no thread; the real call goes through
+        // TurnkeyApiTransport.postAsync like the other asynchronous Turnkey operations.
+        return CompletableFuture.completedFuture(finalizePasskeyRegistration(request));
+    }
+
     @Override
     public TurnkeyVerifyAssertionResponse verifyPasskeyAssertion(TurnkeyVerifyAssertionRequest request) {
         logger.info("Placeholder: Verifying passkey assertion with Turnkey for credentialId: {}", request.getPasskeyCredentialId());
@@ -0,0 +1,52 @@
+package com.maut.core.integration.turnkey;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Builds the deterministic idempotency keys under which Turnkey submissions are recorded. The same business
+ * operation must always map to the same key, so a retry finds the earlier submission instead of creating
+ * a second sub-organization or key.
+ */
+public final class TurnkeyIdempotencyKeys {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private TurnkeyIdempotencyKeys() {
+    }
+
+    /**
+     * Key for an operation a user performs at most once per activity type, e.g. creating their sub-organization.
+     */
+    public static String forUser(UUID mautUserId, String activityType) {
+        return forOperation(activityType, mautUserId.toString());
+    }
+
+    /**
+     * Key for an activity scoped by arbitrary business identifiers, e.g. a sub-organization and a key name.
+     */
+    public static String forOperation(String activityType, String... scope) {
+        String key = activityType + ":" + String.join(":", scope);
+        return key.length() <= MAX_KEY_LENGTH ? key : activityType + ":" + DigestUtils.sha256Hex(key);
+    }
+
+    /**
+     * Fallback key when the caller gives none: identical parameters in the same organization are one operation.
+     * Such keys only deduplicate within {@code turnkey.submission.fallbackKeyWindowMs}, long enough to absorb
+     * retries of one call; a later identical call is a new operation.
+     */
+    static String forParameters(String activityType, String organizationId, byte[] parameters) {
+        return forOperation(activityType, organizationId, DigestUtils.sha256Hex(parameters));
+    }
+
+    /**
+     * Turnkey request fingerprint derived from the key and submission generation, so every send of one
+     * generation (from any node, after a restart) carries the same fingerprint, while a generation started
+     * after a failed activity is not deduplicated against it.
+     */
+    static String fingerprint(String idempotencyKey, int generation) {
+        return UUID.nameUUIDFromBytes((idempotencyKey + "#" + generation).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
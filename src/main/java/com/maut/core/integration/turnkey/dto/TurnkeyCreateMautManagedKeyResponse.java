@@ -23,6 +23,9 @@ public class TurnkeyCreateMautManagedKeyResponse {
     private String privateKeyName;
     private String privateKeyAddress; // Typically the first address if multiple formats
     private String errorMessage;
+    private String activityId; // Turnkey activity backing this request
+    private String activityStatus; // Raw Turnkey status, e.g. ACTIVITY_STATUS_CONSENSUS_NEEDED
+    private boolean pending; // Activity accepted but not final yet; track it instead of treating it as failed
 
     /**
      * Wrapper to deserialize the full Turnkey API activity response for CREATE_PRIVATE_KEYS_V2.
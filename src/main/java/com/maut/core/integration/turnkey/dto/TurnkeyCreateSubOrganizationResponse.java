@@ -17,6 +17,9 @@ public class TurnkeyCreateSubOrganizationResponse {
     private String userPrivateKeyId; // The ID of the private key tied to the user's passkey
     private String userPrivateKeyAddress; // The address of the user's private key
     private String errorMessage;
+    private String activityId; // Turnkey activity backing this request
+    private String activityStatus; // Raw Turnkey status, e.g. ACTIVITY_STATUS_CONSENSUS_NEEDED
+    private boolean pending; // Activity accepted but not final yet; track it instead of treating it as failed
 
     // --- Nested DTOs for parsing the full Turnkey response --- 
 
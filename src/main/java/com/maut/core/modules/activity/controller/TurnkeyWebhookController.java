@@ -0,0 +1,84 @@
+package com.maut.core.modules.activity.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maut.core.common.config.properties.TurnkeyWebhookProperties;
+import com.maut.core.common.exception.ResourceNotFoundException;
+import com.maut.core.modules.activity.dto.TurnkeyActivityNotification;
+import com.maut.core.modules.activity.service.TurnkeyCallbackJournal;
+import com.maut.core.modules.activity.service.TurnkeyWebhookVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Receives Turnkey activity callbacks. A callback is verified, journaled and acknowledged with 202; it is
+ * applied shortly after by {@code TurnkeyCallbackProcessor}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/webhooks/turnkey")
+@RequiredArgsConstructor
+public class TurnkeyWebhookController {
+
+    static final String TIMESTAMP_HEADER = "X-Turnkey-Timestamp";
+    static final String SIGNATURE_HEADER = "X-Turnkey-Signature";
+
+    private final TurnkeyWebhookProperties properties;
+    private final TurnkeyWebhookVerifier verifier;
+    private final TurnkeyCallbackJournal journal;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @PostMapping
+    public ResponseEntity<Void> receive(
+        @RequestHeader(value = TIMESTAMP_HEADER, required = false) String timestamp,
+        @RequestHeader(value = SIGNATURE_HEADER, required = false) String signature,
+        @RequestBody byte[] body
+    ) {
+        if (!properties.isEnabled()) {
+            throw new ResourceNotFoundException("Turnkey callbacks are not enabled.");
+        }
+        if (!verifier.verify(timestamp, signature, body)) {
+            record("rejected");
+            log.warn("Rejected Turnkey callback with a missing, stale or invalid signature");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        TurnkeyActivityNotification notification = parse(body);
+        if (notification == null || notification.getActivity() == null || notification.getActivity().getId() == null
+                || notification.getActivity().getStatus() == null) {
+            record("malformed");
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!journal.append(notification)) {
+            record("overloaded");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
+        record("accepted");
+        return ResponseEntity.accepted().build();
+    }
+
+    private TurnkeyActivityNotification parse(byte[] body) {
+        try {
+            return objectMapper.readValue(body, TurnkeyActivityNotification.class);
+        } catch (IOException e) {
+            log.warn("Malformed Turnkey callback body: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("turnkey.webhook.received", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,21 @@
+package com.maut.core.modules.activity.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.maut.core.external.turnkey.model.TurnkeyActivityDetails;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of a Turnkey activity callback: the activity as {@code get_activity} would return it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TurnkeyActivityNotification {
+
+    private String notificationId; // Unique per delivery attempt series; used for logging only
+    private TurnkeyActivityDetails activity;
+
+}
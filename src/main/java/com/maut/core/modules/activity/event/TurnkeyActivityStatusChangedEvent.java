@@ -0,0 +1,30 @@
+package com.maut.core.modules.activity.event;
+
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Published (in-process, via {@code ApplicationEventPublisher}) whenever a tracked Turnkey activity
+ * moves to a new status. Each transition is published exactly once across nodes.
+ */
+@Value
+public class TurnkeyActivityStatusChangedEvent {
+    String activityId;
+    String organizationId;
+    UUID mautUserId;
+    String activityType;
+    String previousStatus;
+    String newStatus;
+    /**
+     * JSON result reported by Turnkey, if any.
+     */
+    String resultJson;
+    Instant changedAt;
+
+    public boolean isTerminal() {
+        return TurnkeyActivityStatus.isTerminal(newStatus);
+    }
+}
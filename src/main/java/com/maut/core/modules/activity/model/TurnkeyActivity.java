@@ -0,0 +1,80 @@
+package com.maut.core.modules.activity.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A Turnkey activity submitted on behalf of a user, tracked until Turnkey reports a final status.
+ * Rows with a {@code nextPollAt} are picked up by the activity poller.
+ */
+@Entity
+@Table(name = "turnkey_activities", indexes = {
+        @Index(name = "idx_turnkey_activities_next_poll_at", columnList = "next_poll_at"),
+        @Index(name = "idx_turnkey_activities_maut_user_created", columnList = "maut_user_id, created_at")
+})
+@Data
+@NoArgsConstructor
+public class TurnkeyActivity {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "activity_id", nullable = false, unique = true, updatable = false)
+    private String activityId;
+
+    @Column(name = "organization_id", nullable = false, updatable = false)
+    private String organizationId;
+
+    @Column(name = "maut_user_id", columnDefinition = "UUID", updatable = false)
+    private UUID mautUserId;
+
+    @Column(name = "activity_type", nullable = false, updatable = false)
+    private String activityType;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    /**
+     * JSON result reported by Turnkey once the activity completed.
+     */
+    @Column(name = "result_json", columnDefinition = "TEXT")
+    private String resultJson;
+
+    @Column(name = "poll_attempts", nullable = false)
+    private int pollAttempts;
+
+    /**
+     * When the poller should next check this activity; null once the status is final or polling gave up.
+     */
+    @Column(name = "next_poll_at")
+    private Instant nextPollAt;
+
+    @Column(name = "last_polled_at")
+    private Instant lastPolledAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
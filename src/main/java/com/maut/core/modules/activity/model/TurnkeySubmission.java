@@ -0,0 +1,65 @@
+package com.maut.core.modules.activity.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A Turnkey activity submission, persisted under its idempotency key before it is first sent.
+ * Retries re-send {@code parametersJson} in a freshly timestamped request with the same fingerprint, or query
+ * {@code activityId} once it is known. A failed, rejected or canceled activity bumps {@code generation}, so
+ * the next call submits a new activity under a new fingerprint.
+ */
+@Entity
+@Table(name = "turnkey_submissions")
+@Data
+@NoArgsConstructor
+public class TurnkeySubmission {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, updatable = false)
+    private String idempotencyKey;
+
+    @Column(name = "activity_type", nullable = false, updatable = false)
+    private String activityType;
+
+    @Column(name = "organization_id", nullable = false, updatable = false)
+    private String organizationId;
+
+    @Column(name = "parameters_json", nullable = false, columnDefinition = "TEXT")
+    private String parametersJson;
+
+    @Column(name = "generation", nullable = false)
+    private int generation;
+
+    @Column(name = "reserved_at", nullable = false)
+    private Instant reservedAt;
+
+    @Column(name = "activity_id")
+    private String activityId;
+
+    @Column(name = "status")
+    private String status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
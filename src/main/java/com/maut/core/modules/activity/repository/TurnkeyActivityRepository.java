@@ -0,0 +1,98 @@
+package com.maut.core.modules.activity.repository;
+
+import com.maut.core.common.retention.TtlRetention;
+import com.maut.core.modules.activity.model.TurnkeyActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+// Rows past turnkey.activityPoller.maxPollAgeHours are never polled again, so this only drops settled history.
+@TtlRetention(table = "turnkey_activities", timestampColumn = "created_at",
+        ttl = "${retention.ttl.turnkeyActivities:P90D}")
+public interface TurnkeyActivityRepository extends JpaRepository<TurnkeyActivity, UUID> {
+
+    Optional<TurnkeyActivity> findByActivityId(String activityId);
+
+    List<TurnkeyActivity> findByActivityIdIn(Collection<String> activityIds);
+
+    /**
+     * Locks up to {@code limit} activities due for a status check. Rows locked by a concurrent poller on
+     * another node are skipped rather than waited on. Must run inside a transaction; the caller leases the
+     * rows with {@link #leaseForPoll} before committing.
+     */
+    @Query(value = "SELECT * FROM turnkey_activities WHERE next_poll_at <= :now " +
+                   "ORDER BY next_poll_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<TurnkeyActivity> lockDueForPoll(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Pushes {@code next_poll_at} past the polling round so other nodes don't pick the rows up. The round
+     * overwrites it through {@link #transition} or {@link #reschedule}; if the node dies first the rows
+     * become due again once the lease runs out.
+     */
+    @Modifying
+    @Query("UPDATE TurnkeyActivity a SET a.nextPollAt = :leaseUntil WHERE a.id IN :ids")
+    int leaseForPoll(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Moves an activity to a new status, but only if it is still in {@code expectedStatus}; a concurrent
+     * poller (another node) that already applied the transition makes this a no-op.
+     *
+     * @return 1 if this caller performed the transition, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE TurnkeyActivity a SET a.status = :newStatus, a.resultJson = :resultJson, a.pollAttempts = 0, " +
+           "a.nextPollAt = :nextPollAt, a.lastPolledAt = :now, a.completedAt = :completedAt, a.updatedAt = :now " +
+           "WHERE a.id = :id AND a.status = :expectedStatus")
+    int transition(@Param("id") UUID id,
+                   @Param("expectedStatus") String expectedStatus,
+                   @Param("newStatus") String newStatus,
+                   @Param("resultJson") String resultJson,
+                   @Param("nextPollAt") Instant nextPollAt,
+                   @Param("completedAt") Instant completedAt,
+                   @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE TurnkeyActivity a SET a.pollAttempts = a.pollAttempts + 1, a.nextPollAt = :nextPollAt, a.lastPolledAt = :now " +
+           "WHERE a.id = :id AND a.status = :expectedStatus")
+    int reschedule(@Param("id") UUID id,
+                   @Param("expectedStatus") String expectedStatus,
+                   @Param("nextPollAt") Instant nextPollAt,
+                   @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE TurnkeyActivity a SET a.nextPollAt = :now, a.pollAttempts = 0 WHERE a.activityId = :activityId AND a.nextPollAt IS NOT NULL")
+    int pollNow(@Param("activityId") String activityId, @Param("now") Instant now);
+
+    @Query(value = "SELECT * FROM turnkey_activities WHERE maut_user_id = :mautUserId " +
+                   "ORDER BY created_at DESC LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<TurnkeyActivity> findPageByMautUserId(@Param("mautUserId") UUID mautUserId,
+                                               @Param("limit") int limit,
+                                               @Param("offset") int offset);
+
+    @Query(value = "SELECT * FROM turnkey_activities WHERE maut_user_id = :mautUserId AND status = :status " +
+                   "ORDER BY created_at DESC LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<TurnkeyActivity> findPageByMautUserIdAndStatus(@Param("mautUserId") UUID mautUserId,
+                                                        @Param("status") String status,
+                                                        @Param("limit") int limit,
+                                                        @Param("offset") int offset);
+
+    long countByMautUserId(UUID mautUserId);
+
+    long countByMautUserIdAndStatus(UUID mautUserId, String status);
+}
@@ -0,0 +1,72 @@
+package com.maut.core.modules.activity.repository;
+
+import com.maut.core.common.retention.TtlRetention;
+import com.maut.core.modules.activity.model.TurnkeySubmission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+// By the time a row is this old its caller has long recorded the outcome (or given up) in its own tables.
+@TtlRetention(table = "turnkey_submissions", timestampColumn = "updated_at",
+        ttl = "${retention.ttl.turnkeySubmissions:P30D}")
+public interface TurnkeySubmissionRepository extends JpaRepository<TurnkeySubmission, UUID> {
+
+    Optional<TurnkeySubmission> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Inserts the submission unless one with the same key exists; concurrent callers with the same key
+     * end up reading the same row.
+     *
+     * @return 1 if this caller inserted the row, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = "INSERT INTO turnkey_submissions (id, idempotency_key, activity_type, organization_id, parameters_json, generation, " +
+                   "reserved_at, attempts, created_at, updated_at) " +
+                   "VALUES (:id, :idempotencyKey, :activityType, :organizationId, :parametersJson, 0, :now, 0, :now, :now) " +
+                   "ON CONFLICT (idempotency_key) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("activityType") String activityType,
+                       @Param("organizationId") String organizationId,
+                       @Param("parametersJson") String parametersJson,
+                       @Param("now") Instant now);
+
+    /**
+     * Starts a new generation of the submission, forgetting its activity, but only if it is still at
+     * {@code generation}; a concurrent caller that already superseded it makes this a no-op.
+     *
+     * @return 1 if this caller superseded the row, 0 otherwise
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TurnkeySubmission s SET s.generation = s.generation + 1, s.parametersJson = :parametersJson, s.reservedAt = :now, " +
+           "s.activityId = NULL, s.status = NULL, s.attempts = 0, s.updatedAt = :now " +
+           "WHERE s.idempotencyKey = :idempotencyKey AND s.generation = :generation")
+    int supersede(@Param("idempotencyKey") String idempotencyKey,
+                  @Param("generation") int generation,
+                  @Param("parametersJson") String parametersJson,
+                  @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE TurnkeySubmission s SET s.attempts = s.attempts + 1, s.updatedAt = :now " +
+           "WHERE s.idempotencyKey = :idempotencyKey AND s.generation = :generation")
+    int incrementAttempts(@Param("idempotencyKey") String idempotencyKey,
+                          @Param("generation") int generation,
+                          @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE TurnkeySubmission s SET s.activityId = :activityId, s.status = :status, s.updatedAt = :now " +
+           "WHERE s.idempotencyKey = :idempotencyKey AND s.generation = :generation")
+    int recordActivity(@Param("idempotencyKey") String idempotencyKey,
+                       @Param("generation") int generation,
+                       @Param("activityId") String activityId,
+                       @Param("status") String status,
+                       @Param("now") Instant now);
+}
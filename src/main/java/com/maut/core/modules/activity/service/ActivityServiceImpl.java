@@ -1,13 +1,19 @@
 package com.maut.core.modules.activity.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.maut.core.common.exception.InvalidRequestException;
-// import com.maut.core.common.exception.ResourceNotFoundException; // Potentially for activity validation
+import com.maut.core.common.exception.ResourceNotFoundException;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
 // import com.maut.core.common.exception.TurnkeyOperationException; // For actual Turnkey calls
 import com.maut.core.modules.activity.dto.ActivityStatusResponse;
 import com.maut.core.modules.activity.dto.ListActivitiesResponse;
 import com.maut.core.modules.activity.dto.ActivityListItem;
 import com.maut.core.modules.activity.dto.SubmitUserApprovalRequest;
 import com.maut.core.modules.activity.dto.SubmitUserApprovalResponse;
+import com.maut.core.modules.activity.model.TurnkeyActivity;
+import com.maut.core.modules.activity.repository.TurnkeyActivityRepository;
 import com.maut.core.modules.user.model.MautUser;
 // import com.maut.core.modules.wallet.repository.UserWalletRepository; // Removed unused import
 // import com.maut.core.external.turnkey.TurnkeyService; // To be created
@@ -15,6 +21,11 @@ import com.maut.core.modules.user.model.MautUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +35,11 @@ public class ActivityServiceImpl implements ActivityService {
     // UserWalletRepository might be needed to get sub-organization ID if not passed directly
     // private final UserWalletRepository userWalletRepository; 
     // private final TurnkeyService turnkeyService; // To be uncommented
+    private final TurnkeyActivityRepository turnkeyActivityRepository;
+    private final TurnkeyActivityTracker turnkeyActivityTracker;
+    private final ObjectMapper objectMapper;
+
+    private static final TypeReference<Map<String, Object>> RESULT_TYPE = new TypeReference<>() {};
 
     @Override
     public SubmitUserApprovalResponse submitUserApproval(MautUser mautUser, String activityId, SubmitUserApprovalRequest request) {
@@ -72,14 +88,17 @@ public class ActivityServiceImpl implements ActivityService {
         // For now, returning placeholder data
         log.warn("TurnkeyService not yet implemented. Simulating successful activity approval for activity ID: {}, MautUser ID: {}", activityId, mautUser.getId());
         String placeholderStatus = "APPROVED"; // Or "COMPLETED", "REJECTED", "FAILED"
+        // Turnkey's view of the activity changes once the approval lands; check it on the next poll round.
+        turnkeyActivityTracker.pollNow(activityId);
 
         return new SubmitUserApprovalResponse(placeholderStatus);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ActivityStatusResponse getActivityStatus(MautUser mautUser, String activityId) {
         // MautUser might be null if the activity status is public or not scoped to a specific user.
-        // If mautUser is not null, it could be used for logging or finer-grained access control checks.
+        // If mautUser is not null, the activity must belong to them.
         if (activityId == null || activityId.isBlank()) {
             log.error("Activity ID cannot be null or blank for getActivityStatus.");
             throw new InvalidRequestException("Activity ID is required.");
@@ -90,71 +109,24 @@ public class ActivityServiceImpl implements ActivityService {
             (mautUser != null ? " by MautUser ID: " + mautUser.getId() : " (public access)")
         );
 
-        // TODO: Potentially fetch UserWallet to get Turnkey sub-organization ID if needed by TurnkeyService.getActivity
-        // String turnkeySubOrganizationId = null;
-        // if (mautUser != null) {
-        //     UserWallet userWallet = userWalletRepository.findByMautUser(mautUser)
-        //         .stream().findFirst()
-        //         .orElseThrow(() -> new ResourceNotFoundException("User wallet not found."));
-        //     turnkeySubOrganizationId = userWallet.getTurnkeySubOrganizationId();
-        // }
-
-        // --- Placeholder for Turnkey Integration --- //
-        // String status;
-        // String activityType;
-        // java.util.Map<String, Object> result = null;
-        // try {
-        //     log.debug("Fetching activity status from Turnkey for activity ID: {}", activityId);
-        //     // Assuming TurnkeyService.getActivity can take an optional subOrganizationId
-        //     com.maut.core.external.turnkey.model.TurnkeyActivityDetails turnkeyDetails = turnkeyService.getActivity(
-        // turnkeySubOrganizationId, // Might be null if not user-scoped or activity is global
-        // activityId
-        //     );
-        //     if (turnkeyDetails == null) {
-        //         log.warn("No activity found in Turnkey with ID: {}", activityId);
-        //         throw new ResourceNotFoundException("Activity not found with ID: " + activityId);
-        //     }
-        //     activityId = turnkeyDetails.getActivityId(); // Should match the input
-        //     status = turnkeyDetails.getStatus();
-        //     activityType = turnkeyDetails.getType();
-        //     result = turnkeyDetails.getResult(); // This could be null if not completed or no specific result
-
-        //     log.info("Fetched activity status from Turnkey for ID: {}. Status: {}, Type: {}{}", 
-        // activityId, status, activityType, 
-        //         (mautUser != null ? " for MautUser ID: " + mautUser.getId() : "")
-        //     );
-
-        // } catch (ResourceNotFoundException e) {
-        //     log.warn("Activity not found for ID: {}: {}", activityId, e.getMessage());
-        //     throw e;
-        // } catch (TurnkeyOperationException e) {
-        //     log.error("Turnkey operation failed while fetching status for activity ID: {}: {}", activityId, e.getMessage(), e);
-        //     throw e;
-        // } catch (Exception e) {
-        //     log.error("Error fetching status from Turnkey for activity ID: {}: {}", activityId, e.getMessage(), e);
-        //     throw new TurnkeyOperationException("Failed to fetch status from Turnkey: " + e.getMessage(), e);
-        // }
-        // --- End Placeholder --- //
-
-        // For now, returning placeholder data
-        log.warn("TurnkeyService not yet implemented. Simulating successful activity status fetch for activity ID: {}{}", 
-            activityId,
-            (mautUser != null ? " for MautUser ID: " + mautUser.getId() : "")
-        );
-        String placeholderStatus = "COMPLETED"; // Or "PENDING_USER_APPROVAL", "REJECTED", "FAILED"
-        String placeholderActivityType = "SIGN_TRANSACTION"; // Or "CREATE_SUB_ORGANIZATION"
-        java.util.Map<String, Object> placeholderResult = new java.util.HashMap<>();
-        placeholderResult.put("transactionHash", "0x123abc_simulated_hash_" + java.util.UUID.randomUUID().toString());
+        // Status is kept current by TurnkeyActivityPoller; no Turnkey round trip on the request path.
+        TurnkeyActivity activity = turnkeyActivityRepository.findByActivityId(activityId)
+            .filter(a -> mautUser == null || mautUser.getId().equals(a.getMautUserId()))
+            .orElseThrow(() -> {
+                log.warn("No tracked activity found with ID: {}", activityId);
+                return new ResourceNotFoundException("Activity not found with ID: " + activityId);
+            });
 
         return ActivityStatusResponse.builder()
-            .activityId(activityId)
-            .status(placeholderStatus)
-            .activityType(placeholderActivityType)
-            .result(placeholderResult)
+            .activityId(activity.getActivityId())
+            .status(TurnkeyActivityStatus.toApiStatus(activity.getStatus()))
+            .activityType(activity.getActivityType())
+            .result(parseResult(activity.getResultJson()))
             .build();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ListActivitiesResponse listActivities(MautUser mautUser, int limit, int offset, String status) {
         if (mautUser == null) {
             log.error("MautUser cannot be null for listing activities.");
@@ -167,92 +139,45 @@ public class ActivityServiceImpl implements ActivityService {
             mautUser.getId(), limit, offset, (status != null ? status : "none")
         );
 
-        // TODO: Potentially fetch UserWallet to get Turnkey sub-organization ID if needed for TurnkeyService.listActivities
-        // UserWallet userWallet = userWalletRepository.findByMautUser(mautUser)
-        //     .stream().findFirst()
-        //     .orElseThrow(() -> new ResourceNotFoundException("User wallet not found."));
-        // String turnkeySubOrganizationId = userWallet.getTurnkeySubOrganizationId();
-
-        // --- Placeholder for Turnkey Integration --- //
-        // java.util.List<ActivityListItem> activities = new java.util.ArrayList<>();
-        // long totalActivities = 0;
-        // try {
-        //     log.debug("Fetching activities from Turnkey for sub-organization ID: {} (representing MautUser ID: {})", 
-        // turnkeySubOrganizationId, mautUser.getId());
-        //     // Assuming TurnkeyService.listActivities returns a paginated result
-        //     com.maut.core.external.turnkey.model.PaginatedActivities turnkeyResult = turnkeyService.listActivities(
-        // turnkeySubOrganizationId,
-        // limit,
-        // offset,
-        // status // Pass status filter to Turnkey service
-        //     );
-
-        //     if (turnkeyResult != null && turnkeyResult.getActivities() != null) {
-        //         totalActivities = turnkeyResult.getTotalCount();
-        //         for (com.maut.core.external.turnkey.model.TurnkeyActivitySummary summary : turnkeyResult.getActivities()) {
-        //             activities.add(ActivityListItem.builder()
-        //                 .activityId(summary.getActivityId())
-        //                 .status(summary.getStatus())
-        //                 .activityType(summary.getType())
-        //                 .createdAt(summary.getCreatedAt() != null ? Instant.ofEpochMilli(summary.getCreatedAt()) : null)
-        //                 .updatedAt(summary.getUpdatedAt() != null ? Instant.ofEpochMilli(summary.getUpdatedAt()) : null)
-        //                 .resultSummary(summary.getResultSummary()) // Assuming summary has this field
-        //                 .build());
-        //         }
-        //     }
-        //     log.info("Fetched {} activities (total matching: {}) from Turnkey for MautUser ID: {}", 
-        // activities.size(), totalActivities, mautUser.getId());
-
-        // } catch (TurnkeyOperationException e) {
-        //     log.error("Turnkey operation failed while listing activities for MautUser ID: {}: {}", mautUser.getId(), e.getMessage(), e);
-        //     throw e;
-        // } catch (Exception e) {
-        //     log.error("Error listing activities from Turnkey for MautUser ID: {}: {}", mautUser.getId(), e.getMessage(), e);
-        //     throw new TurnkeyOperationException("Failed to list activities from Turnkey: " + e.getMessage(), e);
-        // }
-        // --- End Placeholder --- //
-
-        // For now, returning placeholder data
-        log.warn("TurnkeyService not yet implemented. Simulating list activities for MautUser ID: {}", mautUser.getId());
-        java.util.List<ActivityListItem> placeholderActivities = new java.util.ArrayList<>();
-        java.time.Instant now = java.time.Instant.now();
-        
-        placeholderActivities.add(ActivityListItem.builder()
-            .activityId("sim_act_" + java.util.UUID.randomUUID().toString().substring(0,8))
-            .status(status != null ? status : "COMPLETED")
-            .activityType("SIGN_TRANSACTION")
-            .createdAt(now.minusSeconds(3600))
-            .updatedAt(now.minusSeconds(1800))
-            .resultSummary("Tx Hash: 0xabc123...")
-            .build());
-        
-        if (limit > 1) {
-            placeholderActivities.add(ActivityListItem.builder()
-                .activityId("sim_act_" + java.util.UUID.randomUUID().toString().substring(0,8))
-                .status(status != null ? status : "PENDING_USER_APPROVAL")
-                .activityType("CREATE_SUB_ORGANIZATION")
-                .createdAt(now.minusSeconds(7200))
-                .updatedAt(now)
-                .resultSummary(null)
-                .build());
+        List<TurnkeyActivity> page;
+        long total;
+        if (status == null || status.isBlank()) {
+            page = turnkeyActivityRepository.findPageByMautUserId(mautUser.getId(), limit, offset);
+            total = turnkeyActivityRepository.countByMautUserId(mautUser.getId());
+        } else {
+            String turnkeyStatus = TurnkeyActivityStatus.fromApiStatus(status);
+            page = turnkeyActivityRepository.findPageByMautUserIdAndStatus(mautUser.getId(), turnkeyStatus, limit, offset);
+            total = turnkeyActivityRepository.countByMautUserIdAndStatus(mautUser.getId(), turnkeyStatus);
         }
-        
-        // Simulate filtering if status is provided, otherwise return both types
-        java.util.List<ActivityListItem> filteredActivities = placeholderActivities.stream()
-            .filter(act -> status == null || status.isEmpty() || act.getStatus().equalsIgnoreCase(status))
-            .skip(offset)
-            .limit(limit)
-            .collect(java.util.stream.Collectors.toList());
 
-        long totalSimulated = placeholderActivities.stream()
-            .filter(act -> status == null || status.isEmpty() || act.getStatus().equalsIgnoreCase(status))
-            .count();
+        List<ActivityListItem> activities = page.stream()
+            .map(activity -> ActivityListItem.builder()
+                .activityId(activity.getActivityId())
+                .status(TurnkeyActivityStatus.toApiStatus(activity.getStatus()))
+                .activityType(activity.getActivityType())
+                .createdAt(activity.getCreatedAt())
+                .updatedAt(activity.getUpdatedAt())
+                .resultSummary(activity.getResultJson() != null ? "Result available" : null)
+                .build())
+            .collect(Collectors.toList());
 
         return ListActivitiesResponse.builder()
-            .activities(filteredActivities)
+            .activities(activities)
             .limit(limit)
             .offset(offset)
-            .totalActivities(totalSimulated)
+            .totalActivities(total)
             .build();
     }
+
+    private Map<String, Object> parseResult(String resultJson) {
+        if (resultJson == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(resultJson, RESULT_TYPE);
+        } catch (JsonProcessingException e) {
+            log.error("Stored result of a Turnkey activity is not valid JSON: {}", e.getMessage());
+            return null;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package com.maut.core.modules.activity.service;
+
+import com.maut.core.common.config.properties.TurnkeyActivityPollerProperties;
+import com.maut.core.external.turnkey.TurnkeyService;
+import com.maut.core.external.turnkey.model.TurnkeyActivityDetails;
+import com.maut.core.modules.activity.event.TurnkeyActivityStatusChangedEvent;
+import com.maut.core.modules.activity.model.TurnkeyActivity;
+import com.maut.core.modules.activity.repository.TurnkeyActivityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Refreshes pending Turnkey activities from a single scheduled task.
+ * <p>
+ * Each round claims up to {@code batchSize} activities whose {@code next_poll_at} has passed (locked with
+ * {@code SKIP LOCKED} and leased for {@code claimLeaseMs}, so nodes never poll the same row) and issues all
+ * their {@code get_activity} calls concurrently over the shared Turnkey transport, bounded by one batch
+ * deadline. A changed status goes through {@link TurnkeyActivityTransitions}, the same compare-and-set
+ * used for Turnkey callbacks, and is published as a {@link TurnkeyActivityStatusChangedEvent}; an unchanged
+ * or failed check pushes the activity back with exponential backoff (with jitter), so long-running and
+ * consensus-needed activities cost little. With Turnkey callbacks enabled most activities are settled by
+ * {@code TurnkeyCallbackProcessor} first and polling only catches what a callback missed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TurnkeyActivityPoller {
+
+    private final TurnkeyActivityRepository turnkeyActivityRepository;
+    private final TurnkeyActivityTracker turnkeyActivityTracker;
+    private final TurnkeyActivityTransitions turnkeyActivityTransitions;
+    private final TurnkeyService turnkeyService;
+    private final TurnkeyActivityPollerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(initialDelayString = "${turnkey.activityPoller.intervalMs:1000}",
+               fixedDelayString = "${turnkey.activityPoller.intervalMs:1000}")
+    public void pollDueActivities() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<TurnkeyActivity> due = turnkeyActivityTracker.claimDueForPoll(now, properties.getBatchSize(),
+                now.plusMillis(properties.getClaimLeaseMs()));
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<TurnkeyActivity, CompletableFuture<TurnkeyActivityDetails>> inFlight = new LinkedHashMap<>();
+        for (TurnkeyActivity activity : due) {
+            inFlight.put(activity, turnkeyService.getActivityAsync(activity.getOrganizationId(), activity.getActivityId()));
+        }
+        try {
+            CompletableFuture.allOf(inFlight.values().toArray(new CompletableFuture[0]))
+                    .get(properties.getBatchTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Turnkey activity poll round hit its {} ms deadline; unanswered activities will be retried", properties.getBatchTimeoutMs());
+        } catch (ExecutionException e) {
+            // Individual failures are handled per activity below.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        Instant checkedAt = Instant.now();
+        inFlight.forEach((activity, future) -> {
+            TurnkeyActivityDetails details = null;
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                details = future.join();
+            } else {
+                future.cancel(true);
+                log.debug("Status check for Turnkey activity {} failed or timed out", activity.getActivityId());
+            }
+            apply(activity, details, checkedAt);
+        });
+        log.debug("Polled {} Turnkey activities", due.size());
+    }
+
+    private void apply(TurnkeyActivity activity, TurnkeyActivityDetails details, Instant now) {
+        if (details == null || details.getStatus() == null) {
+            reschedule(activity, now, "error");
+            return;
+        }
+        if (details.getStatus().equals(activity.getStatus())) {
+            reschedule(activity, now, "unchanged");
+            return;
+        }
+        if (turnkeyActivityTransitions.apply(activity, details.getStatus(), details.getResult(), now)) {
+            record("changed");
+        }
+        // Otherwise another node or a Turnkey callback applied this transition first.
+    }
+
+    private void reschedule(TurnkeyActivity activity, Instant now, String outcome) {
+        record(outcome);
+        Instant nextPollAt = nextPollAt(activity, now);
+        if (nextPollAt == null) {
+            log.warn("Giving up on polling Turnkey activity {} (status {}) after {} hours",
+                    activity.getActivityId(), activity.getStatus(), properties.getMaxPollAgeHours());
+        }
+        turnkeyActivityRepository.reschedule(activity.getId(), activity.getStatus(), nextPollAt, now);
+    }
+
+    Instant nextPollAt(TurnkeyActivity activity, Instant now) {
+        Instant createdAt = activity.getCreatedAt() != null ? activity.getCreatedAt() : now;
+        if (Duration.between(createdAt, now).toHours() >= properties.getMaxPollAgeHours()) {
+            return null;
+        }
+        int exponent = Math.min(activity.getPollAttempts(), 20);
+        long backoff = Math.min(properties.getMaxBackoffMs(), properties.getInitialBackoffMs() << exponent);
+        // +/-20% jitter so activities submitted together don't stay in lockstep.
+        long jitter = (long) (backoff * 0.2 * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+        return now.plusMillis(Math.max(1, backoff + jitter));
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("turnkey.activity.polls", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,128 @@
+package com.maut.core.modules.activity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import com.maut.core.modules.activity.model.TurnkeyActivity;
+import com.maut.core.modules.activity.repository.TurnkeyActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Records Turnkey activities so their final outcome can be picked up asynchronously by
+ * {@link TurnkeyActivityPoller} instead of blocking the submitting request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TurnkeyActivityTracker {
+
+    /**
+     * Prefix of the sub-organization ids given to demo wallets; those activities never exist in Turnkey.
+     */
+    static final String DEMO_ORGANIZATION_PREFIX = "DEMO-";
+
+    /**
+     * Organization id recorded for work Maut runs itself rather than submitting to Turnkey.
+     */
+    public static final String INTERNAL_ORGANIZATION_ID = "maut";
+
+    private final TurnkeyActivityRepository turnkeyActivityRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Starts tracking an activity returned by a Turnkey submit call. Activities already in a final status
+     * are stored as-is; pending ones are scheduled for an immediate first poll. Tracking the same activity
+     * twice returns the existing row.
+     */
+    @Transactional
+    public TurnkeyActivity track(String activityId, String organizationId, UUID mautUserId,
+                                 String activityType, String status, Map<String, Object> result) {
+        return turnkeyActivityRepository.findByActivityId(activityId).orElseGet(() -> {
+            Instant now = Instant.now();
+            boolean terminal = TurnkeyActivityStatus.isTerminal(status);
+
+            TurnkeyActivity activity = new TurnkeyActivity();
+            activity.setActivityId(activityId);
+            activity.setOrganizationId(organizationId);
+            activity.setMautUserId(mautUserId);
+            activity.setActivityType(activityType);
+            activity.setStatus(status);
+            activity.setResultJson(toJson(result));
+            activity.setCompletedAt(terminal ? now : null);
+            activity.setNextPollAt(terminal || isDemoOrganization(organizationId) ? null : now);
+
+            TurnkeyActivity saved = turnkeyActivityRepository.save(activity);
+            log.info("Tracking Turnkey activity {} ({}) in organization {} with status {}", activityId, activityType, organizationId, status);
+            return saved;
+        });
+    }
+
+    /**
+     * Tracks work Maut runs itself, e.g. an asynchronous wallet enrollment, so clients follow it through the
+     * same activity status API. The row is never polled; its owner finishes it through
+     * {@link TurnkeyActivityTransitions}.
+     */
+    @Transactional
+    public TurnkeyActivity trackInternal(String activityId, UUID mautUserId, String activityType) {
+        return turnkeyActivityRepository.findByActivityId(activityId).orElseGet(() -> {
+            TurnkeyActivity activity = new TurnkeyActivity();
+            activity.setActivityId(activityId);
+            activity.setOrganizationId(INTERNAL_ORGANIZATION_ID);
+            activity.setMautUserId(mautUserId);
+            activity.setActivityType(activityType);
+            activity.setStatus(TurnkeyActivityStatus.PENDING);
+            activity.setNextPollAt(null);
+
+            TurnkeyActivity saved = turnkeyActivityRepository.save(activity);
+            log.info("Tracking internal activity {} ({}) for MautUser ID: {}", activityId, activityType, mautUserId);
+            return saved;
+        });
+    }
+
+    /**
+     * Claims activities due for a status check for one polling round: the rows are locked with
+     * {@code SKIP LOCKED} and leased until {@code leaseUntil}, so concurrent pollers on other nodes each get
+     * a disjoint batch.
+     */
+    @Transactional
+    public List<TurnkeyActivity> claimDueForPoll(Instant now, int limit, Instant leaseUntil) {
+        List<TurnkeyActivity> due = turnkeyActivityRepository.lockDueForPoll(now, limit);
+        if (!due.isEmpty()) {
+            turnkeyActivityRepository.leaseForPoll(due.stream().map(TurnkeyActivity::getId).collect(Collectors.toList()), leaseUntil);
+        }
+        return due;
+    }
+
+    /**
+     * Asks the poller to check an activity on its next round, e.g. after a user submitted an approval.
+     */
+    public void pollNow(String activityId) {
+        if (turnkeyActivityRepository.pollNow(activityId, Instant.now()) > 0) {
+            log.debug("Scheduled immediate poll for Turnkey activity {}", activityId);
+        }
+    }
+
+    static boolean isDemoOrganization(String organizationId) {
+        return organizationId != null && organizationId.startsWith(DEMO_ORGANIZATION_PREFIX);
+    }
+
+    String toJson(Map<String, Object> result) {
+        if (result == null || result.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize Turnkey activity result", e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.maut.core.modules.activity.service;
+
+import com.maut.core.common.config.properties.TurnkeyActivityPollerProperties;
+import com.maut.core.external.turnkey.model.TurnkeyActivityDetails;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import com.maut.core.modules.activity.event.TurnkeyActivityStatusChangedEvent;
+import com.maut.core.modules.activity.model.TurnkeyActivity;
+import com.maut.core.modules.activity.repository.TurnkeyActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The one place a tracked Turnkey activity changes status, whether the news came from polling or from a
+ * Turnkey callback.
+ * <p>
+ * A transition is a compare-and-set on the status the caller last saw, so the same update arriving twice
+ * (two nodes, or a callback racing the poller) is applied and published once. An activity in a final
+ * status never moves again, which makes late or out-of-order callbacks harmless.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TurnkeyActivityTransitions {
+
+    private final TurnkeyActivityRepository turnkeyActivityRepository;
+    private final TurnkeyActivityTracker turnkeyActivityTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TurnkeyActivityPollerProperties pollerProperties;
+
+    /**
+     * Moves {@code activity} from its current status to {@code newStatus} and publishes a
+     * {@link TurnkeyActivityStatusChangedEvent}.
+     *
+     * @return {@code true} if this caller performed the transition; {@code false} if the status is unchanged,
+     * the activity is already final, or someone else applied the transition first
+     */
+    public boolean apply(TurnkeyActivity activity, String newStatus, Map<String, Object> result, Instant now) {
+        if (newStatus == null || newStatus.equals(activity.getStatus()) || TurnkeyActivityStatus.isTerminal(activity.getStatus())) {
+            return false;
+        }
+        boolean terminal = TurnkeyActivityStatus.isTerminal(newStatus);
+        String resultJson = result != null ? turnkeyActivityTracker.toJson(result) : activity.getResultJson();
+        int updated = turnkeyActivityRepository.transition(
+                activity.getId(),
+                activity.getStatus(),
+                newStatus,
+                resultJson,
+                terminal ? null : now.plusMillis(pollerProperties.getInitialBackoffMs()),
+                terminal ? now : null,
+                now);
+        if (updated == 0) {
+            return false;
+        }
+        log.info("Turnkey activity {} moved from {} to {}", activity.getActivityId(), activity.getStatus(), newStatus);
+        eventPublisher.publishEvent(new TurnkeyActivityStatusChangedEvent(
+                activity.getActivityId(),
+                activity.getOrganizationId(),
+                activity.getMautUserId(),
+                activity.getActivityType(),
+                activity.getStatus(),
+                newStatus,
+                resultJson,
+                now));
+        return true;
+    }
+
+    /**
+     * Applies a batch of reported activity states in one transaction, e.g. queued Turnkey callbacks.
+     * Activities we do not track are skipped.
+     */
+    @Transactional
+    public BatchResult applyAll(Collection<TurnkeyActivityDetails> updates, Instant now) {
+        List<String> activityIds = updates.stream().map(TurnkeyActivityDetails::getId).distinct().collect(Collectors.toList());
+        Map<String, TurnkeyActivity> tracked = turnkeyActivityRepository.findByActivityIdIn(activityIds).stream()
+                .collect(Collectors.toMap(TurnkeyActivity::getActivityId, Function.identity()));
+        int applied = 0;
+        int unknown = 0;
+        for (TurnkeyActivityDetails update : updates) {
+            TurnkeyActivity activity = tracked.get(update.getId());
+            if (activity == null) {
+                unknown++;
+            } else if (apply(activity, update.getStatus(), update.getResult(), now)) {
+                applied++;
+            }
+        }
+        return new BatchResult(applied, updates.size() - applied - unknown, unknown);
+    }
+
+    @Value
+    public static class BatchResult {
+        int applied;
+        /**
+         * Already in that (or a final) status, typically a duplicate or an update the poller saw first.
+         */
+        int unchanged;
+        int unknown;
+    }
+}
@@ -0,0 +1,258 @@
+package com.maut.core.modules.activity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maut.core.common.config.properties.TurnkeyWebhookProperties;
+import com.maut.core.modules.activity.dto.TurnkeyActivityNotification;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Accepted Turnkey callbacks waiting to be applied: an in-memory queue backed by an append-only journal file.
+ * <p>
+ * {@link #append} writes one JSON line to the journal (fsync optional) and enqueues the notification with
+ * the journal offset just past it; that is all the webhook request waits for. {@link TurnkeyCallbackProcessor}
+ * drains the queue in batches and, after committing a batch, {@link #checkpoint}s its last offset. On
+ * startup everything between the checkpoint and the end of the journal is replayed into the queue, so an
+ * acknowledged callback is applied even if the process died first. A replay larger than the queue is read
+ * back a queueful at a time as {@link #drain} makes room; until it has all been queued, new callbacks are
+ * refused so they stay behind it. Whenever the checkpoint catches up with the end of the journal the file
+ * is truncated, keeping it small.
+ */
+@Slf4j
+@Component
+public class TurnkeyCallbackJournal {
+
+    private static final String JOURNAL_FILE = "callbacks.journal";
+    private static final String CHECKPOINT_FILE = "callbacks.checkpoint";
+    private static final byte NEWLINE = '\n';
+    private static final int READ_CHUNK_BYTES = 64 * 1024;
+
+    private final TurnkeyWebhookProperties properties;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<Entry> queue;
+
+    private Path checkpointPath;
+    private FileChannel journal;
+    private long endOffset;
+    /** Journal offset just past the last entry put on the queue; below {@code endOffset} while a replay is still being read back. */
+    private long queuedOffset;
+
+    public TurnkeyCallbackJournal(TurnkeyWebhookProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        Gauge.builder("turnkey.webhook.queue.size", queue, BlockingQueue::size)
+                .description("Turnkey callbacks accepted but not yet applied")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Path dir = Paths.get(properties.getJournalDir());
+        Files.createDirectories(dir);
+        checkpointPath = dir.resolve(CHECKPOINT_FILE);
+        journal = FileChannel.open(dir.resolve(JOURNAL_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int replayed = replay(readCheckpoint());
+        log.info("Turnkey callback journal open at {} ({} callbacks replayed)", dir.toAbsolutePath(), replayed);
+    }
+
+    /**
+     * Journals and enqueues a verified callback.
+     *
+     * @return {@code false} if the queue is full or a replay is still being read back; nothing was written and
+     * the sender should retry later
+     */
+    public synchronized boolean append(TurnkeyActivityNotification notification) {
+        if (journal == null) {
+            throw new IllegalStateException("Turnkey callback journal is not open");
+        }
+        if (queue.remainingCapacity() == 0 || queuedOffset < endOffset) {
+            return false;
+        }
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(notification);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put(NEWLINE).flip();
+        try {
+            while (line.hasRemaining()) {
+                journal.write(line, endOffset + line.position());
+            }
+            if (properties.isFsyncOnAppend()) {
+                journal.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to the Turnkey callback journal", e);
+        }
+        endOffset += json.length + 1;
+        queuedOffset = endOffset;
+        queue.add(new Entry(notification, endOffset));
+        return true;
+    }
+
+    /**
+     * Removes up to {@code max} callbacks from the queue, oldest first.
+     */
+    public List<Entry> drain(int max) {
+        List<Entry> batch = new ArrayList<>(Math.min(max, queue.size()));
+        queue.drainTo(batch, max);
+        if (!batch.isEmpty()) {
+            refill();
+        }
+        return batch;
+    }
+
+    /**
+     * Records that every callback up to {@code offset} has been applied.
+     */
+    public synchronized void checkpoint(long offset) {
+        try {
+            if (offset == endOffset && queue.isEmpty()) {
+                // Everything journaled has been applied: start the file over.
+                writeCheckpoint(0);
+                journal.truncate(0);
+                endOffset = 0;
+                queuedOffset = 0;
+            } else {
+                writeCheckpoint(offset);
+            }
+        } catch (IOException e) {
+            // Not fatal: at worst already applied callbacks are replayed, and transitions are idempotent.
+            log.warn("Failed to checkpoint the Turnkey callback journal at {}: {}", offset, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (journal != null) {
+            journal.force(false);
+            journal.close();
+        }
+    }
+
+    private int replay(long fromOffset) throws IOException {
+        long size = journal.size();
+        queuedOffset = Math.min(fromOffset, size);
+        // A torn last line (crash mid-append) was never acknowledged; drop it.
+        endOffset = lastLineEnd(queuedOffset, size);
+        journal.truncate(endOffset);
+        return refillFromJournal();
+    }
+
+    /**
+     * Tops the queue up from journal entries that did not fit when it was replayed. Called after a drain
+     * frees room; a read failure leaves the entries journaled for the next drain.
+     */
+    private synchronized void refill() {
+        if (queuedOffset >= endOffset) {
+            return;
+        }
+        try {
+            refillFromJournal();
+        } catch (IOException e) {
+            log.warn("Failed to read back the Turnkey callback journal at {}: {}", queuedOffset, e.getMessage());
+        }
+    }
+
+    private int refillFromJournal() throws IOException {
+        int replayed = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_BYTES);
+        while (queuedOffset < endOffset && queue.remainingCapacity() > 0) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), endOffset - queuedOffset));
+            while (buffer.hasRemaining() && journal.read(buffer, queuedOffset + buffer.position()) >= 0) {
+                // read until the chunk is full
+            }
+            byte[] bytes = buffer.array();
+            int length = buffer.position();
+            int lineStart = 0;
+            for (int i = 0; i < length && queue.remainingCapacity() > 0; i++) {
+                if (bytes[i] != NEWLINE) {
+                    continue;
+                }
+                try {
+                    TurnkeyActivityNotification notification = objectMapper.readValue(bytes, lineStart, i - lineStart, TurnkeyActivityNotification.class);
+                    queue.add(new Entry(notification, queuedOffset + i + 1));
+                    replayed++;
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable Turnkey callback journal entry at offset {}: {}", queuedOffset + lineStart,
+                            new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8));
+                }
+                lineStart = i + 1;
+            }
+            if (lineStart == 0) {
+                // One entry is longer than the buffer: read it again into a larger one.
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+            queuedOffset += lineStart;
+        }
+        return replayed;
+    }
+
+    private long lastLineEnd(long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_BYTES);
+        long chunkEnd = size;
+        while (chunkEnd > from) {
+            long chunkStart = Math.max(from, chunkEnd - buffer.capacity());
+            buffer.clear().limit((int) (chunkEnd - chunkStart));
+            while (buffer.hasRemaining() && journal.read(buffer, chunkStart + buffer.position()) >= 0) {
+                // read until the chunk is full
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == NEWLINE) {
+                    return chunkStart + i + 1;
+                }
+            }
+            chunkEnd = chunkStart;
+        }
+        return from;
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0;
+        }
+        String value = Files.readString(checkpointPath, StandardCharsets.UTF_8).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+    private void writeCheckpoint(long offset) throws IOException {
+        Path temp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temp, Long.toString(offset), StandardCharsets.UTF_8);
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * A queued callback and the journal offset just past it.
+     */
+    @Value
+    public static class Entry {
+        TurnkeyActivityNotification notification;
+        long endOffset;
+    }
+}
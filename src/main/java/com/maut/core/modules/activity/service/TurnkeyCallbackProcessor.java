@@ -0,0 +1,80 @@
+package com.maut.core.modules.activity.service;
+
+import com.maut.core.common.config.properties.TurnkeyWebhookProperties;
+import com.maut.core.external.turnkey.model.TurnkeyActivityDetails;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies journaled Turnkey callbacks in batches.
+ * <p>
+ * Each round drains up to {@code batchSize} callbacks, keeps the most advanced report per activity (a final
+ * status is never replaced by a later non-final one) and applies them in one transaction through
+ * {@link TurnkeyActivityTransitions}, the same idempotent path the poller uses. Only after the commit is the
+ * journal checkpointed; a failed batch is retried on the next round and, after a restart, replayed from
+ * the journal. Rounds keep going while full batches are waiting.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TurnkeyCallbackProcessor {
+
+    private final TurnkeyCallbackJournal journal;
+    private final TurnkeyActivityTransitions turnkeyActivityTransitions;
+    private final TurnkeyWebhookProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private List<TurnkeyCallbackJournal.Entry> failedBatch = List.of();
+
+    @Scheduled(fixedDelayString = "${turnkey.webhook.batchIntervalMs:200}")
+    public synchronized void processBatches() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<TurnkeyCallbackJournal.Entry> batch = failedBatch.isEmpty() ? journal.drain(properties.getBatchSize()) : failedBatch;
+        while (!batch.isEmpty()) {
+            try {
+                apply(batch);
+            } catch (RuntimeException e) {
+                failedBatch = batch;
+                log.error("Failed to apply {} Turnkey callbacks; retrying next round: {}", batch.size(), e.getMessage(), e);
+                return;
+            }
+            failedBatch = List.of();
+            journal.checkpoint(batch.get(batch.size() - 1).getEndOffset());
+            if (batch.size() < properties.getBatchSize()) {
+                return;
+            }
+            batch = journal.drain(properties.getBatchSize());
+        }
+    }
+
+    private void apply(List<TurnkeyCallbackJournal.Entry> batch) {
+        Map<String, TurnkeyActivityDetails> latest = new LinkedHashMap<>();
+        for (TurnkeyCallbackJournal.Entry entry : batch) {
+            TurnkeyActivityDetails activity = entry.getNotification().getActivity();
+            latest.merge(activity.getId(), activity,
+                    (previous, next) -> TurnkeyActivityStatus.isTerminal(previous.getStatus()) ? previous : next);
+        }
+        TurnkeyActivityTransitions.BatchResult result = turnkeyActivityTransitions.applyAll(latest.values(), Instant.now());
+        record("applied", result.getApplied());
+        record("unchanged", result.getUnchanged() + batch.size() - latest.size());
+        record("unknown", result.getUnknown());
+        log.debug("Applied {} Turnkey callbacks: {}", batch.size(), result);
+    }
+
+    private void record(String outcome, int count) {
+        if (count > 0) {
+            meterRegistry.counter("turnkey.webhook.callbacks", "outcome", outcome).increment(count);
+        }
+    }
+}
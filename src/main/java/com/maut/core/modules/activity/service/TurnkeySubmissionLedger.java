@@ -0,0 +1,92 @@
+package com.maut.core.modules.activity.service;
+
+import com.maut.core.modules.activity.model.TurnkeySubmission;
+import com.maut.core.modules.activity.repository.TurnkeySubmissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Durable record of Turnkey activity submissions, keyed by a deterministic idempotency key.
+ * <p>
+ * Every method commits in its own transaction: a submission must be on disk before its first send and
+ * must stay there even if the caller's transaction later rolls back, since the activity may exist in
+ * Turnkey regardless.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TurnkeySubmissionLedger {
+
+    private final TurnkeySubmissionRepository turnkeySubmissionRepository;
+
+    /**
+     * Returns the submission stored under {@code idempotencyKey}, recording a new one with the parameters from
+     * {@code parameters} if there is none. The parameters supplier is only called for a new submission or
+     * generation.
+     *
+     * @param reuseWindow how long the key deduplicates after it was reserved; {@code null} for as long as the
+     *                    row exists. An older submission is superseded, so the call counts as a new operation.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public TurnkeySubmission reserve(String idempotencyKey, String activityType, String organizationId,
+                                     Supplier<byte[]> parameters, Duration reuseWindow) {
+        Instant now = Instant.now();
+        TurnkeySubmission existing = turnkeySubmissionRepository.findByIdempotencyKey(idempotencyKey).orElse(null);
+        if (existing != null) {
+            if (reuseWindow != null && existing.getReservedAt().isBefore(now.minus(reuseWindow))) {
+                log.debug("Turnkey {} submission under key {} is past its {} reuse window; starting a new one",
+                        activityType, idempotencyKey, reuseWindow);
+                return supersede(existing, parameters, now);
+            }
+            return existing;
+        }
+        String body = new String(parameters.get(), StandardCharsets.UTF_8);
+        if (turnkeySubmissionRepository.insertIfAbsent(UUID.randomUUID(), idempotencyKey, activityType, organizationId, body, now) > 0) {
+            log.debug("Recorded Turnkey {} submission under key {}", activityType, idempotencyKey);
+        }
+        return reload(idempotencyKey);
+    }
+
+    /**
+     * Retires the activity recorded for {@code submission} (it failed, was rejected or canceled) and returns the
+     * next generation, which the caller submits as a new activity. If another caller got there first, its
+     * generation is returned instead.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public TurnkeySubmission supersede(TurnkeySubmission submission, Supplier<byte[]> parameters) {
+        return supersede(submission, parameters, Instant.now());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordAttempt(TurnkeySubmission submission) {
+        turnkeySubmissionRepository.incrementAttempts(submission.getIdempotencyKey(), submission.getGeneration(), Instant.now());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordActivity(TurnkeySubmission submission, String activityId, String status) {
+        turnkeySubmissionRepository.recordActivity(submission.getIdempotencyKey(), submission.getGeneration(), activityId, status, Instant.now());
+    }
+
+    private TurnkeySubmission supersede(TurnkeySubmission submission, Supplier<byte[]> parameters, Instant now) {
+        String body = new String(parameters.get(), StandardCharsets.UTF_8);
+        if (turnkeySubmissionRepository.supersede(submission.getIdempotencyKey(), submission.getGeneration(), body, now) > 0) {
+            log.info("Superseded Turnkey {} submission under key {} (activity {}, status {})",
+                    submission.getActivityType(), submission.getIdempotencyKey(), submission.getActivityId(), submission.getStatus());
+        }
+        return reload(submission.getIdempotencyKey());
+    }
+
+    private TurnkeySubmission reload(String idempotencyKey) {
+        return turnkeySubmissionRepository.findByIdempotencyKey(idempotencyKey)
+                .orElseThrow(() -> new IllegalStateException("Turnkey submission " + idempotencyKey + " vanished after insert"));
+    }
+}
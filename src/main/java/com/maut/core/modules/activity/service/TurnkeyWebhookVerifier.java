@@ -0,0 +1,71 @@
+package com.maut.core.modules.activity.service;
+
+import com.maut.core.common.config.properties.TurnkeyWebhookProperties;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+
+/**
+ * Checks the signature of a Turnkey callback: hex HMAC-SHA256 over {@code "<timestamp>.<raw body>"} with the
+ * shared secret, where the timestamp (epoch seconds, also sent as a header) must be recent.
+ */
+@Component
+@RequiredArgsConstructor
+public class TurnkeyWebhookVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_PREFIX = "sha256=";
+
+    private final TurnkeyWebhookProperties properties;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    });
+
+    public boolean verify(String timestamp, String signature, byte[] body) {
+        String secret = properties.getSecret();
+        if (secret == null || secret.isBlank() || timestamp == null || signature == null) {
+            return false;
+        }
+        long signedAt;
+        try {
+            signedAt = Long.parseLong(timestamp.trim());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(Instant.now().getEpochSecond() - signedAt) > properties.getToleranceSeconds()) {
+            return false;
+        }
+        byte[] expected;
+        try {
+            String hex = signature.trim();
+            expected = Hex.decodeHex(hex.startsWith(SIGNATURE_PREFIX) ? hex.substring(SIGNATURE_PREFIX.length()) : hex);
+        } catch (DecoderException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(expected, sign(secret, timestamp.trim(), body));
+    }
+
+    byte[] sign(String secret, String timestamp, byte[] body) {
+        Mac mac = macs.get();
+        try {
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid Turnkey webhook secret", e);
+        }
+        mac.update((timestamp + ".").getBytes(StandardCharsets.UTF_8));
+        return mac.doFinal(body);
+    }
+}
@@ -1,8 +1,10 @@
 package com.maut.core.modules.auth.controller;
 
+import com.maut.core.common.exception.PasswordHashingCapacityException;
 import com.maut.core.modules.auth.dto.ClientRegistrationRequest;
 import com.maut.core.modules.auth.dto.LoginRequest;
 import com.maut.core.modules.auth.dto.LoginResponse;
+import com.maut.core.modules.auth.throttle.LoginAttemptThrottle;
 import com.maut.core.modules.auth.dto.CurrentUserResponseDto;
 import com.maut.core.modules.auth.service.AuthService;
 import com.maut.core.modules.auth.service.JwtService;
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -43,6 +46,7 @@ public class AuthController {
     private final JwtService jwtService;
     private final UserRepository userRepository;
     private final UserDetailsService userDetailsService;
+    private final LoginAttemptThrottle loginAttemptThrottle;
 
     @PostMapping("/client/register")
     public ResponseEntity<?> registerClient(@Valid @RequestBody ClientRegistrationRequest request) {
@@ -55,6 +59,9 @@ public class AuthController {
             String jwt = jwtService.generateToken(userDetails);
             log.info("Client registration successful, token generated for email: {}", request.getEmail());
             return ResponseEntity.status(HttpStatus.CREATED).body(new LoginResponse(jwt));
+        } catch (PasswordHashingCapacityException e) {
+            log.warn("Client registration rejected for email {}: password hashing at capacity", request.getEmail());
+            throw e; // mapped to 429 by GlobalExceptionHandler
         } catch (Exception e) {
             log.error("Client registration failed for email: {}: {}", request.getEmail(), e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Registration failed: " + e.getMessage());
@@ -62,8 +69,11 @@ public class AuthController {
     }
 
     @PostMapping("/admin/login")
-    public ResponseEntity<?> loginAdmin(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> loginAdmin(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest httpRequest) {
         log.info("Admin login attempt for email: {}", loginRequest.getEmail());
+        String clientIp = loginAttemptThrottle.resolveClientIp(httpRequest);
+        // Reject locked-out emails/IPs before any user lookup or password hashing; mapped to 429 by GlobalExceptionHandler
+        loginAttemptThrottle.checkAllowed(loginRequest.getEmail(), clientIp);
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
@@ -79,11 +89,16 @@ public class AuthController {
             }
 
             String jwt = jwtService.generateToken(userDetails);
+            loginAttemptThrottle.recordSuccess(loginRequest.getEmail());
             log.info("Admin login successful, token generated for email: {}", loginRequest.getEmail());
             return ResponseEntity.ok(new LoginResponse(jwt));
         } catch (BadCredentialsException e) {
+            loginAttemptThrottle.recordFailure(loginRequest.getEmail(), clientIp);
             log.warn("Admin login failed for email {}: {}", loginRequest.getEmail(), e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (PasswordHashingCapacityException e) {
+            log.warn("Admin login rejected for email {}: password hashing at capacity", loginRequest.getEmail());
+            throw e; // mapped to 429 by GlobalExceptionHandler
         } catch (Exception e) {
             log.error("Error during admin login for email {}: {}", loginRequest.getEmail(), e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Login failed due to an internal error.");
@@ -91,8 +106,11 @@ public class AuthController {
     }
 
     @PostMapping("/client/login")
-    public ResponseEntity<?> loginClient(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> loginClient(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest httpRequest) {
         log.info("Client login attempt for email: {}", loginRequest.getEmail());
+        String clientIp = loginAttemptThrottle.resolveClientIp(httpRequest);
+        // Reject locked-out emails/IPs before any user lookup or password hashing; mapped to 429 by GlobalExceptionHandler
+        loginAttemptThrottle.checkAllowed(loginRequest.getEmail(), clientIp);
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
@@ -107,11 +125,16 @@ public class AuthController {
             }
 
             String jwt = jwtService.generateToken(userDetails);
+            loginAttemptThrottle.recordSuccess(loginRequest.getEmail());
             log.info("Client login successful, token generated for email: {}", loginRequest.getEmail());
             return ResponseEntity.ok(new LoginResponse(jwt));
         } catch (BadCredentialsException e) {
+            loginAttemptThrottle.recordFailure(loginRequest.getEmail(), clientIp);
             log.warn("Client login failed for email {}: {}", loginRequest.getEmail(), e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (PasswordHashingCapacityException e) {
+            log.warn("Client login rejected for email {}: password hashing at capacity", loginRequest.getEmail());
+            throw e; // mapped to 429 by GlobalExceptionHandler
         } catch (Exception e) {
             log.error("Error during client login for email {}: {}", loginRequest.getEmail(), e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Login failed due to an internal error.");
@@ -127,7 +150,7 @@ public class AuthController {
 
         log.info("Fetching current user details for: {}", userDetails.getUsername());
         try {
-            User user = userRepository.findByEmail(userDetails.getUsername())
+            User user = userRepository.findWithTeamByEmail(userDetails.getUsername())
                     .orElseThrow(() -> new BadCredentialsException("User not found in repository despite being authenticated."));
 
             TeamSummaryDto teamSummaryDto = null;
@@ -0,0 +1,42 @@
+package com.maut.core.modules.auth.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+/**
+ * Persistent form of a login throttle bucket, used when throttle state must be shared across nodes.
+ */
+@Entity
+@Table(name = "login_throttle_entries")
+@Data
+@NoArgsConstructor
+public class LoginThrottleEntry {
+
+    @Id
+    @Column(name = "throttle_key", length = 400)
+    private String throttleKey;
+
+    @Column(nullable = false)
+    private double tokens;
+
+    @Column(name = "last_refill_at", nullable = false)
+    private Instant lastRefillAt;
+
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    @Column(name = "lockout_count", nullable = false)
+    private int lockoutCount;
+
+    @Column(name = "last_failure_at")
+    private Instant lastFailureAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
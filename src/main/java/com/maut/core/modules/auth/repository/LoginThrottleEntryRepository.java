@@ -0,0 +1,43 @@
+package com.maut.core.modules.auth.repository;
+
+import com.maut.core.modules.auth.model.LoginThrottleEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface LoginThrottleEntryRepository extends JpaRepository<LoginThrottleEntry, String> {
+
+    /**
+     * Creates the row for a key if it does not exist yet, so that concurrent first failures on
+     * different nodes serialize on the row lock instead of racing on the primary key.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO login_throttle_entries (throttle_key, tokens, last_refill_at, lockout_count, updated_at) " +
+                   "VALUES (:key, :tokens, :now, 0, :now) ON CONFLICT (throttle_key) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key, @Param("tokens") double tokens, @Param("now") Instant now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM LoginThrottleEntry e WHERE e.throttleKey = :key")
+    Optional<LoginThrottleEntry> findByKeyForUpdate(@Param("key") String key);
+
+    @Query("SELECT e.lockedUntil FROM LoginThrottleEntry e WHERE e.throttleKey = :key")
+    Optional<Instant> findLockedUntil(@Param("key") String key);
+
+    @Modifying
+    @Query("DELETE FROM LoginThrottleEntry e WHERE e.throttleKey = :key")
+    int deleteByKey(@Param("key") String key);
+
+    @Modifying
+    @Query("DELETE FROM LoginThrottleEntry e WHERE e.updatedAt < :cutoff " +
+           "AND (e.lockedUntil IS NULL OR e.lockedUntil < :cutoff)")
+    int deleteIdleBefore(@Param("cutoff") Instant cutoff);
+}
@@ -7,9 +7,11 @@ import com.maut.core.modules.user.model.User;
 import com.maut.core.modules.user.repository.UserRepository;
 import com.maut.core.modules.user.enums.UserType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -22,7 +24,8 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+@Slf4j
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final TeamMembershipRepository teamMembershipRepository;
@@ -60,4 +63,24 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return user; // Return the User entity itself, which now implements UserDetails
     }
+
+    /**
+     * Invoked by the authentication provider after a successful login when the stored hash uses an
+     * outdated encoding or work factor. The new hash has already been computed from the presented password.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        user.setPasswordHash(newPassword);
+        userRepository.save(user);
+        log.info("Upgraded password hash encoding for user {}", user.getId());
+
+        if (userDetails instanceof User) {
+            ((User) userDetails).setPasswordHash(newPassword);
+            return userDetails;
+        }
+        return user;
+    }
 }
@@ -0,0 +1,157 @@
+package com.maut.core.modules.auth.throttle;
+
+import com.maut.core.common.config.properties.LoginThrottleProperties;
+import com.maut.core.common.util.ConcurrentMapSampler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-node throttle store built from lock-free pieces.
+ * <p>
+ * Keys are spread over {@code stripes} independent {@link ConcurrentHashMap}s so bursts on one key
+ * range don't contend with the rest. Each entry holds an {@link AtomicReference} to an immutable
+ * {@link LoginThrottleState}; reads are plain volatile loads and updates are CAS loops, so the
+ * pre-authentication check never blocks. Each stripe holds at most {@code maxEntries / stripes}
+ * keys: when a stripe is full, one entry from a small random sample is evicted, preferring an expired one
+ * and then the least recently failed unlocked one. Locked-out entries are only evicted when the
+ * sample holds nothing else.
+ */
+@Slf4j
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final ConcurrentHashMap<String, Entry>[] stripes;
+    private final int maxEntriesPerStripe;
+    private final long idleExpiryMs;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryLoginAttemptStore(LoginThrottleProperties properties) {
+        int stripeCount = properties.getStripes();
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.maxEntriesPerStripe = Math.max(1, properties.getMaxEntries() / stripeCount);
+        this.idleExpiryMs = properties.getIdleExpirySeconds() * 1000L;
+    }
+
+    @Override
+    public long retryAfterMs(String key, long nowMs) {
+        Entry entry = stripeFor(key).get(key);
+        return entry == null ? 0L : entry.state.get().retryAfterMs(nowMs);
+    }
+
+    @Override
+    public void recordFailure(String key, LoginThrottleProperties.Bucket bucket, long nowMs) {
+        ConcurrentHashMap<String, Entry> stripe = stripeFor(key);
+        Entry entry = stripe.get(key);
+        if (entry == null) {
+            ensureCapacity(stripe, nowMs);
+            entry = stripe.computeIfAbsent(key, k -> new Entry(bucket, LoginThrottleState.initial(bucket, nowMs)));
+        }
+
+        LoginThrottleState current;
+        LoginThrottleState next;
+        do {
+            current = entry.state.get();
+            next = current.afterFailure(bucket, nowMs);
+        } while (!entry.state.compareAndSet(current, next));
+
+        if (next.getLockoutCount() > current.getLockoutCount()) {
+            log.warn("Login throttle lockout #{} for key {} ({} ms)", next.getLockoutCount(), key, next.retryAfterMs(nowMs));
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        stripeFor(key).remove(key);
+    }
+
+    @Override
+    public int purgeExpired(long nowMs) {
+        int removed = 0;
+        for (ConcurrentHashMap<String, Entry> stripe : stripes) {
+            removed += purgeStripe(stripe, nowMs);
+        }
+        return removed;
+    }
+
+    long size() {
+        long total = 0;
+        for (ConcurrentHashMap<String, Entry> stripe : stripes) {
+            total += stripe.mappingCount();
+        }
+        return total;
+    }
+
+    private int purgeStripe(ConcurrentHashMap<String, Entry> stripe, long nowMs) {
+        int removed = 0;
+        for (Iterator<Map.Entry<String, Entry>> it = stripe.entrySet().iterator(); it.hasNext(); ) {
+            Entry entry = it.next().getValue();
+            if (entry.state.get().isExpired(entry.bucket, nowMs, idleExpiryMs)) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void ensureCapacity(ConcurrentHashMap<String, Entry> stripe, long nowMs) {
+        if (stripe.mappingCount() < maxEntriesPerStripe) {
+            return;
+        }
+        // Full: look at a small sample from a random point only, so each new key costs O(sample) even when the
+        // stripe is mostly locked out, and repeated evictions don't keep hitting the same buckets. An expired
+        // entry in the sample goes first; otherwise the unlocked entry whose last failure is oldest. Locked-out
+        // keys are only evicted when the sample holds nothing else, and then the lockout that ends soonest goes.
+        // purgeExpired sweeps the rest.
+        String victim = null;
+        long oldest = Long.MAX_VALUE;
+        String lockedVictim = null;
+        long soonestUnlock = Long.MAX_VALUE;
+        for (Map.Entry<String, Entry> candidate : ConcurrentMapSampler.sample(stripe, EVICTION_SAMPLE_SIZE)) {
+            Entry entry = candidate.getValue();
+            LoginThrottleState state = entry.state.get();
+            if (state.isExpired(entry.bucket, nowMs, idleExpiryMs)) {
+                victim = candidate.getKey();
+                break;
+            }
+            if (state.retryAfterMs(nowMs) > 0L) {
+                if (state.getLockedUntilEpochMs() < soonestUnlock) {
+                    soonestUnlock = state.getLockedUntilEpochMs();
+                    lockedVictim = candidate.getKey();
+                }
+            } else if (state.getLastFailureEpochMs() < oldest) {
+                oldest = state.getLastFailureEpochMs();
+                victim = candidate.getKey();
+            }
+        }
+        if (victim == null) {
+            victim = lockedVictim;
+        }
+        if (victim != null) {
+            stripe.remove(victim);
+        }
+    }
+
+    private ConcurrentHashMap<String, Entry> stripeFor(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    private static final class Entry {
+        private final LoginThrottleProperties.Bucket bucket;
+        private final AtomicReference<LoginThrottleState> state;
+
+        private Entry(LoginThrottleProperties.Bucket bucket, LoginThrottleState initial) {
+            this.bucket = bucket;
+            this.state = new AtomicReference<>(initial);
+        }
+    }
+}
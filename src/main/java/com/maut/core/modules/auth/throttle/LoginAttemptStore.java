@@ -0,0 +1,41 @@
+package com.maut.core.modules.auth.throttle;
+
+import com.maut.core.common.config.properties.LoginThrottleProperties;
+
+/**
+ * Backing store for login throttle buckets. Implementations must make {@link #retryAfterMs} cheap
+ * (it runs before any user lookup or password hashing) and keep their footprint bounded.
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * @param key   throttle key, e.g. {@code email:alice@example.com} or {@code ip:203.0.113.7}
+     * @param nowMs current epoch millis
+     * @return milliseconds until the key may attempt again, or 0 if it is not locked out
+     */
+    long retryAfterMs(String key, long nowMs);
+
+    /**
+     * Consumes a token for a failed attempt, starting or escalating a lockout when the bucket drains.
+     *
+     * @param key    throttle key
+     * @param bucket bucket settings for the key's dimension
+     * @param nowMs  current epoch millis
+     */
+    void recordFailure(String key, LoginThrottleProperties.Bucket bucket, long nowMs);
+
+    /**
+     * Forgets all state for a key, e.g. after a successful login for that email.
+     *
+     * @param key throttle key
+     */
+    void reset(String key);
+
+    /**
+     * Drops entries that are idle (not locked, bucket refilled, no recent failures).
+     *
+     * @param nowMs current epoch millis
+     * @return number of entries removed
+     */
+    int purgeExpired(long nowMs);
+}
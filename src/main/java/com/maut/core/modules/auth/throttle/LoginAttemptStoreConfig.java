@@ -0,0 +1,27 @@
+package com.maut.core.modules.auth.throttle;
+
+import com.maut.core.common.config.properties.LoginThrottleProperties;
+import com.maut.core.modules.auth.repository.LoginThrottleEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the login throttle store from {@code security.loginThrottle.store}.
+ */
+@Slf4j
+@Configuration
+public class LoginAttemptStoreConfig {
+
+    static final String POSTGRES_STORE = "postgres";
+
+    @Bean
+    public LoginAttemptStore loginAttemptStore(LoginThrottleProperties properties, LoginThrottleEntryRepository repository) {
+        if (POSTGRES_STORE.equalsIgnoreCase(properties.getStore())) {
+            log.info("Login throttle state stored in Postgres (shared across nodes)");
+            return new PostgresLoginAttemptStore(repository, properties);
+        }
+        log.info("Login throttle state stored in memory: stripes={}, maxEntries={}", properties.getStripes(), properties.getMaxEntries());
+        return new InMemoryLoginAttemptStore(properties);
+    }
+}
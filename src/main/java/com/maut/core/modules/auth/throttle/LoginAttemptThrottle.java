@@ -0,0 +1,95 @@
+package com.maut.core.modules.auth.throttle;
+
+import com.maut.core.common.config.properties.LoginThrottleProperties;
+import com.maut.core.modules.auth.exception.LoginThrottledException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Locale;
+
+/**
+ * Throttles failed dashboard logins by email and by client IP.
+ * <p>
+ * Controllers call {@link #checkAllowed} before touching the user table or the password encoder,
+ * then report the outcome with {@link #recordFailure} / {@link #recordSuccess}. A successful login
+ * clears the email bucket but never the IP bucket, so one valid account cannot be used to reset
+ * the limit for an IP that is stuffing credentials.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginAttemptThrottle {
+
+    private static final String EMAIL_KEY_PREFIX = "email:";
+    private static final String IP_KEY_PREFIX = "ip:";
+
+    private final LoginAttemptStore store;
+    private final LoginThrottleProperties properties;
+
+    /**
+     * @throws LoginThrottledException if either the email or the client IP is locked out
+     */
+    public void checkAllowed(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long retryAfterMs = Math.max(
+                store.retryAfterMs(emailKey(email), now),
+                store.retryAfterMs(ipKey(clientIp), now));
+        if (retryAfterMs > 0) {
+            long retryAfterSeconds = Math.max(1L, (retryAfterMs + 999) / 1000);
+            log.warn("Login throttled for email {} from {} (retry after {}s)", email, clientIp, retryAfterSeconds);
+            throw new LoginThrottledException("Too many failed login attempts. Please try again later.", retryAfterSeconds);
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        store.recordFailure(emailKey(email), properties.getEmail(), now);
+        store.recordFailure(ipKey(clientIp), properties.getIp(), now);
+    }
+
+    public void recordSuccess(String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        store.reset(emailKey(email));
+    }
+
+    /**
+     * Resolves the client IP used as the throttle key, honouring X-Forwarded-For only when configured.
+     */
+    public String resolveClientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                return forwardedFor.split(",")[0].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    @Scheduled(fixedDelayString = "${security.loginThrottle.purgeIntervalMs:60000}")
+    public void purgeExpired() {
+        int removed = store.purgeExpired(System.currentTimeMillis());
+        if (removed > 0) {
+            log.debug("Purged {} idle login throttle entries", removed);
+        }
+    }
+
+    private static String emailKey(String email) {
+        return EMAIL_KEY_PREFIX + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String clientIp) {
+        return IP_KEY_PREFIX + (clientIp == null ? "unknown" : clientIp);
+    }
+}
@@ -0,0 +1,71 @@
+package com.maut.core.modules.auth.throttle;
+
+import com.maut.core.common.config.properties.LoginThrottleProperties;
+import lombok.Value;
+
+/**
+ * Immutable snapshot of one throttle key's token bucket.
+ * <p>
+ * Every failed attempt consumes a token. Tokens refill continuously at {@code refillPerMinute}.
+ * Draining the bucket starts a lockout of {@code baseLockout * 2^(lockoutCount - 1)}, capped at
+ * {@code maxLockout}; the bucket is refilled when the lockout is applied so the next lockout
+ * only triggers after another full burst. Stores swap whole snapshots (CAS or row update), so
+ * all transitions here are pure functions of the previous state and the clock.
+ */
+@Value
+public class LoginThrottleState {
+
+    double tokens;
+    long lastRefillEpochMs;
+    long lockedUntilEpochMs;
+    int lockoutCount;
+    long lastFailureEpochMs;
+
+    public static LoginThrottleState initial(LoginThrottleProperties.Bucket bucket, long nowMs) {
+        return new LoginThrottleState(bucket.getCapacity(), nowMs, 0L, 0, 0L);
+    }
+
+    /**
+     * @return milliseconds until another attempt is allowed, or 0 if the key is not locked out
+     */
+    public long retryAfterMs(long nowMs) {
+        return Math.max(0L, lockedUntilEpochMs - nowMs);
+    }
+
+    public LoginThrottleState afterFailure(LoginThrottleProperties.Bucket bucket, long nowMs) {
+        double available = refill(bucket, nowMs) - 1.0;
+        if (available >= 1.0) {
+            return new LoginThrottleState(available, nowMs, lockedUntilEpochMs, lockoutCount, nowMs);
+        }
+        int nextLockoutCount = lockoutCount + 1;
+        long lockoutMs = lockoutDurationMs(bucket, nextLockoutCount);
+        return new LoginThrottleState(bucket.getCapacity(), nowMs, nowMs + lockoutMs, nextLockoutCount, nowMs);
+    }
+
+    /**
+     * An entry is idle once it is no longer locked, its bucket would be full again and it has
+     * seen no failures for the idle window; idle entries carry no information and can be dropped.
+     */
+    public boolean isExpired(LoginThrottleProperties.Bucket bucket, long nowMs, long idleExpiryMs) {
+        return retryAfterMs(nowMs) == 0L
+                && refill(bucket, nowMs) >= bucket.getCapacity()
+                && nowMs - Math.max(lastFailureEpochMs, lockedUntilEpochMs) >= idleExpiryMs;
+    }
+
+    private double refill(LoginThrottleProperties.Bucket bucket, long nowMs) {
+        // No refill while locked out: the lockout itself is the cool-down.
+        long refillFrom = Math.max(lastRefillEpochMs, lockedUntilEpochMs);
+        if (nowMs <= refillFrom) {
+            return tokens;
+        }
+        double regained = (nowMs - refillFrom) / 60_000.0 * bucket.getRefillPerMinute();
+        return Math.min(bucket.getCapacity(), tokens + regained);
+    }
+
+    static long lockoutDurationMs(LoginThrottleProperties.Bucket bucket, int lockoutCount) {
+        long maxMs = bucket.getMaxLockoutSeconds() * 1000L;
+        int shift = Math.min(lockoutCount - 1, 30);
+        long lockoutMs = bucket.getBaseLockoutSeconds() * 1000L * (1L << shift);
+        return lockoutMs <= 0 ? maxMs : Math.min(lockoutMs, maxMs);
+    }
+}
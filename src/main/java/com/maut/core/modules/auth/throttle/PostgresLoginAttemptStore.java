@@ -0,0 +1,81 @@
+package com.maut.core.modules.auth.throttle;
+
+import com.maut.core.common.config.properties.LoginThrottleProperties;
+import com.maut.core.modules.auth.model.LoginThrottleEntry;
+import com.maut.core.modules.auth.repository.LoginThrottleEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Throttle store backed by the {@code login_throttle_entries} table so limits hold across nodes.
+ * <p>
+ * The pre-authentication check is a single primary-key read of {@code locked_until}. Failures
+ * upsert the row and then update it under a row lock, applying the same {@link LoginThrottleState}
+ * transitions as the in-memory store.
+ */
+@Slf4j
+public class PostgresLoginAttemptStore implements LoginAttemptStore {
+
+    private final LoginThrottleEntryRepository repository;
+    private final long idleExpiryMs;
+
+    public PostgresLoginAttemptStore(LoginThrottleEntryRepository repository, LoginThrottleProperties properties) {
+        this.repository = repository;
+        this.idleExpiryMs = properties.getIdleExpirySeconds() * 1000L;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long retryAfterMs(String key, long nowMs) {
+        return repository.findLockedUntil(key)
+                .map(lockedUntil -> Math.max(0L, lockedUntil.toEpochMilli() - nowMs))
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional
+    public void recordFailure(String key, LoginThrottleProperties.Bucket bucket, long nowMs) {
+        Instant now = Instant.ofEpochMilli(nowMs);
+        repository.insertIfAbsent(key, bucket.getCapacity(), now);
+        LoginThrottleEntry entry = repository.findByKeyForUpdate(key)
+                .orElseThrow(() -> new IllegalStateException("Login throttle row vanished for key " + key));
+
+        LoginThrottleState current = toState(entry);
+        LoginThrottleState next = current.afterFailure(bucket, nowMs);
+
+        entry.setTokens(next.getTokens());
+        entry.setLastRefillAt(Instant.ofEpochMilli(next.getLastRefillEpochMs()));
+        entry.setLockedUntil(next.getLockedUntilEpochMs() > 0 ? Instant.ofEpochMilli(next.getLockedUntilEpochMs()) : null);
+        entry.setLockoutCount(next.getLockoutCount());
+        entry.setLastFailureAt(now);
+        entry.setUpdatedAt(now);
+        repository.save(entry);
+
+        if (next.getLockoutCount() > current.getLockoutCount()) {
+            log.warn("Login throttle lockout #{} for key {} ({} ms)", next.getLockoutCount(), key, next.retryAfterMs(nowMs));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void reset(String key) {
+        repository.deleteByKey(key);
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(long nowMs) {
+        return repository.deleteIdleBefore(Instant.ofEpochMilli(nowMs - idleExpiryMs));
+    }
+
+    private LoginThrottleState toState(LoginThrottleEntry entry) {
+        return new LoginThrottleState(
+                entry.getTokens(),
+                entry.getLastRefillAt().toEpochMilli(),
+                entry.getLockedUntil() != null ? entry.getLockedUntil().toEpochMilli() : 0L,
+                entry.getLockoutCount(),
+                entry.getLastFailureAt() != null ? entry.getLastFailureAt().toEpochMilli() : 0L);
+    }
+}
@@ -0,0 +1,10 @@
+package com.maut.core.modules.authenticator.challenge;
+
+/**
+ * The WebAuthn ceremony a challenge was issued for. A challenge may only complete the ceremony
+ * it was issued for, so a registration challenge can never be replayed as a login.
+ */
+public enum ChallengeCeremony {
+    REGISTRATION,
+    AUTHENTICATION
+}
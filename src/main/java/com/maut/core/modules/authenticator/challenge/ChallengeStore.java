@@ -0,0 +1,31 @@
+package com.maut.core.modules.authenticator.challenge;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived storage for WebAuthn ceremony challenges.
+ * <p>
+ * Challenges must be single use: {@link #consume} removes the challenge atomically, so two
+ * concurrent completions presenting the same challenge can never both succeed.
+ */
+public interface ChallengeStore {
+
+    /**
+     * Stores a newly issued challenge.
+     *
+     * @param challenge the challenge to store
+     */
+    void save(StoredChallenge challenge);
+
+    /**
+     * Atomically removes and returns the challenge if it was issued to the given user for the given
+     * ceremony and has not expired.
+     *
+     * @param mautUserId the user completing the ceremony
+     * @param challenge  the Base64Url-encoded challenge echoed back in clientDataJSON
+     * @param ceremony   the ceremony being completed
+     * @return the stored challenge, or empty if unknown, expired, already consumed, or issued to another user or ceremony
+     */
+    Optional<StoredChallenge> consume(UUID mautUserId, String challenge, ChallengeCeremony ceremony);
+}
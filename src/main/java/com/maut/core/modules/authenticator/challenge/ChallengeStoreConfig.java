@@ -0,0 +1,33 @@
+package com.maut.core.modules.authenticator.challenge;
+
+import com.maut.core.common.config.ApplicationConfig;
+import com.maut.core.modules.authenticator.repository.WebauthnRegistrationChallengeRepository;
+import com.maut.core.modules.user.repository.MautUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the WebAuthn challenge store from {@code webauthn.challengeStore}:
+ * {@code memory} (default, single node) or {@code database} (shared across nodes).
+ */
+@Slf4j
+@Configuration
+public class ChallengeStoreConfig {
+
+    static final String DATABASE_STORE = "database";
+
+    @Bean
+    public ChallengeStore challengeStore(ApplicationConfig applicationConfig,
+                                         WebauthnRegistrationChallengeRepository challengeRepository,
+                                         MautUserRepository mautUserRepository) {
+        ApplicationConfig.WebAuthnConfig webAuthnConfig = applicationConfig.getWebauthn();
+        if (DATABASE_STORE.equalsIgnoreCase(webAuthnConfig.getChallengeStore())) {
+            log.info("WebAuthn challenges stored in the database");
+            return new DatabaseChallengeStore(challengeRepository, mautUserRepository);
+        }
+        int maxEntries = webAuthnConfig.getChallengeStoreMaxEntries() != null ? webAuthnConfig.getChallengeStoreMaxEntries() : 100_000;
+        log.info("WebAuthn challenges stored in memory (maxEntries={})", maxEntries);
+        return new InMemoryChallengeStore(maxEntries);
+    }
+}
@@ -0,0 +1,31 @@
+package com.maut.core.modules.authenticator.challenge;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Periodically drops expired WebAuthn challenges from the {@link InMemoryChallengeStore}. The database
+ * store's rows are reclaimed by the retention job instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeStorePurger {
+
+    private final ChallengeStore challengeStore;
+
+    @Scheduled(fixedDelayString = "${webauthn.challengePurgeIntervalMs:30000}")
+    public void purgeExpiredChallenges() {
+        if (!(challengeStore instanceof InMemoryChallengeStore)) {
+            return;
+        }
+        int removed = ((InMemoryChallengeStore) challengeStore).purgeExpired(Instant.now());
+        if (removed > 0) {
+            log.debug("Purged {} expired WebAuthn challenges", removed);
+        }
+    }
+}
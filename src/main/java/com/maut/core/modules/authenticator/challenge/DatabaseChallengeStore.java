@@ -0,0 +1,56 @@
+package com.maut.core.modules.authenticator.challenge;
+
+import com.maut.core.modules.authenticator.model.WebauthnRegistrationChallenge;
+import com.maut.core.modules.authenticator.repository.WebauthnRegistrationChallengeRepository;
+import com.maut.core.modules.user.repository.MautUserRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Challenge store backed by {@code webauthn_registration_challenges}, for deployments where the
+ * completing request may land on a different node than the one that issued the challenge.
+ * One-time use is enforced by a conditional delete: only the caller whose delete affects the row wins.
+ * Expired rows are invisible to {@link #consume} and are reclaimed by the retention job (see the
+ * {@code @TtlRetention} policy on the repository).
+ */
+public class DatabaseChallengeStore implements ChallengeStore {
+
+    private final WebauthnRegistrationChallengeRepository challengeRepository;
+    private final MautUserRepository mautUserRepository;
+
+    public DatabaseChallengeStore(WebauthnRegistrationChallengeRepository challengeRepository,
+                                  MautUserRepository mautUserRepository) {
+        this.challengeRepository = challengeRepository;
+        this.mautUserRepository = mautUserRepository;
+    }
+
+    @Override
+    @Transactional
+    public void save(StoredChallenge challenge) {
+        challengeRepository.save(new WebauthnRegistrationChallenge(
+                mautUserRepository.getReferenceById(challenge.getMautUserId()),
+                challenge.getChallenge(),
+                challenge.getRelyingPartyId(),
+                OffsetDateTime.ofInstant(challenge.getExpiresAt(), ZoneOffset.UTC),
+                challenge.getCeremony()));
+    }
+
+    @Override
+    @Transactional
+    public Optional<StoredChallenge> consume(UUID mautUserId, String challenge, ChallengeCeremony ceremony) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        return challengeRepository.findByMautUserIdAndChallengeAndCeremonyAndExpiresAtAfter(mautUserId, challenge, ceremony, now)
+                .filter(stored -> challengeRepository.deleteByIdReturningCount(stored.getId()) == 1)
+                .map(stored -> StoredChallenge.builder()
+                        .mautUserId(mautUserId)
+                        .challenge(stored.getChallenge())
+                        .relyingPartyId(stored.getRelyingPartyId())
+                        .expiresAt(stored.getExpiresAt().toInstant())
+                        .ceremony(stored.getCeremony())
+                        .build());
+    }
+}
@@ -0,0 +1,108 @@
+package com.maut.core.modules.authenticator.challenge;
+
+import com.maut.core.common.util.ConcurrentMapSampler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-node challenge store: challenges are spread over independent {@link ConcurrentHashMap}
+ * shards keyed by the challenge string. Consumption uses {@code remove(key, value)}, so exactly one
+ * caller wins a given challenge. Expired challenges are dropped by the periodic purge. When a shard
+ * reaches its share of {@code maxEntries}, an insert looks at a small random sample only: expired
+ * challenges in it are dropped or, if it holds only live ones, the one expiring soonest is evicted, so
+ * issuing a new challenge never fails and costs O(sample) however full the shard is.
+ */
+@Slf4j
+public class InMemoryChallengeStore implements ChallengeStore {
+
+    private static final int SHARD_COUNT = 16;
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final ConcurrentHashMap<String, StoredChallenge>[] shards;
+    private final int maxEntriesPerShard;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryChallengeStore(int maxEntries) {
+        this.shards = new ConcurrentHashMap[SHARD_COUNT];
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        this.maxEntriesPerShard = Math.max(1, maxEntries / SHARD_COUNT);
+    }
+
+    @Override
+    public void save(StoredChallenge challenge) {
+        ConcurrentHashMap<String, StoredChallenge> shard = shardFor(challenge.getChallenge());
+        if (shard.mappingCount() >= maxEntriesPerShard) {
+            evictFromSample(shard, Instant.now());
+        }
+        shard.put(challenge.getChallenge(), challenge);
+    }
+
+    @Override
+    public Optional<StoredChallenge> consume(UUID mautUserId, String challenge, ChallengeCeremony ceremony) {
+        ConcurrentHashMap<String, StoredChallenge> shard = shardFor(challenge);
+        StoredChallenge stored = shard.get(challenge);
+        if (stored == null || !stored.getMautUserId().equals(mautUserId) || stored.getCeremony() != ceremony) {
+            return Optional.empty();
+        }
+        if (!shard.remove(challenge, stored)) {
+            return Optional.empty(); // Lost the race to a concurrent consume
+        }
+        return stored.isExpired(Instant.now()) ? Optional.empty() : Optional.of(stored);
+    }
+
+    /**
+     * Removes expired challenges.
+     *
+     * @param now the current time
+     * @return number of challenges removed
+     */
+    public int purgeExpired(Instant now) {
+        int removed = 0;
+        for (ConcurrentHashMap<String, StoredChallenge> shard : shards) {
+            removed += purgeShard(shard, now);
+        }
+        return removed;
+    }
+
+    private int purgeShard(ConcurrentHashMap<String, StoredChallenge> shard, Instant now) {
+        int removed = 0;
+        for (Iterator<StoredChallenge> it = shard.values().iterator(); it.hasNext(); ) {
+            if (it.next().isExpired(now)) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void evictFromSample(ConcurrentHashMap<String, StoredChallenge> shard, Instant now) {
+        StoredChallenge soonest = null;
+        boolean removedExpired = false;
+        for (Map.Entry<String, StoredChallenge> entry : ConcurrentMapSampler.sample(shard, EVICTION_SAMPLE_SIZE)) {
+            StoredChallenge candidate = entry.getValue();
+            if (candidate.isExpired(now)) {
+                removedExpired |= shard.remove(candidate.getChallenge(), candidate);
+            } else if (soonest == null || candidate.getExpiresAt().isBefore(soonest.getExpiresAt())) {
+                soonest = candidate;
+            }
+        }
+        // Sample is full of live challenges; drop the one closest to expiring rather than grow without bound.
+        if (!removedExpired && soonest != null && shard.remove(soonest.getChallenge(), soonest)) {
+            log.warn("Challenge store shard full; evicted challenge for MautUser {} expiring at {}", soonest.getMautUserId(), soonest.getExpiresAt());
+        }
+    }
+
+    private ConcurrentHashMap<String, StoredChallenge> shardFor(String challenge) {
+        int hash = challenge.hashCode();
+        hash ^= (hash >>> 16);
+        return shards[Math.floorMod(hash, SHARD_COUNT)];
+    }
+}
@@ -0,0 +1,25 @@
+package com.maut.core.modules.authenticator.challenge;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A WebAuthn challenge issued to a MautUser, valid until {@code expiresAt} and consumable once.
+ */
+@Value
+@Builder
+public class StoredChallenge {
+    UUID mautUserId;
+    String challenge; // Base64Url-encoded challenge bytes, as sent to the client
+    String relyingPartyId;
+    Instant expiresAt;
+    @Builder.Default
+    ChallengeCeremony ceremony = ChallengeCeremony.REGISTRATION;
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -7,11 +7,15 @@ import com.maut.core.modules.authenticator.dto.webauthn.InitiatePasskeyRegistrat
 import com.maut.core.modules.authenticator.dto.webauthn.PasskeyRegistrationResultDto;
 import com.maut.core.modules.authenticator.dto.webauthn.PublicKeyCredentialCreationOptionsDto;
 import com.maut.core.modules.authenticator.dto.webauthn.CompletePasskeyRegistrationServerRequestDto;
+import com.maut.core.modules.authenticator.dto.webauthn.CompletePasskeyAuthenticationServerRequestDto;
+import com.maut.core.modules.authenticator.dto.webauthn.PasskeyAuthenticationResultDto;
+import com.maut.core.modules.authenticator.dto.webauthn.PublicKeyCredentialRequestOptionsDto;
 import com.maut.core.modules.authenticator.service.AuthenticatorService;
 import com.maut.core.modules.session.service.SessionService;
 import com.maut.core.modules.user.model.MautUser; 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/v1/authenticator") 
@@ -62,26 +67,53 @@ public class AuthenticatorController {
         }
     }
 
+    @PostMapping("/initiate-passkey-authentication")
+    public ResponseEntity<PublicKeyCredentialRequestOptionsDto> initiatePasskeyAuthentication(
+        @RequestHeader("X-Maut-Session-Token") String mautSessionToken
+    ) {
+        MautUser mautUser = sessionService.validateMautSessionTokenAndGetMautUser(mautSessionToken);
+        PublicKeyCredentialRequestOptionsDto options = authenticatorService.initiateVanillaPasskeyAuthentication(mautUser);
+        return ResponseEntity.ok(options);
+    }
+
+    @PostMapping("/complete-passkey-authentication")
+    public ResponseEntity<PasskeyAuthenticationResultDto> completePasskeyAuthentication(
+        @RequestHeader("X-Maut-Session-Token") String mautSessionToken,
+        @RequestBody CompletePasskeyAuthenticationServerRequestDto requestDto
+    ) {
+        MautUser mautUser = sessionService.validateMautSessionTokenAndGetMautUser(mautSessionToken);
+        PasskeyAuthenticationResultDto result = authenticatorService.completeVanillaPasskeyAuthentication(mautUser, requestDto);
+        if (result.isSuccess()) {
+            return ResponseEntity.ok(result);
+        }
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(result);
+    }
+
+    /**
+     * Waits on Turnkey, so the servlet thread is released until the finalization completes; past
+     * {@code spring.mvc.async.request-timeout} the client gets a 504.
+     */
     @PostMapping("/complete-passkey-registration-old")
-    public ResponseEntity<CompletePasskeyRegistrationResponse> completePasskeyRegistrationOld(
+    public CompletableFuture<ResponseEntity<CompletePasskeyRegistrationResponse>> completePasskeyRegistrationOld(
         @RequestHeader("X-Maut-Session-Token") String mautSessionToken,
         @Valid @RequestBody CompletePasskeyRegistrationRequest request
     ) {
         MautUser mautUser = sessionService.validateMautSessionTokenAndGetMautUser(mautSessionToken);
 
-        CompletePasskeyRegistrationResponse response = authenticatorService.completePasskeyRegistration(mautUser, request);
-        return ResponseEntity.ok(response);
+        return authenticatorService.completePasskeyRegistrationAsync(mautUser, request)
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("")
     public ResponseEntity<ListPasskeysResponse> listPasskeys(
         @RequestHeader("X-Maut-Session-Token") String mautSessionToken,
         @RequestParam(defaultValue = "10") int limit,
-        @RequestParam(defaultValue = "0") int offset
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
         MautUser mautUser = sessionService.validateMautSessionTokenAndGetMautUser(mautSessionToken);
         
-        ListPasskeysResponse response = authenticatorService.listPasskeys(mautUser, limit, offset);
+        ListPasskeysResponse response = authenticatorService.listPasskeys(mautUser, limit, cursor, includeTotal);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,56 @@
+package com.maut.core.modules.authenticator.credential;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maut.core.common.config.ApplicationConfig;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Caches decoded {@link COSEKey}s of vanilla WebAuthn credentials, keyed by the Base64Url credential id.
+ * <p>
+ * A credential's public key never changes after registration, so the CBOR decode only has to happen
+ * once per credential; entries are evicted by size and idle time. A removed credential's entry needs no
+ * explicit eviction: lookups only happen after the credential row itself has been found, so the stale
+ * key is unreachable until it ages out. Hit/miss counts are published as {@code cache.*{cache=webauthn.publicKeys}}.
+ */
+@Slf4j
+@Component
+public class CredentialPublicKeyCache {
+
+    private final Cache<String, COSEKey> cache;
+    private final ObjectConverter objectConverter;
+
+    public CredentialPublicKeyCache(ApplicationConfig applicationConfig, ObjectConverter objectConverter, MeterRegistry meterRegistry) {
+        this.objectConverter = objectConverter;
+        Integer maxEntries = applicationConfig.getWebauthn() != null ? applicationConfig.getWebauthn().getPublicKeyCacheMaxEntries() : null;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries != null ? maxEntries : 10_000)
+                .expireAfterAccess(Duration.ofHours(12))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "webauthn.publicKeys");
+    }
+
+    /**
+     * Returns the decoded public key for a credential, decoding {@code publicKeyCose} on a miss.
+     *
+     * @param credentialId  Base64Url-encoded credential id
+     * @param publicKeyCose the COSE-encoded key as stored at registration
+     */
+    public COSEKey get(String credentialId, byte[] publicKeyCose) {
+        return cache.get(credentialId, id -> {
+            COSEKey key = objectConverter.getCborConverter().readValue(publicKeyCose, COSEKey.class);
+            if (key == null) {
+                throw new IllegalStateException("Stored public key for credential " + id + " could not be decoded.");
+            }
+            return key;
+        });
+    }
+}
@@ -0,0 +1,201 @@
+package com.maut.core.modules.authenticator.credential;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Write-behind buffer for passkey usage bookkeeping ({@code last_used_at} and the WebAuthn signature counter).
+ * <p>
+ * A successful login used to cost one row UPDATE on {@code maut_user_webauthn_credentials} or
+ * {@code user_authenticators}. Usage is instead merged into a {@link ConcurrentHashMap} keyed by row id,
+ * keeping the maximum counter and the latest timestamp, and flushed as batched JDBC updates every few
+ * seconds and on shutdown. The SQL uses {@code GREATEST}, so flushes are monotonic even if several nodes
+ * write the same row or a flush is retried.
+ * <p>
+ * Entries are only removed after they are written, and only if no newer usage was merged meanwhile. A written
+ * credential counter is also kept as a high-water mark for {@link #FLUSHED_RETENTION}: an assertion that loaded
+ * the row just before a flush committed still compares against the flushed value, so
+ * {@link #effectiveSignCount} (used for clone detection) never sees a counter older than the latest verified one.
+ */
+@Slf4j
+@Component
+public class CredentialUsageBuffer {
+
+    private static final int BATCH_SIZE = 500;
+    /** How long a flushed counter stays visible; far longer than any assertion holds a loaded credential row. */
+    static final Duration FLUSHED_RETENTION = Duration.ofMinutes(1);
+
+    private static final String UPDATE_CREDENTIAL_SQL =
+            "UPDATE maut_user_webauthn_credentials " +
+            "SET signature_counter = GREATEST(signature_counter, ?), last_used_at = GREATEST(last_used_at, ?) " +
+            "WHERE id = ?";
+
+    private static final String UPDATE_AUTHENTICATOR_SQL =
+            "UPDATE user_authenticators SET last_used_at = GREATEST(last_used_at, ?) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<UUID, PendingUsage> credentials = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, PendingUsage> authenticators = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, FlushedUsage> flushedCredentials = new ConcurrentHashMap<>();
+    private final Counter flushedRows;
+
+    public CredentialUsageBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("webauthn.usage.pending", this, buffer -> buffer.credentials.size() + buffer.authenticators.size())
+                .description("Passkey usage updates waiting to be flushed")
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("webauthn.usage.flushed")
+                .description("Passkey usage rows written by the write-behind flush")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a verified assertion of a vanilla WebAuthn credential ({@code maut_user_webauthn_credentials.id}).
+     */
+    public void recordCredentialUse(UUID credentialId, long signCount, Instant usedAt) {
+        credentials.merge(credentialId, new PendingUsage(signCount, usedAt), PendingUsage::max);
+    }
+
+    /**
+     * Records a verified assertion of a Turnkey-managed authenticator ({@code user_authenticators.id}).
+     */
+    public void recordAuthenticatorUse(UUID authenticatorId, Instant usedAt) {
+        authenticators.merge(authenticatorId, new PendingUsage(0L, usedAt), PendingUsage::max);
+    }
+
+    /**
+     * The freshest known signature counter for a credential: the stored value or a newer buffered or recently
+     * flushed one.
+     */
+    public long effectiveSignCount(UUID credentialId, long storedSignCount) {
+        PendingUsage pending = latestCredentialUse(credentialId);
+        return pending != null ? Math.max(storedSignCount, pending.getSignCount()) : storedSignCount;
+    }
+
+    /**
+     * The freshest known last-used time for a credential: the stored value or a newer buffered or recently
+     * flushed one.
+     */
+    public OffsetDateTime effectiveLastUsedAt(UUID credentialId, OffsetDateTime storedLastUsedAt) {
+        PendingUsage pending = latestCredentialUse(credentialId);
+        if (pending == null) {
+            return storedLastUsedAt;
+        }
+        OffsetDateTime buffered = OffsetDateTime.ofInstant(pending.getUsedAt(), ZoneOffset.UTC);
+        return storedLastUsedAt == null || buffered.isAfter(storedLastUsedAt) ? buffered : storedLastUsedAt;
+    }
+
+    @Scheduled(fixedDelayString = "${webauthn.usageFlushIntervalMs:5000}")
+    public void flush() {
+        Instant expired = Instant.now().minus(FLUSHED_RETENTION);
+        flushedCredentials.values().removeIf(flushed -> flushed.getFlushedAt().isBefore(expired));
+        int written = flushCredentials() + flushAuthenticators();
+        if (written > 0) {
+            flushedRows.increment(written);
+            log.debug("Flushed {} buffered passkey usage updates", written);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        int remaining = credentials.size() + authenticators.size();
+        if (remaining > 0) {
+            log.warn("{} passkey usage updates could not be flushed on shutdown", remaining);
+        }
+    }
+
+    private int flushCredentials() {
+        return flushInBatches(credentials, flushedCredentials, UPDATE_CREDENTIAL_SQL, (id, usage) -> new Object[]{
+                usage.getSignCount(), Timestamp.from(usage.getUsedAt()), id});
+    }
+
+    private int flushAuthenticators() {
+        return flushInBatches(authenticators, null, UPDATE_AUTHENTICATOR_SQL, (id, usage) -> new Object[]{
+                Timestamp.from(usage.getUsedAt()), id});
+    }
+
+    private int flushInBatches(ConcurrentHashMap<UUID, PendingUsage> pending, Map<UUID, FlushedUsage> flushed, String sql,
+                               BiFunction<UUID, PendingUsage, Object[]> toArgs) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<UUID, PendingUsage>> snapshot = new ArrayList<>(pending.size());
+        pending.forEach((id, usage) -> snapshot.add(Map.entry(id, usage)));
+
+        int written = 0;
+        for (int from = 0; from < snapshot.size(); from += BATCH_SIZE) {
+            List<Map.Entry<UUID, PendingUsage>> batch = snapshot.subList(from, Math.min(from + BATCH_SIZE, snapshot.size()));
+            List<Object[]> args = new ArrayList<>(batch.size());
+            batch.forEach(entry -> args.add(toArgs.apply(entry.getKey(), entry.getValue())));
+            try {
+                jdbcTemplate.batchUpdate(sql, args);
+            } catch (RuntimeException e) {
+                // Entries stay buffered and are retried on the next flush; GREATEST keeps retries harmless.
+                log.error("Failed to flush {} passkey usage updates: {}", batch.size(), e.getMessage(), e);
+                return written;
+            }
+            // Record the high-water mark before dropping the entry so no lookup falls back to a stale stored value,
+            // then drop only what was written; a usage merged in the meantime stays for the next flush.
+            Instant flushedAt = Instant.now();
+            batch.forEach(entry -> {
+                if (flushed != null) {
+                    flushed.merge(entry.getKey(), new FlushedUsage(entry.getValue(), flushedAt), FlushedUsage::max);
+                }
+                pending.remove(entry.getKey(), entry.getValue());
+            });
+            written += batch.size();
+        }
+        return written;
+    }
+
+    private PendingUsage latestCredentialUse(UUID credentialId) {
+        PendingUsage pending = credentials.get(credentialId);
+        FlushedUsage flushed = flushedCredentials.get(credentialId);
+        if (flushed == null) {
+            return pending;
+        }
+        return pending != null ? pending.max(flushed.getUsage()) : flushed.getUsage();
+    }
+
+    @Value
+    static class PendingUsage {
+        long signCount;
+        Instant usedAt;
+
+        PendingUsage max(PendingUsage other) {
+            return new PendingUsage(
+                    Math.max(signCount, other.signCount),
+                    usedAt.isAfter(other.usedAt) ? usedAt : other.usedAt);
+        }
+    }
+
+    @Value
+    static class FlushedUsage {
+        PendingUsage usage;
+        Instant flushedAt;
+
+        FlushedUsage max(FlushedUsage other) {
+            return new FlushedUsage(usage.max(other.usage), flushedAt.isAfter(other.flushedAt) ? flushedAt : other.flushedAt);
+        }
+    }
+}
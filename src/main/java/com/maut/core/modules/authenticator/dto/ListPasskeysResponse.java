@@ -1,21 +1,25 @@
 package com.maut.core.modules.authenticator.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.List;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ListPasskeysResponse {
 
     private List<PasskeyListItem> passkeys;
     private int limit;
-    private int offset;
-    private long totalPasskeys; // Total number of passkeys for the user (for pagination)
+    private String nextCursor; // Opaque keyset cursor for the next page; null on the last page
+    private Long totalPasskeys; // Total number of passkeys for the user; only computed when requested
+    private Instant syncedAt; // When turnkeyRegistered was last mirrored from Turnkey; null if never
 
 }
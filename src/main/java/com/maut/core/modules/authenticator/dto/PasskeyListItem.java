@@ -18,7 +18,9 @@ public class PasskeyListItem {
     private String credentialId; // The WebAuthn credential ID (base64url encoded)
     private Instant createdAt;
     private Instant lastUsedAt; // Optional: when the passkey was last used
-    private String type; // e.g., "PLATFORM", "CROSS_PLATFORM" (from UserAuthenticatorType)
+    private String type; // e.g., "PASSKEY" (from AuthenticatorType)
+    private String source; // "WEBAUTHN" (registered directly) or "TURNKEY"
     private boolean enabled; // Whether the passkey is currently active
+    private Boolean turnkeyRegistered; // Present in the mirrored Turnkey sub-organization; null if not mirrored yet
 
 }
@@ -0,0 +1,31 @@
+package com.maut.core.modules.authenticator.dto.webauthn;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the client to send the authenticator's assertion response
+ * to the server to complete passkey authentication.
+ * Based on PublicKeyCredential structure from WebAuthn client-side.
+ */
+@Data
+@NoArgsConstructor
+public class CompletePasskeyAuthenticationServerRequestDto {
+
+    private String id; // Base64URL encoded credential ID
+    private String rawId; // Base64URL encoded credential ID (same as id, but some libraries distinguish)
+    private AuthenticatorAssertionResponseDto response;
+    private String type; // Should be "public-key"
+
+    /**
+     * Represents the AuthenticatorAssertionResponse part of the PublicKeyCredential.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class AuthenticatorAssertionResponseDto {
+        private String clientDataJSON; // Base64URL encoded client data JSON
+        private String authenticatorData; // Base64URL encoded authenticator data
+        private String signature; // Base64URL encoded signature
+        private String userHandle; // Base64URL encoded user handle, optional
+    }
+}
@@ -0,0 +1,21 @@
+package com.maut.core.modules.authenticator.dto.webauthn;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PasskeyAuthenticationResultDto {
+
+    private boolean success;
+    private String credentialId; // Base64URL encoded credential ID, if successful
+    private String mautUserId;   // The MautUser the credential belongs to, if successful
+    private String message; // Optional, for errors or additional info
+
+}
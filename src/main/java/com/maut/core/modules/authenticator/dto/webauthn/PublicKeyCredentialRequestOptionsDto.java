@@ -0,0 +1,39 @@
+package com.maut.core.modules.authenticator.dto.webauthn;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents the PublicKeyCredentialRequestOptions structure sent to the client
+ * to initiate passkey authentication (navigator.credentials.get()). Based on the WebAuthn specification.
+ * All binary data (e.g., challenge, credential ids) are Base64URL encoded strings.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PublicKeyCredentialRequestOptionsDto {
+
+    private String challenge; // Base64URL encoded
+    private Long timeout;
+    private String rpId;
+    private List<AllowCredentialDto> allowCredentials;
+    private String userVerification; // e.g., "required", "preferred", "discouraged"
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class AllowCredentialDto {
+        private String type; // "public-key"
+        private String id; // Base64URL encoded credential ID
+        private List<String> transports;
+    }
+}
@@ -0,0 +1,104 @@
+package com.maut.core.modules.authenticator.metadata;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.statement.CertificateBaseAttestationStatement;
+import com.webauthn4j.util.HexUtil;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.CertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.DefaultCertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.exception.CertificateException;
+import com.webauthn4j.verifier.exception.VerificationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * {@link CertPathTrustworthinessVerifier} backed by the FIDO metadata index.
+ * <p>
+ * Authenticator models whose latest metadata status is a compromise or revocation are rejected outright.
+ * Otherwise the attestation chain is validated against the model's trust anchors by webauthn4j's
+ * {@link DefaultCertPathTrustworthinessVerifier}, and the outcome is cached keyed by
+ * (metadata serial, AAGUID, SHA-256 over the whole x5c chain). Attestation certificates are shared by
+ * large batches of devices, so repeat registrations skip PKIX path building entirely. The key covers every
+ * certificate, not just the shared leaf, so one attestation with a broken or bogus intermediate only
+ * caches a failure for that exact chain. A new blob changes the serial and therefore starts a fresh cache;
+ * entries also expire so certificate validity windows are re-evaluated.
+ */
+public class CachingCertPathTrustworthinessVerifier implements CertPathTrustworthinessVerifier {
+
+    private final FidoMetadataService metadataService;
+    private final CertPathTrustworthinessVerifier delegate;
+    private final Cache<String, Optional<String>> outcomes; // empty = trusted, otherwise the failure message
+
+    public CachingCertPathTrustworthinessVerifier(FidoMetadataService metadataService, MeterRegistry meterRegistry) {
+        this(metadataService, new DefaultCertPathTrustworthinessVerifier(metadataService), meterRegistry);
+    }
+
+    CachingCertPathTrustworthinessVerifier(FidoMetadataService metadataService, CertPathTrustworthinessVerifier delegate,
+                                           MeterRegistry meterRegistry) {
+        this.metadataService = metadataService;
+        this.delegate = delegate;
+        this.outcomes = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, outcomes, "webauthn.certPathOutcomes");
+    }
+
+    @Override
+    public void verify(AAGUID aaguid, CertificateBaseAttestationStatement attestationStatement, Instant timestamp) {
+        MetadataIndex index = metadataService.currentIndex();
+        X509Certificate leaf = attestationStatement.getX5c().getEndEntityAttestationCertificate().getCertificate();
+
+        Optional<MetadataEntry> entry = AAGUID.ZERO.equals(aaguid)
+                ? index.findByKeyIdentifier(HexUtil.encodeToString(DefaultCertPathTrustworthinessVerifier.extractSubjectKeyIdentifier(leaf)).toLowerCase(Locale.ROOT))
+                : index.find(aaguid);
+        if (entry.isPresent() && entry.get().isUntrusted()) {
+            throw new CertificateException("Authenticator model is not trusted (metadata status " + entry.get().getStatus() + ")");
+        }
+
+        String key = index.getSerialNumber() + "|" + aaguid + "|" + chainSha256Hex(attestationStatement.getX5c());
+        Optional<String> cached = outcomes.getIfPresent(key);
+        if (cached != null) {
+            if (cached.isPresent()) {
+                throw new CertificateException(cached.get());
+            }
+            return;
+        }
+
+        try {
+            delegate.verify(aaguid, attestationStatement, timestamp);
+            outcomes.put(key, Optional.empty());
+        } catch (VerificationException e) {
+            outcomes.put(key, Optional.ofNullable(e.getMessage()).or(() -> Optional.of("Attestation certificate path is not trusted")));
+            throw e;
+        }
+    }
+
+    private static String chainSha256Hex(List<X509Certificate> chain) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (X509Certificate certificate : chain) {
+                // Length-prefix each certificate so different splits of the same bytes never collide.
+                byte[] encoded = certificate.getEncoded();
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(encoded.length).array());
+                digest.update(encoded);
+            }
+            return HexUtil.encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException | CertificateEncodingException e) {
+            throw new CertificateException("Cannot hash attestation certificate chain", e);
+        }
+    }
+}
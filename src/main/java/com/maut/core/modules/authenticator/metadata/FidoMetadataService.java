@@ -0,0 +1,138 @@
+package com.maut.core.modules.authenticator.metadata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maut.core.common.config.ApplicationConfig;
+import com.webauthn4j.anchor.TrustAnchorRepository;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.HexUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link MetadataIndex} built from a locally provisioned FIDO MDS3 blob and serves
+ * it to webauthn4j as a {@link TrustAnchorRepository}.
+ * <p>
+ * The blob is verified once per file change. The file is polled every
+ * {@code webauthn.metadataReloadIntervalMs}; when operators drop in a new blob, it is verified and the
+ * index is swapped atomically. A blob that fails verification, or that is not newer than the current
+ * one, is ignored and the current index stays in place.
+ * <p>
+ * Disabled (empty index, non-strict attestation) unless {@code webauthn.metadataBlobPath} and
+ * {@code webauthn.metadataRootCertificatePath} are configured.
+ */
+@Slf4j
+@Component
+public class FidoMetadataService implements TrustAnchorRepository {
+
+    private final AtomicReference<MetadataIndex> index = new AtomicReference<>(MetadataIndex.EMPTY);
+    private final Path blobPath;
+    private final MetadataBlobParser parser;
+    private volatile FileVersion loadedVersion;
+
+    public FidoMetadataService(ApplicationConfig applicationConfig, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        ApplicationConfig.WebAuthnConfig config = applicationConfig.getWebauthn();
+        String blob = config != null ? config.getMetadataBlobPath() : null;
+        String root = config != null ? config.getMetadataRootCertificatePath() : null;
+        if (blob == null || blob.isBlank() || root == null || root.isBlank()) {
+            this.blobPath = null;
+            this.parser = null;
+            log.info("FIDO metadata not configured; attestation trust anchors are unavailable and non-strict verification is used.");
+        } else {
+            this.blobPath = Path.of(blob);
+            this.parser = new MetadataBlobParser(objectMapper, readRootCertificate(Path.of(root)));
+            reloadIfChanged();
+            if (index.get() == MetadataIndex.EMPTY) {
+                throw new IllegalStateException("FIDO metadata is configured but " + blobPath + " could not be loaded.");
+            }
+        }
+
+        Gauge.builder("webauthn.metadata.entries", index, ref -> ref.get().size())
+                .description("Authenticator models in the loaded FIDO metadata index")
+                .register(meterRegistry);
+        Gauge.builder("webauthn.metadata.serial", index, ref -> ref.get().getSerialNumber())
+                .description("Serial number of the loaded FIDO metadata blob")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return blobPath != null;
+    }
+
+    public MetadataIndex currentIndex() {
+        return index.get();
+    }
+
+    @Override
+    public Set<TrustAnchor> find(AAGUID aaguid) {
+        return index.get().find(aaguid).map(MetadataEntry::getTrustAnchors).orElse(Set.of());
+    }
+
+    @Override
+    public Set<TrustAnchor> find(byte[] attestationCertificateKeyIdentifier) {
+        return index.get().findByKeyIdentifier(HexUtil.encodeToString(attestationCertificateKeyIdentifier).toLowerCase(Locale.ROOT))
+                .map(MetadataEntry::getTrustAnchors)
+                .orElse(Set.of());
+    }
+
+    @Scheduled(fixedDelayString = "${webauthn.metadataReloadIntervalMs:60000}")
+    public void reloadIfChanged() {
+        if (blobPath == null) {
+            return;
+        }
+        try {
+            FileVersion version = FileVersion.of(blobPath);
+            if (version.equals(loadedVersion)) {
+                return;
+            }
+            MetadataIndex candidate = parser.parse(Files.readAllBytes(blobPath));
+            MetadataIndex current = index.get();
+            if (current != MetadataIndex.EMPTY && candidate.getSerialNumber() <= current.getSerialNumber()) {
+                log.warn("Ignoring FIDO metadata blob {} with serial {}: not newer than loaded serial {}",
+                        blobPath, candidate.getSerialNumber(), current.getSerialNumber());
+            } else {
+                index.set(candidate);
+                log.info("Loaded FIDO metadata blob {} (serial {}, {} entries, next update {})",
+                        blobPath, candidate.getSerialNumber(), candidate.size(), candidate.getNextUpdate());
+            }
+            loadedVersion = version;
+            if (candidate.getNextUpdate() != null && candidate.getNextUpdate().isBefore(LocalDate.now())) {
+                log.warn("FIDO metadata blob {} is past its nextUpdate ({}); provision a fresh blob.", blobPath, candidate.getNextUpdate());
+            }
+        } catch (IOException | MetadataBlobException e) {
+            // Keep serving the last good index.
+            log.error("Failed to load FIDO metadata blob {}: {}", blobPath, e.getMessage());
+        }
+    }
+
+    private static X509Certificate readRootCertificate(Path path) {
+        try (InputStream in = Files.newInputStream(path)) {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(in);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot read FIDO metadata root certificate " + path, e);
+        }
+    }
+
+    private record FileVersion(long lastModifiedMillis, long size) {
+        static FileVersion of(Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileVersion(attributes.lastModifiedTime().toMillis(), attributes.size());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.maut.core.modules.authenticator.metadata;
+
+/**
+ * Thrown when a FIDO metadata blob cannot be parsed or fails verification.
+ */
+public class MetadataBlobException extends RuntimeException {
+
+    public MetadataBlobException(String message) {
+        super(message);
+    }
+
+    public MetadataBlobException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
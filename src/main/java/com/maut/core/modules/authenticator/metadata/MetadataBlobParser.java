@@ -0,0 +1,153 @@
+package com.maut.core.modules.authenticator.metadata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.security.cert.CertPath;
+import java.security.cert.CertPathValidator;
+import java.security.cert.CertificateFactory;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parses and verifies a FIDO Metadata Service (MDS3) blob: a compact JWS whose {@code x5c} header
+ * chains to the configured MDS root certificate and whose payload lists metadata entries.
+ * <p>
+ * Revocation of the blob signing chain is not checked here; the blob is provisioned out of band by
+ * operators who fetch it from the MDS endpoint over TLS.
+ */
+@Slf4j
+public class MetadataBlobParser {
+
+    private final ObjectMapper objectMapper;
+    private final X509Certificate rootCertificate;
+
+    public MetadataBlobParser(ObjectMapper objectMapper, X509Certificate rootCertificate) {
+        this.objectMapper = objectMapper;
+        this.rootCertificate = rootCertificate;
+    }
+
+    /**
+     * @throws MetadataBlobException if the blob is malformed, its signature is invalid or its chain does not lead to the root
+     */
+    public MetadataIndex parse(byte[] blob) {
+        String[] parts = new String(blob, StandardCharsets.US_ASCII).trim().split("\\.");
+        if (parts.length != 3) {
+            throw new MetadataBlobException("Metadata blob is not a compact JWS");
+        }
+        try {
+            Base64.Decoder base64Url = Base64.getUrlDecoder();
+            JsonNode header = objectMapper.readTree(base64Url.decode(parts[0]));
+            List<X509Certificate> chain = readChain(header.path("x5c"));
+            verifyChain(chain);
+            verifySignature(header.path("alg").asText(), chain.get(0),
+                    (parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII), base64Url.decode(parts[2]));
+            return buildIndex(objectMapper.readTree(base64Url.decode(parts[1])));
+        } catch (MetadataBlobException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MetadataBlobException("Metadata blob could not be verified: " + e.getMessage(), e);
+        }
+    }
+
+    private List<X509Certificate> readChain(JsonNode x5c) throws GeneralSecurityException {
+        if (!x5c.isArray() || x5c.isEmpty()) {
+            throw new MetadataBlobException("Metadata blob header has no x5c certificate chain");
+        }
+        List<X509Certificate> chain = new ArrayList<>();
+        for (JsonNode cert : x5c) {
+            chain.add(decodeCertificate(cert.asText()));
+        }
+        return chain;
+    }
+
+    private void verifyChain(List<X509Certificate> chain) throws GeneralSecurityException {
+        List<X509Certificate> path = new ArrayList<>(chain);
+        path.removeIf(rootCertificate::equals); // The root is the trust anchor, not part of the path
+        CertPath certPath = CertificateFactory.getInstance("X.509").generateCertPath(path);
+        PKIXParameters parameters = new PKIXParameters(Set.of(new TrustAnchor(rootCertificate, null)));
+        parameters.setRevocationEnabled(false);
+        CertPathValidator.getInstance("PKIX").validate(certPath, parameters);
+    }
+
+    private void verifySignature(String alg, X509Certificate signer, byte[] signingInput, byte[] signature) throws GeneralSecurityException {
+        String jcaAlgorithm;
+        switch (alg) {
+            case "RS256": jcaAlgorithm = "SHA256withRSA"; break;
+            case "ES256": jcaAlgorithm = "SHA256withECDSAinP1363Format"; break; // JWS uses raw R||S, not DER
+            case "ES384": jcaAlgorithm = "SHA384withECDSAinP1363Format"; break;
+            default: throw new MetadataBlobException("Unsupported metadata blob signature algorithm: " + alg);
+        }
+        Signature verifier = Signature.getInstance(jcaAlgorithm);
+        verifier.initVerify(signer);
+        verifier.update(signingInput);
+        if (!verifier.verify(signature)) {
+            throw new MetadataBlobException("Metadata blob signature is invalid");
+        }
+    }
+
+    private MetadataIndex buildIndex(JsonNode payload) {
+        Map<AAGUID, MetadataEntry> byAaguid = new HashMap<>();
+        Map<String, MetadataEntry> byKeyIdentifier = new HashMap<>();
+        int skipped = 0;
+
+        for (JsonNode entryNode : payload.path("entries")) {
+            try {
+                MetadataEntry entry = toEntry(entryNode);
+                if (entryNode.hasNonNull("aaguid")) {
+                    byAaguid.put(new AAGUID(entryNode.get("aaguid").asText()), entry);
+                }
+                for (JsonNode keyId : entryNode.path("attestationCertificateKeyIdentifiers")) {
+                    byKeyIdentifier.put(keyId.asText().toLowerCase(Locale.ROOT), entry);
+                }
+            } catch (RuntimeException | GeneralSecurityException e) {
+                // One bad entry must not invalidate the other few thousand.
+                skipped++;
+                log.debug("Skipping unparseable metadata entry: {}", e.getMessage());
+            }
+        }
+        if (skipped > 0) {
+            log.warn("Skipped {} unparseable metadata entries", skipped);
+        }
+
+        LocalDate nextUpdate = payload.hasNonNull("nextUpdate") ? LocalDate.parse(payload.get("nextUpdate").asText()) : null;
+        return new MetadataIndex(payload.path("no").asLong(), nextUpdate, byAaguid, byKeyIdentifier);
+    }
+
+    private MetadataEntry toEntry(JsonNode entryNode) throws GeneralSecurityException {
+        JsonNode statement = entryNode.path("metadataStatement");
+        Set<TrustAnchor> anchors = new HashSet<>();
+        for (JsonNode rootCert : statement.path("attestationRootCertificates")) {
+            anchors.add(new TrustAnchor(decodeCertificate(rootCert.asText()), null));
+        }
+
+        // statusReports are ordered oldest first; the last one is authoritative.
+        String status = null;
+        JsonNode reports = entryNode.path("statusReports");
+        if (reports.isArray() && !reports.isEmpty()) {
+            status = reports.get(reports.size() - 1).path("status").asText(null);
+        }
+        return new MetadataEntry(statement.path("description").asText(null), Set.copyOf(anchors), status);
+    }
+
+    static X509Certificate decodeCertificate(String base64Der) throws GeneralSecurityException {
+        byte[] der = Base64.getMimeDecoder().decode(base64Der);
+        return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(der));
+    }
+}
@@ -0,0 +1,32 @@
+package com.maut.core.modules.authenticator.metadata;
+
+import lombok.Value;
+
+import java.security.cert.TrustAnchor;
+import java.util.Set;
+
+/**
+ * What the FIDO metadata blob says about one authenticator model: its attestation trust anchors
+ * and its latest status report.
+ */
+@Value
+public class MetadataEntry {
+
+    /**
+     * Status reports that mean attestations from this model must no longer be trusted.
+     */
+    private static final Set<String> UNTRUSTED_STATUSES = Set.of(
+            "REVOKED",
+            "USER_VERIFICATION_BYPASS",
+            "ATTESTATION_KEY_COMPROMISE",
+            "USER_KEY_REMOTE_COMPROMISE",
+            "USER_KEY_PHYSICAL_COMPROMISE");
+
+    String description;
+    Set<TrustAnchor> trustAnchors;
+    String status; // Latest statusReports[].status, e.g. FIDO_CERTIFIED_L1 or REVOKED
+
+    public boolean isUntrusted() {
+        return status != null && UNTRUSTED_STATUSES.contains(status);
+    }
+}
@@ -0,0 +1,44 @@
+package com.maut.core.modules.authenticator.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable lookup structure built once from a verified metadata blob. Entries are indexed by AAGUID
+ * (FIDO2 authenticators) and by hex-encoded attestation certificate key identifier (FIDO U2F), so every
+ * attestation check is a hash lookup. A new blob produces a new index that replaces this one wholesale.
+ */
+@Getter
+public final class MetadataIndex {
+
+    public static final MetadataIndex EMPTY = new MetadataIndex(0, null, Map.of(), Map.of());
+
+    private final long serialNumber; // The blob's "no" field; strictly increasing between MDS releases
+    private final LocalDate nextUpdate;
+    private final Map<AAGUID, MetadataEntry> byAaguid;
+    private final Map<String, MetadataEntry> byKeyIdentifier;
+
+    public MetadataIndex(long serialNumber, LocalDate nextUpdate,
+                         Map<AAGUID, MetadataEntry> byAaguid, Map<String, MetadataEntry> byKeyIdentifier) {
+        this.serialNumber = serialNumber;
+        this.nextUpdate = nextUpdate;
+        this.byAaguid = Map.copyOf(byAaguid);
+        this.byKeyIdentifier = Map.copyOf(byKeyIdentifier);
+    }
+
+    public Optional<MetadataEntry> find(AAGUID aaguid) {
+        return Optional.ofNullable(byAaguid.get(aaguid));
+    }
+
+    public Optional<MetadataEntry> findByKeyIdentifier(String hexKeyIdentifier) {
+        return Optional.ofNullable(byKeyIdentifier.get(hexKeyIdentifier));
+    }
+
+    public int size() {
+        return byAaguid.size() + byKeyIdentifier.size();
+    }
+}
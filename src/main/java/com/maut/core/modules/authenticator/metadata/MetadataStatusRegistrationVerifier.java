@@ -0,0 +1,34 @@
+package com.maut.core.modules.authenticator.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.verifier.CustomRegistrationVerifier;
+import com.webauthn4j.verifier.RegistrationObject;
+import com.webauthn4j.verifier.exception.BadAaguidException;
+
+/**
+ * Rejects registrations from authenticator models the metadata marks as compromised or revoked, even when
+ * the client sent no attestation certificate (e.g. {@code none} attestation) and no path validation runs.
+ */
+public class MetadataStatusRegistrationVerifier implements CustomRegistrationVerifier {
+
+    private final FidoMetadataService metadataService;
+
+    public MetadataStatusRegistrationVerifier(FidoMetadataService metadataService) {
+        this.metadataService = metadataService;
+    }
+
+    @Override
+    public void verify(RegistrationObject registrationObject) {
+        AttestedCredentialData credentialData = registrationObject.getAttestationObject().getAuthenticatorData().getAttestedCredentialData();
+        if (credentialData == null || AAGUID.ZERO.equals(credentialData.getAaguid())) {
+            return;
+        }
+        metadataService.currentIndex().find(credentialData.getAaguid())
+                .filter(MetadataEntry::isUntrusted)
+                .ifPresent(entry -> {
+                    throw new BadAaguidException("Authenticator model " + credentialData.getAaguid()
+                            + " is not trusted (metadata status " + entry.getStatus() + ")");
+                });
+    }
+}
@@ -13,7 +13,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "maut_user_webauthn_credentials", indexes = {
-        @Index(name = "idx_maut_user_webauthn_maut_user_id", columnList = "maut_user_id"),
+        @Index(name = "idx_maut_user_webauthn_user_created_id", columnList = "maut_user_id, created_at, id"),
         @Index(name = "idx_maut_user_webauthn_external_id", columnList = "external_id", unique = true)
 })
 @Data
@@ -1,5 +1,6 @@
 package com.maut.core.modules.authenticator.model;
 
+import com.maut.core.modules.authenticator.challenge.ChallengeCeremony;
 import com.maut.core.modules.user.model.MautUser;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -36,14 +37,24 @@ public class WebauthnRegistrationChallenge {
     @Column(name = "expires_at", nullable = false)
     private OffsetDateTime expiresAt;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChallengeCeremony ceremony = ChallengeCeremony.REGISTRATION;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
     public WebauthnRegistrationChallenge(MautUser mautUser, String challenge, String relyingPartyId, OffsetDateTime expiresAt) {
+        this(mautUser, challenge, relyingPartyId, expiresAt, ChallengeCeremony.REGISTRATION);
+    }
+
+    public WebauthnRegistrationChallenge(MautUser mautUser, String challenge, String relyingPartyId, OffsetDateTime expiresAt,
+                                         ChallengeCeremony ceremony) {
         this.mautUser = mautUser;
         this.challenge = challenge;
         this.relyingPartyId = relyingPartyId;
         this.expiresAt = expiresAt;
+        this.ceremony = ceremony;
     }
 }
@@ -0,0 +1,27 @@
+package com.maut.core.modules.authenticator.repository;
+
+import java.time.Instant;
+
+/**
+ * Read-only projection of one passkey row for listings, backed by a native query over
+ * {@code maut_user_webauthn_credentials} and {@code user_authenticators}; no entities are hydrated.
+ */
+public interface PasskeyListingView {
+
+    String getId(); // UUID as text
+
+    /**
+     * {@code WEBAUTHN} for credentials registered through the vanilla flow, {@code TURNKEY} otherwise.
+     */
+    String getSource();
+
+    String getName();
+
+    String getCredentialId();
+
+    Instant getCreatedAt();
+
+    Instant getLastUsedAt();
+
+    boolean getEnabled();
+}
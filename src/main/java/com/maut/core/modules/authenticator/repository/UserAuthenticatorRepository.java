@@ -6,6 +6,8 @@ import com.maut.core.modules.authenticator.model.AuthenticatorType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -44,4 +46,53 @@ public interface UserAuthenticatorRepository extends JpaRepository<UserAuthentic
      */
     Optional<UserAuthenticator> findByTurnkeyAuthenticatorId(String turnkeyAuthenticatorId);
 
+    // Passkey listing: each branch is an index range scan on (maut_user_id, created_at, id) that stops after
+    // :limit rows; the outer ORDER BY merges the two short lists. user_authenticators.created_at is stored
+    // as UTC without time zone, hence the AT TIME ZONE conversions.
+    String PASSKEY_LISTING_SELECT_WEBAUTHN =
+            "SELECT CAST(c.id AS text) AS id, 'WEBAUTHN' AS source, c.friendly_name AS name, c.external_id AS credential_id, " +
+            "       c.created_at AS created_at, c.last_used_at AS last_used_at, TRUE AS enabled " +
+            "FROM maut_user_webauthn_credentials c WHERE c.maut_user_id = :mautUserId ";
+    String PASSKEY_LISTING_SELECT_TURNKEY =
+            "SELECT CAST(ua.id AS text) AS id, 'TURNKEY' AS source, ua.authenticator_name AS name, ua.external_authenticator_id AS credential_id, " +
+            "       ua.created_at AT TIME ZONE 'UTC' AS created_at, ua.last_used_at AS last_used_at, ua.enabled AS enabled " +
+            "FROM user_authenticators ua WHERE ua.maut_user_id = :mautUserId AND ua.authenticator_type = 'PASSKEY' ";
+    String PASSKEY_LISTING_ORDER = "ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    /**
+     * First page of the user's passkeys (vanilla WebAuthn credentials and Turnkey passkeys), newest first.
+     */
+    @Query(value = "SELECT * FROM (" +
+                   "(" + PASSKEY_LISTING_SELECT_WEBAUTHN + "ORDER BY c.created_at DESC, c.id DESC LIMIT :limit) " +
+                   "UNION ALL " +
+                   "(" + PASSKEY_LISTING_SELECT_TURNKEY + "ORDER BY ua.created_at DESC, ua.id DESC LIMIT :limit)" +
+                   ") passkeys " + PASSKEY_LISTING_ORDER,
+           nativeQuery = true)
+    List<PasskeyListingView> findPasskeyListingFirstPage(@Param("mautUserId") UUID mautUserId, @Param("limit") int limit);
+
+    /**
+     * Page of the user's passkeys strictly after the keyset cursor (created_at, id), newest first.
+     *
+     * @param cursorCreatedAt ISO-8601 instant of the last row of the previous page
+     * @param cursorId        id of the last row of the previous page
+     */
+    @Query(value = "SELECT * FROM (" +
+                   "(" + PASSKEY_LISTING_SELECT_WEBAUTHN +
+                   "  AND (c.created_at, c.id) < (CAST(:cursorCreatedAt AS timestamptz), CAST(:cursorId AS uuid)) " +
+                   "  ORDER BY c.created_at DESC, c.id DESC LIMIT :limit) " +
+                   "UNION ALL " +
+                   "(" + PASSKEY_LISTING_SELECT_TURNKEY +
+                   "  AND (ua.created_at, ua.id) < (CAST(:cursorCreatedAt AS timestamptz) AT TIME ZONE 'UTC', CAST(:cursorId AS uuid)) " +
+                   "  ORDER BY ua.created_at DESC, ua.id DESC LIMIT :limit)" +
+                   ") passkeys " + PASSKEY_LISTING_ORDER,
+           nativeQuery = true)
+    List<PasskeyListingView> findPasskeyListingAfter(@Param("mautUserId") UUID mautUserId,
+                                                     @Param("cursorCreatedAt") String cursorCreatedAt,
+                                                     @Param("cursorId") String cursorId,
+                                                     @Param("limit") int limit);
+
+    @Query(value = "SELECT (SELECT COUNT(*) FROM maut_user_webauthn_credentials WHERE maut_user_id = :mautUserId) + " +
+                   "       (SELECT COUNT(*) FROM user_authenticators WHERE maut_user_id = :mautUserId AND authenticator_type = 'PASSKEY')",
+           nativeQuery = true)
+    long countPasskeys(@Param("mautUserId") UUID mautUserId);
 }
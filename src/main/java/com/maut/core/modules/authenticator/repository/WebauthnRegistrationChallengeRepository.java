@@ -1,8 +1,13 @@
 package com.maut.core.modules.authenticator.repository;
 
+import com.maut.core.common.retention.TtlRetention;
+import com.maut.core.modules.authenticator.challenge.ChallengeCeremony;
 import com.maut.core.modules.authenticator.model.WebauthnRegistrationChallenge;
 import com.maut.core.modules.user.model.MautUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
@@ -10,6 +15,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
+@TtlRetention(table = "webauthn_registration_challenges", timestampColumn = "expires_at",
+        ttl = "${retention.ttl.webauthnChallenges:PT1H}")
 public interface WebauthnRegistrationChallengeRepository extends JpaRepository<WebauthnRegistrationChallenge, UUID> {
 
     Optional<WebauthnRegistrationChallenge> findByChallenge(String challenge);
@@ -17,7 +24,17 @@ public interface WebauthnRegistrationChallengeRepository extends JpaRepository<W
     Optional<WebauthnRegistrationChallenge> findByMautUserAndChallengeAndExpiresAtAfter(
             MautUser mautUser, String challenge, OffsetDateTime currentTime);
 
+    Optional<WebauthnRegistrationChallenge> findByMautUserIdAndChallengeAndCeremonyAndExpiresAtAfter(
+            UUID mautUserId, String challenge, ChallengeCeremony ceremony, OffsetDateTime currentTime);
+
     void deleteAllByExpiresAtBefore(OffsetDateTime expiryTime);
-    
+
+    /**
+     * Deletes a challenge by id in a single statement; a result of 1 means this caller consumed it.
+     */
+    @Modifying
+    @Query("DELETE FROM WebauthnRegistrationChallenge c WHERE c.id = :id")
+    int deleteByIdReturningCount(@Param("id") UUID id);
+
     void deleteByChallenge(String challenge);
 }
@@ -10,9 +10,13 @@ import com.maut.core.modules.authenticator.dto.webauthn.InitiatePasskeyRegistrat
 import com.maut.core.modules.authenticator.dto.webauthn.PublicKeyCredentialCreationOptionsDto;
 import com.maut.core.modules.authenticator.dto.webauthn.CompletePasskeyRegistrationServerRequestDto;
 import com.maut.core.modules.authenticator.dto.webauthn.PasskeyRegistrationResultDto;
+import com.maut.core.modules.authenticator.dto.webauthn.CompletePasskeyAuthenticationServerRequestDto;
+import com.maut.core.modules.authenticator.dto.webauthn.PasskeyAuthenticationResultDto;
+import com.maut.core.modules.authenticator.dto.webauthn.PublicKeyCredentialRequestOptionsDto;
 import com.maut.core.modules.user.model.MautUser;
 import com.maut.core.modules.user.dto.AuthenticatorDetailResponseDto;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface AuthenticatorService {
 
@@ -41,15 +45,24 @@ public interface AuthenticatorService {
     CompletePasskeyRegistrationResponse completePasskeyRegistration(MautUser mautUser, CompletePasskeyRegistrationRequest request);
 
     /**
-     * Lists passkeys registered by the authenticated user, with pagination.
+     * Non-blocking variant of {@link #completePasskeyRegistration}: the request is validated on the calling
+     * thread, and the returned future completes once Turnkey has finalized the registration.
+     */
+    CompletableFuture<CompletePasskeyRegistrationResponse> completePasskeyRegistrationAsync(MautUser mautUser, CompletePasskeyRegistrationRequest request);
+
+    /**
+     * Lists passkeys registered by the authenticated user (vanilla WebAuthn credentials and Turnkey passkeys),
+     * newest first, with keyset pagination.
      *
      * @param mautUser The MautUser for whom to list passkeys. Must not be null.
      * @param limit The maximum number of passkeys to return.
-     * @param offset The number of passkeys to skip (for pagination).
-     * @return ListPasskeysResponse containing the list of passkeys and pagination details.
+     * @param cursor The {@code nextCursor} of the previous page, or null for the first page.
+     * @param includeTotal Whether to also count all of the user's passkeys (an extra query).
+     * @return ListPasskeysResponse containing the page of passkeys and the cursor for the next page.
      * @throws IllegalArgumentException if mautUser is null.
+     * @throws com.maut.core.common.exception.InvalidRequestException if the cursor is malformed.
      */
-    ListPasskeysResponse listPasskeys(MautUser mautUser, int limit, int offset);
+    ListPasskeysResponse listPasskeys(MautUser mautUser, int limit, String cursor, boolean includeTotal);
 
     /**
      * Deletes a specific passkey for the authenticated user.
@@ -65,7 +78,8 @@ public interface AuthenticatorService {
     /**
      * Verifies a passkey assertion for the given MautUser.
      * This is typically used during a login flow to authenticate a user with a registered passkey.
-     * Involves verifying the assertion data with Turnkey.
+     * Credentials registered through the vanilla flow are verified locally against their stored public key;
+     * all others are verified with Turnkey.
      *
      * @param mautUser The MautUser attempting to authenticate. May be null if user is not yet identified (e.g., during initial login).
      * @param request The request containing the passkey credential ID and Turnkey assertion data.
@@ -112,6 +126,33 @@ public interface AuthenticatorService {
             CompletePasskeyRegistrationServerRequestDto requestDto
     );
 
+    // --- Vanilla WebAuthn Passkey Authentication Methods (without Turnkey) ---
+
+    /**
+     * Initiates a "vanilla" WebAuthn authentication ceremony for the given MautUser, issuing a one-time
+     * challenge and PublicKeyCredentialRequestOptions listing the user's vanilla passkeys.
+     * This method does NOT involve Turnkey.
+     *
+     * @param mautUser The MautUser who is authenticating. Must not be null.
+     * @return PublicKeyCredentialRequestOptionsDto to be sent to the client to trigger navigator.credentials.get().
+     * @throws com.maut.core.common.exception.InvalidRequestException if the user has no vanilla passkeys.
+     */
+    PublicKeyCredentialRequestOptionsDto initiateVanillaPasskeyAuthentication(MautUser mautUser);
+
+    /**
+     * Completes a "vanilla" WebAuthn authentication ceremony by verifying the assertion against the
+     * stored public key of the credential and advancing its signature counter.
+     * This method does NOT involve Turnkey.
+     *
+     * @param mautUser The MautUser who is authenticating. Must not be null.
+     * @param requestDto The DTO containing the client's assertion response (PublicKeyCredential).
+     * @return PasskeyAuthenticationResultDto indicating the outcome of the verification.
+     */
+    PasskeyAuthenticationResultDto completeVanillaPasskeyAuthentication(
+            MautUser mautUser,
+            CompletePasskeyAuthenticationServerRequestDto requestDto
+    );
+
     /**
      * Lists WebAuthn credentials (passkeys registered directly, not via Turnkey) for a given MautUser.
      *
@@ -18,14 +18,23 @@ import com.maut.core.modules.authenticator.dto.webauthn.InitiatePasskeyRegistrat
 import com.maut.core.modules.authenticator.dto.webauthn.PasskeyRegistrationResultDto;
 import com.maut.core.modules.authenticator.dto.webauthn.PublicKeyCredentialCreationOptionsDto;
 import com.maut.core.modules.authenticator.dto.webauthn.CompletePasskeyRegistrationServerRequestDto;
+import com.maut.core.modules.authenticator.dto.webauthn.CompletePasskeyAuthenticationServerRequestDto;
+import com.maut.core.modules.authenticator.dto.webauthn.PasskeyAuthenticationResultDto;
+import com.maut.core.modules.authenticator.dto.webauthn.PublicKeyCredentialRequestOptionsDto;
 import com.maut.core.modules.authenticator.model.AuthenticatorType;
 import com.maut.core.modules.authenticator.model.UserAuthenticator;
-import com.maut.core.modules.authenticator.model.WebauthnRegistrationChallenge;
+import com.maut.core.modules.authenticator.repository.PasskeyListingView;
 import com.maut.core.modules.authenticator.repository.UserAuthenticatorRepository;
-import com.maut.core.modules.authenticator.repository.WebauthnRegistrationChallengeRepository;
+import com.maut.core.modules.authenticator.challenge.ChallengeStore;
+import com.maut.core.modules.authenticator.challenge.StoredChallenge;
+import com.maut.core.modules.authenticator.challenge.ChallengeCeremony;
+import com.maut.core.modules.authenticator.credential.CredentialPublicKeyCache;
+import com.maut.core.modules.authenticator.credential.CredentialUsageBuffer;
+import com.maut.core.modules.mirror.model.MirroredAuthenticator;
+import com.maut.core.modules.mirror.service.TurnkeyMirrorReader;
 import com.maut.core.modules.user.model.MautUser;
-import com.maut.core.modules.wallet.model.UserWallet;
-import com.maut.core.modules.wallet.repository.UserWalletRepository;
+import com.maut.core.modules.wallet.service.WalletBinding;
+import com.maut.core.modules.wallet.service.WalletBindingResolver;
 import com.maut.core.integration.turnkey.TurnkeyClient;
 import com.maut.core.integration.turnkey.dto.TurnkeyFinalizePasskeyRegistrationRequest;
 import com.maut.core.integration.turnkey.dto.TurnkeyFinalizePasskeyRegistrationResponse;
@@ -35,6 +44,7 @@ import com.maut.core.integration.turnkey.dto.TurnkeyVerifyAssertionRequest;
 import com.maut.core.integration.turnkey.dto.TurnkeyVerifyAssertionResponse;
 import com.maut.core.integration.turnkey.exception.TurnkeyOperationException;
 import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.authenticator.AuthenticatorImpl;
 import com.webauthn4j.data.*;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
@@ -42,6 +52,7 @@ import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.attestation.authenticator.COSEKey;
 import com.webauthn4j.data.attestation.statement.AttestationStatement;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.attestation.statement.NoneAttestationStatement;
 import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
@@ -52,6 +63,7 @@ import com.webauthn4j.util.Base64UrlUtil;
 
 import com.webauthn4j.verifier.exception.VerificationException;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -61,6 +73,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import com.maut.core.modules.authenticator.model.MautUserWebauthnCredential;
@@ -77,16 +92,20 @@ import com.maut.core.modules.user.dto.AuthenticatorDetailResponseDto;
 public class AuthenticatorServiceImpl implements AuthenticatorService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthenticatorServiceImpl.class);
+    private static final int MAX_PASSKEY_PAGE_SIZE = 100;
 
     private final UserAuthenticatorRepository userAuthenticatorRepository;
-    private final UserWalletRepository userWalletRepository;
+    private final WalletBindingResolver walletBindingResolver;
     private final WebAuthnManager webAuthnManager;
     private final ObjectConverter objectConverter;
     private final ObjectMapper objectMapper;
     private final MautUserWebauthnCredentialRepository credentialRepository;
     private final TurnkeyClient turnkeyClient;
     private final ApplicationConfig applicationConfig;
-    private final WebauthnRegistrationChallengeRepository challengeRepository;
+    private final ChallengeStore challengeStore;
+    private final CredentialPublicKeyCache credentialPublicKeyCache;
+    private final CredentialUsageBuffer credentialUsageBuffer;
+    private final TurnkeyMirrorReader turnkeyMirrorReader;
 
     @Override
     public InitiatePasskeyRegistrationResponse initiatePasskeyRegistration(MautUser mautUser) {
@@ -96,16 +115,15 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
         }
         log.info("Initiating passkey registration for MautUser ID: {}", mautUser.getId());
 
-        UserWallet userWallet = userWalletRepository.findByMautUser(mautUser)
-            .stream().findFirst()
+        WalletBinding walletBinding = walletBindingResolver.find(mautUser)
             .orElseThrow(() -> {
                 log.warn("No UserWallet found for MautUser ID: {}. Cannot initiate passkey registration.", mautUser.getId());
                 return new ResourceNotFoundException("User wallet not found, cannot initiate passkey registration.");
             });
 
-        String turnkeySubOrganizationId = userWallet.getTurnkeySubOrganizationId();
-        if (turnkeySubOrganizationId == null || turnkeySubOrganizationId.isBlank()) {
-            log.error("UserWallet ID: {} for MautUser ID: {} has no Turnkey Sub-Organization ID.", userWallet.getId(), mautUser.getId());
+        String turnkeySubOrganizationId = walletBinding.getTurnkeySubOrganizationId();
+        if (!walletBinding.hasTurnkeySubOrganization()) {
+            log.error("UserWallet ID: {} for MautUser ID: {} has no Turnkey Sub-Organization ID.", walletBinding.getWalletId(), mautUser.getId());
             throw new IllegalStateException("User wallet is missing Turnkey Sub-Organization ID.");
         }
 
@@ -142,6 +160,33 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
 
     @Override
     public CompletePasskeyRegistrationResponse completePasskeyRegistration(MautUser mautUser, CompletePasskeyRegistrationRequest request) {
+        PendingPasskeyRegistration pending = preparePasskeyRegistration(mautUser, request);
+
+        TurnkeyFinalizePasskeyRegistrationResponse turnkeyResponse;
+        try {
+            turnkeyResponse = turnkeyClient.finalizePasskeyRegistration(pending.getTurnkeyRequest());
+        } catch (Exception e) {
+            throw finalizationFailed(mautUser, e);
+        }
+        return recordPasskeyRegistration(mautUser, request, pending, turnkeyResponse);
+    }
+
+    @Override
+    public CompletableFuture<CompletePasskeyRegistrationResponse> completePasskeyRegistrationAsync(MautUser mautUser, CompletePasskeyRegistrationRequest request) {
+        // Validation and the wallet lookup stay on the request thread so bad requests fail before anything is sent.
+        PendingPasskeyRegistration pending = preparePasskeyRegistration(mautUser, request);
+        // The placeholder client completes inline, so recording runs on the request thread. Once the real Turnkey
+        // call completes on a transport thread, move this onto the application executor with handleAsync.
+        return turnkeyClient.finalizePasskeyRegistrationAsync(pending.getTurnkeyRequest())
+                .handle((turnkeyResponse, error) -> {
+                    if (error != null) {
+                        throw finalizationFailed(mautUser, error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                    }
+                    return recordPasskeyRegistration(mautUser, request, pending, turnkeyResponse);
+                });
+    }
+
+    private PendingPasskeyRegistration preparePasskeyRegistration(MautUser mautUser, CompletePasskeyRegistrationRequest request) {
         if (mautUser == null) {
             log.error("MautUser cannot be null for completing passkey registration.");
             throw new IllegalArgumentException("Authenticated MautUser is required for completing passkey registration.");
@@ -155,16 +200,15 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
         }
         log.info("Completing passkey registration for MautUser ID: {}", mautUser.getId());
 
-        UserWallet userWallet = userWalletRepository.findByMautUser(mautUser)
-            .stream().findFirst()
+        WalletBinding walletBinding = walletBindingResolver.find(mautUser)
             .orElseThrow(() -> {
                 log.warn("No UserWallet found for MautUser ID: {}. Cannot complete passkey registration.", mautUser.getId());
                 return new ResourceNotFoundException("User wallet not found, cannot complete passkey registration.");
             });
 
-        String turnkeySubOrganizationId = userWallet.getTurnkeySubOrganizationId();
-        if (turnkeySubOrganizationId == null || turnkeySubOrganizationId.isBlank()) {
-            log.error("UserWallet ID: {} for MautUser ID: {} has no Turnkey Sub-Organization ID.", userWallet.getId(), mautUser.getId());
+        String turnkeySubOrganizationId = walletBinding.getTurnkeySubOrganizationId();
+        if (!walletBinding.hasTurnkeySubOrganization()) {
+            log.error("UserWallet ID: {} for MautUser ID: {} has no Turnkey Sub-Organization ID.", walletBinding.getWalletId(), mautUser.getId());
             throw new IllegalStateException("User wallet is missing Turnkey Sub-Organization ID.");
         }
 
@@ -193,15 +237,17 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
                 .clientDataJSON(request.getClientDataJSON())
                 .transports(request.getTransports())
                 .build();
+        return new PendingPasskeyRegistration(turnkeyRequest, externalCredentialId);
+    }
 
-        TurnkeyFinalizePasskeyRegistrationResponse turnkeyResponse;
-        try {
-            turnkeyResponse = turnkeyClient.finalizePasskeyRegistration(turnkeyRequest);
-        } catch (Exception e) {
-            log.error("Turnkey client error during finalizePasskeyRegistration for MautUser ID: {}: {}", mautUser.getId(), e.getMessage(), e);
-            throw new AuthenticationException("Failed to communicate with Turnkey to finalize passkey registration.", e);
-        }
+    private static AuthenticationException finalizationFailed(MautUser mautUser, Throwable e) {
+        log.error("Turnkey client error during finalizePasskeyRegistration for MautUser ID: {}: {}", mautUser.getId(), e.getMessage(), e);
+        return new AuthenticationException("Failed to communicate with Turnkey to finalize passkey registration.", e);
+    }
 
+    private CompletePasskeyRegistrationResponse recordPasskeyRegistration(MautUser mautUser, CompletePasskeyRegistrationRequest request,
+                                                                          PendingPasskeyRegistration pending,
+                                                                          TurnkeyFinalizePasskeyRegistrationResponse turnkeyResponse) {
         if (turnkeyResponse == null || !turnkeyResponse.isSuccess()) {
             String errorMessage = (turnkeyResponse != null && turnkeyResponse.getErrorMessage() != null) ? 
                                   turnkeyResponse.getErrorMessage() : "Unknown error from Turnkey.";
@@ -219,7 +265,7 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
         userAuthenticator.setMautUser(mautUser);
         userAuthenticator.setAuthenticatorType(AuthenticatorType.PASSKEY);
         userAuthenticator.setTurnkeyAuthenticatorId(turnkeyAuthenticatorId);
-        userAuthenticator.setExternalAuthenticatorId(externalCredentialId);
+        userAuthenticator.setExternalAuthenticatorId(pending.getExternalCredentialId());
         userAuthenticator.setAuthenticatorName(request.getAuthenticatorName() != null ? request.getAuthenticatorName() : "Passkey");
         userAuthenticator.setEnabled(true);
 
@@ -234,54 +280,63 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
     }
 
     @Override
-    public ListPasskeysResponse listPasskeys(MautUser mautUser, int limit, int offset) {
+    public ListPasskeysResponse listPasskeys(MautUser mautUser, int limit, String cursor, boolean includeTotal) {
         if (mautUser == null) {
             log.error("MautUser cannot be null for listing passkeys.");
             throw new IllegalArgumentException("Authenticated MautUser is required to list passkeys.");
         }
-        if (limit <= 0) limit = 10; 
-        if (offset < 0) offset = 0;   
+        if (limit <= 0) limit = 10;
+        limit = Math.min(limit, MAX_PASSKEY_PAGE_SIZE);
 
-        log.info("Listing passkeys for MautUser ID: {}, limit: {}, offset: {}", 
-            mautUser.getId(), limit, offset
-        );
+        log.debug("Listing passkeys for MautUser ID: {}, limit: {}, cursor: {}", mautUser.getId(), limit, cursor);
 
-        java.util.List<PasskeyListItem> placeholderPasskeys = new java.util.ArrayList<>();
-        java.time.Instant now = java.time.Instant.now();
-
-        placeholderPasskeys.add(PasskeyListItem.builder()
-            .id(java.util.UUID.randomUUID().toString())
-            .name("MacBook Pro Touch ID")
-            .credentialId("cred_id_" + java.util.UUID.randomUUID().toString().substring(0,12))
-            .createdAt(now.minusSeconds(86400 * 30)) 
-            .lastUsedAt(now.minusSeconds(3600)) 
-            .type("PLATFORM")
-            .enabled(true)
-            .build());
-
-        if (limit > 1) {
-            placeholderPasskeys.add(PasskeyListItem.builder()
-                .id(java.util.UUID.randomUUID().toString())
-                .name("YubiKey 5C")
-                .credentialId("cred_id_" + java.util.UUID.randomUUID().toString().substring(0,12))
-                .createdAt(now.minusSeconds(86400 * 10)) 
-                .lastUsedAt(now.minusSeconds(86400 * 2)) 
-                .type("CROSS_PLATFORM")
-                .enabled(true)
-                .build());
-        }
-        
-        java.util.List<PasskeyListItem> paginatedPasskeys = placeholderPasskeys.stream()
-            .skip(offset)
-            .limit(limit)
-            .collect(java.util.stream.Collectors.toList());
+        // Fetch one extra row to know whether another page exists without counting.
+        List<PasskeyListingView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = userAuthenticatorRepository.findPasskeyListingFirstPage(mautUser.getId(), limit + 1);
+        } else {
+            PasskeyListingCursor after = PasskeyListingCursor.decode(cursor);
+            rows = userAuthenticatorRepository.findPasskeyListingAfter(
+                    mautUser.getId(), after.getCreatedAt().toString(), after.getId().toString(), limit + 1);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<PasskeyListingView> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            PasskeyListingView last = page.get(page.size() - 1);
+            nextCursor = new PasskeyListingCursor(last.getCreatedAt(), UUID.fromString(last.getId())).encode();
+        }
+
+        // Turnkey registration state comes from the local mirror; left null until the sub-organization is mirrored.
+        String subOrganizationId = walletBindingResolver.find(mautUser).map(WalletBinding::getTurnkeySubOrganizationId).orElse(null);
+        Instant syncedAt = subOrganizationId != null ? turnkeyMirrorReader.syncedAt(subOrganizationId).orElse(null) : null;
+        Set<String> mirroredCredentialIds = syncedAt == null ? Set.of()
+                : turnkeyMirrorReader.authenticators(subOrganizationId).stream()
+                        .map(MirroredAuthenticator::getCredentialId)
+                        .collect(Collectors.toSet());
+
+        List<PasskeyListItem> passkeys = page.stream()
+                .map(row -> PasskeyListItem.builder()
+                        .id(row.getId())
+                        .name(row.getName())
+                        .credentialId(row.getCredentialId())
+                        .createdAt(row.getCreatedAt())
+                        .lastUsedAt(row.getLastUsedAt())
+                        .type(AuthenticatorType.PASSKEY.name())
+                        .source(row.getSource())
+                        .enabled(row.getEnabled())
+                        .turnkeyRegistered(syncedAt != null ? mirroredCredentialIds.contains(row.getCredentialId()) : null)
+                        .build())
+                .collect(Collectors.toList());
 
         return ListPasskeysResponse.builder()
-            .passkeys(paginatedPasskeys)
-            .limit(limit)
-            .offset(offset)
-            .totalPasskeys(placeholderPasskeys.size()) 
-            .build();
+                .passkeys(passkeys)
+                .limit(limit)
+                .nextCursor(nextCursor)
+                .totalPasskeys(includeTotal ? userAuthenticatorRepository.countPasskeys(mautUser.getId()) : null)
+                .syncedAt(syncedAt)
+                .build();
     }
 
     @Override
@@ -318,19 +373,24 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
         String credentialId = request.getCredentialId();
         log.info("Attempting to verify passkey assertion for Maut external credential ID: {}", credentialId);
 
+        // Credentials registered through the vanilla flow carry their public key locally; no need to ask Turnkey.
+        Optional<MautUserWebauthnCredential> vanillaCredential = credentialRepository.findByExternalId(credentialId);
+        if (vanillaCredential.isPresent()) {
+            return verifyVanillaPasskeyAssertion(mautUser, vanillaCredential.get(), request.getTurnkeyAssertion());
+        }
+
         UserAuthenticator userAuthenticator = findAndValidateUserAuthenticator(mautUser, credentialId);
         MautUser identifiedUser = userAuthenticator.getMautUser(); 
 
-        UserWallet userWallet = userWalletRepository.findByMautUser(identifiedUser)
-            .stream().findFirst()
+        WalletBinding walletBinding = walletBindingResolver.find(identifiedUser)
             .orElseThrow(() -> {
                 log.error("No UserWallet found for MautUser ID: {}. Cannot verify passkey assertion.", identifiedUser.getId());
                 return new ResourceNotFoundException("User wallet not found, cannot verify passkey assertion.");
             });
 
-        String turnkeySubOrganizationId = userWallet.getTurnkeySubOrganizationId();
-        if (turnkeySubOrganizationId == null || turnkeySubOrganizationId.isBlank()) {
-            log.error("UserWallet ID: {} for MautUser ID: {} has no Turnkey Sub-Organization ID.", userWallet.getId(), identifiedUser.getId());
+        String turnkeySubOrganizationId = walletBinding.getTurnkeySubOrganizationId();
+        if (!walletBinding.hasTurnkeySubOrganization()) {
+            log.error("UserWallet ID: {} for MautUser ID: {} has no Turnkey Sub-Organization ID.", walletBinding.getWalletId(), identifiedUser.getId());
             throw new IllegalStateException("User wallet is missing Turnkey Sub-Organization ID.");
         }
 
@@ -374,9 +434,7 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
 
             log.info("Turnkey assertion verification successful for MautUser ID: {} and external credential ID: {}", identifiedUser.getId(), userAuthenticator.getExternalAuthenticatorId());
 
-            userAuthenticator.setLastUsedAt(Instant.now());
-            userAuthenticatorRepository.save(userAuthenticator);
-            log.info("Updated lastUsedAt for authenticator ID: {}", userAuthenticator.getId());
+            credentialUsageBuffer.recordAuthenticatorUse(userAuthenticator.getId(), Instant.now());
 
             return VerifyPasskeyAssertionResponse.builder()
                     .verified(true)
@@ -483,14 +541,13 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
         String challengeString = Base64UrlUtil.encodeToString(pkcco.getChallenge().getValue());
         OffsetDateTime expiresAt = OffsetDateTime.now().plusSeconds( (pkcco.getTimeout() != null ? pkcco.getTimeout() : 60000L) / 1000 );
 
-        WebauthnRegistrationChallenge registrationChallenge = new WebauthnRegistrationChallenge(
-                mautUser,
-                challengeString,
-                rpId,
-                expiresAt
-        );
-        challengeRepository.save(registrationChallenge);
-        log.info("Stored WebAuthn registration challenge ID {} for MautUser ID {}. Expires at: {}", registrationChallenge.getId(), mautUser.getId(), expiresAt);
+        challengeStore.save(StoredChallenge.builder()
+                .mautUserId(mautUser.getId())
+                .challenge(challengeString)
+                .relyingPartyId(rpId)
+                .expiresAt(expiresAt.toInstant())
+                .build());
+        log.info("Stored WebAuthn registration challenge for MautUser ID {}. Expires at: {}", mautUser.getId(), expiresAt);
 
         return mapWebAuthn4JOptionsToDto(pkcco);
     }
@@ -526,15 +583,16 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
             
             final String challengeBase64 = Base64UrlUtil.encodeToString(clientData.getChallenge().getValue());
             
-            final Optional<WebauthnRegistrationChallenge> challengeOpt = challengeRepository
-                .findByMautUserAndChallengeAndExpiresAtAfter(mautUser, challengeBase64, OffsetDateTime.now());
-                
+            // Consuming is atomic and one-time: a replayed or concurrent completion cannot reuse the challenge,
+            // even if the verification below fails.
+            final Optional<StoredChallenge> challengeOpt = challengeStore.consume(mautUser.getId(), challengeBase64, ChallengeCeremony.REGISTRATION);
+
             if (challengeOpt.isEmpty()) {
                 logger.warn("Valid challenge not found for MautUser: {} with challenge: {}", mautUser.getId(), challengeBase64);
                 return PasskeyRegistrationResultDto.builder().success(false).message("Challenge not found, expired, or mismatch.").build();
             }
             
-            final WebauthnRegistrationChallenge storedChallenge = challengeOpt.get();
+            final StoredChallenge storedChallenge = challengeOpt.get();
 
             final ApplicationConfig.WebAuthnConfig rpConfig = applicationConfig.getWebauthn();
             final Set<Origin> origins = rpConfig.getRelyingPartyOrigins().stream()
@@ -628,9 +686,6 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
             credentialRepository.save(newCredential);
             logger.info("New WebAuthn credential {} stored for MautUser: {}", credentialIdString, mautUser.getId());
 
-            challengeRepository.delete(storedChallenge);
-            logger.debug("Used challenge {} deleted for MautUser: {}", storedChallenge.getId(), mautUser.getId());
-
             return PasskeyRegistrationResultDto.builder()
                     .success(true)
                     .credentialId(credentialIdString)
@@ -645,6 +700,180 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
         }
     }
 
+    @Override
+    public PublicKeyCredentialRequestOptionsDto initiateVanillaPasskeyAuthentication(MautUser mautUser) {
+        if (mautUser == null || mautUser.getId() == null) {
+            log.error("MautUser and MautUser.id cannot be null for initiating passkey authentication.");
+            throw new InvalidRequestException("Authenticated MautUser with a valid ID is required.");
+        }
+        log.info("Initiating VANILLA passkey authentication for MautUser ID: {}", mautUser.getId());
+
+        ApplicationConfig.WebAuthnConfig webAuthnConfig = applicationConfig.getWebauthn();
+        if (webAuthnConfig == null || webAuthnConfig.getRelyingPartyId() == null) {
+            log.error("WebAuthn Relying Party configuration is missing or incomplete.");
+            throw new RuntimeException("Server configuration error for WebAuthn.");
+        }
+
+        List<MautUserWebauthnCredential> credentials = credentialRepository.findAllByMautUser(mautUser);
+        if (credentials.isEmpty()) {
+            log.warn("MautUser ID {} has no vanilla passkeys; cannot initiate passkey authentication.", mautUser.getId());
+            throw new InvalidRequestException("No passkeys are registered for this user.");
+        }
+
+        Challenge challenge = new DefaultChallenge();
+        String challengeString = Base64UrlUtil.encodeToString(challenge.getValue());
+        long timeoutMs = webAuthnConfig.getAuthenticationTimeoutMs() != null ? webAuthnConfig.getAuthenticationTimeoutMs() : 60000L;
+        Instant expiresAt = Instant.now().plusMillis(timeoutMs);
+
+        challengeStore.save(StoredChallenge.builder()
+                .mautUserId(mautUser.getId())
+                .challenge(challengeString)
+                .relyingPartyId(webAuthnConfig.getRelyingPartyId())
+                .expiresAt(expiresAt)
+                .ceremony(ChallengeCeremony.AUTHENTICATION)
+                .build());
+        log.info("Stored WebAuthn authentication challenge for MautUser ID {}. Expires at: {}", mautUser.getId(), expiresAt);
+
+        List<PublicKeyCredentialRequestOptionsDto.AllowCredentialDto> allowCredentials = credentials.stream()
+                .map(cred -> PublicKeyCredentialRequestOptionsDto.AllowCredentialDto.builder()
+                        .type(PublicKeyCredentialType.PUBLIC_KEY.getValue())
+                        .id(cred.getExternalId())
+                        .transports(cred.getTransports() == null || cred.getTransports().isEmpty() ? null : cred.getTransports())
+                        .build())
+                .collect(Collectors.toList());
+
+        return PublicKeyCredentialRequestOptionsDto.builder()
+                .challenge(challengeString)
+                .timeout(timeoutMs)
+                .rpId(webAuthnConfig.getRelyingPartyId())
+                .allowCredentials(allowCredentials)
+                .userVerification(UserVerificationRequirement.PREFERRED.getValue())
+                .build();
+    }
+
+    @Override
+    public PasskeyAuthenticationResultDto completeVanillaPasskeyAuthentication(
+            MautUser mautUser,
+            CompletePasskeyAuthenticationServerRequestDto requestDto) {
+
+        if (mautUser == null || mautUser.getId() == null) {
+            log.error("MautUser and MautUser.id cannot be null for completing passkey authentication.");
+            return PasskeyAuthenticationResultDto.builder().success(false).message("Valid authenticated user is required.").build();
+        }
+        if (requestDto == null || requestDto.getId() == null || requestDto.getResponse() == null) {
+            return PasskeyAuthenticationResultDto.builder().success(false).message("Credential id and assertion response are required.").build();
+        }
+
+        CompletePasskeyAuthenticationServerRequestDto.AuthenticatorAssertionResponseDto response = requestDto.getResponse();
+        Optional<MautUserWebauthnCredential> credentialOpt = credentialRepository.findByMautUserAndExternalId(mautUser, requestDto.getId());
+        if (credentialOpt.isEmpty()) {
+            log.warn("Passkey {} not found for MautUser: {}", requestDto.getId(), mautUser.getId());
+            return PasskeyAuthenticationResultDto.builder().success(false).message("Passkey not found.").build();
+        }
+
+        try {
+            MautUserWebauthnCredential credential = credentialOpt.get();
+            verifyAssertionLocally(mautUser.getId(), credential,
+                    response.getClientDataJSON(), response.getAuthenticatorData(), response.getSignature(), response.getUserHandle());
+            return PasskeyAuthenticationResultDto.builder()
+                    .success(true)
+                    .credentialId(credential.getExternalId())
+                    .mautUserId(mautUser.getId().toString())
+                    .message("Passkey verified successfully.")
+                    .build();
+        } catch (AuthenticationException e) {
+            return PasskeyAuthenticationResultDto.builder().success(false).message(e.getMessage()).build();
+        }
+    }
+
+    private VerifyPasskeyAssertionResponse verifyVanillaPasskeyAssertion(MautUser mautUser, MautUserWebauthnCredential credential,
+                                                                         Map<String, Object> assertionMap) {
+        // Proxy id access does not initialize the lazy MautUser.
+        UUID ownerId = credential.getMautUser().getId();
+        if (mautUser != null && !ownerId.equals(mautUser.getId())) {
+            log.error("Passkey credential ID {} does not belong to the authenticated MautUser ID {}.", credential.getExternalId(), mautUser.getId());
+            throw new AuthenticationException("Passkey does not belong to the authenticated user.");
+        }
+
+        verifyAssertionLocally(ownerId, credential,
+                (String) assertionMap.get("clientDataJSON"),
+                (String) assertionMap.get("authenticatorData"),
+                (String) assertionMap.get("signature"),
+                (String) assertionMap.get("userHandle"));
+
+        return VerifyPasskeyAssertionResponse.builder()
+                .verified(true)
+                .authenticatorId(credential.getId().toString())
+                .mautUserId(ownerId.toString())
+                .message("Passkey verified successfully.")
+                .build();
+    }
+
+    /**
+     * Verifies a WebAuthn assertion against the stored public key of a vanilla credential, consuming the
+     * one-time authentication challenge echoed in clientDataJSON, and records the new signature counter
+     * in the write-behind {@link CredentialUsageBuffer}.
+     * The decoded COSE key comes from {@link CredentialPublicKeyCache}, so a warm verification is pure CPU.
+     *
+     * @throws AuthenticationException if the assertion is malformed, the challenge is unknown or the signature is invalid
+     */
+    private void verifyAssertionLocally(UUID mautUserId, MautUserWebauthnCredential credential,
+                                        String clientDataJSON, String authenticatorData, String signature, String userHandle) {
+        if (clientDataJSON == null || authenticatorData == null || signature == null) {
+            throw new AuthenticationException("clientDataJSON, authenticatorData and signature are required.");
+        }
+
+        final AuthenticationData authenticationData;
+        try {
+            authenticationData = webAuthnManager.parse(new AuthenticationRequest(
+                    Base64UrlUtil.decode(credential.getExternalId()),
+                    userHandle != null ? Base64UrlUtil.decode(userHandle) : null,
+                    Base64UrlUtil.decode(authenticatorData),
+                    Base64UrlUtil.decode(clientDataJSON),
+                    Base64UrlUtil.decode(signature)));
+        } catch (RuntimeException e) {
+            log.warn("Malformed passkey assertion for credential {}: {}", credential.getExternalId(), e.getMessage());
+            throw new AuthenticationException("Invalid passkey assertion format.");
+        }
+
+        String challengeBase64 = Base64UrlUtil.encodeToString(authenticationData.getCollectedClientData().getChallenge().getValue());
+        StoredChallenge storedChallenge = challengeStore.consume(mautUserId, challengeBase64, ChallengeCeremony.AUTHENTICATION)
+                .orElseThrow(() -> {
+                    log.warn("Valid authentication challenge not found for MautUser: {}", mautUserId);
+                    return new AuthenticationException("Challenge not found, expired, or mismatch.");
+                });
+
+        ApplicationConfig.WebAuthnConfig rpConfig = applicationConfig.getWebauthn();
+        Set<Origin> origins = rpConfig.getRelyingPartyOrigins().stream().map(Origin::new).collect(Collectors.toSet());
+        ServerProperty serverProperty = new ServerProperty(origins, storedChallenge.getRelyingPartyId(),
+                new DefaultChallenge(storedChallenge.getChallenge()), null);
+
+        COSEKey coseKey = credentialPublicKeyCache.get(credential.getExternalId(), credential.getPublicKeyCose());
+        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(
+                credential.getAaguid() != null ? new AAGUID(credential.getAaguid()) : AAGUID.ZERO,
+                Base64UrlUtil.decode(credential.getExternalId()),
+                coseKey);
+        // Clone detection must compare against the freshest counter, which may still be in the write-behind buffer.
+        long currentSignCount = credentialUsageBuffer.effectiveSignCount(credential.getId(), credential.getSignatureCounter());
+        AuthenticatorImpl authenticator = new AuthenticatorImpl(
+                attestedCredentialData, new NoneAttestationStatement(), currentSignCount);
+
+        try {
+            webAuthnManager.validate(authenticationData, new AuthenticationParameters(
+                    serverProperty,
+                    authenticator,
+                    List.of(Base64UrlUtil.decode(credential.getExternalId())),
+                    false,
+                    true));
+        } catch (VerificationException e) {
+            log.warn("WebAuthn assertion validation failed for credential {} (MautUser {}): {}", credential.getExternalId(), mautUserId, e.getMessage());
+            throw new AuthenticationException("Passkey verification failed: " + e.getMessage());
+        }
+
+        credentialUsageBuffer.recordCredentialUse(credential.getId(), authenticationData.getAuthenticatorData().getSignCount(), Instant.now());
+        log.info("Vanilla passkey assertion verified locally for credential {} (MautUser {})", credential.getExternalId(), mautUserId);
+    }
+
     @Override
     public List<AuthenticatorDetailResponseDto> listWebauthnCredentialsForMautUser(MautUser mautUser) {
         if (mautUser == null) {
@@ -661,7 +890,9 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
                         cred.getFriendlyName(),
                         "Passkey", // Hardcoded as per request
                         cred.getCreatedAt(),
-                        cred.getLastUsedAt() != null ? cred.getLastUsedAt().toInstant() : null
+                        Optional.ofNullable(credentialUsageBuffer.effectiveLastUsedAt(cred.getId(), cred.getLastUsedAt()))
+                                .map(OffsetDateTime::toInstant)
+                                .orElse(null)
                 ))
                 .collect(Collectors.toList());
     }
@@ -756,4 +987,13 @@ public class AuthenticatorServiceImpl implements AuthenticatorService {
                 userAuthenticator.getId(), passkeyCredentialId, userAuthenticator.getMautUser() != null ? userAuthenticator.getMautUser().getId() : "unknown (identified by passkey)");
         return userAuthenticator;
     }
+
+    /**
+     * A validated passkey registration waiting for Turnkey to finalize it.
+     */
+    @Value
+    private static class PendingPasskeyRegistration {
+        TurnkeyFinalizePasskeyRegistrationRequest turnkeyRequest;
+        String externalCredentialId;
+    }
 }
@@ -0,0 +1,37 @@
+package com.maut.core.modules.authenticator.service;
+
+import com.maut.core.common.exception.InvalidRequestException;
+import com.webauthn4j.util.Base64UrlUtil;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor for passkey listings: the (created_at, id) of the last row returned,
+ * Base64Url-encoded so clients treat it as a token rather than something to construct.
+ */
+@Value
+class PasskeyListingCursor {
+
+    Instant createdAt;
+    UUID id;
+
+    String encode() {
+        return Base64UrlUtil.encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static PasskeyListingCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64UrlUtil.decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new PasskeyListingCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidRequestException("Invalid pagination cursor.");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.maut.core.modules.mirror.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Local copy of a Turnkey authenticator (passkey), replaced on every sync of its sub-organization.
+ */
+@Entity
+@Table(name = "turnkey_mirror_authenticators")
+@Data
+@NoArgsConstructor
+public class MirroredAuthenticator {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "sub_organization_id", nullable = false)
+    private String subOrganizationId;
+
+    @Column(name = "turnkey_user_id", nullable = false)
+    private String turnkeyUserId;
+
+    @Column(name = "authenticator_id", nullable = false, unique = true)
+    private String authenticatorId;
+
+    @Column(name = "authenticator_name")
+    private String authenticatorName;
+
+    @Column(name = "credential_id", length = 1024)
+    private String credentialId;
+
+    @Column(name = "synced_at", nullable = false)
+    private Instant syncedAt;
+}
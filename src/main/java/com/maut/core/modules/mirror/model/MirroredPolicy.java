@@ -0,0 +1,50 @@
+package com.maut.core.modules.mirror.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Local copy of a Turnkey policy, replaced on every sync of its sub-organization.
+ */
+@Entity
+@Table(name = "turnkey_mirror_policies")
+@Data
+@NoArgsConstructor
+public class MirroredPolicy {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "sub_organization_id", nullable = false)
+    private String subOrganizationId;
+
+    @Column(name = "policy_id", nullable = false, unique = true)
+    private String policyId;
+
+    @Column(name = "policy_name")
+    private String policyName;
+
+    @Column(name = "effect")
+    private String effect;
+
+    @Column(name = "condition", columnDefinition = "TEXT")
+    private String condition;
+
+    @Column(name = "consensus", columnDefinition = "TEXT")
+    private String consensus;
+
+    @Column(name = "synced_at", nullable = false)
+    private Instant syncedAt;
+}
@@ -0,0 +1,50 @@
+package com.maut.core.modules.mirror.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Local copy of a Turnkey private key, replaced on every sync of its sub-organization.
+ */
+@Entity
+@Table(name = "turnkey_mirror_private_keys")
+@Data
+@NoArgsConstructor
+public class MirroredPrivateKey {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "sub_organization_id", nullable = false)
+    private String subOrganizationId;
+
+    @Column(name = "private_key_id", nullable = false, unique = true)
+    private String privateKeyId;
+
+    @Column(name = "private_key_name")
+    private String privateKeyName;
+
+    @Column(name = "curve")
+    private String curve;
+
+    /**
+     * First address Turnkey derived for the key.
+     */
+    @Column(name = "address")
+    private String address;
+
+    @Column(name = "synced_at", nullable = false)
+    private Instant syncedAt;
+}
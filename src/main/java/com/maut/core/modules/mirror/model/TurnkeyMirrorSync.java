@@ -0,0 +1,39 @@
+package com.maut.core.modules.mirror.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+/**
+ * Sync bookkeeping for one mirrored Turnkey sub-organization.
+ */
+@Entity
+@Table(name = "turnkey_mirror_sync")
+@Data
+@NoArgsConstructor
+public class TurnkeyMirrorSync {
+
+    @Id
+    @Column(name = "sub_organization_id", updatable = false, nullable = false)
+    private String subOrganizationId;
+
+    /**
+     * When the mirrored rows were last replaced from Turnkey; null if no sync has succeeded yet.
+     */
+    @Column(name = "synced_at")
+    private Instant syncedAt;
+
+    @Column(name = "last_attempt_at", nullable = false)
+    private Instant lastAttemptAt;
+
+    @Column(name = "consecutive_failures", nullable = false)
+    private int consecutiveFailures;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+}
@@ -0,0 +1,21 @@
+package com.maut.core.modules.mirror.repository;
+
+import com.maut.core.modules.mirror.model.MirroredAuthenticator;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MirroredAuthenticatorRepository extends JpaRepository<MirroredAuthenticator, UUID> {
+
+    List<MirroredAuthenticator> findBySubOrganizationId(String subOrganizationId);
+
+    @Modifying
+    @Query("DELETE FROM MirroredAuthenticator m WHERE m.subOrganizationId = :subOrganizationId")
+    int deleteBySubOrganizationId(@Param("subOrganizationId") String subOrganizationId);
+}
@@ -0,0 +1,21 @@
+package com.maut.core.modules.mirror.repository;
+
+import com.maut.core.modules.mirror.model.MirroredPrivateKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MirroredPrivateKeyRepository extends JpaRepository<MirroredPrivateKey, UUID> {
+
+    List<MirroredPrivateKey> findBySubOrganizationId(String subOrganizationId);
+
+    @Modifying
+    @Query("DELETE FROM MirroredPrivateKey m WHERE m.subOrganizationId = :subOrganizationId")
+    int deleteBySubOrganizationId(@Param("subOrganizationId") String subOrganizationId);
+}
@@ -0,0 +1,32 @@
+package com.maut.core.modules.mirror.repository;
+
+import com.maut.core.modules.mirror.model.TurnkeyMirrorSync;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TurnkeyMirrorSyncRepository extends JpaRepository<TurnkeyMirrorSync, String> {
+
+    /**
+     * Wallet sub-organizations that were never mirrored or whose mirror is older than {@code staleBefore},
+     * never-synced first. Demo wallets have no Turnkey counterpart and are skipped. A sub-organization whose
+     * last refresh failed waits {@code retryBaseMs} doubled per consecutive failure (at most 64 times) before
+     * it is due again, so persistently failing ones cannot fill every batch.
+     */
+    @Query(value = "SELECT w.turnkey_sub_organization_id FROM user_wallets w " +
+            "LEFT JOIN turnkey_mirror_sync s ON s.sub_organization_id = w.turnkey_sub_organization_id " +
+            "WHERE w.turnkey_sub_organization_id NOT LIKE 'DEMO-%' " +
+            "AND (s.synced_at IS NULL OR s.synced_at < :staleBefore) " +
+            "AND (s.consecutive_failures IS NULL OR s.consecutive_failures = 0 " +
+            "OR s.last_attempt_at < CAST(:now AS TIMESTAMP WITH TIME ZONE) " +
+            "- (:retryBaseMs * POWER(2, LEAST(s.consecutive_failures - 1, 6))) * INTERVAL '1 millisecond') " +
+            "ORDER BY s.synced_at NULLS FIRST, s.last_attempt_at NULLS FIRST " +
+            "LIMIT :limit", nativeQuery = true)
+    List<String> findDueForSync(@Param("staleBefore") Instant staleBefore, @Param("now") Instant now,
+                                @Param("retryBaseMs") long retryBaseMs, @Param("limit") int limit);
+}
@@ -0,0 +1,50 @@
+package com.maut.core.modules.mirror.service;
+
+import com.maut.core.modules.mirror.model.MirroredAuthenticator;
+import com.maut.core.modules.mirror.model.MirroredPolicy;
+import com.maut.core.modules.mirror.model.MirroredPrivateKey;
+import com.maut.core.modules.mirror.model.TurnkeyMirrorSync;
+import com.maut.core.modules.mirror.repository.MirroredAuthenticatorRepository;
+import com.maut.core.modules.mirror.repository.MirroredPolicyRepository;
+import com.maut.core.modules.mirror.repository.MirroredPrivateKeyRepository;
+import com.maut.core.modules.mirror.repository.TurnkeyMirrorSyncRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read side of the Turnkey mirror; every lookup is a local indexed query, never a Turnkey call.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TurnkeyMirrorReader {
+
+    private final TurnkeyMirrorSyncRepository syncRepository;
+    private final MirroredPrivateKeyRepository privateKeyRepository;
+    private final MirroredAuthenticatorRepository authenticatorRepository;
+    private final MirroredPolicyRepository policyRepository;
+
+    /**
+     * When the sub-organization was last mirrored, or empty if it never was (rows below are then empty too).
+     */
+    public Optional<Instant> syncedAt(String subOrganizationId) {
+        return syncRepository.findById(subOrganizationId).map(TurnkeyMirrorSync::getSyncedAt);
+    }
+
+    public List<MirroredPrivateKey> privateKeys(String subOrganizationId) {
+        return privateKeyRepository.findBySubOrganizationId(subOrganizationId);
+    }
+
+    public List<MirroredAuthenticator> authenticators(String subOrganizationId) {
+        return authenticatorRepository.findBySubOrganizationId(subOrganizationId);
+    }
+
+    public List<MirroredPolicy> policies(String subOrganizationId) {
+        return policyRepository.findBySubOrganizationId(subOrganizationId);
+    }
+}
@@ -0,0 +1,152 @@
+package com.maut.core.modules.mirror.service;
+
+import com.maut.core.common.config.properties.TurnkeyMirrorProperties;
+import com.maut.core.external.turnkey.TurnkeyService;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import com.maut.core.modules.activity.event.TurnkeyActivityStatusChangedEvent;
+import com.maut.core.modules.mirror.repository.TurnkeyMirrorSyncRepository;
+import com.maut.core.modules.wallet.repository.UserWalletRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keeps the local mirror of wallet sub-organizations in step with Turnkey.
+ * <p>
+ * A completed activity against a wallet's sub-organization triggers an immediate refresh, so changes Maut
+ * makes itself show up within one poll. A scheduled sweep backfills sub-organizations that were never
+ * mirrored and reconciles ones not refreshed for {@code reconcileAfterMinutes}, catching changes made
+ * outside Maut. A refresh reads keys, users and policies concurrently and replaces the mirrored rows in one
+ * transaction; concurrent refreshes of the same sub-organization share one read. The write and the failure
+ * bookkeeping run on the application task executor, never on the Turnkey HTTP threads that complete the read.
+ */
+@Slf4j
+@Component
+public class TurnkeyMirrorSynchronizer {
+
+    private static final String DEMO_ORGANIZATION_PREFIX = "DEMO-";
+
+    private final TurnkeyService turnkeyService;
+    private final TurnkeyMirrorWriter mirrorWriter;
+    private final TurnkeyMirrorSyncRepository syncRepository;
+    private final UserWalletRepository userWalletRepository;
+    private final TurnkeyMirrorProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor writeExecutor;
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    public TurnkeyMirrorSynchronizer(TurnkeyService turnkeyService,
+                                     TurnkeyMirrorWriter mirrorWriter,
+                                     TurnkeyMirrorSyncRepository syncRepository,
+                                     UserWalletRepository userWalletRepository,
+                                     TurnkeyMirrorProperties properties,
+                                     MeterRegistry meterRegistry,
+                                     @Qualifier("applicationTaskExecutor") Executor writeExecutor) {
+        this.turnkeyService = turnkeyService;
+        this.mirrorWriter = mirrorWriter;
+        this.syncRepository = syncRepository;
+        this.userWalletRepository = userWalletRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.writeExecutor = writeExecutor;
+    }
+
+    /**
+     * Re-reads one sub-organization and replaces its mirror. Completes with {@code false} if nothing was
+     * written (demo organization, mirror disabled, or a newer snapshot already stored); failures are
+     * recorded on the sync row and complete the future exceptionally.
+     */
+    public CompletableFuture<Boolean> refresh(String subOrganizationId) {
+        if (!properties.isEnabled() || subOrganizationId == null || subOrganizationId.startsWith(DEMO_ORGANIZATION_PREFIX)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(subOrganizationId, created);
+        if (existing != null) {
+            return existing;
+        }
+        turnkeyService.getSubOrganizationStateAsync(subOrganizationId)
+                .thenApplyAsync(mirrorWriter::replace, writeExecutor)
+                // Async as well: a failed read completes the stage above on the thread that failed it.
+                .whenCompleteAsync((written, error) -> {
+                    inFlight.remove(subOrganizationId, created);
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        record("failed");
+                        log.warn("Failed to refresh Turnkey mirror of sub-organization {}: {}", subOrganizationId, cause.getMessage());
+                        try {
+                            mirrorWriter.recordFailure(subOrganizationId, cause.getMessage());
+                        } catch (RuntimeException e) {
+                            log.error("Could not record mirror failure for sub-organization {}", subOrganizationId, e);
+                        }
+                        created.completeExceptionally(cause);
+                    } else {
+                        record(written ? "refreshed" : "skipped");
+                        created.complete(written);
+                    }
+                }, writeExecutor);
+        return created;
+    }
+
+    // After commit, so the Turnkey refresh never runs while the publisher still holds its connection.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivityStatusChanged(TurnkeyActivityStatusChangedEvent event) {
+        if (!TurnkeyActivityStatus.COMPLETED.equals(event.getNewStatus())) {
+            return;
+        }
+        String organizationId = event.getOrganizationId();
+        // Activities against the parent organization (e.g. creating a sub-organization) have nothing to mirror.
+        if (organizationId == null || userWalletRepository.findByTurnkeySubOrganizationId(organizationId).isEmpty()) {
+            return;
+        }
+        log.debug("Activity {} completed; refreshing mirror of sub-organization {}", event.getActivityId(), organizationId);
+        refresh(organizationId);
+    }
+
+    @Scheduled(initialDelayString = "${turnkey.mirror.sweepIntervalMs:60000}",
+               fixedDelayString = "${turnkey.mirror.sweepIntervalMs:60000}")
+    public void sweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        Instant staleBefore = now.minus(properties.getReconcileAfterMinutes(), ChronoUnit.MINUTES);
+        // Failing sub-organizations back off from one sweep interval, doubling per consecutive failure.
+        List<String> due = syncRepository.findDueForSync(staleBefore, now, properties.getSweepIntervalMs(), properties.getBatchSize());
+        if (due.isEmpty()) {
+            return;
+        }
+        CompletableFuture<?>[] round = due.stream().map(this::refresh).toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(round).get(properties.getBatchTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Turnkey mirror sweep hit its {} ms deadline; unfinished refreshes complete in the background",
+                    properties.getBatchTimeoutMs());
+        } catch (ExecutionException e) {
+            // Individual failures are logged and recorded per sub-organization.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        log.debug("Turnkey mirror sweep refreshed {} sub-organizations", due.size());
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("turnkey.mirror.refreshes", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,126 @@
+package com.maut.core.modules.mirror.service;
+
+import com.maut.core.external.turnkey.model.TurnkeySubOrganizationState;
+import com.maut.core.external.turnkey.model.response.AuthenticatorDetails;
+import com.maut.core.external.turnkey.model.response.PolicyDetails;
+import com.maut.core.external.turnkey.model.response.PrivateKeyDetails;
+import com.maut.core.external.turnkey.model.response.UserDetails;
+import com.maut.core.modules.mirror.model.MirroredAuthenticator;
+import com.maut.core.modules.mirror.model.MirroredPolicy;
+import com.maut.core.modules.mirror.model.MirroredPrivateKey;
+import com.maut.core.modules.mirror.model.TurnkeyMirrorSync;
+import com.maut.core.modules.mirror.repository.MirroredAuthenticatorRepository;
+import com.maut.core.modules.mirror.repository.MirroredPolicyRepository;
+import com.maut.core.modules.mirror.repository.MirroredPrivateKeyRepository;
+import com.maut.core.modules.mirror.repository.TurnkeyMirrorSyncRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes fetched sub-organization state into the mirror tables.
+ * <p>
+ * Each sub-organization is replaced as a whole in one transaction, so readers see either the previous or
+ * the new snapshot, never a mix. A snapshot older than the one already stored is dropped.
+ */
+@Component
+@RequiredArgsConstructor
+public class TurnkeyMirrorWriter {
+
+    private final TurnkeyMirrorSyncRepository syncRepository;
+    private final MirroredPrivateKeyRepository privateKeyRepository;
+    private final MirroredAuthenticatorRepository authenticatorRepository;
+    private final MirroredPolicyRepository policyRepository;
+
+    @Transactional
+    public boolean replace(TurnkeySubOrganizationState state) {
+        String subOrganizationId = state.getSubOrganizationId();
+        Instant syncedAt = state.getFetchedAt();
+        TurnkeyMirrorSync sync = syncRepository.findById(subOrganizationId).orElseGet(() -> newSync(subOrganizationId));
+        if (sync.getSyncedAt() != null && sync.getSyncedAt().isAfter(syncedAt)) {
+            return false;
+        }
+
+        privateKeyRepository.deleteBySubOrganizationId(subOrganizationId);
+        authenticatorRepository.deleteBySubOrganizationId(subOrganizationId);
+        policyRepository.deleteBySubOrganizationId(subOrganizationId);
+        // Flush the deletes first; a re-inserted key or policy id would otherwise hit its unique constraint.
+        privateKeyRepository.flush();
+
+        List<MirroredPrivateKey> keys = new ArrayList<>();
+        for (PrivateKeyDetails details : state.getPrivateKeys()) {
+            MirroredPrivateKey key = new MirroredPrivateKey();
+            key.setSubOrganizationId(subOrganizationId);
+            key.setPrivateKeyId(details.getPrivateKeyId());
+            key.setPrivateKeyName(details.getPrivateKeyName());
+            key.setCurve(details.getCurve());
+            if (details.getAddresses() != null && !details.getAddresses().isEmpty()) {
+                key.setAddress(details.getAddresses().get(0).getAddress());
+            }
+            key.setSyncedAt(syncedAt);
+            keys.add(key);
+        }
+        privateKeyRepository.saveAll(keys);
+
+        List<MirroredAuthenticator> authenticators = new ArrayList<>();
+        for (UserDetails user : state.getUsers()) {
+            if (user.getAuthenticators() == null) {
+                continue;
+            }
+            for (AuthenticatorDetails details : user.getAuthenticators()) {
+                MirroredAuthenticator authenticator = new MirroredAuthenticator();
+                authenticator.setSubOrganizationId(subOrganizationId);
+                authenticator.setTurnkeyUserId(user.getUserId());
+                authenticator.setAuthenticatorId(details.getAuthenticatorId());
+                authenticator.setAuthenticatorName(details.getAuthenticatorName());
+                authenticator.setCredentialId(details.getCredentialId());
+                authenticator.setSyncedAt(syncedAt);
+                authenticators.add(authenticator);
+            }
+        }
+        authenticatorRepository.saveAll(authenticators);
+
+        List<MirroredPolicy> policies = new ArrayList<>();
+        for (PolicyDetails details : state.getPolicies()) {
+            MirroredPolicy policy = new MirroredPolicy();
+            policy.setSubOrganizationId(subOrganizationId);
+            policy.setPolicyId(details.getPolicyId());
+            policy.setPolicyName(details.getPolicyName());
+            policy.setEffect(details.getEffect());
+            policy.setCondition(details.getCondition());
+            policy.setConsensus(details.getConsensus());
+            policy.setSyncedAt(syncedAt);
+            policies.add(policy);
+        }
+        policyRepository.saveAll(policies);
+
+        sync.setSyncedAt(syncedAt);
+        sync.setLastAttemptAt(Instant.now());
+        sync.setConsecutiveFailures(0);
+        sync.setLastError(null);
+        syncRepository.save(sync);
+        return true;
+    }
+
+    /**
+     * Records a failed refresh; the mirrored rows and their {@code synced_at} are left as they were.
+     */
+    @Transactional
+    public void recordFailure(String subOrganizationId, String error) {
+        TurnkeyMirrorSync sync = syncRepository.findById(subOrganizationId).orElseGet(() -> newSync(subOrganizationId));
+        sync.setLastAttemptAt(Instant.now());
+        sync.setConsecutiveFailures(sync.getConsecutiveFailures() + 1);
+        sync.setLastError(error);
+        syncRepository.save(sync);
+    }
+
+    private static TurnkeyMirrorSync newSync(String subOrganizationId) {
+        TurnkeyMirrorSync sync = new TurnkeyMirrorSync();
+        sync.setSubOrganizationId(subOrganizationId);
+        return sync;
+    }
+}
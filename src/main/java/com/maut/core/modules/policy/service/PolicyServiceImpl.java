@@ -6,8 +6,8 @@ import com.maut.core.common.exception.ResourceNotFoundException;
 import com.maut.core.modules.policy.dto.ApplySigningPolicyRequest;
 import com.maut.core.modules.policy.dto.ApplySigningPolicyResponse;
 import com.maut.core.modules.user.model.MautUser;
-import com.maut.core.modules.wallet.model.UserWallet;
-import com.maut.core.modules.wallet.repository.UserWalletRepository;
+import com.maut.core.modules.wallet.service.WalletBinding;
+import com.maut.core.modules.wallet.service.WalletBindingResolver;
 // import com.maut.core.external.turnkey.TurnkeyService; // To be created
 // import com.maut.core.external.turnkey.model.TurnkeyPolicyResult;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +19,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class PolicyServiceImpl implements PolicyService {
 
-    private final UserWalletRepository userWalletRepository;
+    private final WalletBindingResolver walletBindingResolver;
     // private final TurnkeyService turnkeyService; // To be uncommented
 
     @Override
@@ -39,16 +39,15 @@ public class PolicyServiceImpl implements PolicyService {
         log.info("Applying signing policy '{}' for MautUser ID: {}", request.getPolicyName(), mautUser.getId());
 
         // 1. Find the user's wallet to get the Turnkey Sub-Organization ID
-        UserWallet userWallet = userWalletRepository.findByMautUser(mautUser)
-            .stream().findFirst()
+        WalletBinding walletBinding = walletBindingResolver.find(mautUser)
             .orElseThrow(() -> {
                 log.warn("No UserWallet found for MautUser ID: {}. Cannot apply policy.", mautUser.getId());
                 return new ResourceNotFoundException("User wallet not found, cannot apply policy.");
             });
 
-        String turnkeySubOrganizationId = userWallet.getTurnkeySubOrganizationId();
-        if (turnkeySubOrganizationId == null || turnkeySubOrganizationId.isBlank()) {
-            log.error("UserWallet ID: {} for MautUser ID: {} has no Turnkey Sub-Organization ID.", userWallet.getId(), mautUser.getId());
+        String turnkeySubOrganizationId = walletBinding.getTurnkeySubOrganizationId();
+        if (!walletBinding.hasTurnkeySubOrganization()) {
+            log.error("UserWallet ID: {} for MautUser ID: {} has no Turnkey Sub-Organization ID.", walletBinding.getWalletId(), mautUser.getId());
             throw new IllegalStateException("User wallet is missing Turnkey Sub-Organization ID.");
         }
 
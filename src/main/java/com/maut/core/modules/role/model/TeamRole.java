@@ -1,9 +1,14 @@
 package com.maut.core.modules.role.model;
 
+import com.maut.core.common.config.CacheRegions;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.GenericGenerator;
@@ -20,6 +25,9 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM_ROLE)
+@NaturalIdCache
 public class TeamRole {
 
     @Id
@@ -31,6 +39,7 @@ public class TeamRole {
     @Column(updatable = false, nullable = false)
     private UUID id;
 
+    @NaturalId(mutable = false)
     @Column(nullable = false, unique = true)
     private String name; // e.g., ROLE_OWNER, ROLE_MEMBER, ROLE_READ_ONLY
 
@@ -1,6 +1,7 @@
 package com.maut.core.modules.role.repository;
 
 import com.maut.core.modules.role.model.AdminRole;
+import com.maut.core.common.repository.NaturalIdRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,6 +9,12 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AdminRoleRepository extends JpaRepository<AdminRole, UUID> {
-    Optional<AdminRole> findByName(String name);
+public interface AdminRoleRepository extends JpaRepository<AdminRole, UUID>, NaturalIdRepository {
+
+    /**
+     * Resolves the role through the natural-id cache rather than a query.
+     */
+    default Optional<AdminRole> findByName(String name) {
+        return findBySimpleNaturalId(AdminRole.class, name);
+    }
 }
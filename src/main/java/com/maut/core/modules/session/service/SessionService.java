@@ -69,7 +69,7 @@ public class SessionService {
             mautUser = mautUserRepository.save(newUser);
             isNewMautUser = true;
 
-            // Dispatch webhook event for MautUser creation
+            // Dispatch webhook event for MautUser creation (delivered once this transaction commits)
             if (mautUser.getTeam() != null) {
                 try {
                     log.info("Dispatching '{}' event for MautUser ID: {} and team ID: {}", 
@@ -1,10 +1,15 @@
 package com.maut.core.modules.team.model;
 
 import com.maut.core.modules.user.model.User;
+import com.maut.core.common.config.CacheRegions;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.GenericGenerator;
@@ -22,6 +27,9 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @com.fasterxml.jackson.annotation.JsonIgnoreProperties(value = {"hibernateLazyInitializer", "handler"}, allowSetters = true)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM)
+@NaturalIdCache
 public class Team {
 
     @Id
@@ -33,6 +41,7 @@ public class Team {
     @Column(updatable = false, nullable = false)
     private UUID id;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String name;
 
@@ -2,10 +2,13 @@ package com.maut.core.modules.team.model;
 
 import com.maut.core.modules.user.model.User;
 import com.maut.core.modules.role.model.TeamRole;
+import com.maut.core.common.config.CacheRegions;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
 
@@ -21,6 +24,8 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM_MEMBERSHIP)
 public class TeamMembership {
 
     @Id
@@ -2,15 +2,27 @@ package com.maut.core.modules.team.repository;
 
 import com.maut.core.modules.team.model.Team;
 import com.maut.core.modules.user.model.User;
+import com.maut.core.common.config.CacheRegions;
+import com.maut.core.common.repository.NaturalIdRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, UUID> {
-    Optional<Team> findByName(String name);
+public interface TeamRepository extends JpaRepository<Team, UUID>, NaturalIdRepository {
+
+    /**
+     * Resolves the team through the natural-id cache rather than a query.
+     */
+    default Optional<Team> findByName(String name) {
+        return findBySimpleNaturalId(Team.class, name);
+    }
+
     boolean existsByName(String name);
+    @QueryHints(@QueryHint(name = CacheRegions.QUERY_CACHEABLE_HINT, value = "true"))
     Optional<Team> findByOwner(User owner);
 }
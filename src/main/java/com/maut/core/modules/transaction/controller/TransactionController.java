@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import java.net.URI;
 
 @RestController
 @RequestMapping("/v1/transactions")
@@ -30,6 +31,9 @@ public class TransactionController {
         MautUser mautUser = null; // Placeholder
 
         InitiateSigningResponse response = transactionService.initiateSigning(mautUser, request);
-        return ResponseEntity.ok(response);
+        // Signing completes asynchronously in Turnkey; clients follow the Location header for the outcome.
+        return ResponseEntity.accepted()
+            .location(URI.create("/v1/activities/" + response.getActivityId() + "/status"))
+            .body(response);
     }
 }
@@ -2,12 +2,15 @@ package com.maut.core.modules.transaction.service;
 
 import com.maut.core.common.exception.InvalidRequestException;
 import com.maut.core.common.exception.ResourceNotFoundException;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import com.maut.core.modules.activity.model.TurnkeyActivity;
+import com.maut.core.modules.activity.service.TurnkeyActivityTracker;
 // import com.maut.core.common.exception.TurnkeyOperationException; // For actual Turnkey calls
 import com.maut.core.modules.transaction.dto.InitiateSigningRequest;
 import com.maut.core.modules.transaction.dto.InitiateSigningResponse;
 import com.maut.core.modules.user.model.MautUser;
-import com.maut.core.modules.wallet.model.UserWallet;
-import com.maut.core.modules.wallet.repository.UserWalletRepository;
+import com.maut.core.modules.wallet.service.WalletBinding;
+import com.maut.core.modules.wallet.service.WalletBindingResolver;
 // import com.maut.core.external.turnkey.TurnkeyService; // To be created
 // import com.maut.core.external.turnkey.model.TurnkeyActivityResponse;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +22,8 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class TransactionServiceImpl implements TransactionService {
 
-    private final UserWalletRepository userWalletRepository;
+    private final WalletBindingResolver walletBindingResolver;
+    private final TurnkeyActivityTracker turnkeyActivityTracker;
     // private final TurnkeyService turnkeyService; // To be uncommented
 
     @Override
@@ -39,16 +43,19 @@ public class TransactionServiceImpl implements TransactionService {
         log.info("Initiating signing for transaction type '{}' for MautUser ID: {}", request.getTransactionType(), mautUser.getId());
 
         // 1. Find the user's wallet to get Turnkey identifiers
-        UserWallet userWallet = userWalletRepository.findByMautUser(mautUser)
-            .stream().findFirst()
+        WalletBinding walletBinding = walletBindingResolver.find(mautUser)
             .orElseThrow(() -> {
                 log.warn("No UserWallet found for MautUser ID: {}. Cannot initiate signing.", mautUser.getId());
                 return new ResourceNotFoundException("User wallet not found, cannot initiate signing.");
             });
 
-        String turnkeySubOrganizationId = userWallet.getTurnkeySubOrganizationId();
-        // String turnkeyMautPrivateKeyId = userWallet.getTurnkeyMautPrivateKeyId(); // May be needed for some Turnkey calls
-        // String defaultPolicyId = userWallet.getDefaultTurnkeyPolicyId();
+        String turnkeySubOrganizationId = walletBinding.getTurnkeySubOrganizationId();
+        if (!walletBinding.hasTurnkeySubOrganization()) {
+            log.error("UserWallet ID: {} for MautUser ID: {} has no Turnkey Sub-Organization ID.", walletBinding.getWalletId(), mautUser.getId());
+            throw new IllegalStateException("User wallet is missing Turnkey Sub-Organization ID.");
+        }
+        // String turnkeyMautPrivateKeyId = walletBinding.getTurnkeyMautPrivateKeyId(); // May be needed for some Turnkey calls
+        // String defaultPolicyId = walletBinding.getDefaultTurnkeyPolicyId();
         // String actualPolicyIdToUse = request.getTurnkeyPolicyId() != null ? request.getTurnkeyPolicyId() : defaultPolicyId;
 
         // --- Placeholder for Turnkey Integration --- //
@@ -58,7 +65,7 @@ public class TransactionServiceImpl implements TransactionService {
         //     log.debug("Initiating signing with Turnkey for sub-organization ID: {}", turnkeySubOrganizationId);
         //     TurnkeyActivityResponse turnkeyResponse = turnkeyService.initiateTransaction(
         // turnkeySubOrganizationId,
-        //         userWallet.getTurnkeyMautPrivateKeyId(), // Assuming this is the signing key
+        //         walletBinding.getTurnkeyMautPrivateKeyId(), // Assuming this is the signing key
         // request.getTransactionType(),
         // request.getTransactionDetails(),
         //         actualPolicyIdToUse
@@ -79,8 +86,13 @@ public class TransactionServiceImpl implements TransactionService {
         // For now, returning placeholder data
         log.warn("TurnkeyService not yet implemented. Simulating successful signing initiation for MautUser ID: {}", mautUser.getId());
         String placeholderActivityId = "turnkey_activity_id_" + java.util.UUID.randomUUID().toString();
-        String placeholderStatus = "PENDING_USER_APPROVAL";
 
-        return new InitiateSigningResponse(placeholderActivityId, placeholderStatus);
+        // The caller gets the activity id right away and follows /v1/activities/{activityId}/status. Nothing is
+        // sent to Turnkey yet, so the activity is tracked as internal work the poller never asks Turnkey about;
+        // track it in the sub-organization with Turnkey's status once the real call is made.
+        TurnkeyActivity activity = turnkeyActivityTracker.trackInternal(placeholderActivityId, mautUser.getId(),
+                "ACTIVITY_TYPE_SIGN_TRANSACTION_V2");
+
+        return new InitiateSigningResponse(placeholderActivityId, TurnkeyActivityStatus.toApiStatus(activity.getStatus()));
     }
 }
@@ -4,6 +4,7 @@ import com.maut.core.modules.clientapplication.model.ClientApplication; // Updat
 import com.maut.core.modules.user.model.MautUser; // Updated import
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -24,6 +25,16 @@ public interface MautUserRepository extends JpaRepository<MautUser, UUID> {
      */
     Optional<MautUser> findByMautUserId(UUID mautUserId);
 
+    /**
+     * Finds a MautUser by ID together with its client application and team, so callers can read them
+     * after the transaction has closed.
+     *
+     * @param id The MautUser's primary key.
+     * @return An {@link Optional} containing the found MautUser, or empty if not found.
+     */
+    @EntityGraph(attributePaths = {"clientApplication", "team"})
+    Optional<MautUser> findWithClientApplicationAndTeamById(UUID id);
+
     /**
      * Finds a MautUser by their client application and the user's ID within that client's system.
      *
@@ -40,6 +51,7 @@ public interface MautUserRepository extends JpaRepository<MautUser, UUID> {
      * @param pageable The pagination information.
      * @return A {@link Page} containing the found MautUsers.
      */
+    @EntityGraph(attributePaths = "clientApplication")
     Page<MautUser> findByTeamId(UUID teamId, Pageable pageable);
 
 }
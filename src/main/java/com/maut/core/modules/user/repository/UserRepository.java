@@ -1,6 +1,7 @@
 package com.maut.core.modules.user.repository;
 
 import com.maut.core.modules.user.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -18,5 +19,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Finds a user by their email address together with their team.
+     *
+     * @param email The email address to search for.
+     * @return An Optional containing the user if found, or empty otherwise.
+     */
+    @EntityGraph(attributePaths = "team")
+    Optional<User> findWithTeamByEmail(String email);
+
     boolean existsByEmail(String email);
 }
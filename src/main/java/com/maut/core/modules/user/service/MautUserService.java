@@ -84,7 +84,7 @@ public class MautUserService {
     @Transactional(readOnly = true)
     public Optional<MautUser> findMautUserById(UUID userId) {
         log.debug("Attempting to find MautUser by ID: {}", userId);
-        return mautUserRepository.findById(userId);
+        return mautUserRepository.findWithClientApplicationAndTeamById(userId);
     }
 
     @Transactional(readOnly = true)
@@ -1,9 +1,11 @@
 package com.maut.core.modules.wallet.controller;
 
 import com.maut.core.modules.user.model.MautUser; 
+import com.maut.core.modules.wallet.dto.EnrollWalletJobResponse;
 import com.maut.core.modules.wallet.dto.EnrollWalletRequest;
 import com.maut.core.modules.wallet.dto.EnrollWalletResponse;
 import com.maut.core.modules.wallet.dto.WalletDetailsResponse;
+import com.maut.core.modules.wallet.service.WalletEnrollmentJobService;
 import com.maut.core.modules.wallet.service.WalletService; 
 import com.maut.core.modules.session.service.SessionService; 
 import lombok.RequiredArgsConstructor;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.net.URI;
 
 @RestController
 @RequestMapping("/v1/wallets")
@@ -20,6 +23,7 @@ public class WalletController {
 
     private final WalletService walletService; 
     private final SessionService sessionService; 
+    private final WalletEnrollmentJobService walletEnrollmentJobService;
 
     @PostMapping("/enroll")
     public ResponseEntity<EnrollWalletResponse> enrollWallet(
@@ -31,6 +35,20 @@ public class WalletController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Asynchronous enrollment: records a job and returns 202 with its activity handle right away; the wallet
+     * is provisioned on a worker and the outcome reported on the status URL and as {@code wallet.created}.
+     */
+    @PostMapping(value = "/enroll", params = "async=true")
+    public ResponseEntity<EnrollWalletJobResponse> enrollWalletAsync(
+        @RequestHeader("X-Maut-Session-Token") String mautSessionToken,
+        @Valid @RequestBody EnrollWalletRequest request) {
+
+        MautUser mautUser = sessionService.validateMautSessionTokenAndGetMautUser(mautSessionToken);
+        EnrollWalletJobResponse response = walletEnrollmentJobService.submit(mautUser, request.getWalletDisplayName());
+        return ResponseEntity.accepted().location(URI.create(response.getStatusUrl())).body(response);
+    }
+
     @GetMapping("/details")
     public ResponseEntity<WalletDetailsResponse> getWalletDetails(@RequestHeader("X-Maut-Session-Token") String mautSessionToken) {
         MautUser mautUser = sessionService.validateMautSessionTokenAndGetMautUser(mautSessionToken); 
@@ -0,0 +1,19 @@
+package com.maut.core.modules.wallet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollWalletJobResponse {
+
+    /**
+     * Also the activity id to poll on {@code statusUrl}.
+     */
+    private String jobId;
+    private String status;
+    private String statusUrl;
+
+}
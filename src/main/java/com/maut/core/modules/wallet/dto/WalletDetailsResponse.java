@@ -22,5 +22,6 @@ public class WalletDetailsResponse {
     private String turnkeyUserPrivateKeyId;
     private Map<String, Object> currentPolicy; // Placeholder for policy details
     private Instant createdAt;
+    private Instant syncedAt; // When the Turnkey-backed fields were last mirrored; null if never
 
 }
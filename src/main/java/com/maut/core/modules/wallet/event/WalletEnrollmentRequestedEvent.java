@@ -0,0 +1,14 @@
+package com.maut.core.modules.wallet.event;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Published when an asynchronous wallet enrollment job is recorded; the worker picks it up once the
+ * recording transaction commits.
+ */
+@Value
+public class WalletEnrollmentRequestedEvent {
+    UUID jobId;
+}
@@ -0,0 +1,61 @@
+package com.maut.core.modules.wallet.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A Turnkey sub-organization with its keys, created ahead of time by the wallet pool provisioner and
+ * claimed by enrollment, so enrolling a user makes no Turnkey calls. The row is written as
+ * {@link #STATUS_PROVISIONING} as soon as the sub-organization exists and becomes available once its keys do.
+ */
+@Entity
+@Table(name = "provisioned_wallets")
+@Data
+@NoArgsConstructor
+public class ProvisionedWallet {
+
+    public static final String STATUS_PROVISIONING = "PROVISIONING";
+    public static final String STATUS_AVAILABLE = "AVAILABLE";
+    public static final String STATUS_CLAIMED = "CLAIMED";
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "environment", nullable = false, updatable = false)
+    private String environment;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "wallet_address", unique = true)
+    private String walletAddress;
+
+    @Column(name = "turnkey_sub_organization_id", nullable = false, unique = true, updatable = false)
+    private String turnkeySubOrganizationId;
+
+    @Column(name = "turnkey_maut_private_key_id", unique = true)
+    private String turnkeyMautPrivateKeyId;
+
+    @Column(name = "turnkey_user_private_key_id", unique = true)
+    private String turnkeyUserPrivateKeyId;
+
+    @Column(name = "claimed_by_maut_user_id", columnDefinition = "UUID")
+    private UUID claimedByMautUserId;
+
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
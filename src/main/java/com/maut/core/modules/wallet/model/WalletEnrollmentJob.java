@@ -0,0 +1,79 @@
+package com.maut.core.modules.wallet.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An asynchronous wallet enrollment. Each Turnkey resource is recorded as soon as it exists, so a retried
+ * job picks up where the last attempt stopped and a failed one says what to clean up.
+ */
+@Entity
+@Table(name = "wallet_enrollment_jobs")
+@Data
+@NoArgsConstructor
+public class WalletEnrollmentJob {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    /**
+     * Also the activity id under which the activity status API reports this enrollment.
+     */
+    @Id
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "maut_user_id", nullable = false, updatable = false, columnDefinition = "UUID")
+    private UUID mautUserId;
+
+    /**
+     * Team notified with {@code wallet.created}; captured at submission so the worker needs no lazy loading.
+     */
+    @Column(name = "team_id", updatable = false, columnDefinition = "UUID")
+    private UUID teamId;
+
+    @Column(name = "wallet_display_name", updatable = false)
+    private String walletDisplayName;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "turnkey_sub_organization_id")
+    private String turnkeySubOrganizationId;
+
+    @Column(name = "turnkey_maut_private_key_id")
+    private String turnkeyMautPrivateKeyId;
+
+    @Column(name = "turnkey_user_private_key_id")
+    private String turnkeyUserPrivateKeyId;
+
+    @Column(name = "wallet_address")
+    private String walletAddress;
+
+    @Column(name = "user_wallet_id", columnDefinition = "UUID")
+    private UUID userWalletId;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -0,0 +1,90 @@
+package com.maut.core.modules.wallet.repository;
+
+import com.maut.core.modules.wallet.model.ProvisionedWallet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for the {@link ProvisionedWallet} pool.
+ */
+@Repository
+public interface ProvisionedWalletRepository extends JpaRepository<ProvisionedWallet, UUID> {
+
+    /**
+     * Locks the oldest available wallet of an environment for the current transaction. Rows locked by
+     * concurrent enrollments are skipped rather than waited on, so claims never queue behind each other.
+     * Must run inside a transaction; the caller marks the row claimed before committing.
+     */
+    @Query(value = "SELECT * FROM provisioned_wallets WHERE environment = :environment AND status = 'AVAILABLE' " +
+                   "ORDER BY created_at LIMIT 1 FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<ProvisionedWallet> lockNextAvailable(@Param("environment") String environment);
+
+    long countByEnvironmentAndStatus(String environment, String status);
+
+    /**
+     * Wallets whose keys were never created, oldest first, e.g. after a failed key creation or a restart.
+     */
+    @Query(value = "SELECT * FROM provisioned_wallets WHERE environment = :environment AND status = 'PROVISIONING' " +
+                   "AND updated_at < :staleBefore ORDER BY updated_at LIMIT :limit",
+           nativeQuery = true)
+    List<ProvisionedWallet> findStaleProvisioning(@Param("environment") String environment,
+                                                  @Param("staleBefore") Instant staleBefore,
+                                                  @Param("limit") int limit);
+
+    /**
+     * Stamps progress on a wallet still being provisioned, so it is not resumed while this node works on it.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProvisionedWallet w SET w.updatedAt = :now WHERE w.id = :id AND w.status = 'PROVISIONING'")
+    int touchProvisioning(@Param("id") UUID id, @Param("now") Instant now);
+
+    /**
+     * Records the keys of a wallet still being provisioned and makes it available.
+     *
+     * @return 1 if updated, 0 if it was already completed
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProvisionedWallet w SET w.status = 'AVAILABLE', w.turnkeyMautPrivateKeyId = :mautPrivateKeyId, " +
+           "w.turnkeyUserPrivateKeyId = :userPrivateKeyId, w.walletAddress = :walletAddress, w.updatedAt = :now " +
+           "WHERE w.id = :id AND w.status = 'PROVISIONING'")
+    int completeProvisioning(@Param("id") UUID id,
+                             @Param("mautPrivateKeyId") String mautPrivateKeyId,
+                             @Param("userPrivateKeyId") String userPrivateKeyId,
+                             @Param("walletAddress") String walletAddress,
+                             @Param("now") Instant now);
+
+    /**
+     * Takes the refill lease of an environment unless another node holds an unexpired one.
+     *
+     * @return 1 if this node holds the lease until {@code leaseUntil}, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO wallet_pool_refills (environment, leased_until) VALUES (:environment, :leaseUntil) " +
+                   "ON CONFLICT (environment) DO UPDATE SET leased_until = :leaseUntil " +
+                   "WHERE wallet_pool_refills.leased_until < :now",
+           nativeQuery = true)
+    int acquireRefillLease(@Param("environment") String environment,
+                           @Param("now") Instant now,
+                           @Param("leaseUntil") Instant leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE wallet_pool_refills SET leased_until = :now WHERE environment = :environment AND leased_until = :leaseUntil",
+           nativeQuery = true)
+    int releaseRefillLease(@Param("environment") String environment,
+                           @Param("leaseUntil") Instant leaseUntil,
+                           @Param("now") Instant now);
+}
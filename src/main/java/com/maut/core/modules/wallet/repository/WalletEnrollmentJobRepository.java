@@ -0,0 +1,47 @@
+package com.maut.core.modules.wallet.repository;
+
+import com.maut.core.common.retention.TtlRetention;
+import com.maut.core.modules.wallet.model.WalletEnrollmentJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+// completed_at stays NULL while a job is PENDING/RUNNING, so only finished jobs ever expire.
+@TtlRetention(table = "wallet_enrollment_jobs", timestampColumn = "completed_at",
+        ttl = "${retention.ttl.walletEnrollmentJobs:P30D}")
+public interface WalletEnrollmentJobRepository extends JpaRepository<WalletEnrollmentJob, UUID> {
+
+    @Query("SELECT j FROM WalletEnrollmentJob j WHERE j.mautUserId = :mautUserId AND j.status IN ('PENDING', 'RUNNING')")
+    Optional<WalletEnrollmentJob> findActiveByMautUserId(@Param("mautUserId") UUID mautUserId);
+
+    /**
+     * Jobs no worker is on: pending ones not (re)submitted since {@code pendingBefore}, and running ones whose
+     * worker has not reported since {@code staleBefore} (e.g. the node died).
+     */
+    @Query(value = "SELECT id::text FROM wallet_enrollment_jobs " +
+            "WHERE (status = 'PENDING' AND updated_at < :pendingBefore) OR (status = 'RUNNING' AND updated_at < :staleBefore) " +
+            "ORDER BY updated_at LIMIT :limit", nativeQuery = true)
+    List<String> findIdsNeedingWorker(@Param("pendingBefore") Instant pendingBefore,
+                                      @Param("staleBefore") Instant staleBefore,
+                                      @Param("limit") int limit);
+
+    /**
+     * Hands the job to the calling worker if it is pending, or running but abandoned.
+     *
+     * @return 1 if claimed, 0 if another worker has it or it is finished
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE WalletEnrollmentJob j SET j.status = 'RUNNING', j.attempts = j.attempts + 1, j.updatedAt = :now " +
+           "WHERE j.id = :id AND (j.status = 'PENDING' OR (j.status = 'RUNNING' AND j.updatedAt < :staleBefore))")
+    int claim(@Param("id") UUID id, @Param("now") Instant now, @Param("staleBefore") Instant staleBefore);
+}
@@ -0,0 +1,39 @@
+package com.maut.core.modules.wallet.service;
+
+import com.maut.core.modules.wallet.model.UserWallet;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the Turnkey identifiers bound to a user's wallet at enrollment.
+ * Held by {@link WalletBindingResolver} so wallet-scoped requests don't have to load {@link UserWallet}.
+ */
+@Value
+public class WalletBinding {
+    UUID walletId;
+    String walletAddress;
+    String walletDisplayName;
+    String turnkeySubOrganizationId;
+    String turnkeyMautPrivateKeyId;
+    String turnkeyUserPrivateKeyId;
+    String defaultTurnkeyPolicyId;
+    Instant createdAt;
+
+    public static WalletBinding of(UserWallet wallet) {
+        return new WalletBinding(
+                wallet.getId(),
+                wallet.getWalletAddress(),
+                wallet.getWalletDisplayName(),
+                wallet.getTurnkeySubOrganizationId(),
+                wallet.getTurnkeyMautPrivateKeyId(),
+                wallet.getTurnkeyUserPrivateKeyId(),
+                wallet.getDefaultTurnkeyPolicyId(),
+                wallet.getCreatedAt());
+    }
+
+    public boolean hasTurnkeySubOrganization() {
+        return turnkeySubOrganizationId != null && !turnkeySubOrganizationId.isBlank();
+    }
+}
@@ -0,0 +1,83 @@
+package com.maut.core.modules.wallet.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maut.core.modules.user.model.MautUser;
+import com.maut.core.modules.wallet.model.UserWallet;
+import com.maut.core.modules.wallet.repository.UserWalletRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves the {@link WalletBinding} of a MautUser, caching it across requests by MautUser id.
+ * <p>
+ * The Turnkey sub-organization and key ids never change after enrollment, so the wallet row only has
+ * to be read once per user. Missing wallets are not cached; enrollment populates the cache once its
+ * transaction commits, and anything that modifies or removes a wallet must call {@link #evict(UUID)}.
+ * Hit/miss counts are published as {@code cache.*{cache=wallet.bindings}}.
+ */
+@Slf4j
+@Component
+public class WalletBindingResolver {
+
+    private final UserWalletRepository userWalletRepository;
+    private final Cache<UUID, WalletBinding> cache;
+
+    public WalletBindingResolver(UserWalletRepository userWalletRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${wallet.bindingCacheMaxEntries:50000}") long maxEntries) {
+        this.userWalletRepository = userWalletRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(Duration.ofHours(12))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "wallet.bindings");
+    }
+
+    /**
+     * Returns the binding for {@code mautUser}, loading it from {@code user_wallets} on a miss.
+     * Empty if the user has not enrolled a wallet.
+     */
+    public Optional<WalletBinding> find(MautUser mautUser) {
+        return Optional.ofNullable(cache.get(mautUser.getId(), id -> load(mautUser)));
+    }
+
+    /**
+     * Caches the binding of a freshly persisted wallet. Inside a transaction the entry is only
+     * published after commit, so a rolled-back enrollment never becomes visible to other requests.
+     */
+    public void register(UUID mautUserId, UserWallet wallet) {
+        WalletBinding binding = WalletBinding.of(wallet);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(mautUserId, binding);
+                }
+            });
+        } else {
+            cache.put(mautUserId, binding);
+        }
+    }
+
+    public void evict(UUID mautUserId) {
+        cache.invalidate(mautUserId);
+    }
+
+    private WalletBinding load(MautUser mautUser) {
+        return userWalletRepository.findByMautUser(mautUser).stream()
+                .findFirst()
+                .map(WalletBinding::of)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,161 @@
+package com.maut.core.modules.wallet.service;
+
+import com.maut.core.common.exception.ResourceNotFoundException;
+import com.maut.core.common.exception.UserAlreadyHasWalletException;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import com.maut.core.modules.activity.repository.TurnkeyActivityRepository;
+import com.maut.core.modules.activity.service.TurnkeyActivityTracker;
+import com.maut.core.modules.activity.service.TurnkeyActivityTransitions;
+import com.maut.core.modules.user.model.MautUser;
+import com.maut.core.modules.wallet.dto.EnrollWalletJobResponse;
+import com.maut.core.modules.wallet.dto.EnrollWalletResponse;
+import com.maut.core.modules.wallet.event.WalletEnrollmentRequestedEvent;
+import com.maut.core.modules.wallet.model.WalletEnrollmentJob;
+import com.maut.core.modules.wallet.repository.UserWalletRepository;
+import com.maut.core.modules.wallet.repository.WalletEnrollmentJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records asynchronous wallet enrollment jobs and every state change they go through. Each job is also a
+ * tracked activity (id = job id), so clients follow it on {@code GET /v1/activities/{jobId}/status}.
+ * <p>
+ * The Turnkey work itself runs on {@link WalletEnrollmentWorker}; every method here is a short transaction
+ * so no connection is held across Turnkey calls.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WalletEnrollmentJobService {
+
+    public static final String ACTIVITY_TYPE = "MAUT_WALLET_ENROLLMENT";
+
+    private final WalletEnrollmentJobRepository jobRepository;
+    private final UserWalletRepository userWalletRepository;
+    private final TurnkeyActivityRepository turnkeyActivityRepository;
+    private final TurnkeyActivityTracker turnkeyActivityTracker;
+    private final TurnkeyActivityTransitions turnkeyActivityTransitions;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Records an enrollment job for the user, or returns the one already in progress. The worker is handed
+     * the job after this transaction commits.
+     *
+     * @throws UserAlreadyHasWalletException if the user already has a wallet
+     */
+    @Transactional
+    public EnrollWalletJobResponse submit(MautUser mautUser, String walletDisplayName) {
+        if (mautUser == null) {
+            log.error("MautUser cannot be null for wallet enrollment.");
+            throw new IllegalArgumentException("Authenticated MautUser is required for wallet enrollment.");
+        }
+        if (userWalletRepository.existsByMautUser(mautUser)) {
+            log.warn("MautUser ID: {} already has a wallet. Not starting an enrollment job.", mautUser.getId());
+            throw new UserAlreadyHasWalletException("User already has an enrolled wallet.");
+        }
+
+        WalletEnrollmentJob job = jobRepository.findActiveByMautUserId(mautUser.getId()).orElse(null);
+        if (job != null) {
+            log.info("MautUser ID: {} already has enrollment job {} in progress", mautUser.getId(), job.getId());
+            return toResponse(job);
+        }
+
+        Instant now = Instant.now();
+        job = new WalletEnrollmentJob();
+        job.setId(UUID.randomUUID());
+        job.setMautUserId(mautUser.getId());
+        job.setTeamId(mautUser.getTeam() != null ? mautUser.getTeam().getId() : null);
+        job.setWalletDisplayName(walletDisplayName);
+        job.setStatus(WalletEnrollmentJob.STATUS_PENDING);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        jobRepository.save(job);
+        turnkeyActivityTracker.trackInternal(job.getId().toString(), mautUser.getId(), ACTIVITY_TYPE);
+        eventPublisher.publishEvent(new WalletEnrollmentRequestedEvent(job.getId()));
+
+        log.info("Recorded wallet enrollment job {} for MautUser ID: {}", job.getId(), mautUser.getId());
+        return toResponse(job);
+    }
+
+    @Transactional
+    public void recordSubOrganization(UUID jobId, String subOrganizationId) {
+        WalletEnrollmentJob job = load(jobId);
+        job.setTurnkeySubOrganizationId(subOrganizationId);
+        job.setUpdatedAt(Instant.now());
+    }
+
+    /**
+     * Records whichever keys exist; {@code null} arguments leave the recorded value alone.
+     */
+    @Transactional
+    public void recordKeys(UUID jobId, String mautPrivateKeyId, String userPrivateKeyId, String walletAddress) {
+        WalletEnrollmentJob job = load(jobId);
+        if (mautPrivateKeyId != null) {
+            job.setTurnkeyMautPrivateKeyId(mautPrivateKeyId);
+        }
+        if (userPrivateKeyId != null) {
+            job.setTurnkeyUserPrivateKeyId(userPrivateKeyId);
+            job.setWalletAddress(walletAddress);
+        }
+        job.setUpdatedAt(Instant.now());
+    }
+
+    @Transactional
+    public void complete(UUID jobId, EnrollWalletResponse wallet) {
+        Instant now = Instant.now();
+        WalletEnrollmentJob job = load(jobId);
+        job.setStatus(WalletEnrollmentJob.STATUS_COMPLETED);
+        job.setUserWalletId(UUID.fromString(wallet.getWalletId()));
+        job.setWalletAddress(wallet.getWalletAddress());
+        job.setLastError(null);
+        job.setUpdatedAt(now);
+        job.setCompletedAt(now);
+        finishActivity(jobId, TurnkeyActivityStatus.COMPLETED,
+                Map.of("walletId", wallet.getWalletId(), "walletAddress", wallet.getWalletAddress()), now);
+        log.info("Wallet enrollment job {} completed with wallet {}", jobId, wallet.getWalletId());
+    }
+
+    /**
+     * Puts a job whose attempt failed back to pending; the recovery sweep retries it after the retry delay.
+     */
+    @Transactional
+    public void release(UUID jobId, String error) {
+        WalletEnrollmentJob job = load(jobId);
+        job.setStatus(WalletEnrollmentJob.STATUS_PENDING);
+        job.setLastError(error);
+        job.setUpdatedAt(Instant.now());
+    }
+
+    @Transactional
+    public void fail(UUID jobId, String error) {
+        Instant now = Instant.now();
+        WalletEnrollmentJob job = load(jobId);
+        job.setStatus(WalletEnrollmentJob.STATUS_FAILED);
+        job.setLastError(error);
+        job.setUpdatedAt(now);
+        job.setCompletedAt(now);
+        finishActivity(jobId, TurnkeyActivityStatus.FAILED, Map.of("error", error), now);
+    }
+
+    private void finishActivity(UUID jobId, String status, Map<String, Object> result, Instant now) {
+        turnkeyActivityRepository.findByActivityId(jobId.toString())
+                .ifPresent(activity -> turnkeyActivityTransitions.apply(activity, status, result, now));
+    }
+
+    private WalletEnrollmentJob load(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Wallet enrollment job not found with ID: " + jobId));
+    }
+
+    private static EnrollWalletJobResponse toResponse(WalletEnrollmentJob job) {
+        String jobId = job.getId().toString();
+        return new EnrollWalletJobResponse(jobId, job.getStatus(), "/v1/activities/" + jobId + "/status");
+    }
+}
@@ -0,0 +1,335 @@
+package com.maut.core.modules.wallet.service;
+
+import com.maut.core.common.config.properties.WalletEnrollmentProperties;
+import com.maut.core.common.config.properties.WalletPoolProperties;
+import com.maut.core.common.events.WebhookEventTypes;
+import com.maut.core.common.exception.UserAlreadyHasWalletException;
+import com.maut.core.external.turnkey.TurnkeyService;
+import com.maut.core.external.turnkey.model.TurnkeyPrivateKey;
+import com.maut.core.integration.turnkey.TurnkeyIdempotencyKeys;
+import com.maut.core.modules.user.model.MautUser;
+import com.maut.core.modules.user.repository.MautUserRepository;
+import com.maut.core.modules.wallet.dto.EnrollWalletResponse;
+import com.maut.core.modules.wallet.event.WalletEnrollmentRequestedEvent;
+import com.maut.core.modules.wallet.model.UserWallet;
+import com.maut.core.modules.wallet.model.WalletEnrollmentJob;
+import com.maut.core.modules.wallet.repository.WalletEnrollmentJobRepository;
+import com.maut.core.modules.webhook.service.WebhookDispatcherService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs asynchronous wallet enrollment jobs on a bounded worker pool, off the request thread.
+ * <p>
+ * A job is claimed with a compare-and-set, so exactly one worker across nodes runs it. With
+ * {@code provisionWithTurnkey} the worker creates the sub-organization, then both keys in parallel, recording
+ * each Turnkey id on the job as soon as it exists. Every Turnkey call is keyed on the job id, so a retried
+ * attempt, even one whose predecessor died before recording an id, resumes the original activity instead of
+ * creating duplicates. Failed attempts are released for the recovery sweep until {@code maxAttempts}. When a
+ * job fails for good, whatever it created (the user enrolled another way meanwhile, or the keys never
+ * completed) is handed to the wallet pool rather than leaked.
+ * <p>
+ * Jobs whose hand-off was rejected (full queue) or whose node died are picked up by the recovery sweep.
+ */
+@Slf4j
+@Component
+public class WalletEnrollmentWorker implements DisposableBean {
+
+    private static final String METRIC_NAME = "wallet.enrollment.jobs";
+    private static final String CREATE_SUB_ORGANIZATION = "ACTIVITY_TYPE_CREATE_SUB_ORGANIZATION_V7";
+    private static final String CREATE_PRIVATE_KEYS = "ACTIVITY_TYPE_CREATE_PRIVATE_KEYS_V2";
+
+    private final WalletEnrollmentJobRepository jobRepository;
+    private final WalletEnrollmentJobService jobService;
+    private final MautUserRepository mautUserRepository;
+    private final WalletService walletService;
+    private final WalletPoolProvisioner walletPoolProvisioner;
+    private final TurnkeyService turnkeyService;
+    private final WebhookDispatcherService webhookDispatcherService;
+    private final WalletEnrollmentProperties properties;
+    private final WalletPoolProperties walletPoolProperties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    public WalletEnrollmentWorker(WalletEnrollmentJobRepository jobRepository,
+                                  WalletEnrollmentJobService jobService,
+                                  MautUserRepository mautUserRepository,
+                                  WalletService walletService,
+                                  WalletPoolProvisioner walletPoolProvisioner,
+                                  TurnkeyService turnkeyService,
+                                  WebhookDispatcherService webhookDispatcherService,
+                                  WalletEnrollmentProperties properties,
+                                  WalletPoolProperties walletPoolProperties,
+                                  MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.jobService = jobService;
+        this.mautUserRepository = mautUserRepository;
+        this.walletService = walletService;
+        this.walletPoolProvisioner = walletPoolProvisioner;
+        this.turnkeyService = turnkeyService;
+        this.webhookDispatcherService = webhookDispatcherService;
+        this.properties = properties;
+        this.walletPoolProperties = walletPoolProperties;
+        this.meterRegistry = meterRegistry;
+
+        BlockingQueue<Runnable> queue = properties.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkerThreads(),
+                properties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                new WorkerThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder(METRIC_NAME + ".queued", queue, BlockingQueue::size)
+                .description("Wallet enrollment jobs waiting for a worker thread")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Wallet enrollment jobs currently running on this node")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onEnrollmentRequested(WalletEnrollmentRequestedEvent event) {
+        submit(event.getJobId());
+    }
+
+    @Scheduled(initialDelayString = "${wallet.enrollment.recoveryIntervalMs:10000}",
+               fixedDelayString = "${wallet.enrollment.recoveryIntervalMs:10000}")
+    public void recover() {
+        Instant now = Instant.now();
+        for (String id : jobRepository.findIdsNeedingWorker(
+                now.minusMillis(properties.getRetryDelayMs()),
+                now.minusMillis(properties.getStaleAfterMs()),
+                properties.getRecoveryBatchSize())) {
+            if (!submit(UUID.fromString(id))) {
+                break;
+            }
+        }
+    }
+
+    boolean submit(UUID jobId) {
+        try {
+            executor.execute(() -> run(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Wallet enrollment workers saturated; job {} stays pending for the recovery sweep", jobId);
+            return false;
+        }
+    }
+
+    void run(UUID jobId) {
+        Instant now = Instant.now();
+        if (jobRepository.claim(jobId, now, now.minusMillis(properties.getStaleAfterMs())) == 0) {
+            return;
+        }
+        WalletEnrollmentJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        MautUser mautUser = mautUserRepository.findById(job.getMautUserId()).orElse(null);
+        if (mautUser == null) {
+            jobService.fail(jobId, "MautUser " + job.getMautUserId() + " no longer exists");
+            handOffToPool(job);
+            count("failed");
+            return;
+        }
+
+        EnrollWalletResponse wallet;
+        try {
+            wallet = provision(job, mautUser);
+        } catch (Exception e) {
+            Throwable cause = unwrap(e);
+            String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+            if (isRetryable(cause) && job.getAttempts() < properties.getMaxAttempts()) {
+                log.warn("Wallet enrollment job {} attempt {} of {} failed, will retry: {}",
+                        jobId, job.getAttempts(), properties.getMaxAttempts(), error);
+                jobService.release(jobId, error);
+                count("retried");
+            } else {
+                log.error("Wallet enrollment job {} failed after {} attempt(s): {}", jobId, job.getAttempts(), error, cause);
+                jobService.fail(jobId, error);
+                handOffToPool(job);
+                count("failed");
+            }
+            return;
+        }
+
+        jobService.complete(jobId, wallet);
+        count("completed");
+        dispatchWalletCreated(job, wallet);
+    }
+
+    private EnrollWalletResponse provision(WalletEnrollmentJob job, MautUser mautUser) throws Exception {
+        if (!properties.isProvisionWithTurnkey() || walletPoolProperties.isEnabled()) {
+            return walletService.enrollNewWallet(mautUser, job.getWalletDisplayName());
+        }
+
+        String name = "maut-wallet-" + job.getId();
+        if (job.getTurnkeySubOrganizationId() == null) {
+            String subOrganizationId = await(turnkeyService.createSubOrganizationAsync(name,
+                    TurnkeyIdempotencyKeys.forOperation(CREATE_SUB_ORGANIZATION, "enrollment", job.getId().toString())))
+                    .getSubOrganizationId();
+            jobService.recordSubOrganization(job.getId(), subOrganizationId);
+            job.setTurnkeySubOrganizationId(subOrganizationId);
+        }
+        if (job.getTurnkeyMautPrivateKeyId() == null || job.getTurnkeyUserPrivateKeyId() == null) {
+            createKeys(job, name);
+        }
+
+        UserWallet wallet = new UserWallet();
+        wallet.setWalletAddress(job.getWalletAddress());
+        wallet.setTurnkeySubOrganizationId(job.getTurnkeySubOrganizationId());
+        wallet.setTurnkeyMautPrivateKeyId(job.getTurnkeyMautPrivateKeyId());
+        wallet.setTurnkeyUserPrivateKeyId(job.getTurnkeyUserPrivateKeyId());
+        return walletService.enrollProvisionedWallet(mautUser, job.getWalletDisplayName(), wallet);
+    }
+
+    /**
+     * Creates the missing keys in parallel and records each one as soon as it is awaited, even if the other
+     * failed, so the next attempt only creates what is still missing.
+     */
+    private void createKeys(WalletEnrollmentJob job, String name) throws Exception {
+        CompletableFuture<TurnkeyPrivateKey> mautKey = job.getTurnkeyMautPrivateKeyId() == null
+                ? createKey(job, name, "maut")
+                : null;
+        CompletableFuture<TurnkeyPrivateKey> userKey = job.getTurnkeyUserPrivateKeyId() == null
+                ? createKey(job, name, "user")
+                : null;
+        Exception failure = null;
+        if (mautKey != null) {
+            try {
+                String mautPrivateKeyId = await(mautKey).getPrivateKeyId();
+                jobService.recordKeys(job.getId(), mautPrivateKeyId, null, null);
+                job.setTurnkeyMautPrivateKeyId(mautPrivateKeyId);
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+        if (userKey != null) {
+            try {
+                TurnkeyPrivateKey user = await(userKey);
+                jobService.recordKeys(job.getId(), null, user.getPrivateKeyId(), user.getAddress());
+                job.setTurnkeyUserPrivateKeyId(user.getPrivateKeyId());
+                job.setWalletAddress(user.getAddress());
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private CompletableFuture<TurnkeyPrivateKey> createKey(WalletEnrollmentJob job, String name, String role) {
+        String privateKeyName = name + "-" + role;
+        return turnkeyService.createMautManagedPrivateKeyAsync(job.getTurnkeySubOrganizationId(), privateKeyName,
+                TurnkeyIdempotencyKeys.forOperation(CREATE_PRIVATE_KEYS, job.getId().toString(), role));
+    }
+
+    /**
+     * Hands whatever a job that failed for good created to the wallet pool, so no sub-organization is leaked.
+     * A wallet still missing a key enters the pool as provisioning and the pool creates that key.
+     */
+    private void handOffToPool(WalletEnrollmentJob job) {
+        if (job.getTurnkeySubOrganizationId() == null) {
+            return;
+        }
+        try {
+            walletPoolProvisioner.adopt(job.getTurnkeySubOrganizationId(), job.getTurnkeyMautPrivateKeyId(),
+                    job.getTurnkeyUserPrivateKeyId(), job.getWalletAddress());
+            log.info("Wallet enrollment job {} failed; sub-organization {} added to the wallet pool",
+                    job.getId(), job.getTurnkeySubOrganizationId());
+        } catch (RuntimeException e) {
+            log.error("Could not hand sub-organization {} of failed wallet enrollment job {} to the wallet pool",
+                    job.getTurnkeySubOrganizationId(), job.getId(), e);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get(properties.getStepTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private void dispatchWalletCreated(WalletEnrollmentJob job, EnrollWalletResponse wallet) {
+        if (job.getTeamId() == null) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("jobId", job.getId().toString());
+        payload.put("mautUserId", job.getMautUserId().toString());
+        payload.put("walletId", wallet.getWalletId());
+        payload.put("walletAddress", wallet.getWalletAddress());
+        try {
+            webhookDispatcherService.dispatchEvent(job.getTeamId(), WebhookEventTypes.WALLET_CREATED, payload);
+        } catch (Exception e) {
+            log.error("Failed to dispatch '{}' event for wallet enrollment job {} and team ID: {}. Error: {}",
+                    WebhookEventTypes.WALLET_CREATED, job.getId(), job.getTeamId(), e.getMessage(), e);
+            // Not re-throwing: the wallet exists and the job is complete either way.
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof ExecutionException || error instanceof CompletionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Everything is retried (Turnkey outages, timeouts, a database blip) except outcomes another attempt
+     * cannot change.
+     */
+    private static boolean isRetryable(Throwable error) {
+        return !(error instanceof UserAlreadyHasWalletException || error instanceof IllegalArgumentException);
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter(METRIC_NAME, "outcome", outcome).increment();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "wallet-enrollment-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
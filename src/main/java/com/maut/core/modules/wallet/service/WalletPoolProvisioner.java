@@ -0,0 +1,247 @@
+package com.maut.core.modules.wallet.service;
+
+import com.maut.core.common.config.properties.WalletPoolProperties;
+import com.maut.core.external.turnkey.TurnkeyService;
+import com.maut.core.external.turnkey.model.TurnkeyPrivateKey;
+import com.maut.core.integration.turnkey.TurnkeyIdempotencyKeys;
+import com.maut.core.modules.wallet.model.ProvisionedWallet;
+import com.maut.core.modules.wallet.repository.ProvisionedWalletRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the {@code provisioned_wallets} pool of the configured environment topped up.
+ * <p>
+ * Each round counts the available wallets and, below {@code targetSize}, provisions up to
+ * {@code maxProvisionPerRound} new ones concurrently: a sub-organization, then its Maut and user keys
+ * in parallel. Slow Turnkey calls therefore happen here instead of on the enrollment path. Dropping below
+ * {@code lowWaterMark} logs a warning and increments {@code wallet.pool.low}; the available count is
+ * exported as the {@code wallet.pool.available} gauge.
+ * <p>
+ * Only the node holding the environment's refill lease runs a round, so nodes do not each provision the
+ * same shortfall. A sub-organization is saved as {@code PROVISIONING} before its keys are requested, and
+ * every Turnkey call is keyed on the wallet, so a wallet whose keys failed is resumed by a later round
+ * instead of leaking its sub-organization. Database writes run on the application task executor, never on
+ * the Turnkey HTTP threads.
+ * <p>
+ * The user key is created with Maut's API key like the Maut key; nothing transfers it to the user's
+ * authenticator yet, same as for demo wallets.
+ */
+@Slf4j
+@Component
+public class WalletPoolProvisioner {
+
+    private static final String CREATE_SUB_ORGANIZATION = "ACTIVITY_TYPE_CREATE_SUB_ORGANIZATION_V7";
+    private static final String CREATE_PRIVATE_KEYS = "ACTIVITY_TYPE_CREATE_PRIVATE_KEYS_V2";
+
+    private final ProvisionedWalletRepository provisionedWalletRepository;
+    private final TurnkeyService turnkeyService;
+    private final WalletPoolProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor databaseExecutor;
+    private final AtomicLong available = new AtomicLong(-1);
+
+    public WalletPoolProvisioner(ProvisionedWalletRepository provisionedWalletRepository,
+                                 TurnkeyService turnkeyService,
+                                 WalletPoolProperties properties,
+                                 MeterRegistry meterRegistry,
+                                 @Qualifier("applicationTaskExecutor") Executor databaseExecutor) {
+        this.provisionedWalletRepository = provisionedWalletRepository;
+        this.turnkeyService = turnkeyService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.databaseExecutor = databaseExecutor;
+
+        Gauge.builder("wallet.pool.available", available, AtomicLong::get)
+                .description("Pre-provisioned wallets available for enrollment, as of the last refill round")
+                .tag("environment", properties.getEnvironment())
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${wallet.pool.refillIntervalMs:10000}",
+               fixedDelayString = "${wallet.pool.refillIntervalMs:10000}")
+    public void refill() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String environment = properties.getEnvironment();
+        Instant now = Instant.now();
+        // Outlives the round deadline, so a lease is never taken over while its round can still start work.
+        Instant leaseUntil = now.plusMillis(2 * properties.getRoundTimeoutMs()).truncatedTo(ChronoUnit.MILLIS);
+        if (provisionedWalletRepository.acquireRefillLease(environment, now, leaseUntil) == 0) {
+            log.debug("Another node is refilling the wallet pool for environment '{}'", environment);
+            return;
+        }
+        boolean settled = false;
+        try {
+            settled = refill(environment, now);
+        } finally {
+            // A round cut off by its deadline keeps the lease until it expires: its sub-organizations may not be saved yet.
+            if (settled) {
+                provisionedWalletRepository.releaseRefillLease(environment, leaseUntil, Instant.now());
+            }
+        }
+    }
+
+    /**
+     * @return false if wallets of this round may still be in flight
+     */
+    private boolean refill(String environment, Instant now) {
+        long count = provisionedWalletRepository.countByEnvironmentAndStatus(environment, ProvisionedWallet.STATUS_AVAILABLE);
+        available.set(count);
+        if (count < properties.getLowWaterMark()) {
+            meterRegistry.counter("wallet.pool.low", "environment", environment).increment();
+            log.warn("Wallet pool for environment '{}' is low: {} available (low-water mark {}, target {})",
+                    environment, count, properties.getLowWaterMark(), properties.getTargetSize());
+        }
+
+        long inProgress = provisionedWalletRepository.countByEnvironmentAndStatus(environment, ProvisionedWallet.STATUS_PROVISIONING);
+        List<ProvisionedWallet> stale = provisionedWalletRepository.findStaleProvisioning(
+                environment, now.minusMillis(properties.getRoundTimeoutMs()), properties.getMaxProvisionPerRound());
+        int toProvision = (int) Math.min(properties.getTargetSize() - count - inProgress, properties.getMaxProvisionPerRound() - stale.size());
+        if (stale.isEmpty() && toProvision <= 0) {
+            return true;
+        }
+        List<CompletableFuture<ProvisionedWallet>> round = new ArrayList<>(stale.size() + Math.max(toProvision, 0));
+        for (ProvisionedWallet wallet : stale) {
+            log.info("Resuming pooled wallet {} (sub-organization {}) left without keys", wallet.getId(), wallet.getTurnkeySubOrganizationId());
+            provisionedWalletRepository.touchProvisioning(wallet.getId(), now);
+            round.add(track(environment, wallet.getId(), createKeys(wallet)));
+        }
+        for (int i = 0; i < toProvision; i++) {
+            round.add(provision(environment));
+        }
+        try {
+            CompletableFuture.allOf(round.toArray(new CompletableFuture[0])).get(properties.getRoundTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Wallet pool refill round hit its {} ms deadline; unfinished wallets are saved when Turnkey completes them",
+                    properties.getRoundTimeoutMs());
+        } catch (ExecutionException e) {
+            // Individual failures are logged and counted per wallet.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        long provisioned = round.stream().filter(f -> f.isDone() && !f.isCompletedExceptionally()).count();
+        available.addAndGet(provisioned);
+        log.info("Wallet pool for environment '{}': provisioned {} of {} wallets this round", environment, provisioned, round.size());
+        return round.stream().allMatch(CompletableFuture::isDone);
+    }
+
+    private CompletableFuture<ProvisionedWallet> provision(String environment) {
+        UUID walletId = UUID.randomUUID();
+        String name = walletName(environment, walletId);
+        CompletableFuture<ProvisionedWallet> wallet = turnkeyService
+                .createSubOrganizationAsync(name, TurnkeyIdempotencyKeys.forOperation(CREATE_SUB_ORGANIZATION, environment, walletId.toString()))
+                .thenApplyAsync(subOrganization -> savePending(walletId, environment, subOrganization.getSubOrganizationId()), databaseExecutor)
+                .thenCompose(this::createKeys);
+        return track(environment, walletId, wallet);
+    }
+
+    /**
+     * Creates the missing keys of a saved {@code PROVISIONING} wallet and makes it available. Keys are requested
+     * under idempotency keys derived from the wallet, so resuming a wallet returns the keys of an earlier attempt.
+     */
+    private CompletableFuture<ProvisionedWallet> createKeys(ProvisionedWallet wallet) {
+        String subOrganizationId = wallet.getTurnkeySubOrganizationId();
+        String name = walletName(wallet.getEnvironment(), wallet.getId());
+        CompletableFuture<TurnkeyPrivateKey> mautKey = wallet.getTurnkeyMautPrivateKeyId() == null
+                ? createKey(subOrganizationId, name + "-maut")
+                : CompletableFuture.completedFuture(TurnkeyPrivateKey.builder().privateKeyId(wallet.getTurnkeyMautPrivateKeyId()).build());
+        CompletableFuture<TurnkeyPrivateKey> userKey = wallet.getTurnkeyUserPrivateKeyId() == null
+                ? createKey(subOrganizationId, name + "-user")
+                : CompletableFuture.completedFuture(TurnkeyPrivateKey.builder()
+                        .privateKeyId(wallet.getTurnkeyUserPrivateKeyId())
+                        .address(wallet.getWalletAddress())
+                        .build());
+        return mautKey.thenCombine(userKey, (maut, user) -> new TurnkeyPrivateKey[]{maut, user})
+                .thenApplyAsync(keys -> complete(wallet, keys[0], keys[1]), databaseExecutor);
+    }
+
+    private CompletableFuture<TurnkeyPrivateKey> createKey(String subOrganizationId, String privateKeyName) {
+        return turnkeyService.createMautManagedPrivateKeyAsync(subOrganizationId, privateKeyName,
+                TurnkeyIdempotencyKeys.forOperation(CREATE_PRIVATE_KEYS, subOrganizationId, privateKeyName));
+    }
+
+    private CompletableFuture<ProvisionedWallet> track(String environment, UUID walletId, CompletableFuture<ProvisionedWallet> wallet) {
+        return wallet.whenComplete((saved, error) -> {
+            String outcome = error == null ? "success" : "failed";
+            meterRegistry.counter("wallet.pool.provisioned", "environment", environment, "outcome", outcome).increment();
+            if (error != null) {
+                log.error("Failed to provision pooled wallet {}: {}", walletId, error.getMessage(), error);
+            }
+        });
+    }
+
+    private static String walletName(String environment, UUID walletId) {
+        return "maut-pool-" + environment + "-" + walletId;
+    }
+
+    private ProvisionedWallet savePending(UUID walletId, String environment, String subOrganizationId) {
+        Instant now = Instant.now();
+        ProvisionedWallet wallet = new ProvisionedWallet();
+        wallet.setId(walletId);
+        wallet.setEnvironment(environment);
+        wallet.setStatus(ProvisionedWallet.STATUS_PROVISIONING);
+        wallet.setTurnkeySubOrganizationId(subOrganizationId);
+        wallet.setCreatedAt(now);
+        wallet.setUpdatedAt(now);
+        ProvisionedWallet saved = provisionedWalletRepository.save(wallet);
+        log.debug("Saved sub-organization {} of pooled wallet {} before creating its keys", subOrganizationId, walletId);
+        return saved;
+    }
+
+    private ProvisionedWallet complete(ProvisionedWallet wallet, TurnkeyPrivateKey mautKey, TurnkeyPrivateKey userKey) {
+        Instant now = Instant.now();
+        if (provisionedWalletRepository.completeProvisioning(wallet.getId(), mautKey.getPrivateKeyId(),
+                userKey.getPrivateKeyId(), userKey.getAddress(), now) == 0) {
+            log.debug("Pooled wallet {} was already completed", wallet.getId());
+        }
+        wallet.setStatus(ProvisionedWallet.STATUS_AVAILABLE);
+        wallet.setTurnkeyMautPrivateKeyId(mautKey.getPrivateKeyId());
+        wallet.setTurnkeyUserPrivateKeyId(userKey.getPrivateKeyId());
+        wallet.setWalletAddress(userKey.getAddress());
+        wallet.setUpdatedAt(now);
+        log.debug("Provisioned pooled wallet {} (sub-organization {})", wallet.getId(), wallet.getTurnkeySubOrganizationId());
+        return wallet;
+    }
+
+    /**
+     * Adds a sub-organization and keys created elsewhere to the pool of the configured environment, e.g. those
+     * of an enrollment job that failed for good. Either key id may be {@code null}: such a wallet is saved as
+     * {@code PROVISIONING} and a later refill round creates the missing key.
+     */
+    public ProvisionedWallet adopt(String subOrganizationId, String mautPrivateKeyId, String userPrivateKeyId, String walletAddress) {
+        ProvisionedWallet wallet = new ProvisionedWallet();
+        wallet.setId(UUID.randomUUID());
+        wallet.setEnvironment(properties.getEnvironment());
+        wallet.setStatus(mautPrivateKeyId != null && userPrivateKeyId != null
+                ? ProvisionedWallet.STATUS_AVAILABLE
+                : ProvisionedWallet.STATUS_PROVISIONING);
+        wallet.setWalletAddress(walletAddress);
+        wallet.setTurnkeySubOrganizationId(subOrganizationId);
+        wallet.setTurnkeyMautPrivateKeyId(mautPrivateKeyId);
+        wallet.setTurnkeyUserPrivateKeyId(userPrivateKeyId);
+        wallet.setCreatedAt(Instant.now());
+        wallet.setUpdatedAt(wallet.getCreatedAt());
+        ProvisionedWallet saved = provisionedWalletRepository.save(wallet);
+        log.debug("Adopted sub-organization {} into the pool as wallet {}", subOrganizationId, saved.getId());
+        return saved;
+    }
+}
@@ -3,6 +3,7 @@ package com.maut.core.modules.wallet.service;
 import com.maut.core.modules.user.model.MautUser;
 import com.maut.core.modules.wallet.dto.EnrollWalletResponse;
 import com.maut.core.modules.wallet.dto.WalletDetailsResponse;
+import com.maut.core.modules.wallet.model.UserWallet;
 
 public interface WalletService {
 
@@ -19,6 +20,18 @@ public interface WalletService {
      */
     EnrollWalletResponse enrollNewWallet(MautUser mautUser, String walletDisplayName);
 
+    /**
+     * Binds a wallet whose Turnkey sub-organization and keys were already created, e.g. by an asynchronous
+     * enrollment job, to the given MautUser.
+     *
+     * @param mautUser The MautUser receiving the wallet. Must not be null.
+     * @param walletDisplayName An optional display name for the wallet.
+     * @param wallet The provisioned wallet; its address and Turnkey ids must be set.
+     * @return EnrollWalletResponse containing the new wallet's address.
+     * @throws com.maut.core.common.exception.UserAlreadyHasWalletException if the user already has a wallet.
+     */
+    EnrollWalletResponse enrollProvisionedWallet(MautUser mautUser, String walletDisplayName, UserWallet wallet);
+
     /**
      * Retrieves the details of the MautUser's wallet.
      *
@@ -1,11 +1,17 @@
 package com.maut.core.modules.wallet.service;
 
+import com.maut.core.common.config.properties.WalletPoolProperties;
 import com.maut.core.common.exception.TurnkeyOperationException;
 import com.maut.core.common.exception.UserAlreadyHasWalletException;
+import com.maut.core.common.exception.WalletPoolExhaustedException;
+import com.maut.core.modules.mirror.model.MirroredPolicy;
+import com.maut.core.modules.mirror.service.TurnkeyMirrorReader;
 import com.maut.core.modules.user.model.MautUser;
 import com.maut.core.modules.wallet.dto.EnrollWalletResponse;
 import com.maut.core.modules.wallet.dto.WalletDetailsResponse;
+import com.maut.core.modules.wallet.model.ProvisionedWallet;
 import com.maut.core.modules.wallet.model.UserWallet;
+import com.maut.core.modules.wallet.repository.ProvisionedWalletRepository;
 import com.maut.core.modules.wallet.repository.UserWalletRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,8 +27,10 @@ import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +38,10 @@ import java.util.UUID;
 public class WalletServiceImpl implements WalletService {
 
     private final UserWalletRepository userWalletRepository;
+    private final WalletBindingResolver walletBindingResolver;
+    private final ProvisionedWalletRepository provisionedWalletRepository;
+    private final WalletPoolProperties walletPoolProperties;
+    private final TurnkeyMirrorReader turnkeyMirrorReader;
 
     @Override
     @Transactional
@@ -38,13 +50,76 @@ public class WalletServiceImpl implements WalletService {
             log.error("MautUser cannot be null for wallet enrollment.");
             throw new IllegalArgumentException("Authenticated MautUser is required for wallet enrollment.");
         }
-        log.info("Attempting to enroll a new DEMO wallet for MautUser ID: {}", mautUser.getId());
+        log.info("Attempting to enroll a new {} wallet for MautUser ID: {}", walletPoolProperties.isEnabled() ? "pooled" : "DEMO", mautUser.getId());
 
         if (userWalletRepository.existsByMautUser(mautUser)) {
             log.warn("MautUser ID: {} already has a wallet. Aborting enrollment.", mautUser.getId());
             throw new UserAlreadyHasWalletException("User already has an enrolled wallet.");
         }
 
+        UserWallet newUserWallet = walletPoolProperties.isEnabled() ? claimPooledWallet(mautUser) : generateDemoWallet(mautUser);
+        newUserWallet.setMautUser(mautUser);
+        newUserWallet.setWalletDisplayName(walletDisplayName != null ? walletDisplayName
+                : walletPoolProperties.isEnabled() ? "My Maut Wallet" : "My Maut Demo Wallet");
+        newUserWallet.setCreatedAt(Instant.now());
+        newUserWallet.setUpdatedAt(Instant.now());
+
+        UserWallet savedWallet = userWalletRepository.save(newUserWallet); 
+        log.info("Successfully enrolled and saved wallet with ID: {} for MautUser ID: {}", savedWallet.getId(), mautUser.getId());
+        walletBindingResolver.register(mautUser.getId(), savedWallet);
+
+        return new EnrollWalletResponse(savedWallet.getId().toString(), savedWallet.getWalletAddress());
+    }
+
+    @Override
+    @Transactional
+    public EnrollWalletResponse enrollProvisionedWallet(MautUser mautUser, String walletDisplayName, UserWallet wallet) {
+        if (mautUser == null) {
+            log.error("MautUser cannot be null for wallet enrollment.");
+            throw new IllegalArgumentException("Authenticated MautUser is required for wallet enrollment.");
+        }
+        if (userWalletRepository.existsByMautUser(mautUser)) {
+            log.warn("MautUser ID: {} already has a wallet. Not binding sub-organization {}.", mautUser.getId(), wallet.getTurnkeySubOrganizationId());
+            throw new UserAlreadyHasWalletException("User already has an enrolled wallet.");
+        }
+
+        wallet.setMautUser(mautUser);
+        wallet.setWalletDisplayName(walletDisplayName != null ? walletDisplayName : "My Maut Wallet");
+        wallet.setCreatedAt(Instant.now());
+        wallet.setUpdatedAt(Instant.now());
+
+        UserWallet savedWallet = userWalletRepository.save(wallet);
+        log.info("Bound provisioned wallet {} (sub-organization {}) to MautUser ID: {}", savedWallet.getId(), savedWallet.getTurnkeySubOrganizationId(), mautUser.getId());
+        walletBindingResolver.register(mautUser.getId(), savedWallet);
+
+        return new EnrollWalletResponse(savedWallet.getId().toString(), savedWallet.getWalletAddress());
+    }
+
+    /**
+     * Binds the oldest available pre-provisioned wallet to the user. The pool row stays locked until the
+     * enrollment transaction commits, so it is claimed together with the new user_wallets row or not at all.
+     */
+    private UserWallet claimPooledWallet(MautUser mautUser) {
+        ProvisionedWallet provisioned = provisionedWalletRepository.lockNextAvailable(walletPoolProperties.getEnvironment())
+            .orElseThrow(() -> {
+                log.error("No pre-provisioned wallet available in environment '{}' for MautUser ID: {}", walletPoolProperties.getEnvironment(), mautUser.getId());
+                return new WalletPoolExhaustedException("No wallet is available right now. Please retry shortly.",
+                        Math.max(1, TimeUnit.MILLISECONDS.toSeconds(walletPoolProperties.getRefillIntervalMs())));
+            });
+        provisioned.setStatus(ProvisionedWallet.STATUS_CLAIMED);
+        provisioned.setClaimedByMautUserId(mautUser.getId());
+        provisioned.setClaimedAt(Instant.now());
+        log.info("Claimed pooled wallet {} (sub-organization {}) for MautUser ID: {}", provisioned.getId(), provisioned.getTurnkeySubOrganizationId(), mautUser.getId());
+
+        UserWallet wallet = new UserWallet();
+        wallet.setWalletAddress(provisioned.getWalletAddress());
+        wallet.setTurnkeySubOrganizationId(provisioned.getTurnkeySubOrganizationId());
+        wallet.setTurnkeyMautPrivateKeyId(provisioned.getTurnkeyMautPrivateKeyId());
+        wallet.setTurnkeyUserPrivateKeyId(provisioned.getTurnkeyUserPrivateKeyId());
+        return wallet;
+    }
+
+    private UserWallet generateDemoWallet(MautUser mautUser) {
         String newWalletAddress;
         String privateKeyHex;
 
@@ -59,22 +134,13 @@ public class WalletServiceImpl implements WalletService {
             throw new TurnkeyOperationException("Failed to generate demo Ethereum key pair: " + e.getMessage(), e);
         }
 
-        UserWallet newUserWallet = new UserWallet();
-        newUserWallet.setMautUser(mautUser);
-        newUserWallet.setWalletAddress(newWalletAddress);
-        newUserWallet.setWalletDisplayName(walletDisplayName != null ? walletDisplayName : "My Maut Demo Wallet");
-        newUserWallet.setCreatedAt(Instant.now());
-        newUserWallet.setUpdatedAt(Instant.now());
-
+        UserWallet wallet = new UserWallet();
+        wallet.setWalletAddress(newWalletAddress);
         String randomSuffix = UUID.randomUUID().toString().substring(0, 8); 
-        newUserWallet.setTurnkeyMautPrivateKeyId(privateKeyHex); 
-        newUserWallet.setTurnkeyUserPrivateKeyId("DEMO-" + randomSuffix);
-        newUserWallet.setTurnkeySubOrganizationId("DEMO-" + randomSuffix);
-
-        UserWallet savedWallet = userWalletRepository.save(newUserWallet); 
-        log.info("Successfully enrolled and saved DEMO wallet with ID: {} for MautUser ID: {}", savedWallet.getId(), mautUser.getId());
-
-        return new EnrollWalletResponse(savedWallet.getId().toString(), savedWallet.getWalletAddress());
+        wallet.setTurnkeyMautPrivateKeyId(privateKeyHex); 
+        wallet.setTurnkeyUserPrivateKeyId("DEMO-" + randomSuffix);
+        wallet.setTurnkeySubOrganizationId("DEMO-" + randomSuffix);
+        return wallet;
     }
 
     @Override
@@ -85,25 +151,41 @@ public class WalletServiceImpl implements WalletService {
         }
         log.info("Fetching wallet details for MautUser ID: {}", mautUser.getId());
 
-        UserWallet userWallet = userWalletRepository.findByMautUser(mautUser)
-            .stream().findFirst()
+        WalletBinding walletBinding = walletBindingResolver.find(mautUser)
             .orElseThrow(() -> {
                 log.warn("No UserWallet found for MautUser ID: {}. Cannot fetch details.", mautUser.getId());
                 return new com.maut.core.common.exception.ResourceNotFoundException("UserWallet not found for user " + mautUser.getId());
             });
 
-        Map<String, Object> currentPolicyPlaceholder = new HashMap<>();
-        currentPolicyPlaceholder.put("policyName", "N/A (Demo Mode)");
+        // Served from the local Turnkey mirror; syncedAt says how fresh it is (null if never mirrored).
+        String subOrganizationId = walletBinding.getTurnkeySubOrganizationId();
+        Instant syncedAt = turnkeyMirrorReader.syncedAt(subOrganizationId).orElse(null);
+        Map<String, Object> currentPolicy = new HashMap<>();
+        List<MirroredPolicy> policies = syncedAt != null ? turnkeyMirrorReader.policies(subOrganizationId) : List.of();
+        if (policies.isEmpty()) {
+            currentPolicy.put("policyName", syncedAt != null ? "N/A" : "N/A (Demo Mode)");
+        } else {
+            MirroredPolicy policy = policies.stream()
+                .filter(p -> p.getPolicyId().equals(walletBinding.getDefaultTurnkeyPolicyId()))
+                .findFirst()
+                .orElse(policies.get(0));
+            currentPolicy.put("policyId", policy.getPolicyId());
+            currentPolicy.put("policyName", policy.getPolicyName());
+            currentPolicy.put("effect", policy.getEffect());
+            currentPolicy.put("condition", policy.getCondition());
+            currentPolicy.put("consensus", policy.getConsensus());
+        }
 
         WalletDetailsResponse response = WalletDetailsResponse.builder()
-            .walletId(userWallet.getId().toString())
-            .displayName(userWallet.getWalletDisplayName())
-            .walletAddress(userWallet.getWalletAddress())
-            .turnkeySubOrganizationId(userWallet.getTurnkeySubOrganizationId())
-            .turnkeyMautPrivateKeyId(userWallet.getTurnkeyMautPrivateKeyId())
-            .turnkeyUserPrivateKeyId(userWallet.getTurnkeyUserPrivateKeyId())
-            .currentPolicy(currentPolicyPlaceholder)
-            .createdAt(userWallet.getCreatedAt())
+            .walletId(walletBinding.getWalletId().toString())
+            .displayName(walletBinding.getWalletDisplayName())
+            .walletAddress(walletBinding.getWalletAddress())
+            .turnkeySubOrganizationId(walletBinding.getTurnkeySubOrganizationId())
+            .turnkeyMautPrivateKeyId(walletBinding.getTurnkeyMautPrivateKeyId())
+            .turnkeyUserPrivateKeyId(walletBinding.getTurnkeyUserPrivateKeyId())
+            .currentPolicy(currentPolicy)
+            .createdAt(walletBinding.getCreatedAt())
+            .syncedAt(syncedAt)
             .build();
 
         log.debug("Returning wallet details for MautUser ID: {}: {}", mautUser.getId(), response);
@@ -2,15 +2,21 @@ package com.maut.core.modules.webhook.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maut.core.common.config.properties.WebhookDeliveryProperties;
 import com.maut.core.modules.webhook.model.WebhookSubscription;
 import com.maut.core.modules.webhook.repository.WebhookSubscriptionRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestTemplate;
 
 import javax.crypto.Mac;
@@ -21,18 +27,60 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+/**
+ * Looks up subscriptions and serializes the payload on the caller's thread (inside its transaction, if any),
+ * then delivers over HTTP on a bounded background pool. A caller inside a transaction gets its events sent
+ * only after that transaction commits, so a rolled-back change is never announced and no connection is held
+ * while subscribers respond.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class WebhookDispatcherServiceImpl implements WebhookDispatcherService {
+public class WebhookDispatcherServiceImpl implements WebhookDispatcherService, DisposableBean {
 
     private final WebhookSubscriptionRepository webhookSubscriptionRepository;
     private final ObjectMapper objectMapper; // For JSON serialization
     private final RestTemplate restTemplate; // For sending HTTP requests
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
 
     private static final String HMAC_SHA256_ALGORITHM = "HmacSHA256";
 
+    public WebhookDispatcherServiceImpl(WebhookSubscriptionRepository webhookSubscriptionRepository,
+                                        ObjectMapper objectMapper,
+                                        RestTemplate restTemplate,
+                                        WebhookDeliveryProperties properties,
+                                        MeterRegistry meterRegistry) {
+        this.webhookSubscriptionRepository = webhookSubscriptionRepository;
+        this.objectMapper = objectMapper;
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+
+        BlockingQueue<Runnable> queue = properties.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(),
+                properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                new DeliveryThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("webhook.deliveries.queued", queue, BlockingQueue::size)
+                .description("Webhook events waiting for a delivery thread")
+                .register(meterRegistry);
+    }
+
     @Override
     public void dispatchEvent(UUID teamId, String eventType, Object payload) {
         log.info("Dispatching event type '{}' for team ID '{}'", eventType, teamId);
@@ -52,10 +100,38 @@ public class WebhookDispatcherServiceImpl implements WebhookDispatcherService {
             return; // Cannot proceed without a valid JSON payload
         }
 
-        for (WebhookSubscription subscription : subscriptions) {
-            log.debug("Processing subscription ID '{}' for target URL '{}'", subscription.getId(), subscription.getTargetUrl());
+        // Copy what delivery needs so nothing touches the entities once the caller's session is gone.
+        List<Target> targets = subscriptions.stream()
+                .map(subscription -> new Target(subscription.getId(), subscription.getTargetUrl(), subscription.getSecret()))
+                .collect(Collectors.toList());
+        Runnable delivery = () -> deliver(eventType, payloadJson, targets);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(eventType, teamId, delivery);
+                }
+            });
+        } else {
+            submit(eventType, teamId, delivery);
+        }
+    }
+
+    private void submit(String eventType, UUID teamId, Runnable delivery) {
+        try {
+            executor.execute(delivery);
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("webhook.deliveries", "outcome", "dropped").increment();
+            log.error("Webhook delivery queue full; dropping event type '{}' for team ID '{}'", eventType, teamId);
+        }
+    }
+
+    private void deliver(String eventType, String payloadJson, List<Target> targets) {
+        for (Target target : targets) {
+            log.debug("Processing subscription ID '{}' for target URL '{}'", target.getSubscriptionId(), target.getTargetUrl());
             try {
-                String signature = generateSignature(payloadJson, subscription.getSecret());
+                String signature = generateSignature(payloadJson, target.getSecret());
 
                 HttpHeaders headers = new HttpHeaders();
                 headers.setContentType(MediaType.APPLICATION_JSON);
@@ -64,16 +140,17 @@ public class WebhookDispatcherServiceImpl implements WebhookDispatcherService {
 
                 HttpEntity<String> entity = new HttpEntity<>(payloadJson, headers);
 
-                // Consider making this asynchronous in a future iteration
-                restTemplate.exchange(subscription.getTargetUrl(), HttpMethod.POST, entity, String.class);
-                log.info("Successfully dispatched event to subscription ID '{}', target URL '{}'", subscription.getId(), subscription.getTargetUrl());
+                restTemplate.exchange(target.getTargetUrl(), HttpMethod.POST, entity, String.class);
+                meterRegistry.counter("webhook.deliveries", "outcome", "sent").increment();
+                log.info("Successfully dispatched event to subscription ID '{}', target URL '{}'", target.getSubscriptionId(), target.getTargetUrl());
 
             } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-                log.error("Security error (HMAC generation) for subscription ID '{}': {}. Event not sent.", subscription.getId(), e.getMessage());
+                log.error("Security error (HMAC generation) for subscription ID '{}': {}. Event not sent.", target.getSubscriptionId(), e.getMessage());
                 // Depending on policy, might mark subscription as problematic
             } catch (Exception e) {
-                log.error("Failed to dispatch event to subscription ID '{}', target URL '{}'. Error: {}", 
-                          subscription.getId(), subscription.getTargetUrl(), e.getMessage());
+                meterRegistry.counter("webhook.deliveries", "outcome", "failed").increment();
+                log.error("Failed to dispatch event to subscription ID '{}', target URL '{}'. Error: {}",
+                          target.getSubscriptionId(), target.getTargetUrl(), e.getMessage());
                 // Implement retry logic or dead-letter queue in future if needed
             }
         }
@@ -86,4 +163,27 @@ public class WebhookDispatcherServiceImpl implements WebhookDispatcherService {
         byte[] signedBytes = sha256Hmac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(signedBytes);
     }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    @Value
+    private static class Target {
+        UUID subscriptionId;
+        String targetUrl;
+        String secret;
+    }
+
+    private static final class DeliveryThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "webhook-delivery-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
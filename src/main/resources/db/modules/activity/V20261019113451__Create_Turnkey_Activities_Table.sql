@@ -0,0 +1,30 @@
+CREATE TABLE turnkey_activities (
+    id UUID PRIMARY KEY,
+    activity_id VARCHAR(255) NOT NULL UNIQUE,
+    organization_id VARCHAR(255) NOT NULL,
+    maut_user_id UUID,
+    activity_type VARCHAR(255) NOT NULL,
+    status VARCHAR(64) NOT NULL,
+    result_json TEXT,
+    poll_attempts INTEGER NOT NULL DEFAULT 0,
+    next_poll_at TIMESTAMP WITH TIME ZONE,
+    last_polled_at TIMESTAMP WITH TIME ZONE,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_turnkey_activities_maut_user
+        FOREIGN KEY (maut_user_id)
+        REFERENCES maut_users(id)
+        ON DELETE SET NULL
+);
+
+-- Poller scan: only rows still scheduled for a status check.
+CREATE INDEX idx_turnkey_activities_next_poll_at ON turnkey_activities(next_poll_at) WHERE next_poll_at IS NOT NULL;
+CREATE INDEX idx_turnkey_activities_maut_user_created ON turnkey_activities(maut_user_id, created_at DESC);
+
+COMMENT ON TABLE turnkey_activities IS 'Turnkey activities submitted for Maut users, tracked until Turnkey reports a final status.';
+COMMENT ON COLUMN turnkey_activities.activity_id IS 'Turnkey activity ID.';
+COMMENT ON COLUMN turnkey_activities.organization_id IS 'Turnkey (sub-)organization the activity was submitted in.';
+COMMENT ON COLUMN turnkey_activities.status IS 'Last known Turnkey status, e.g. ACTIVITY_STATUS_PENDING or ACTIVITY_STATUS_COMPLETED.';
+COMMENT ON COLUMN turnkey_activities.result_json IS 'JSON result reported by Turnkey once the activity completed.';
+COMMENT ON COLUMN turnkey_activities.next_poll_at IS 'When the poller next checks the activity; NULL once final or no longer polled.';
@@ -0,0 +1,24 @@
+CREATE TABLE turnkey_submissions (
+    id UUID PRIMARY KEY,
+    idempotency_key VARCHAR(255) NOT NULL UNIQUE,
+    activity_type VARCHAR(255) NOT NULL,
+    organization_id VARCHAR(255) NOT NULL,
+    parameters_json TEXT NOT NULL,
+    generation INTEGER NOT NULL DEFAULT 0,
+    reserved_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    activity_id VARCHAR(255),
+    status VARCHAR(64),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Retention scan.
+CREATE INDEX idx_turnkey_submissions_updated_at ON turnkey_submissions(updated_at);
+
+COMMENT ON TABLE turnkey_submissions IS 'Turnkey activity submissions, recorded before they are sent so retries never create a second activity.';
+COMMENT ON COLUMN turnkey_submissions.idempotency_key IS 'Key derived from the business operation, e.g. activity type plus Maut user ID.';
+COMMENT ON COLUMN turnkey_submissions.parameters_json IS 'Activity parameters; every send wraps them in a freshly timestamped request with the same fingerprint.';
+COMMENT ON COLUMN turnkey_submissions.generation IS 'Bumped when the recorded activity failed, was rejected or canceled; part of the request fingerprint.';
+COMMENT ON COLUMN turnkey_submissions.reserved_at IS 'When the current generation was reserved; keys derived from parameters only deduplicate for a bounded window after it.';
+COMMENT ON COLUMN turnkey_submissions.activity_id IS 'Turnkey activity ID once a submission got a response; retries then query the activity instead.';
@@ -0,0 +1,2 @@
+-- Retention scan: turnkey_activities rows are reclaimed by age once they can no longer be polled.
+CREATE INDEX idx_turnkey_activities_created_at ON turnkey_activities(created_at);
@@ -0,0 +1,6 @@
+-- Challenges are now issued for both registration and authentication; a challenge may only
+-- complete the ceremony it was issued for.
+ALTER TABLE webauthn_registration_challenges
+ADD COLUMN ceremony VARCHAR(20) NOT NULL DEFAULT 'REGISTRATION';
+
+COMMENT ON COLUMN webauthn_registration_challenges.ceremony IS 'WebAuthn ceremony the challenge was issued for: REGISTRATION or AUTHENTICATION.';
@@ -0,0 +1,10 @@
+-- Keyset pagination for passkey listings scans (maut_user_id, created_at, id) in both tables.
+CREATE INDEX idx_maut_user_webauthn_user_created_id
+    ON maut_user_webauthn_credentials (maut_user_id, created_at, id);
+
+-- Superseded by the composite index above (same leading column).
+DROP INDEX IF EXISTS idx_maut_user_webauthn_maut_user_id;
+
+CREATE INDEX idx_user_authenticators_passkeys_user_created_id
+    ON user_authenticators (maut_user_id, created_at, id)
+    WHERE authenticator_type = 'PASSKEY';
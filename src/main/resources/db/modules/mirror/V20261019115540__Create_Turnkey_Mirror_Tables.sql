@@ -0,0 +1,49 @@
+CREATE TABLE turnkey_mirror_sync (
+    sub_organization_id VARCHAR(255) PRIMARY KEY,
+    synced_at TIMESTAMP WITH TIME ZONE,
+    last_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    consecutive_failures INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT
+);
+
+CREATE TABLE turnkey_mirror_private_keys (
+    id UUID PRIMARY KEY,
+    sub_organization_id VARCHAR(255) NOT NULL,
+    private_key_id VARCHAR(255) NOT NULL UNIQUE,
+    private_key_name VARCHAR(255),
+    curve VARCHAR(64),
+    address VARCHAR(255),
+    synced_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE turnkey_mirror_authenticators (
+    id UUID PRIMARY KEY,
+    sub_organization_id VARCHAR(255) NOT NULL,
+    turnkey_user_id VARCHAR(255) NOT NULL,
+    authenticator_id VARCHAR(255) NOT NULL UNIQUE,
+    authenticator_name VARCHAR(255),
+    credential_id VARCHAR(1024),
+    synced_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE turnkey_mirror_policies (
+    id UUID PRIMARY KEY,
+    sub_organization_id VARCHAR(255) NOT NULL,
+    policy_id VARCHAR(255) NOT NULL UNIQUE,
+    policy_name VARCHAR(255),
+    effect VARCHAR(64),
+    condition TEXT,
+    consensus TEXT,
+    synced_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_turnkey_mirror_sync_synced_at ON turnkey_mirror_sync(synced_at);
+CREATE INDEX idx_turnkey_mirror_private_keys_sub_org ON turnkey_mirror_private_keys(sub_organization_id);
+CREATE INDEX idx_turnkey_mirror_authenticators_sub_org ON turnkey_mirror_authenticators(sub_organization_id);
+CREATE INDEX idx_turnkey_mirror_policies_sub_org ON turnkey_mirror_policies(sub_organization_id);
+
+COMMENT ON TABLE turnkey_mirror_sync IS 'Freshness of the local copy of each Turnkey sub-organization mirrored below.';
+COMMENT ON COLUMN turnkey_mirror_sync.synced_at IS 'When the mirrored rows were last replaced from Turnkey; NULL if no sync succeeded yet.';
+COMMENT ON TABLE turnkey_mirror_private_keys IS 'Local copy of Turnkey private keys per sub-organization, refreshed by the mirror synchronizer.';
+COMMENT ON TABLE turnkey_mirror_authenticators IS 'Local copy of Turnkey authenticators per sub-organization, refreshed by the mirror synchronizer.';
+COMMENT ON TABLE turnkey_mirror_policies IS 'Local copy of Turnkey policies per sub-organization, refreshed by the mirror synchronizer.';
@@ -0,0 +1,13 @@
+-- Shared login throttle state, used when security.loginThrottle.store = postgres
+CREATE TABLE login_throttle_entries (
+    throttle_key VARCHAR(400) PRIMARY KEY, -- "email:<address>" or "ip:<address>"
+    tokens DOUBLE PRECISION NOT NULL,
+    last_refill_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_until TIMESTAMP WITH TIME ZONE,
+    lockout_count INTEGER NOT NULL DEFAULT 0,
+    last_failure_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+CREATE INDEX idx_login_throttle_updated_at ON login_throttle_entries(updated_at);
+
+COMMENT ON TABLE login_throttle_entries IS 'Token-bucket state for throttling failed dashboard logins per email and per client IP.';
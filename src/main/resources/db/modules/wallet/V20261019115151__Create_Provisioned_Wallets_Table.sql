@@ -0,0 +1,32 @@
+CREATE TABLE provisioned_wallets (
+    id UUID PRIMARY KEY,
+    environment VARCHAR(64) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    wallet_address VARCHAR(255) UNIQUE,
+    turnkey_sub_organization_id VARCHAR(255) NOT NULL UNIQUE,
+    turnkey_maut_private_key_id VARCHAR(255) UNIQUE,
+    turnkey_user_private_key_id VARCHAR(255) UNIQUE,
+    claimed_by_maut_user_id UUID,
+    claimed_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Claim scan: oldest available wallet of an environment.
+CREATE INDEX idx_provisioned_wallets_available ON provisioned_wallets(environment, created_at) WHERE status = 'AVAILABLE';
+-- Resume scan: wallets whose keys were never created, e.g. after a failed call or a restart.
+CREATE INDEX idx_provisioned_wallets_provisioning ON provisioned_wallets(environment, updated_at) WHERE status = 'PROVISIONING';
+
+COMMENT ON TABLE provisioned_wallets IS 'Turnkey sub-organizations and keys created ahead of time, claimed by wallet enrollment.';
+COMMENT ON COLUMN provisioned_wallets.environment IS 'Deployment environment the wallet was provisioned for (wallet.pool.environment).';
+COMMENT ON COLUMN provisioned_wallets.status IS 'PROVISIONING from sub-organization creation until its keys exist, AVAILABLE until enrollment claims it, then CLAIMED.';
+COMMENT ON COLUMN provisioned_wallets.wallet_address IS 'NULL while PROVISIONING, like both key ids.';
+COMMENT ON COLUMN provisioned_wallets.claimed_by_maut_user_id IS 'MautUser the wallet was bound to; the user_wallets row is the source of truth afterwards.';
+COMMENT ON COLUMN provisioned_wallets.updated_at IS 'Last progress on a PROVISIONING wallet; a stale one is resumed by the next refill round.';
+
+CREATE TABLE wallet_pool_refills (
+    environment VARCHAR(64) PRIMARY KEY,
+    leased_until TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+COMMENT ON TABLE wallet_pool_refills IS 'Per-environment lease held by the node running a refill round, so nodes do not provision the same shortfall twice.';
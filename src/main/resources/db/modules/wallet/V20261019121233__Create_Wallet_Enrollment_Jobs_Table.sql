@@ -0,0 +1,32 @@
+CREATE TABLE wallet_enrollment_jobs (
+    id UUID PRIMARY KEY,
+    maut_user_id UUID NOT NULL,
+    team_id UUID,
+    wallet_display_name VARCHAR(255),
+    status VARCHAR(32) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    turnkey_sub_organization_id VARCHAR(255),
+    turnkey_maut_private_key_id VARCHAR(255),
+    turnkey_user_private_key_id VARCHAR(255),
+    wallet_address VARCHAR(255),
+    user_wallet_id UUID,
+    last_error TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT fk_wallet_enrollment_jobs_maut_user
+        FOREIGN KEY(maut_user_id)
+        REFERENCES maut_users(id)
+        ON DELETE CASCADE
+);
+
+-- At most one enrollment in progress per user.
+CREATE UNIQUE INDEX uq_wallet_enrollment_jobs_active_user ON wallet_enrollment_jobs(maut_user_id) WHERE status IN ('PENDING', 'RUNNING');
+-- Recovery scan: jobs waiting for (or stuck on) a worker.
+CREATE INDEX idx_wallet_enrollment_jobs_active ON wallet_enrollment_jobs(updated_at) WHERE status IN ('PENDING', 'RUNNING');
+-- TTL retention reclaims finished jobs by completed_at.
+CREATE INDEX idx_wallet_enrollment_jobs_completed_at ON wallet_enrollment_jobs(completed_at) WHERE completed_at IS NOT NULL;
+
+COMMENT ON TABLE wallet_enrollment_jobs IS 'Asynchronous wallet enrollments; the id doubles as the activity id reported by the activity status API.';
+COMMENT ON COLUMN wallet_enrollment_jobs.status IS 'PENDING until a worker claims it, RUNNING while provisioning, then COMPLETED or FAILED.';
+COMMENT ON COLUMN wallet_enrollment_jobs.turnkey_sub_organization_id IS 'Set as soon as Turnkey created it, so a retried job resumes instead of creating another.';
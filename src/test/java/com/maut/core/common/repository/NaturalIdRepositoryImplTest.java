@@ -0,0 +1,94 @@
+package com.maut.core.common.repository;
+
+import com.maut.core.modules.role.model.TeamRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManager;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NaturalIdRepositoryImplTest {
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.url", "jdbc:h2:mem:natural-id;DB_CLOSE_DELAY=-1")
+                .applySetting("hibernate.hbm2ddl.auto", "create-drop")
+                .applySetting("hibernate.cache.use_second_level_cache", "true")
+                .applySetting("hibernate.cache.region.factory_class", "jcache")
+                .applySetting("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider")
+                .applySetting("hibernate.javax.cache.uri", "ehcache.xml")
+                .applySetting("hibernate.javax.cache.missing_cache_strategy", "fail")
+                .applySetting("hibernate.generate_statistics", "true")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(TeamRole.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        runInTransaction(em -> em.persist(TeamRole.builder().name("ROLE_OWNER").build()));
+        sessionFactory.getStatistics().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void findBySimpleNaturalId_secondLookupIsServedFromCache() {
+        // Arrange
+        Statistics statistics = sessionFactory.getStatistics();
+
+        // Act
+        Optional<TeamRole> first = inTransaction(em -> new NaturalIdRepositoryImpl(em).findBySimpleNaturalId(TeamRole.class, "ROLE_OWNER"));
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+        Optional<TeamRole> second = inTransaction(em -> new NaturalIdRepositoryImpl(em).findBySimpleNaturalId(TeamRole.class, "ROLE_OWNER"));
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertEquals(first.get().getId(), second.map(TeamRole::getId).orElse(null));
+        assertTrue(statistics.getNaturalIdCacheHitCount() >= 1);
+        assertEquals(statementsAfterFirst, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findBySimpleNaturalId_whenUnknown_returnsEmpty() {
+        // Act
+        Optional<TeamRole> role = inTransaction(em -> new NaturalIdRepositoryImpl(em).findBySimpleNaturalId(TeamRole.class, "ROLE_MISSING"));
+
+        // Assert
+        assertTrue(role.isEmpty());
+    }
+
+    private <R> R inTransaction(Function<EntityManager, R> work) {
+        EntityManager em = sessionFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            R result = work.apply(em);
+            em.getTransaction().commit();
+            return result;
+        } finally {
+            em.close();
+        }
+    }
+
+    private void runInTransaction(Consumer<EntityManager> work) {
+        inTransaction(em -> {
+            work.accept(em);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.maut.core.common.retention;
+
+import com.maut.core.common.config.properties.RetentionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionJobTest {
+
+    @Mock
+    private RetentionPolicyRegistry registry;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RetentionProperties properties;
+    private RetentionJob job;
+
+    private final RetentionPolicyRegistry.Policy policy = new RetentionPolicyRegistry.Policy(
+            "webauthn_registration_challenges", "expires_at", Duration.ofHours(1), 100, RetentionStrategy.BATCH_DELETE, "test");
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetentionProperties();
+        properties.setBatchPauseMs(0);
+        properties.setMaxRowsPerSecond(1_000_000);
+        properties.setMaxBatchesPerRun(10);
+        job = new RetentionJob(registry, properties, jdbcTemplate, meterRegistry);
+    }
+
+    @Test
+    void run_deletesInBatchesUntilCaughtUpAndReportsRowsReclaimed() {
+        // Arrange
+        when(registry.getPolicies()).thenReturn(List.of(policy));
+        when(jdbcTemplate.update(anyString(), any(Timestamp.class), eq(100))).thenReturn(100, 100, 37);
+        Instant before = Instant.now();
+
+        // Act
+        job.run();
+
+        // Assert
+        verify(jdbcTemplate, times(3)).update(
+                contains("DELETE FROM webauthn_registration_challenges WHERE ctid = ANY(ARRAY(SELECT ctid FROM webauthn_registration_challenges WHERE expires_at < ? LIMIT ?))"),
+                argThat((Timestamp cutoff) -> !cutoff.toInstant().isAfter(before.minus(Duration.ofHours(1)).plusSeconds(5))),
+                eq(100));
+        assertEquals(237, meterRegistry.get("retention.rows.reclaimed").tag("table", "webauthn_registration_challenges").counter().count());
+    }
+
+    @Test
+    void run_stopsAfterMaxBatchesPerRun() {
+        // Arrange
+        properties.setMaxBatchesPerRun(2);
+        when(registry.getPolicies()).thenReturn(List.of(policy));
+        when(jdbcTemplate.update(anyString(), any(Timestamp.class), eq(100))).thenReturn(100);
+
+        // Act
+        job.run();
+
+        // Assert
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Timestamp.class), eq(100));
+    }
+
+    @Test
+    void run_whenOneTableFails_continuesWithTheNext() {
+        // Arrange
+        RetentionPolicyRegistry.Policy broken = new RetentionPolicyRegistry.Policy(
+                "missing_table", "created_at", Duration.ofDays(1), 100, RetentionStrategy.BATCH_DELETE, "test");
+        when(registry.getPolicies()).thenReturn(List.of(broken, policy));
+        when(jdbcTemplate.update(contains("missing_table"), any(Timestamp.class), eq(100)))
+                .thenThrow(new BadSqlGrammarException("delete", "DELETE", new SQLException("no such table")));
+        when(jdbcTemplate.update(contains("webauthn_registration_challenges"), any(Timestamp.class), eq(100))).thenReturn(5);
+
+        // Act
+        job.run();
+
+        // Assert
+        assertEquals(1, meterRegistry.get("retention.failures").tag("table", "missing_table").counter().count());
+        assertEquals(5, meterRegistry.get("retention.rows.reclaimed").tag("table", "webauthn_registration_challenges").counter().count());
+    }
+}
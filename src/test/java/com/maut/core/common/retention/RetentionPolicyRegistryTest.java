@@ -0,0 +1,83 @@
+package com.maut.core.common.retention;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.repository.Repository;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RetentionPolicyRegistryTest {
+
+    @TtlRetention(table = "audit_events", timestampColumn = "created_at", ttl = "${retention.ttl.auditEvents:P30D}", batchSize = 500)
+    interface AuditEventRepository extends Repository<Object, Long> {
+    }
+
+    @TtlRetention(table = "audit_events", timestampColumn = "created_at", ttl = "P7D")
+    interface OtherAuditEventRepository extends Repository<Object, Long> {
+    }
+
+    @TtlRetention(table = "audit_events; DROP TABLE users", timestampColumn = "created_at", ttl = "P7D")
+    interface InjectedRepository extends Repository<Object, Long> {
+    }
+
+    interface PlainRepository extends Repository<Object, Long> {
+    }
+
+    @Test
+    void getPolicies_discoversAnnotatedRepositoriesAndResolvesPlaceholders() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment().withProperty("retention.ttl.auditEvents", "P14D");
+        RetentionPolicyRegistry registry = new RetentionPolicyRegistry(
+                context(mock(AuditEventRepository.class), mock(PlainRepository.class)), environment);
+
+        // Act
+        List<RetentionPolicyRegistry.Policy> policies = registry.getPolicies();
+
+        // Assert
+        assertEquals(1, policies.size());
+        RetentionPolicyRegistry.Policy policy = policies.get(0);
+        assertEquals("audit_events", policy.getTable());
+        assertEquals("created_at", policy.getTimestampColumn());
+        assertEquals(Duration.ofDays(14), policy.getTtl());
+        assertEquals(500, policy.getBatchSize());
+        assertEquals(RetentionStrategy.BATCH_DELETE, policy.getStrategy());
+        assertEquals("AuditEventRepository", policy.getSource());
+    }
+
+    @Test
+    void getPolicies_whenTwoRepositoriesClaimTheSameTable_fails() {
+        // Arrange
+        RetentionPolicyRegistry registry = new RetentionPolicyRegistry(
+                context(mock(AuditEventRepository.class), mock(OtherAuditEventRepository.class)), new MockEnvironment());
+
+        // Act + Assert
+        assertThrows(IllegalStateException.class, registry::getPolicies);
+    }
+
+    @Test
+    void getPolicies_whenTableIsNotAPlainIdentifier_fails() {
+        // Arrange
+        RetentionPolicyRegistry registry = new RetentionPolicyRegistry(context(mock(InjectedRepository.class)), new MockEnvironment());
+
+        // Act + Assert
+        assertThrows(IllegalStateException.class, registry::getPolicies);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static ApplicationContext context(Repository... repositories) {
+        Map<String, Repository> beans = new LinkedHashMap<>();
+        for (int i = 0; i < repositories.length; i++) {
+            beans.put("repository" + i, repositories[i]);
+        }
+        ApplicationContext context = mock(ApplicationContext.class);
+        when(context.getBeansOfType(Repository.class)).thenReturn(beans);
+        return context;
+    }
+}
@@ -0,0 +1,201 @@
+package com.maut.core.common.transaction;
+
+import com.maut.core.common.config.properties.OutboundCallGuardProperties;
+import com.maut.core.common.config.properties.TurnkeyCoalescingProperties;
+import com.maut.core.common.config.properties.TurnkeyHedgingProperties;
+import com.maut.core.common.config.properties.TurnkeyHttpProperties;
+import com.maut.core.common.config.properties.TurnkeyRateLimitProperties;
+import com.maut.core.external.turnkey.TurnkeyApiTransport;
+import com.maut.core.external.turnkey.TurnkeyRateLimiter;
+import com.maut.core.external.turnkey.TurnkeyReadCoalescer;
+import com.maut.core.external.turnkey.TurnkeyRequestHedger;
+import com.maut.core.external.turnkey.TurnkeyService;
+import com.maut.core.external.turnkey.TurnkeyServiceImpl;
+import com.maut.core.external.turnkey.model.TurnkeySubOrganization;
+import com.maut.core.external.turnkey.simulator.TurnkeySimulator;
+import com.maut.core.external.turnkey.util.TurnkeyJsonCodec;
+import com.maut.core.external.turnkey.util.TurnkeyStamper;
+import com.maut.core.integration.turnkey.TurnkeyActivitySubmitter;
+import com.maut.core.modules.activity.model.TurnkeySubmission;
+import com.maut.core.modules.activity.service.TurnkeySubmissionLedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Calls the Turnkey simulator through the real transport from inside a Spring-managed transaction, with
+ * {@code failOnViolation} taken from the {@code test} profile rather than set by hand.
+ */
+@SpringBootTest(classes = OutboundCallGuardIntegrationTest.Config.class)
+@ActiveProfiles("test")
+class OutboundCallGuardIntegrationTest {
+
+    private static final String SUBMIT_PATH = "/public/v1/submit/create_sub_organization";
+
+    @Autowired
+    private TransactionalTurnkeyCaller caller;
+
+    @Autowired
+    private TurnkeyService turnkeyService;
+
+    @Autowired
+    private TurnkeySimulator simulator;
+
+    @Autowired
+    private OutboundCallGuardProperties guardProperties;
+
+    @Test
+    void testProfile_failsOnViolation() {
+        assertTrue(guardProperties.isFailOnViolation());
+    }
+
+    @Test
+    void turnkeyCall_insideTransactionalMethod_throwsBeforeSending() {
+        // Arrange: the context, and so the simulator, is shared between tests
+        int sentBefore = simulator.requestCount(SUBMIT_PATH);
+
+        // Act
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> caller.createSubOrganizationInTransaction("in-tx-user"));
+
+        // Assert
+        assertTrue(e.getMessage().contains("create_sub_organization"));
+        assertEquals(sentBefore, simulator.requestCount(SUBMIT_PATH));
+    }
+
+    @Test
+    void turnkeyCall_outsideTransaction_reachesTurnkey() {
+        // Arrange
+        int sentBefore = simulator.requestCount(SUBMIT_PATH);
+
+        // Act
+        TurnkeySubOrganization subOrganization = turnkeyService.createSubOrganization("no-tx-user");
+
+        // Assert
+        assertNotNull(subOrganization.getSubOrganizationId());
+        assertEquals(sentBefore + 1, simulator.requestCount(SUBMIT_PATH));
+    }
+
+    static class TransactionalTurnkeyCaller {
+
+        private final TurnkeyService turnkeyService;
+
+        TransactionalTurnkeyCaller(TurnkeyService turnkeyService) {
+            this.turnkeyService = turnkeyService;
+        }
+
+        @Transactional
+        public TurnkeySubOrganization createSubOrganizationInTransaction(String name) {
+            return turnkeyService.createSubOrganization(name);
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableConfigurationProperties(OutboundCallGuardProperties.class)
+    static class Config {
+
+        private final KeyPair keyPair = generateKeyPair();
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        OutboundCallGuard outboundCallGuard(OutboundCallGuardProperties properties, MeterRegistry meterRegistry) {
+            return new OutboundCallGuard(properties, meterRegistry);
+        }
+
+        @Bean
+        TurnkeySimulator turnkeySimulator() throws Exception {
+            return new TurnkeySimulator(TurnkeySimulator.compressedHex((ECPublicKey) keyPair.getPublic()));
+        }
+
+        @Bean
+        TurnkeyRateLimiter turnkeyRateLimiter(MeterRegistry meterRegistry) {
+            return new TurnkeyRateLimiter(new TurnkeyRateLimitProperties(), meterRegistry);
+        }
+
+        @Bean
+        TurnkeyApiTransport turnkeyApiTransport(TurnkeySimulator simulator, TurnkeyRateLimiter limiter,
+                                                OutboundCallGuard guard, MeterRegistry meterRegistry) {
+            TurnkeyStamper stamper = new TurnkeyStamper(TurnkeySimulator.compressedHex((ECPublicKey) keyPair.getPublic()),
+                    Hex.encodeHexString(keyPair.getPrivate().getEncoded()), "SunEC");
+            TurnkeyHttpProperties properties = new TurnkeyHttpProperties();
+            properties.setHttp2(false);
+            properties.setRequestTimeoutMs(5_000);
+            return new TurnkeyApiTransport(stamper, new TurnkeyJsonCodec(), limiter,
+                    new TurnkeyReadCoalescer(new TurnkeyCoalescingProperties(), meterRegistry),
+                    new TurnkeyRequestHedger(new TurnkeyHedgingProperties(), meterRegistry), guard, properties, simulator.baseUrl());
+        }
+
+        @Bean
+        TurnkeyService turnkeyService(TurnkeyApiTransport transport, OutboundCallGuard guard) {
+            TurnkeySubmissionLedger ledger = mock(TurnkeySubmissionLedger.class);
+            when(ledger.reserve(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+                TurnkeySubmission submission = new TurnkeySubmission();
+                submission.setIdempotencyKey(invocation.getArgument(0));
+                submission.setActivityType(invocation.getArgument(1));
+                submission.setOrganizationId(invocation.getArgument(2));
+                submission.setParametersJson(new String(invocation.<Supplier<byte[]>>getArgument(3).get(), StandardCharsets.UTF_8));
+                return submission;
+            });
+            TurnkeyActivitySubmitter submitter = new TurnkeyActivitySubmitter(transport, new TurnkeyJsonCodec(), ledger, Runnable::run);
+            TurnkeyServiceImpl service = new TurnkeyServiceImpl(transport, submitter, guard);
+            ReflectionTestUtils.setField(service, "turnkeyOrganizationId", "org-simulated");
+            return service;
+        }
+
+        @Bean
+        TransactionalTurnkeyCaller transactionalTurnkeyCaller(TurnkeyService turnkeyService) {
+            return new TransactionalTurnkeyCaller(turnkeyService);
+        }
+
+        private static KeyPair generateKeyPair() {
+            try {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                return generator.generateKeyPair();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
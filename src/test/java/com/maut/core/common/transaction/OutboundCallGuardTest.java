@@ -0,0 +1,62 @@
+package com.maut.core.common.transaction;
+
+import com.maut.core.common.config.properties.OutboundCallGuardProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboundCallGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void check_insideTransactionWithFailOnViolation_throws() {
+        // Arrange
+        OutboundCallGuard guard = guard(true);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act & Assert
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> guard.check("turnkey", "/public/v1/query/get_activity"));
+        assertTrue(e.getMessage().contains("get_activity"));
+        assertEquals(1, meterRegistry.get("outbound.calls.in_transaction").tag("client", "turnkey").counter().count());
+    }
+
+    @Test
+    void check_insideTransactionInWarnMode_countsAndContinues() {
+        // Arrange
+        OutboundCallGuard guard = guard(false);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        guard.check("rest_template", "hooks.example.com");
+
+        // Assert
+        assertEquals(1, meterRegistry.get("outbound.calls.in_transaction").tag("client", "rest_template").counter().count());
+    }
+
+    @Test
+    void check_outsideTransaction_passes() {
+        // Arrange
+        OutboundCallGuard guard = guard(true);
+
+        // Act
+        guard.check("turnkey", "/public/v1/query/get_activity");
+
+        // Assert
+        assertNull(meterRegistry.find("outbound.calls.in_transaction").counter());
+    }
+
+    private OutboundCallGuard guard(boolean failOnViolation) {
+        OutboundCallGuardProperties properties = new OutboundCallGuardProperties();
+        properties.setFailOnViolation(failOnViolation);
+        return new OutboundCallGuard(properties, meterRegistry);
+    }
+}
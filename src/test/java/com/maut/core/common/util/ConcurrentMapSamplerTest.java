@@ -0,0 +1,53 @@
+package com.maut.core.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentMapSamplerTest {
+
+    @Test
+    void sample_isBoundedAndStartsAtDifferentPlaces() {
+        // Arrange
+        ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i);
+        }
+
+        // Act
+        Set<Integer> firstKeys = new HashSet<>();
+        for (int round = 0; round < 50; round++) {
+            List<Map.Entry<Integer, Integer>> sample = ConcurrentMapSampler.sample(map, 8);
+
+            // Assert
+            assertFalse(sample.isEmpty());
+            assertTrue(sample.size() <= 8);
+            firstKeys.add(sample.get(0).getKey());
+        }
+        assertTrue(firstKeys.size() > 1);
+    }
+
+    @Test
+    void sample_whenMapIsSmallerThanSample_returnsEveryEntry() {
+        // Arrange
+        ConcurrentHashMap<String, String> map = new ConcurrentHashMap<>(Map.of("a", "1", "b", "2", "c", "3"));
+
+        // Act
+        List<Map.Entry<String, String>> sample = ConcurrentMapSampler.sample(map, 8);
+
+        // Assert
+        assertEquals(3, sample.size());
+    }
+
+    @Test
+    void sample_whenMapIsEmpty_returnsEmpty() {
+        // Act + Assert
+        assertTrue(ConcurrentMapSampler.sample(new ConcurrentHashMap<String, String>(), 8).isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+package com.maut.core.config.security;
+
+import com.maut.core.common.config.properties.PasswordHashingProperties;
+import com.maut.core.common.exception.PasswordHashingCapacityException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void encode_whenPoolAndQueueAreFull_rejectsImmediately() throws Exception {
+        // Arrange: one hashing thread, no queue, delegate blocks until released
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), properties(1, 0), new SimpleMeterRegistry());
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        // Act + Assert
+        PasswordHashingCapacityException ex = assertThrows(PasswordHashingCapacityException.class,
+                () -> encoder.encode("second"));
+        assertEquals(1, ex.getRetryAfterSeconds());
+
+        release.countDown();
+        assertEquals("hashed:first", first.get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void matches_recordsLatencyTimer() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        release.countDown();
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), properties(1, 4), registry);
+
+        // Act
+        boolean result = encoder.matches("secret", "hashed:secret");
+
+        // Assert
+        assertTrue(result);
+        assertEquals(1, registry.get("auth.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    private PasswordHashingProperties properties(int poolSize, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeoutMs(2000);
+        return properties;
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.maut.core.external.turnkey;
+
+import com.maut.core.common.config.properties.TurnkeyRateLimitProperties;
+import com.maut.core.common.exception.TurnkeyCapacityException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnkeyRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TurnkeyRateLimiter limiter;
+
+    @AfterEach
+    void tearDown() {
+        if (limiter != null) {
+            limiter.destroy();
+        }
+    }
+
+    @Test
+    void acquire_atConcurrencyLimit_waitsForRelease() throws Exception {
+        // Arrange
+        limiter = new TurnkeyRateLimiter(properties(1, 1000), meterRegistry);
+        TurnkeyRateLimiter.Permit first = limiter.acquire().get(1, TimeUnit.SECONDS);
+
+        // Act
+        CompletableFuture<TurnkeyRateLimiter.Permit> second = limiter.acquire();
+        boolean queued = !second.isDone();
+        first.onSuccess();
+
+        // Assert
+        assertTrue(queued);
+        assertNotNull(second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("turnkey.limiter.inflight").gauge().value());
+    }
+
+    @Test
+    void acquire_withEmptyBucket_waitsForRefill() throws Exception {
+        // Arrange
+        TurnkeyRateLimitProperties properties = properties(10, 10);
+        properties.setBurst(1);
+        limiter = new TurnkeyRateLimiter(properties, meterRegistry);
+        limiter.acquire().get(1, TimeUnit.SECONDS).onSuccess();
+
+        // Act
+        CompletableFuture<TurnkeyRateLimiter.Permit> second = limiter.acquire();
+
+        // Assert
+        assertFalse(second.isDone());
+        assertNotNull(second.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void acquire_duringRetryAfterPauseLongerThanMaxWait_isRejected() throws Exception {
+        // Arrange
+        limiter = new TurnkeyRateLimiter(properties(4, 1000), meterRegistry);
+        limiter.acquire().get(1, TimeUnit.SECONDS).onThrottled(Duration.ofSeconds(5));
+
+        // Act
+        ExecutionException e = assertThrows(ExecutionException.class, () -> limiter.acquire().get(1, TimeUnit.SECONDS));
+
+        // Assert
+        TurnkeyCapacityException cause = assertInstanceOf(TurnkeyCapacityException.class, e.getCause());
+        assertTrue(cause.getRetryAfterSeconds() >= 5);
+        assertEquals(1, meterRegistry.get("turnkey.limiter.responses").tag("outcome", "throttled").counter().count());
+    }
+
+    @Test
+    void acquire_withFullQueue_isRejectedImmediately() throws Exception {
+        // Arrange
+        TurnkeyRateLimitProperties properties = properties(1, 1000);
+        properties.setMaxQueueSize(0);
+        limiter = new TurnkeyRateLimiter(properties, meterRegistry);
+        limiter.acquire().get(1, TimeUnit.SECONDS);
+
+        // Act
+        CompletableFuture<TurnkeyRateLimiter.Permit> second = limiter.acquire();
+
+        // Assert
+        assertTrue(second.isCompletedExceptionally());
+    }
+
+    @Test
+    void release_failuresShrinkAndSuccessesGrowTheLimit() throws Exception {
+        // Arrange
+        TurnkeyRateLimitProperties properties = properties(8, 1000);
+        properties.setMaxConcurrency(16);
+        limiter = new TurnkeyRateLimiter(properties, meterRegistry);
+
+        // Act
+        limiter.acquire().get(1, TimeUnit.SECONDS).onFailure();
+        double afterFailure = meterRegistry.get("turnkey.limiter.limit").gauge().value();
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire().get(1, TimeUnit.SECONDS).onSuccess();
+        }
+        double afterSuccesses = meterRegistry.get("turnkey.limiter.limit").gauge().value();
+
+        // Assert
+        assertEquals(8 * 0.5, afterFailure, 0.001);
+        assertTrue(afterSuccesses > afterFailure);
+    }
+
+    @Test
+    void parseRetryAfter_readsSecondsAndFallsBackOnGarbage() {
+        // Arrange
+        limiter = new TurnkeyRateLimiter(properties(1, 1), meterRegistry);
+
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(7), limiter.parseRetryAfter("7"));
+        assertEquals(Duration.ofMillis(250), limiter.parseRetryAfter("soon"));
+        assertEquals(Duration.ofMillis(250), limiter.parseRetryAfter(null));
+    }
+
+    private static TurnkeyRateLimitProperties properties(int concurrency, double requestsPerSecond) {
+        TurnkeyRateLimitProperties properties = new TurnkeyRateLimitProperties();
+        properties.setInitialConcurrency(concurrency);
+        properties.setMinConcurrency(1);
+        properties.setMaxConcurrency(concurrency);
+        properties.setRequestsPerSecond(requestsPerSecond);
+        properties.setBurst((int) Math.max(1, requestsPerSecond));
+        properties.setBackoffRatio(0.5);
+        properties.setMaxQueueWaitMs(500);
+        properties.setDefaultRetryAfterMs(250);
+        return properties;
+    }
+}
@@ -0,0 +1,87 @@
+package com.maut.core.external.turnkey;
+
+import com.maut.core.common.config.properties.TurnkeyCoalescingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnkeyReadCoalescerTest {
+
+    private static final String PATH = "/public/v1/query/get_activity";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger sends = new AtomicInteger();
+
+    @Test
+    void read_identicalConcurrentReads_shareOneSend() {
+        // Arrange
+        TurnkeyReadCoalescer coalescer = new TurnkeyReadCoalescer(new TurnkeyCoalescingProperties(), meterRegistry);
+        CompletableFuture<byte[]> response = new CompletableFuture<>();
+
+        // Act
+        CompletableFuture<byte[]> first = coalescer.read(PATH, body("activity-1"), counting(response));
+        CompletableFuture<byte[]> second = coalescer.read(PATH, body("activity-1"), counting(response));
+        CompletableFuture<byte[]> other = coalescer.read(PATH, body("activity-2"), counting(new CompletableFuture<>()));
+        response.complete(body("done"));
+
+        // Assert
+        assertEquals(2, sends.get());
+        assertArrayEquals(body("done"), first.join());
+        assertArrayEquals(body("done"), second.join());
+        assertFalse(other.isDone());
+        assertEquals(1, meterRegistry.get("turnkey.reads").tag("outcome", "joined").counter().count());
+    }
+
+    @Test
+    void read_afterCompletionWithoutTtl_sendsAgain() {
+        // Arrange
+        TurnkeyReadCoalescer coalescer = new TurnkeyReadCoalescer(new TurnkeyCoalescingProperties(), meterRegistry);
+        coalescer.read(PATH, body("activity-1"), counting(CompletableFuture.completedFuture(body("first")))).join();
+
+        // Act
+        byte[] second = coalescer.read(PATH, body("activity-1"), counting(CompletableFuture.completedFuture(body("second")))).join();
+
+        // Assert
+        assertEquals(2, sends.get());
+        assertArrayEquals(body("second"), second);
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void read_withTtl_servesSuccessFromCacheButRetriesFailures() {
+        // Arrange
+        TurnkeyCoalescingProperties properties = new TurnkeyCoalescingProperties();
+        properties.setResultTtlMs(60_000);
+        TurnkeyReadCoalescer coalescer = new TurnkeyReadCoalescer(properties, meterRegistry);
+        CompletableFuture<byte[]> failed = coalescer.read(PATH, body("activity-2"),
+                counting(CompletableFuture.failedFuture(new IllegalStateException("boom"))));
+        coalescer.read(PATH, body("activity-1"), counting(CompletableFuture.completedFuture(body("first")))).join();
+
+        // Act
+        byte[] cached = coalescer.read(PATH, body("activity-1"), counting(CompletableFuture.completedFuture(body("second")))).join();
+        coalescer.read(PATH, body("activity-2"), counting(CompletableFuture.completedFuture(body("retried")))).join();
+
+        // Assert
+        assertTrue(failed.isCompletedExceptionally());
+        assertArrayEquals(body("first"), cached);
+        assertEquals(3, sends.get());
+        assertEquals(1, meterRegistry.get("turnkey.reads").tag("outcome", "cached").counter().count());
+    }
+
+    private Supplier<CompletableFuture<byte[]>> counting(CompletableFuture<byte[]> response) {
+        return () -> {
+            sends.incrementAndGet();
+            return response;
+        };
+    }
+
+    private static byte[] body(String value) {
+        return ("{\"value\":\"" + value + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,102 @@
+package com.maut.core.external.turnkey;
+
+import com.maut.core.common.config.properties.TurnkeyHedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnkeyRequestHedgerTest {
+
+    private static final String PATH = "/public/v1/query/list_users";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TurnkeyRequestHedger hedger;
+
+    @AfterEach
+    void tearDown() {
+        if (hedger != null) {
+            hedger.destroy();
+        }
+    }
+
+    @Test
+    void send_slowPrimaryAfterWarmUp_isAnsweredByHedge() throws Exception {
+        // Arrange
+        hedger = new TurnkeyRequestHedger(properties(1.0), meterRegistry);
+        warmUp();
+        CompletableFuture<byte[]> slowPrimary = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        CompletableFuture<byte[]> result = hedger.send(PATH,
+                () -> calls.getAndIncrement() == 0 ? slowPrimary : CompletableFuture.completedFuture(body("hedge")));
+
+        // Assert
+        assertArrayEquals(body("hedge"), result.get(1, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+        assertEquals(1, meterRegistry.get("turnkey.hedge.sent").counter().count());
+        assertEquals(1, meterRegistry.get("turnkey.hedge.wins").tag("winner", "hedge").counter().count());
+    }
+
+    @Test
+    void send_withoutBudget_waitsForPrimary() throws Exception {
+        // Arrange
+        hedger = new TurnkeyRequestHedger(properties(0.01), meterRegistry);
+        warmUp();
+        CompletableFuture<byte[]> slowPrimary = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        CompletableFuture<byte[]> result = hedger.send(PATH, () -> {
+            calls.incrementAndGet();
+            return slowPrimary;
+        });
+        Thread.sleep(100);
+        slowPrimary.complete(body("primary"));
+
+        // Assert
+        assertArrayEquals(body("primary"), result.get(1, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(1, meterRegistry.get("turnkey.hedge.skipped").counter().count());
+    }
+
+    @Test
+    void send_beforeMinSamples_neverHedges() {
+        // Arrange
+        hedger = new TurnkeyRequestHedger(properties(1.0), meterRegistry);
+        CompletableFuture<byte[]> primary = new CompletableFuture<>();
+
+        // Act
+        CompletableFuture<byte[]> result = hedger.send(PATH, () -> primary);
+
+        // Assert
+        assertSame(primary, result);
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < 5; i++) {
+            hedger.send(PATH, () -> CompletableFuture.completedFuture(body("fast"))).join();
+        }
+    }
+
+    private static TurnkeyHedgingProperties properties(double budgetRatio) {
+        TurnkeyHedgingProperties properties = new TurnkeyHedgingProperties();
+        properties.setEnabled(true);
+        properties.setMinSamples(5);
+        properties.setWindowSize(10);
+        properties.setMinDelayMs(20);
+        properties.setBudgetRatio(budgetRatio);
+        return properties;
+    }
+
+    private static byte[] body(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,357 @@
+package com.maut.core.external.turnkey.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.codec.binary.Hex;
+import org.bouncycastle.jce.ECNamedCurveTable;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.jce.spec.ECNamedCurveParameterSpec;
+import org.bouncycastle.jce.spec.ECPublicKeySpec;
+import org.bouncycastle.math.ec.ECPoint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Security;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the Turnkey API, for tests, benchmarks and local load runs.
+ * <p>
+ * Serves {@code submit_activity}, {@code submit/create_sub_organization}, {@code submit/create_private_keys}
+ * and {@code query/get_activity} on an embedded {@link HttpServer}, rejecting requests whose {@code X-Stamp}
+ * is not a valid P-256 signature of the body by the expected API key. Latency, error rate, 429 rate and the
+ * number of polls an activity stays pending can all be changed while it runs.
+ * <p>
+ * Standalone: {@code TurnkeySimulator.main(port, apiPublicKeyHex)}, then point {@code turnkey.api.baseUrl}
+ * at {@code http://localhost:<port>}.
+ */
+public class TurnkeySimulator implements AutoCloseable {
+
+    /**
+     * Draws the artificial service time of one request.
+     */
+    @FunctionalInterface
+    public interface LatencyModel {
+        Duration next();
+
+        static LatencyModel none() {
+            return () -> Duration.ZERO;
+        }
+
+        static LatencyModel fixed(long millis) {
+            return () -> Duration.ofMillis(millis);
+        }
+
+        static LatencyModel uniform(long minMillis, long maxMillis) {
+            return () -> Duration.ofMillis(ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1));
+        }
+
+        /**
+         * Long-tailed latency typical of remote APIs: median {@code medianMillis}, spread {@code sigma}.
+         */
+        static LatencyModel logNormal(double medianMillis, double sigma) {
+            return () -> Duration.ofMillis(Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian())));
+        }
+    }
+
+    private static final String STATUS_PENDING = "ACTIVITY_STATUS_PENDING";
+    private static final String STATUS_COMPLETED = "ACTIVITY_STATUS_COMPLETED";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String apiPublicKeyHex;
+    private final PublicKey apiPublicKey;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, SimulatedActivity> activities = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicLong rejectedStamps = new AtomicLong();
+    private volatile String lastActivityId;
+
+    private volatile LatencyModel latency = LatencyModel.none();
+    private volatile double errorRate;
+    private volatile double throttleRate;
+    private volatile int retryAfterSeconds = 1;
+    private volatile int pendingPolls;
+
+    public TurnkeySimulator(String apiPublicKeyHex) throws IOException {
+        this(apiPublicKeyHex, 0);
+    }
+
+    public TurnkeySimulator(String apiPublicKeyHex, int port) throws IOException {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        this.apiPublicKeyHex = apiPublicKeyHex.toLowerCase();
+        this.apiPublicKey = decodeCompressedPublicKey(apiPublicKeyHex);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/public/v1/", this::handle);
+        this.server.start();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: TurnkeySimulator <port> <turnkey.api.key hex>");
+            System.exit(1);
+        }
+        TurnkeySimulator simulator = new TurnkeySimulator(args[1], Integer.parseInt(args[0]));
+        simulator.latency(LatencyModel.logNormal(120, 0.4));
+        System.out.println("Turnkey simulator listening on " + simulator.baseUrl());
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public TurnkeySimulator latency(LatencyModel latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Fraction of requests (0..1) answered with a 500.
+     */
+    public TurnkeySimulator errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * Fraction of requests (0..1) answered with a 429 carrying {@code Retry-After}.
+     */
+    public TurnkeySimulator throttleRate(double throttleRate, int retryAfterSeconds) {
+        this.throttleRate = throttleRate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        return this;
+    }
+
+    /**
+     * Submitted activities report {@code ACTIVITY_STATUS_PENDING} until they have been fetched through
+     * {@code get_activity} this many times; 0 completes them immediately.
+     */
+    public TurnkeySimulator pendingPolls(int pendingPolls) {
+        this.pendingPolls = pendingPolls;
+        return this;
+    }
+
+    public int requestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count != null ? count.get() : 0;
+    }
+
+    public String lastActivityId() {
+        return lastActivityId;
+    }
+
+    public long rejectedStamps() {
+        return rejectedStamps.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            requestCounts.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            sleep(latency.next());
+
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, error(12, "method not allowed"));
+                return;
+            }
+            if (!stampIsValid(exchange.getRequestHeaders().getFirst("X-Stamp"), body)) {
+                rejectedStamps.incrementAndGet();
+                respond(exchange, 401, error(16, "invalid stamp"));
+                return;
+            }
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < throttleRate) {
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+                respond(exchange, 429, error(8, "rate limit exceeded"));
+                return;
+            }
+            if (roll < throttleRate + errorRate) {
+                respond(exchange, 500, error(13, "simulated internal error"));
+                return;
+            }
+
+            JsonNode request = objectMapper.readTree(body);
+            switch (path) {
+                case "/public/v1/submit_activity":
+                    respond(exchange, 200, submit(request, request.path("type").asText()));
+                    break;
+                case "/public/v1/submit/create_sub_organization":
+                    respond(exchange, 200, submit(request, "ACTIVITY_TYPE_CREATE_SUB_ORGANIZATION_V7"));
+                    break;
+                case "/public/v1/submit/create_private_keys":
+                    respond(exchange, 200, submit(request, "ACTIVITY_TYPE_CREATE_PRIVATE_KEYS_V2"));
+                    break;
+                case "/public/v1/query/get_activity":
+                    SimulatedActivity activity = activities.get(request.path("activityId").asText());
+                    if (activity == null) {
+                        respond(exchange, 404, error(5, "activity not found"));
+                    } else {
+                        activity.polls.incrementAndGet();
+                        respond(exchange, 200, wrap(activity));
+                    }
+                    break;
+                default:
+                    respond(exchange, 404, error(5, "unknown endpoint " + path));
+            }
+        }
+    }
+
+    private ObjectNode submit(JsonNode request, String type) {
+        SimulatedActivity activity = new SimulatedActivity(
+                UUID.randomUUID().toString(), request.path("organizationId").asText(), type, pendingPolls, result(type));
+        activities.put(activity.id, activity);
+        lastActivityId = activity.id;
+        return wrap(activity);
+    }
+
+    private ObjectNode wrap(SimulatedActivity activity) {
+        boolean completed = activity.polls.get() >= activity.pendingPolls;
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("id", activity.id);
+        node.put("organizationId", activity.organizationId);
+        node.put("type", activity.type);
+        node.put("status", completed ? STATUS_COMPLETED : STATUS_PENDING);
+        node.put("timestampMs", String.valueOf(System.currentTimeMillis()));
+        if (completed) {
+            ObjectNode result = activity.result.deepCopy();
+            // TurnkeyClientImpl reads the sub-organization result one level deeper, under result.activity.result.
+            result.putObject("activity").put("type", activity.type).set("result", activity.result.deepCopy());
+            node.set("result", result);
+        }
+        ObjectNode response = objectMapper.createObjectNode();
+        response.set("activity", node);
+        return response;
+    }
+
+    private ObjectNode result(String type) {
+        ObjectNode result = objectMapper.createObjectNode();
+        String address = "0x" + Hex.encodeHexString(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8)).substring(0, 40);
+        if (type.contains("CREATE_SUB_ORGANIZATION")) {
+            ObjectNode subOrg = result.putObject("createSubOrganizationResultV7");
+            subOrg.put("subOrganizationId", UUID.randomUUID().toString());
+            subOrg.putArray("rootUserIds").add(UUID.randomUUID().toString());
+            ObjectNode wallet = subOrg.putObject("wallet");
+            wallet.put("walletId", UUID.randomUUID().toString());
+            wallet.putArray("addresses").add(address);
+        } else if (type.contains("CREATE_PRIVATE_KEYS")) {
+            ArrayNode keys = result.putObject("createPrivateKeysResultV2").putArray("privateKeys");
+            ObjectNode key = keys.addObject();
+            key.put("privateKeyId", UUID.randomUUID().toString());
+            key.put("privateKeyName", "simulated-key");
+            key.putArray("addresses").addObject().put("format", "ADDRESS_FORMAT_ETHEREUM").put("address", address);
+        }
+        return result;
+    }
+
+    private boolean stampIsValid(String stamp, byte[] body) {
+        if (stamp == null) {
+            return false;
+        }
+        try {
+            JsonNode json = objectMapper.readTree(Base64.getUrlDecoder().decode(stamp));
+            if (!apiPublicKeyHex.equalsIgnoreCase(json.path("publicKey").asText())
+                    || !"SIGNATURE_SCHEME_TK_API_P256".equals(json.path("scheme").asText())) {
+                return false;
+            }
+            Signature verifier = Signature.getInstance("SHA256withECDSA");
+            verifier.initVerify(apiPublicKey);
+            verifier.update(body);
+            return verifier.verify(Hex.decodeHex(json.path("signature").asText()));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private ObjectNode error(int code, String message) {
+        return objectMapper.createObjectNode().put("code", code).put("message", message);
+    }
+
+    private void respond(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PublicKey decodeCompressedPublicKey(String hex) {
+        try {
+            ECNamedCurveParameterSpec spec = ECNamedCurveTable.getParameterSpec("secp256r1");
+            ECPoint point = spec.getCurve().decodePoint(Hex.decodeHex(hex));
+            return KeyFactory.getInstance("EC", BouncyCastleProvider.PROVIDER_NAME).generatePublic(new ECPublicKeySpec(point, spec));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Not a hex-encoded P-256 public key: " + hex, e);
+        }
+    }
+
+    /**
+     * Encodes a P-256 public key the way Turnkey API keys are configured (compressed point, hex).
+     */
+    public static String compressedHex(ECPublicKey publicKey) {
+        ECNamedCurveParameterSpec spec = ECNamedCurveTable.getParameterSpec("secp256r1");
+        ECPoint point = spec.getCurve().createPoint(publicKey.getW().getAffineX(), publicKey.getW().getAffineY());
+        return Hex.encodeHexString(point.getEncoded(true));
+    }
+
+    private static final class SimulatedActivity {
+        final String id;
+        final String organizationId;
+        final String type;
+        final int pendingPolls;
+        final ObjectNode result;
+        final AtomicInteger polls = new AtomicInteger();
+
+        SimulatedActivity(String id, String organizationId, String type, int pendingPolls, ObjectNode result) {
+            this.id = id;
+            this.organizationId = organizationId;
+            this.type = type;
+            this.pendingPolls = pendingPolls;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.maut.core.external.turnkey.simulator;
+
+import com.maut.core.common.config.properties.OutboundCallGuardProperties;
+import com.maut.core.common.config.properties.TurnkeyCoalescingProperties;
+import com.maut.core.common.config.properties.TurnkeyHedgingProperties;
+import com.maut.core.common.config.properties.TurnkeyHttpProperties;
+import com.maut.core.common.config.properties.TurnkeyRateLimitProperties;
+import com.maut.core.common.transaction.OutboundCallGuard;
+import com.maut.core.external.turnkey.TurnkeyApiTransport;
+import com.maut.core.external.turnkey.TurnkeyRateLimiter;
+import com.maut.core.external.turnkey.TurnkeyReadCoalescer;
+import com.maut.core.external.turnkey.TurnkeyRequestHedger;
+import com.maut.core.external.turnkey.TurnkeyServiceImpl;
+import com.maut.core.external.turnkey.model.TurnkeyActivityDetails;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import com.maut.core.external.turnkey.model.TurnkeySubOrganization;
+import com.maut.core.external.turnkey.util.TurnkeyJsonCodec;
+import com.maut.core.external.turnkey.util.TurnkeyStamper;
+import com.maut.core.integration.turnkey.TurnkeyActivitySubmitter;
+import com.maut.core.modules.activity.model.TurnkeySubmission;
+import com.maut.core.modules.activity.service.TurnkeySubmissionLedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TurnkeySimulatorTest {
+
+    private static final String ORGANIZATION_ID = "org-simulated";
+
+    private KeyPair keyPair;
+    private String publicKeyHex;
+    private TurnkeySimulator simulator;
+    private TurnkeyApiTransport transport;
+    private TurnkeyRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        keyPair = generator.generateKeyPair();
+        publicKeyHex = TurnkeySimulator.compressedHex((ECPublicKey) keyPair.getPublic());
+        simulator = new TurnkeySimulator(publicKeyHex);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (transport != null) {
+            transport.destroy();
+            limiter.destroy();
+        }
+        simulator.close();
+    }
+
+    @Test
+    void createSubOrganization_withValidStamp_returnsSubOrganization() {
+        // Arrange
+        TurnkeyServiceImpl service = service(publicKeyHex);
+
+        // Act
+        TurnkeySubOrganization subOrganization = service.createSubOrganization("sim-user");
+
+        // Assert
+        assertNotNull(subOrganization.getSubOrganizationId());
+        assertEquals(1, simulator.requestCount("/public/v1/submit/create_sub_organization"));
+        assertEquals(0, simulator.rejectedStamps());
+    }
+
+    @Test
+    void getActivity_pendingActivity_completesAfterScriptedPolls() {
+        // Arrange
+        simulator.pendingPolls(2);
+        TurnkeyServiceImpl service = service(publicKeyHex);
+        assertThrows(RuntimeException.class, () -> service.createSubOrganization("sim-user"));
+        String activityId = simulator.lastActivityId();
+
+        // Act
+        TurnkeyActivityDetails first = service.getActivity(ORGANIZATION_ID, activityId);
+        TurnkeyActivityDetails second = service.getActivity(ORGANIZATION_ID, activityId);
+
+        // Assert
+        assertEquals(TurnkeyActivityStatus.PENDING, first.getStatus());
+        assertNull(first.getResult());
+        assertEquals(TurnkeyActivityStatus.COMPLETED, second.getStatus());
+        assertNotNull(second.getResult().get("createSubOrganizationResultV7"));
+    }
+
+    @Test
+    void createSubOrganization_whenThrottled_failsWithClientError() {
+        // Arrange
+        simulator.throttleRate(1.0, 1);
+        TurnkeyServiceImpl service = service(publicKeyHex);
+
+        // Act
+        RuntimeException e = assertThrows(RuntimeException.class, () -> service.createSubOrganization("sim-user"));
+
+        // Assert
+        assertTrue(e.getMessage().contains("rate limit exceeded"));
+        assertEquals(2, simulator.requestCount("/public/v1/submit/create_sub_organization"), "re-sent once after Retry-After");
+    }
+
+    @Test
+    void createSubOrganization_stampedWithOtherKey_isRejected() throws Exception {
+        // Arrange
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair otherKeyPair = generator.generateKeyPair();
+        TurnkeyServiceImpl service = service(publicKeyHex, otherKeyPair);
+
+        // Act
+        RuntimeException e = assertThrows(RuntimeException.class, () -> service.createSubOrganization("sim-user"));
+
+        // Assert
+        assertTrue(e.getMessage().contains("invalid stamp"));
+        assertEquals(1, simulator.rejectedStamps());
+    }
+
+    private TurnkeyServiceImpl service(String stampPublicKeyHex) {
+        return service(stampPublicKeyHex, keyPair);
+    }
+
+    private TurnkeyServiceImpl service(String stampPublicKeyHex, KeyPair signingKeyPair) {
+        TurnkeyStamper stamper = new TurnkeyStamper(stampPublicKeyHex, Hex.encodeHexString(signingKeyPair.getPrivate().getEncoded()), "SunEC");
+        TurnkeyHttpProperties properties = new TurnkeyHttpProperties();
+        properties.setHttp2(false);
+        properties.setRequestTimeoutMs(5_000);
+        TurnkeyRateLimitProperties rateLimitProperties = new TurnkeyRateLimitProperties();
+        rateLimitProperties.setMaxRetries(1);
+        limiter = new TurnkeyRateLimiter(rateLimitProperties, new SimpleMeterRegistry());
+        OutboundCallGuardProperties guardProperties = new OutboundCallGuardProperties();
+        guardProperties.setFailOnViolation(true);
+        OutboundCallGuard guard = new OutboundCallGuard(guardProperties, new SimpleMeterRegistry());
+        transport = new TurnkeyApiTransport(stamper, new TurnkeyJsonCodec(), limiter,
+                new TurnkeyReadCoalescer(new TurnkeyCoalescingProperties(), new SimpleMeterRegistry()),
+                new TurnkeyRequestHedger(new TurnkeyHedgingProperties(), new SimpleMeterRegistry()), guard, properties, simulator.baseUrl());
+        TurnkeySubmissionLedger ledger = mock(TurnkeySubmissionLedger.class);
+        when(ledger.reserve(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            TurnkeySubmission submission = new TurnkeySubmission();
+            submission.setIdempotencyKey(invocation.getArgument(0));
+            submission.setActivityType(invocation.getArgument(1));
+            submission.setOrganizationId(invocation.getArgument(2));
+            submission.setParametersJson(new String(invocation.<Supplier<byte[]>>getArgument(3).get(), StandardCharsets.UTF_8));
+            return submission;
+        });
+        TurnkeyActivitySubmitter submitter = new TurnkeyActivitySubmitter(transport, new TurnkeyJsonCodec(), ledger, Runnable::run);
+        TurnkeyServiceImpl service = new TurnkeyServiceImpl(transport, submitter, guard);
+        ReflectionTestUtils.setField(service, "turnkeyOrganizationId", ORGANIZATION_ID);
+        return service;
+    }
+}
@@ -0,0 +1,75 @@
+package com.maut.core.external.turnkey.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECPrivateKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnkeyStamperTest {
+
+    private static final String PUBLIC_KEY_HEX = "02aabbccdd";
+
+    private KeyPair keyPair;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        keyPair = generator.generateKeyPair();
+    }
+
+    @Test
+    void stamp_withRawScalarKey_producesVerifiableStamp() throws Exception {
+        // Arrange
+        byte[] scalar = ((ECPrivateKey) keyPair.getPrivate()).getS().toByteArray();
+        byte[] raw = new byte[32];
+        int copy = Math.min(scalar.length, 32);
+        System.arraycopy(scalar, scalar.length - copy, raw, 32 - copy, copy);
+        TurnkeyStamper stamper = new TurnkeyStamper(PUBLIC_KEY_HEX, Hex.encodeHexString(raw), "auto");
+        byte[] body = "{\"type\":\"ACTIVITY_TYPE_TEST\"}".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        String stamp = stamper.stamp(body);
+
+        // Assert
+        assertStampVerifies(stamp, body);
+    }
+
+    @Test
+    void stamp_withPkcs8KeyAndPinnedProvider_producesVerifiableStamp() throws Exception {
+        // Arrange
+        TurnkeyStamper stamper = new TurnkeyStamper(PUBLIC_KEY_HEX, Hex.encodeHexString(keyPair.getPrivate().getEncoded()), "BC");
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        String first = stamper.stamp(body);
+        String second = stamper.stamp(body);
+
+        // Assert
+        assertEquals("BC", stamper.getProviderName());
+        assertStampVerifies(first, body);
+        assertStampVerifies(second, body);
+    }
+
+    private void assertStampVerifies(String stamp, byte[] body) throws Exception {
+        JsonNode json = new ObjectMapper().readTree(Base64.getUrlDecoder().decode(stamp));
+        assertEquals(PUBLIC_KEY_HEX, json.get("publicKey").asText());
+        assertEquals(TurnkeyStamper.SIGNATURE_SCHEME, json.get("scheme").asText());
+
+        Signature verifier = Signature.getInstance("SHA256withECDSA");
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(body);
+        assertTrue(verifier.verify(Hex.decodeHex(json.get("signature").asText())));
+    }
+}
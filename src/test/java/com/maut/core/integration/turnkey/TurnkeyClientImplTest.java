@@ -0,0 +1,225 @@
+package com.maut.core.integration.turnkey;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.maut.core.external.turnkey.TurnkeyApiTransport;
+import com.maut.core.external.turnkey.model.request.GetActivityRequest;
+import com.maut.core.external.turnkey.util.TurnkeyJsonCodec;
+import com.maut.core.integration.turnkey.dto.TurnkeyCreateMautManagedKeyRequest;
+import com.maut.core.integration.turnkey.dto.TurnkeyCreateMautManagedKeyResponse;
+import com.maut.core.modules.activity.model.TurnkeySubmission;
+import com.maut.core.modules.activity.service.TurnkeySubmissionLedger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TurnkeyClientImplTest {
+
+    private static final String KEY = "CREATE_PRIVATE_KEYS_V2:sub-org-1:signing";
+    private static final String SUBMIT_PATH = "/public/v1/submit_activity";
+    private static final String GET_ACTIVITY_PATH = "/public/v1/query/get_activity";
+
+    @Mock
+    private TurnkeyApiTransport turnkeyApiTransport;
+
+    @Mock
+    private TurnkeySubmissionLedger turnkeySubmissionLedger;
+
+    private TurnkeyClientImpl turnkeyClient;
+
+    @BeforeEach
+    void setUp() {
+        TurnkeyActivitySubmitter submitter = new TurnkeyActivitySubmitter(turnkeyApiTransport, new TurnkeyJsonCodec(), turnkeySubmissionLedger, Runnable::run);
+        ReflectionTestUtils.setField(submitter, "maxSubmitAttempts", 3);
+        ReflectionTestUtils.setField(submitter, "retryBackoffMs", 0L);
+        ReflectionTestUtils.setField(submitter, "fallbackKeyWindowMs", 600_000L);
+        turnkeyClient = new TurnkeyClientImpl(submitter);
+    }
+
+    @Test
+    void createMautManagedKey_retriesTimeoutUnderSameFingerprintAndRecordsActivity() {
+        // Arrange
+        TurnkeySubmission submission = reserveNew(KEY, null);
+        when(turnkeyApiTransport.post(eq(SUBMIT_PATH), any(), responseType()))
+                .thenThrow(new ResourceAccessException("timed out"))
+                .thenReturn(wrapper("activity-1", "ACTIVITY_STATUS_PENDING"));
+
+        // Act
+        TurnkeyCreateMautManagedKeyResponse response = turnkeyClient.createMautManagedKey(request(), KEY);
+
+        // Assert
+        assertTrue(response.isPending());
+        assertEquals("activity-1", response.getActivityId());
+        List<Object> sent = sentRequests(2);
+        assertEquals(field(sent.get(0), "fingerprint"), field(sent.get(1), "fingerprint"));
+        assertEquals(TurnkeyIdempotencyKeys.fingerprint(KEY, 0), field(sent.get(0), "fingerprint"));
+        assertEquals(submission.getParametersJson(), field(sent.get(1), "parameters"));
+        verify(turnkeySubmissionLedger, times(2)).recordAttempt(submission);
+        verify(turnkeySubmissionLedger).recordActivity(submission, "activity-1", "ACTIVITY_STATUS_PENDING");
+    }
+
+    @Test
+    void createMautManagedKey_stampsEachRetryWithTheCurrentTime() throws Exception {
+        // Arrange
+        reserveNew(KEY, null);
+        when(turnkeyApiTransport.post(eq(SUBMIT_PATH), any(), responseType()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(5);
+                    throw new ResourceAccessException("timed out");
+                })
+                .thenReturn(wrapper("activity-1", "ACTIVITY_STATUS_PENDING"));
+
+        // Act
+        turnkeyClient.createMautManagedKey(request(), KEY);
+
+        // Assert
+        List<Object> sent = sentRequests(2);
+        assertTrue(Long.parseLong(field(sent.get(1), "timestampMs")) > Long.parseLong(field(sent.get(0), "timestampMs")));
+    }
+
+    @Test
+    void createMautManagedKey_alreadySubmitted_fetchesActivityInsteadOfResubmitting() {
+        // Arrange
+        when(turnkeySubmissionLedger.reserve(eq(KEY), any(), any(), any(), any())).thenReturn(submission("{}", "activity-1", "ACTIVITY_STATUS_PENDING"));
+        when(turnkeyApiTransport.post(eq(GET_ACTIVITY_PATH), any(GetActivityRequest.class), responseType()))
+                .thenReturn(wrapper("activity-1", "ACTIVITY_STATUS_PENDING"));
+
+        // Act
+        TurnkeyCreateMautManagedKeyResponse response = turnkeyClient.createMautManagedKey(request(), KEY);
+
+        // Assert
+        assertEquals("activity-1", response.getActivityId());
+        verify(turnkeyApiTransport, never()).post(eq(SUBMIT_PATH), any(), responseType());
+        verify(turnkeySubmissionLedger, never()).recordAttempt(any());
+        verify(turnkeySubmissionLedger, never()).recordActivity(any(), any(), any());
+    }
+
+    @Test
+    void createMautManagedKey_storedActivityFailed_supersedesAndSubmitsNextGeneration() {
+        // Arrange
+        TurnkeySubmission failed = submission("{}", "activity-1", "ACTIVITY_STATUS_PENDING");
+        TurnkeySubmission next = submission("{}", null, null);
+        next.setGeneration(1);
+        when(turnkeySubmissionLedger.reserve(eq(KEY), any(), any(), any(), any())).thenReturn(failed);
+        when(turnkeySubmissionLedger.supersede(eq(failed), any())).thenReturn(next);
+        when(turnkeyApiTransport.post(eq(GET_ACTIVITY_PATH), any(GetActivityRequest.class), responseType()))
+                .thenReturn(wrapper("activity-1", "ACTIVITY_STATUS_FAILED"));
+        when(turnkeyApiTransport.post(eq(SUBMIT_PATH), any(), responseType()))
+                .thenReturn(wrapper("activity-2", "ACTIVITY_STATUS_PENDING"));
+
+        // Act
+        TurnkeyCreateMautManagedKeyResponse response = turnkeyClient.createMautManagedKey(request(), KEY);
+
+        // Assert
+        assertTrue(response.isPending());
+        assertEquals("activity-2", response.getActivityId());
+        assertEquals(TurnkeyIdempotencyKeys.fingerprint(KEY, 1), field(sentRequests(1).get(0), "fingerprint"));
+        verify(turnkeySubmissionLedger).recordAttempt(next);
+        verify(turnkeySubmissionLedger).recordActivity(next, "activity-2", "ACTIVITY_STATUS_PENDING");
+    }
+
+    @Test
+    void createMautManagedKey_freshActivityRejected_supersedesRowAndReportsFailure() {
+        // Arrange
+        TurnkeySubmission submission = reserveNew(KEY, null);
+        when(turnkeyApiTransport.post(eq(SUBMIT_PATH), any(), responseType()))
+                .thenReturn(wrapper("activity-1", "ACTIVITY_STATUS_REJECTED"));
+
+        // Act
+        TurnkeyCreateMautManagedKeyResponse response = turnkeyClient.createMautManagedKey(request(), KEY);
+
+        // Assert
+        assertFalse(response.isSuccess());
+        assertFalse(response.isPending());
+        verify(turnkeySubmissionLedger).supersede(eq(submission), any());
+        verify(turnkeySubmissionLedger, never()).recordActivity(any(), any(), any());
+        verify(turnkeyApiTransport, times(1)).post(eq(SUBMIT_PATH), any(), responseType());
+    }
+
+    @Test
+    void createMautManagedKey_withoutKey_reservesParameterKeyWithReuseWindow() {
+        // Arrange
+        reserveNew(null, Duration.ofMinutes(10));
+        when(turnkeyApiTransport.post(eq(SUBMIT_PATH), any(), responseType()))
+                .thenReturn(wrapper("activity-1", "ACTIVITY_STATUS_PENDING"));
+
+        // Act
+        turnkeyClient.createMautManagedKey(request());
+
+        // Assert
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(turnkeySubmissionLedger).reserve(key.capture(), eq("CREATE_PRIVATE_KEYS_V2"), eq("sub-org-1"), any(), eq(Duration.ofMinutes(10)));
+        assertTrue(key.getValue().startsWith("CREATE_PRIVATE_KEYS_V2:sub-org-1:"));
+    }
+
+    private TurnkeySubmission reserveNew(String key, Duration reuseWindow) {
+        TurnkeySubmission submission = submission(null, null, null);
+        when(turnkeySubmissionLedger.reserve(key != null ? eq(key) : any(), eq("CREATE_PRIVATE_KEYS_V2"), eq("sub-org-1"), any(),
+                reuseWindow != null ? eq(reuseWindow) : isNull()))
+                .thenAnswer(invocation -> {
+                    submission.setParametersJson(new String(invocation.<Supplier<byte[]>>getArgument(3).get(), StandardCharsets.UTF_8));
+                    return submission;
+                });
+        return submission;
+    }
+
+    private List<Object> sentRequests(int count) {
+        ArgumentCaptor<Object> requests = ArgumentCaptor.forClass(Object.class);
+        verify(turnkeyApiTransport, times(count)).post(eq(SUBMIT_PATH), requests.capture(), responseType());
+        return requests.getAllValues();
+    }
+
+    private static String field(Object request, String name) {
+        return (String) ReflectionTestUtils.getField(request, name);
+    }
+
+    private static TypeReference<TurnkeyCreateMautManagedKeyResponse.TurnkeyActivityResponseWrapper> responseType() {
+        return any();
+    }
+
+    private static TurnkeyCreateMautManagedKeyRequest request() {
+        return TurnkeyCreateMautManagedKeyRequest.builder()
+                .subOrganizationId("sub-org-1")
+                .privateKey(TurnkeyCreateMautManagedKeyRequest.PrivateKeyParams.builder()
+                        .privateKeyName("signing")
+                        .curve("CURVE_SECP256K1")
+                        .build())
+                .build();
+    }
+
+    private static TurnkeySubmission submission(String parametersJson, String activityId, String status) {
+        TurnkeySubmission submission = new TurnkeySubmission();
+        submission.setIdempotencyKey(KEY);
+        submission.setActivityType("CREATE_PRIVATE_KEYS_V2");
+        submission.setOrganizationId("sub-org-1");
+        submission.setParametersJson(parametersJson);
+        submission.setActivityId(activityId);
+        submission.setStatus(status);
+        return submission;
+    }
+
+    private static TurnkeyCreateMautManagedKeyResponse.TurnkeyActivityResponseWrapper wrapper(String activityId, String status) {
+        TurnkeyCreateMautManagedKeyResponse.Activity activity = new TurnkeyCreateMautManagedKeyResponse.Activity();
+        activity.setId(activityId);
+        activity.setStatus(status);
+        TurnkeyCreateMautManagedKeyResponse.TurnkeyActivityResponseWrapper wrapper = new TurnkeyCreateMautManagedKeyResponse.TurnkeyActivityResponseWrapper();
+        wrapper.setActivity(activity);
+        return wrapper;
+    }
+}
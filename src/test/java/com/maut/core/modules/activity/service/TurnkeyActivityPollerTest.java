@@ -0,0 +1,118 @@
+package com.maut.core.modules.activity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maut.core.common.config.properties.TurnkeyActivityPollerProperties;
+import com.maut.core.external.turnkey.TurnkeyService;
+import com.maut.core.external.turnkey.model.TurnkeyActivityDetails;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import com.maut.core.modules.activity.event.TurnkeyActivityStatusChangedEvent;
+import com.maut.core.modules.activity.model.TurnkeyActivity;
+import com.maut.core.modules.activity.repository.TurnkeyActivityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class TurnkeyActivityPollerTest {
+
+    private TurnkeyActivityRepository repository;
+    private TurnkeyService turnkeyService;
+    private ApplicationEventPublisher eventPublisher;
+    private TurnkeyActivityPoller poller;
+    private TurnkeyActivity activity;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TurnkeyActivityRepository.class);
+        turnkeyService = mock(TurnkeyService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        TurnkeyActivityPollerProperties properties = new TurnkeyActivityPollerProperties();
+        TurnkeyActivityTracker tracker = new TurnkeyActivityTracker(repository, new ObjectMapper());
+        TurnkeyActivityTransitions transitions = new TurnkeyActivityTransitions(repository, tracker, eventPublisher, properties);
+        poller = new TurnkeyActivityPoller(repository, tracker, transitions, turnkeyService, properties, new SimpleMeterRegistry());
+
+        activity = new TurnkeyActivity();
+        activity.setId(UUID.randomUUID());
+        activity.setActivityId("act-1");
+        activity.setOrganizationId("sub-org");
+        activity.setActivityType("ACTIVITY_TYPE_SIGN_TRANSACTION_V2");
+        activity.setStatus(TurnkeyActivityStatus.CONSENSUS_NEEDED);
+        activity.setCreatedAt(Instant.now());
+        when(repository.lockDueForPoll(any(), anyInt())).thenReturn(List.of(activity));
+    }
+
+    @Test
+    void pollDueActivities_statusChanged_transitionsAndPublishesEvent() {
+        // Arrange
+        TurnkeyActivityDetails details = TurnkeyActivityDetails.builder()
+                .id("act-1")
+                .status(TurnkeyActivityStatus.COMPLETED)
+                .result(Map.of("txHash", "0xabc"))
+                .build();
+        when(turnkeyService.getActivityAsync("sub-org", "act-1")).thenReturn(CompletableFuture.completedFuture(details));
+        when(repository.transition(eq(activity.getId()), eq(TurnkeyActivityStatus.CONSENSUS_NEEDED), eq(TurnkeyActivityStatus.COMPLETED),
+                anyString(), isNull(), any(), any())).thenReturn(1);
+
+        // Act
+        poller.pollDueActivities();
+
+        // Assert
+        ArgumentCaptor<TurnkeyActivityStatusChangedEvent> event = ArgumentCaptor.forClass(TurnkeyActivityStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TurnkeyActivityStatus.CONSENSUS_NEEDED, event.getValue().getPreviousStatus());
+        assertTrue(event.getValue().isTerminal());
+        assertTrue(event.getValue().getResultJson().contains("0xabc"));
+    }
+
+    @Test
+    void pollDueActivities_lookupFails_reschedulesWithBackoffAndPublishesNothing() {
+        // Arrange
+        when(turnkeyService.getActivityAsync("sub-org", "act-1"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("boom")));
+        activity.setPollAttempts(3);
+
+        // Act
+        Instant before = Instant.now();
+        poller.pollDueActivities();
+
+        // Assert
+        ArgumentCaptor<Instant> nextPollAt = ArgumentCaptor.forClass(Instant.class);
+        verify(repository).reschedule(eq(activity.getId()), eq(TurnkeyActivityStatus.CONSENSUS_NEEDED), nextPollAt.capture(), any());
+        // 1s initial backoff doubled three times, minus at most 20% jitter.
+        assertTrue(nextPollAt.getValue().isAfter(before.plusMillis(6_000)));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void pollDueActivities_leasesClaimedRowsBeforeCallingTurnkey() {
+        // Arrange
+        when(turnkeyService.getActivityAsync("sub-org", "act-1")).thenReturn(CompletableFuture.failedFuture(new RuntimeException("boom")));
+        Instant before = Instant.now();
+
+        // Act
+        poller.pollDueActivities();
+
+        // Assert
+        ArgumentCaptor<Instant> leaseUntil = ArgumentCaptor.forClass(Instant.class);
+        InOrder inOrder = inOrder(repository, turnkeyService);
+        inOrder.verify(repository).leaseForPoll(eq(List.of(activity.getId())), leaseUntil.capture());
+        inOrder.verify(turnkeyService).getActivityAsync("sub-org", "act-1");
+        assertFalse(leaseUntil.getValue().isBefore(before.plusMillis(30_000)));
+    }
+}
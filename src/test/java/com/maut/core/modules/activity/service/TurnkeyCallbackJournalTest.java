@@ -0,0 +1,129 @@
+package com.maut.core.modules.activity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maut.core.common.config.properties.TurnkeyWebhookProperties;
+import com.maut.core.external.turnkey.model.TurnkeyActivityDetails;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import com.maut.core.modules.activity.dto.TurnkeyActivityNotification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnkeyCallbackJournalTest {
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    void open_afterRestart_replaysCallbacksPastTheCheckpointAndDropsTornLine() throws Exception {
+        // Arrange
+        TurnkeyCallbackJournal journal = journal(10);
+        journal.append(notification("act-1"));
+        journal.append(notification("act-2"));
+        journal.append(notification("act-3"));
+        List<TurnkeyCallbackJournal.Entry> first = journal.drain(1);
+        journal.checkpoint(first.get(0).getEndOffset());
+        journal.close();
+        Files.write(journalDir.resolve("callbacks.journal"), "{\"activity\":{\"id\":\"act-4\"".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        // Act
+        TurnkeyCallbackJournal reopened = journal(10);
+        List<TurnkeyCallbackJournal.Entry> replayed = reopened.drain(10);
+
+        // Assert
+        assertEquals(List.of("act-2", "act-3"), replayed.stream().map(e -> e.getNotification().getActivity().getId()).toList());
+        reopened.append(notification("act-5"));
+        assertEquals("act-5", reopened.drain(10).get(0).getNotification().getActivity().getId());
+        reopened.close();
+    }
+
+    @Test
+    void open_withMoreEntriesThanQueueCapacity_replaysTheRestAsTheQueueDrains() throws Exception {
+        // Arrange
+        TurnkeyCallbackJournal journal = journal(5);
+        for (int i = 1; i <= 5; i++) {
+            journal.append(notification("act-" + i));
+        }
+        journal.close();
+
+        // Act
+        TurnkeyCallbackJournal reopened = journal(2);
+        List<TurnkeyCallbackJournal.Entry> first = reopened.drain(10);
+        boolean acceptedDuringReplay = reopened.append(notification("act-6"));
+        reopened.checkpoint(first.get(first.size() - 1).getEndOffset());
+        List<TurnkeyCallbackJournal.Entry> second = reopened.drain(10);
+        List<TurnkeyCallbackJournal.Entry> third = reopened.drain(10);
+        reopened.checkpoint(third.get(third.size() - 1).getEndOffset());
+
+        // Assert
+        assertEquals(List.of("act-1", "act-2"), ids(first));
+        assertFalse(acceptedDuringReplay);
+        assertEquals(List.of("act-3", "act-4"), ids(second));
+        assertEquals(List.of("act-5"), ids(third));
+        assertEquals(0, Files.size(journalDir.resolve("callbacks.journal")));
+        assertTrue(reopened.append(notification("act-6")));
+        reopened.close();
+    }
+
+    @Test
+    void checkpoint_atEndOfJournal_truncatesIt() throws Exception {
+        // Arrange
+        TurnkeyCallbackJournal journal = journal(10);
+        journal.append(notification("act-1"));
+        List<TurnkeyCallbackJournal.Entry> batch = journal.drain(10);
+
+        // Act
+        journal.checkpoint(batch.get(0).getEndOffset());
+
+        // Assert
+        assertEquals(0, Files.size(journalDir.resolve("callbacks.journal")));
+        journal.close();
+    }
+
+    @Test
+    void append_whenQueueIsFull_refusesWithoutJournaling() throws Exception {
+        // Arrange
+        TurnkeyCallbackJournal journal = journal(1);
+        journal.append(notification("act-1"));
+        long size = Files.size(journalDir.resolve("callbacks.journal"));
+
+        // Act
+        boolean accepted = journal.append(notification("act-2"));
+
+        // Assert
+        assertFalse(accepted);
+        assertEquals(size, Files.size(journalDir.resolve("callbacks.journal")));
+        journal.close();
+    }
+
+    private TurnkeyCallbackJournal journal(int capacity) throws Exception {
+        TurnkeyWebhookProperties properties = new TurnkeyWebhookProperties();
+        properties.setEnabled(true);
+        properties.setJournalDir(journalDir.toString());
+        properties.setQueueCapacity(capacity);
+        TurnkeyCallbackJournal journal = new TurnkeyCallbackJournal(properties, new ObjectMapper(), new SimpleMeterRegistry());
+        journal.open();
+        return journal;
+    }
+
+    private static List<String> ids(List<TurnkeyCallbackJournal.Entry> entries) {
+        return entries.stream().map(e -> e.getNotification().getActivity().getId()).toList();
+    }
+
+    private static TurnkeyActivityNotification notification(String activityId) {
+        return new TurnkeyActivityNotification("n-" + activityId, TurnkeyActivityDetails.builder()
+                .id(activityId)
+                .organizationId("sub-org")
+                .status(TurnkeyActivityStatus.COMPLETED)
+                .build());
+    }
+}
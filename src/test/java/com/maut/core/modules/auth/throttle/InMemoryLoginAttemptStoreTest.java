@@ -0,0 +1,113 @@
+package com.maut.core.modules.auth.throttle;
+
+import com.maut.core.common.config.properties.LoginThrottleProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryLoginAttemptStoreTest {
+
+    private static final String KEY = "email:alice@example.com";
+
+    private LoginThrottleProperties properties;
+    private LoginThrottleProperties.Bucket bucket;
+    private InMemoryLoginAttemptStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginThrottleProperties();
+        properties.setStripes(4);
+        properties.setMaxEntries(8);
+        properties.setIdleExpirySeconds(60);
+        bucket = new LoginThrottleProperties.Bucket(3, 1.0, 10, 40);
+        store = new InMemoryLoginAttemptStore(properties);
+    }
+
+    @Test
+    void recordFailure_whenBucketDrains_locksOutWithBaseDuration() {
+        // Arrange
+        long now = 1_000_000L;
+
+        // Act
+        store.recordFailure(KEY, bucket, now);
+        store.recordFailure(KEY, bucket, now);
+        long beforeLockout = store.retryAfterMs(KEY, now);
+        store.recordFailure(KEY, bucket, now);
+
+        // Assert
+        assertEquals(0L, beforeLockout);
+        assertEquals(10_000L, store.retryAfterMs(KEY, now));
+        assertEquals(0L, store.retryAfterMs(KEY, now + 10_000L));
+    }
+
+    @Test
+    void recordFailure_whenLockedOutRepeatedly_doublesLockoutUpToMax() {
+        // Arrange
+        long now = 1_000_000L;
+
+        // Act + Assert
+        long[] expected = {10_000L, 20_000L, 40_000L, 40_000L};
+        for (long expectedLockout : expected) {
+            for (int i = 0; i < bucket.getCapacity(); i++) {
+                store.recordFailure(KEY, bucket, now);
+            }
+            assertEquals(expectedLockout, store.retryAfterMs(KEY, now));
+            now += expectedLockout;
+        }
+    }
+
+    @Test
+    void reset_clearsLockout() {
+        // Arrange
+        long now = 1_000_000L;
+        for (int i = 0; i < bucket.getCapacity(); i++) {
+            store.recordFailure(KEY, bucket, now);
+        }
+
+        // Act
+        store.reset(KEY);
+
+        // Assert
+        assertEquals(0L, store.retryAfterMs(KEY, now));
+    }
+
+    @Test
+    void purgeExpired_removesIdleEntriesAndKeepsMemoryBounded() {
+        // Arrange
+        long now = 1_000_000L;
+        for (int i = 0; i < 50; i++) {
+            store.recordFailure("ip:10.0.0." + i, bucket, now);
+        }
+
+        // Assert: per-stripe cap keeps the store bounded
+        assertTrue(store.size() <= properties.getMaxEntries());
+
+        // Act: long after the bucket has refilled and the idle window has passed
+        store.purgeExpired(now + 3_600_000L);
+
+        // Assert
+        assertEquals(0L, store.size());
+    }
+
+    @Test
+    void recordFailure_whenFloodedWithDistinctKeys_keepsActiveLockouts() {
+        // Arrange: one stripe so every key competes for the same slots
+        properties.setStripes(1);
+        properties.setMaxEntries(4);
+        store = new InMemoryLoginAttemptStore(properties);
+        long now = 1_000_000L;
+        for (int i = 0; i < bucket.getCapacity(); i++) {
+            store.recordFailure(KEY, bucket, now);
+        }
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            store.recordFailure("ip:10.0.0." + i, bucket, now + 1 + i);
+        }
+
+        // Assert
+        assertEquals(10_000L, store.retryAfterMs(KEY, now));
+        assertTrue(store.size() <= 4);
+    }
+}
@@ -0,0 +1,86 @@
+package com.maut.core.modules.auth.throttle;
+
+import com.maut.core.common.config.properties.LoginThrottleProperties;
+import com.maut.core.modules.auth.model.LoginThrottleEntry;
+import com.maut.core.modules.auth.repository.LoginThrottleEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresLoginAttemptStoreTest {
+
+    private static final String KEY = "email:alice@example.com";
+
+    @Mock
+    private LoginThrottleEntryRepository repository;
+
+    private LoginThrottleProperties.Bucket bucket;
+    private PostgresLoginAttemptStore store;
+    private LoginThrottleEntry row;
+
+    @BeforeEach
+    void setUp() {
+        LoginThrottleProperties properties = new LoginThrottleProperties();
+        properties.setIdleExpirySeconds(60);
+        bucket = new LoginThrottleProperties.Bucket(3, 1.0, 10, 40);
+        store = new PostgresLoginAttemptStore(repository, properties);
+
+        row = new LoginThrottleEntry();
+        row.setThrottleKey(KEY);
+        row.setTokens(bucket.getCapacity());
+        row.setLastRefillAt(Instant.ofEpochMilli(1_000_000L));
+        row.setUpdatedAt(Instant.ofEpochMilli(1_000_000L));
+    }
+
+    @Test
+    void recordFailure_whenBucketDrains_persistsLockoutUnderRowLock() {
+        // Arrange
+        long now = 1_000_000L;
+        when(repository.findByKeyForUpdate(KEY)).thenReturn(Optional.of(row));
+
+        // Act
+        for (int i = 0; i < bucket.getCapacity(); i++) {
+            store.recordFailure(KEY, bucket, now);
+        }
+
+        // Assert
+        verify(repository, times(3)).insertIfAbsent(KEY, bucket.getCapacity(), Instant.ofEpochMilli(now));
+        verify(repository, times(3)).save(row);
+        assertEquals(Instant.ofEpochMilli(now + 10_000L), row.getLockedUntil());
+        assertEquals(1, row.getLockoutCount());
+        assertEquals(bucket.getCapacity(), row.getTokens());
+    }
+
+    @Test
+    void retryAfterMs_readsLockedUntilOnly() {
+        // Arrange
+        long now = 1_000_000L;
+        when(repository.findLockedUntil(KEY)).thenReturn(Optional.of(Instant.ofEpochMilli(now + 5_000L)));
+        when(repository.findLockedUntil("ip:203.0.113.7")).thenReturn(Optional.empty());
+
+        // Act + Assert
+        assertEquals(5_000L, store.retryAfterMs(KEY, now));
+        assertEquals(0L, store.retryAfterMs(KEY, now + 6_000L));
+        assertEquals(0L, store.retryAfterMs("ip:203.0.113.7", now));
+        verify(repository, never()).findByKeyForUpdate(any());
+    }
+
+    @Test
+    void purgeExpired_deletesRowsIdleForTheWindow() {
+        // Arrange
+        long now = 1_000_000L;
+        when(repository.deleteIdleBefore(Instant.ofEpochMilli(now - 60_000L))).thenReturn(2);
+
+        // Act + Assert
+        assertEquals(2, store.purgeExpired(now));
+    }
+}
@@ -0,0 +1,122 @@
+package com.maut.core.modules.authenticator.challenge;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryChallengeStoreTest {
+
+    private final InMemoryChallengeStore store = new InMemoryChallengeStore(1000);
+    private final UUID mautUserId = UUID.randomUUID();
+
+    @Test
+    void consume_returnsChallengeOnlyOnce() {
+        // Arrange
+        store.save(challenge("abc", Instant.now().plusSeconds(60)));
+
+        // Act + Assert
+        assertTrue(store.consume(mautUserId, "abc", ChallengeCeremony.REGISTRATION).isPresent());
+        assertTrue(store.consume(mautUserId, "abc", ChallengeCeremony.REGISTRATION).isEmpty());
+    }
+
+    @Test
+    void consume_whenIssuedToAnotherUser_returnsEmptyAndKeepsChallenge() {
+        // Arrange
+        store.save(challenge("abc", Instant.now().plusSeconds(60)));
+
+        // Act + Assert
+        assertTrue(store.consume(UUID.randomUUID(), "abc", ChallengeCeremony.REGISTRATION).isEmpty());
+        assertTrue(store.consume(mautUserId, "abc", ChallengeCeremony.REGISTRATION).isPresent());
+    }
+
+    @Test
+    void consume_forAnotherCeremony_returnsEmptyAndKeepsChallenge() {
+        // Arrange
+        store.save(challenge("abc", Instant.now().plusSeconds(60)));
+
+        // Act + Assert
+        assertTrue(store.consume(mautUserId, "abc", ChallengeCeremony.AUTHENTICATION).isEmpty());
+        assertTrue(store.consume(mautUserId, "abc", ChallengeCeremony.REGISTRATION).isPresent());
+    }
+
+    @Test
+    void consume_whenExpired_returnsEmpty() {
+        // Arrange
+        store.save(challenge("abc", Instant.now().minusSeconds(1)));
+
+        // Act + Assert
+        assertTrue(store.consume(mautUserId, "abc", ChallengeCeremony.REGISTRATION).isEmpty());
+    }
+
+    @Test
+    void consume_underConcurrency_hasExactlyOneWinner() throws Exception {
+        // Arrange
+        store.save(challenge("race", Instant.now().plusSeconds(60)));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            attempts.add(() -> store.consume(mautUserId, "race", ChallengeCeremony.REGISTRATION).isPresent());
+        }
+
+        // Act
+        int winners = 0;
+        for (Future<Boolean> result : executor.invokeAll(attempts)) {
+            if (result.get()) {
+                winners++;
+            }
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, winners);
+    }
+
+    @Test
+    void purgeExpired_removesOnlyExpiredChallenges() {
+        // Arrange
+        Instant now = Instant.now();
+        store.save(challenge("old", now.minusSeconds(5)));
+        store.save(challenge("fresh", now.plusSeconds(60)));
+
+        // Act
+        int removed = store.purgeExpired(now);
+
+        // Assert
+        assertEquals(1, removed);
+        assertTrue(store.consume(mautUserId, "fresh", ChallengeCeremony.REGISTRATION).isPresent());
+    }
+
+    @Test
+    void save_whenShardsAreFullOfLiveChallenges_evictsSoonestExpiring() {
+        // Arrange: one entry per shard
+        InMemoryChallengeStore smallStore = new InMemoryChallengeStore(1);
+        Instant now = Instant.now();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            smallStore.save(challenge("c" + i, now.plusSeconds(60 + i)));
+        }
+
+        // Assert: the newest challenge survives, older ones sharing its shard were evicted
+        assertTrue(smallStore.consume(mautUserId, "c99", ChallengeCeremony.REGISTRATION).isPresent());
+        assertTrue(smallStore.purgeExpired(now.plusSeconds(3600)) <= 16);
+    }
+
+    private StoredChallenge challenge(String value, Instant expiresAt) {
+        return StoredChallenge.builder()
+                .mautUserId(mautUserId)
+                .challenge(value)
+                .relyingPartyId("example.com")
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
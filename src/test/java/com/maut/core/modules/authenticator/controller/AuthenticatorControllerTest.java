@@ -112,16 +112,15 @@ public class AuthenticatorControllerTest {
         ListPasskeysResponse mockResponse = ListPasskeysResponse.builder()
                 .passkeys(passkeys)
                 .limit(10)
-                .offset(0)
-                .totalPasskeys(1)
+                .totalPasskeys(1L)
                 .build();
 
         // The controller currently passes null for MautUser
-        when(authenticatorService.listPasskeys(null, 10, 0)).thenReturn(mockResponse);
+        when(authenticatorService.listPasskeys(null, 10, null, true)).thenReturn(mockResponse);
 
         mockMvc.perform(get("/v1/passkeys") // Path for listing passkeys
                         .param("limit", "10")
-                        .param("offset", "0"))
+                        .param("includeTotal", "true"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.passkeys[0].name").value("Test Passkey"))
                 .andExpect(jsonPath("$.totalPasskeys").value(1));
@@ -0,0 +1,53 @@
+package com.maut.core.modules.authenticator.credential;
+
+import com.maut.core.common.config.ApplicationConfig;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CredentialPublicKeyCacheTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CredentialPublicKeyCache cache =
+            new CredentialPublicKeyCache(new ApplicationConfig(new ApplicationConfig.WebAuthnConfig()), objectConverter, meterRegistry);
+
+    @Test
+    void get_decodesOnMissAndServesHitsWithoutDecoding() throws Exception {
+        // Arrange
+        byte[] cose = encodedKey();
+
+        // Act
+        COSEKey first = cache.get("cred-1", cose);
+        COSEKey second = cache.get("cred-1", new byte[]{0x00}); // would not decode if it were read
+
+        // Assert
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "webauthn.publicKeys").tag("result", "miss").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "webauthn.publicKeys").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void get_whenStoredKeyIsNotCose_failsAndCachesNothing() throws Exception {
+        // Act + Assert
+        assertThrows(RuntimeException.class, () -> cache.get("cred-2", new byte[]{0x01, 0x02}));
+        assertNotNull(cache.get("cred-2", encodedKey()));
+    }
+
+    private byte[] encodedKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        ECPublicKey publicKey = (ECPublicKey) generator.generateKeyPair().getPublic();
+        return objectConverter.getCborConverter().writeValueAsBytes(EC2COSEKey.create(publicKey, COSEAlgorithmIdentifier.ES256));
+    }
+}
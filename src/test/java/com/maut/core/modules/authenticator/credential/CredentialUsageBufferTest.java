@@ -0,0 +1,78 @@
+package com.maut.core.modules.authenticator.credential;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CredentialUsageBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CredentialUsageBuffer buffer = new CredentialUsageBuffer(jdbcTemplate, new SimpleMeterRegistry());
+    private final UUID credentialId = UUID.randomUUID();
+
+    @Test
+    void effectiveSignCount_keepsHighestCounterAcrossOutOfOrderUses() {
+        // Arrange
+        Instant now = Instant.now();
+        buffer.recordCredentialUse(credentialId, 7, now);
+        buffer.recordCredentialUse(credentialId, 5, now.plusSeconds(1));
+
+        // Act
+        long effective = buffer.effectiveSignCount(credentialId, 3);
+
+        // Assert
+        assertEquals(7, effective);
+    }
+
+    @Test
+    void flush_writesOnceAndClearsBuffer() {
+        // Arrange
+        buffer.recordCredentialUse(credentialId, 7, Instant.now());
+
+        // Act
+        buffer.flush();
+        buffer.flush();
+
+        // Assert
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void effectiveSignCount_whenRowWasLoadedBeforeFlush_comparesAgainstFlushedCounter() {
+        // Arrange: an assertion loads the row (counter 5) while counter 7 is still buffered
+        buffer.recordCredentialUse(credentialId, 7, Instant.now());
+        long storedWhenLoaded = 5;
+
+        // Act: the flush commits and drops the buffered entry before the assertion checks its counter
+        buffer.flush();
+        long effective = buffer.effectiveSignCount(credentialId, storedWhenLoaded);
+
+        // Assert
+        assertEquals(7, effective);
+    }
+
+    @Test
+    void flush_whenDatabaseFails_keepsPendingUsage() {
+        // Arrange
+        buffer.recordCredentialUse(credentialId, 7, Instant.now());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        // Act
+        buffer.flush();
+
+        // Assert
+        assertEquals(7, buffer.effectiveSignCount(credentialId, 2));
+    }
+}
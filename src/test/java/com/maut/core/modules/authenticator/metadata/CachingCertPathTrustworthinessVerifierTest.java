@@ -0,0 +1,147 @@
+package com.maut.core.modules.authenticator.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.statement.AttestationCertificatePath;
+import com.webauthn4j.data.attestation.statement.CertificateBaseAttestationStatement;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.CertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.exception.CertificateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingCertPathTrustworthinessVerifierTest {
+
+    private static final AAGUID MODEL = new AAGUID("ee882879-721c-4913-9775-3dfcce97072a");
+
+    private final FidoMetadataService metadataService = mock(FidoMetadataService.class);
+    private final CertPathTrustworthinessVerifier delegate = mock(CertPathTrustworthinessVerifier.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachingCertPathTrustworthinessVerifier verifier;
+    private KeyPair caKeys;
+    private X509Certificate leaf;
+    private X509Certificate intermediate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(metadataService.currentIndex()).thenReturn(index(42));
+        verifier = new CachingCertPathTrustworthinessVerifier(metadataService, delegate, meterRegistry);
+
+        caKeys = newKeyPair();
+        intermediate = certificate("CN=Test Attestation CA", caKeys, caKeys.getPrivate(), true);
+        leaf = certificate("CN=Test Attestation", newKeyPair(), caKeys.getPrivate(), false);
+    }
+
+    @Test
+    void verify_sameChainTwice_delegatesOnceAndHitsCache() {
+        // Arrange
+        CertificateBaseAttestationStatement statement = statement(leaf, intermediate);
+
+        // Act
+        verifier.verify(MODEL, statement, Instant.now());
+        verifier.verify(MODEL, statement(leaf, intermediate), Instant.now());
+
+        // Assert
+        verify(delegate, times(1)).verify(eq(MODEL), any(), any());
+        assertEquals(1, gets("miss"));
+        assertEquals(1, gets("hit"));
+    }
+
+    @Test
+    void verify_afterNewBlobSerial_missesCache() {
+        // Arrange
+        verifier.verify(MODEL, statement(leaf, intermediate), Instant.now());
+        when(metadataService.currentIndex()).thenReturn(index(43));
+
+        // Act
+        verifier.verify(MODEL, statement(leaf, intermediate), Instant.now());
+
+        // Assert
+        verify(delegate, times(2)).verify(eq(MODEL), any(), any());
+        assertEquals(2, gets("miss"));
+    }
+
+    @Test
+    void verify_untrustedChain_cachesFailureForThatChainOnly() throws Exception {
+        // Arrange: same leaf, but one attestation carries a bogus intermediate
+        X509Certificate bogus = certificate("CN=Bogus CA", newKeyPair(), newKeyPair().getPrivate(), true);
+        CertificateBaseAttestationStatement bad = statement(leaf, bogus);
+        doThrow(new CertificateException("path does not chain")).when(delegate).verify(eq(MODEL), same(bad), any());
+
+        // Act
+        assertThrows(CertificateException.class, () -> verifier.verify(MODEL, bad, Instant.now()));
+        CertificateException cached = assertThrows(CertificateException.class,
+                () -> verifier.verify(MODEL, statement(leaf, bogus), Instant.now()));
+        verifier.verify(MODEL, statement(leaf, intermediate), Instant.now());
+
+        // Assert: the negative entry is replayed for the bad chain without poisoning the good one
+        assertEquals("path does not chain", cached.getMessage());
+        verify(delegate, times(2)).verify(eq(MODEL), any(), any());
+        assertEquals(1, gets("hit"));
+    }
+
+    @Test
+    void verify_revokedModel_isRejectedWithoutDelegating() {
+        // Arrange
+        MetadataEntry revoked = new MetadataEntry("Test Key", Set.of(), "REVOKED");
+        when(metadataService.currentIndex()).thenReturn(new MetadataIndex(42, LocalDate.now().plusDays(30), Map.of(MODEL, revoked), Map.of()));
+
+        // Act + Assert
+        assertThrows(CertificateException.class, () -> verifier.verify(MODEL, statement(leaf, intermediate), Instant.now()));
+        verifyNoInteractions(delegate);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "webauthn.certPathOutcomes").tag("result", result).functionCounter().count();
+    }
+
+    private static MetadataIndex index(long serial) {
+        return new MetadataIndex(serial, LocalDate.now().plusDays(30), Map.of(), Map.of());
+    }
+
+    private static CertificateBaseAttestationStatement statement(X509Certificate... chain) {
+        CertificateBaseAttestationStatement statement = mock(CertificateBaseAttestationStatement.class);
+        when(statement.getX5c()).thenReturn(new AttestationCertificatePath(List.of(chain)));
+        return statement;
+    }
+
+    private static KeyPair newKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        return generator.generateKeyPair();
+    }
+
+    private static X509Certificate certificate(String subject, KeyPair subjectKeys, PrivateKey issuerKey, boolean ca) throws Exception {
+        Instant now = Instant.now();
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                new X500Name("CN=Test Attestation Root"), BigInteger.valueOf(now.toEpochMilli()),
+                Date.from(now.minus(1, ChronoUnit.DAYS)), Date.from(now.plus(365, ChronoUnit.DAYS)),
+                new X500Name(subject), subjectKeys.getPublic());
+        builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(ca));
+        return new JcaX509CertificateConverter().getCertificate(
+                builder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(issuerKey)));
+    }
+}
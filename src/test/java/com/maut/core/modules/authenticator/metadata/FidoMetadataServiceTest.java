@@ -0,0 +1,166 @@
+package com.maut.core.modules.authenticator.metadata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maut.core.common.config.ApplicationConfig;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FidoMetadataServiceTest {
+
+    private static final String AAGUID_VALUE = "ee882879-721c-4913-9775-3dfcce97072a";
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KeyPair rootKeys;
+    private X509Certificate rootCertificate;
+    private KeyPair signerKeys;
+    private X509Certificate signerCertificate;
+    private Path blobPath;
+    private long mtime = 1_000_000L;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rootKeys = newKeyPair();
+        rootCertificate = certificate("CN=Test MDS Root", rootKeys, rootKeys.getPrivate(), true);
+        signerKeys = newKeyPair();
+        signerCertificate = certificate("CN=Test MDS Signer", signerKeys, rootKeys.getPrivate(), false);
+        blobPath = directory.resolve("blob.jwt");
+        Files.write(directory.resolve("root.der"), rootCertificate.getEncoded());
+    }
+
+    @Test
+    void reloadIfChanged_newerBlob_swapsIndex() throws Exception {
+        // Arrange
+        writeBlob(blob(42, "FIDO_CERTIFIED", signerKeys.getPrivate()));
+        FidoMetadataService service = service();
+        MetadataIndex original = service.currentIndex();
+        writeBlob(blob(43, "REVOKED", signerKeys.getPrivate()));
+
+        // Act
+        service.reloadIfChanged();
+
+        // Assert
+        assertEquals(42, original.getSerialNumber());
+        assertEquals(43, service.currentIndex().getSerialNumber());
+        assertTrue(service.currentIndex().find(new AAGUID(AAGUID_VALUE)).orElseThrow().isUntrusted());
+        assertEquals(43, meterRegistry.get("webauthn.metadata.serial").gauge().value());
+    }
+
+    @Test
+    void reloadIfChanged_olderSerial_keepsCurrentIndex() throws Exception {
+        // Arrange
+        writeBlob(blob(42, "FIDO_CERTIFIED", signerKeys.getPrivate()));
+        FidoMetadataService service = service();
+        MetadataIndex original = service.currentIndex();
+        writeBlob(blob(41, "REVOKED", signerKeys.getPrivate()));
+
+        // Act
+        service.reloadIfChanged();
+
+        // Assert
+        assertSame(original, service.currentIndex());
+    }
+
+    @Test
+    void reloadIfChanged_blobFailingVerification_keepsCurrentIndex() throws Exception {
+        // Arrange
+        writeBlob(blob(42, "FIDO_CERTIFIED", signerKeys.getPrivate()));
+        FidoMetadataService service = service();
+        MetadataIndex original = service.currentIndex();
+        writeBlob(blob(43, "FIDO_CERTIFIED", newKeyPair().getPrivate()));
+
+        // Act
+        service.reloadIfChanged();
+
+        // Assert
+        assertSame(original, service.currentIndex());
+    }
+
+    @Test
+    void constructor_whenConfiguredBlobIsInvalid_failsFast() throws Exception {
+        // Arrange
+        writeBlob("not a jwt".getBytes(StandardCharsets.US_ASCII));
+
+        // Act + Assert
+        assertThrows(IllegalStateException.class, this::service);
+    }
+
+    private FidoMetadataService service() {
+        ApplicationConfig.WebAuthnConfig webAuthnConfig = new ApplicationConfig.WebAuthnConfig();
+        webAuthnConfig.setMetadataBlobPath(blobPath.toString());
+        webAuthnConfig.setMetadataRootCertificatePath(directory.resolve("root.der").toString());
+        return new FidoMetadataService(new ApplicationConfig(webAuthnConfig), new ObjectMapper(), meterRegistry);
+    }
+
+    private void writeBlob(byte[] blob) throws Exception {
+        Files.write(blobPath, blob);
+        // Coarse filesystem timestamps would otherwise hide back-to-back writes from the change check.
+        mtime += 1_000L;
+        Files.setLastModifiedTime(blobPath, FileTime.fromMillis(mtime));
+    }
+
+    private byte[] blob(long serial, String status, PrivateKey signingKey) throws Exception {
+        String root = Base64.getEncoder().encodeToString(rootCertificate.getEncoded());
+        String payload = "{\"no\": " + serial + ", \"nextUpdate\": \"2099-01-01\", \"entries\": [{" +
+                "\"aaguid\": \"" + AAGUID_VALUE + "\"," +
+                "\"metadataStatement\": {\"description\": \"Test Key\", \"attestationRootCertificates\": [\"" + root + "\"]}," +
+                "\"statusReports\": [{\"status\": \"" + status + "\"}]" +
+                "}]}";
+        String header = "{\"alg\":\"ES256\",\"typ\":\"JWT\",\"x5c\":[\"" + Base64.getEncoder().encodeToString(signerCertificate.getEncoded()) + "\"]}";
+        String signingInput = base64Url(header) + "." + base64Url(payload);
+        Signature signature = Signature.getInstance("SHA256withECDSAinP1363Format");
+        signature.initSign(signingKey);
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return (signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign()))
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String base64Url(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static KeyPair newKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        return generator.generateKeyPair();
+    }
+
+    private static X509Certificate certificate(String subject, KeyPair subjectKeys, PrivateKey issuerKey, boolean ca) throws Exception {
+        Instant now = Instant.now();
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                new X500Name("CN=Test MDS Root"), BigInteger.valueOf(now.toEpochMilli()),
+                Date.from(now.minus(1, ChronoUnit.DAYS)), Date.from(now.plus(365, ChronoUnit.DAYS)),
+                new X500Name(subject), subjectKeys.getPublic());
+        builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(ca));
+        return new JcaX509CertificateConverter().getCertificate(
+                builder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(issuerKey)));
+    }
+}
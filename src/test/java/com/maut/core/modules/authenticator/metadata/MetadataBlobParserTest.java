@@ -0,0 +1,124 @@
+package com.maut.core.modules.authenticator.metadata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetadataBlobParserTest {
+
+    private static final String AAGUID_VALUE = "ee882879-721c-4913-9775-3dfcce97072a";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private KeyPair rootKeys;
+    private X509Certificate rootCertificate;
+    private KeyPair signerKeys;
+    private X509Certificate signerCertificate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rootKeys = newKeyPair();
+        rootCertificate = certificate("CN=Test MDS Root", rootKeys, "CN=Test MDS Root", rootKeys.getPrivate(), true);
+        signerKeys = newKeyPair();
+        signerCertificate = certificate("CN=Test MDS Signer", signerKeys, "CN=Test MDS Root", rootKeys.getPrivate(), false);
+    }
+
+    @Test
+    void parse_validBlob_indexesEntriesByAaguidWithLatestStatus() throws Exception {
+        // Arrange
+        byte[] blob = blob(payload(), signerKeys.getPrivate());
+
+        // Act
+        MetadataIndex index = new MetadataBlobParser(objectMapper, rootCertificate).parse(blob);
+
+        // Assert
+        assertEquals(42, index.getSerialNumber());
+        MetadataEntry entry = index.find(new AAGUID(AAGUID_VALUE)).orElseThrow();
+        assertEquals("REVOKED", entry.getStatus());
+        assertTrue(entry.isUntrusted());
+        assertEquals(1, entry.getTrustAnchors().size());
+    }
+
+    @Test
+    void parse_tamperedPayload_isRejected() throws Exception {
+        // Arrange
+        String[] parts = new String(blob(payload(), signerKeys.getPrivate()), StandardCharsets.US_ASCII).split("\\.");
+        String tampered = parts[0] + "." + base64Url(payload().replace("\"no\": 42", "\"no\": 43")) + "." + parts[2];
+
+        // Act + Assert
+        MetadataBlobParser parser = new MetadataBlobParser(objectMapper, rootCertificate);
+        assertThrows(MetadataBlobException.class, () -> parser.parse(tampered.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void parse_chainToAnotherRoot_isRejected() throws Exception {
+        // Arrange
+        KeyPair otherRootKeys = newKeyPair();
+        X509Certificate otherRoot = certificate("CN=Other Root", otherRootKeys, "CN=Other Root", otherRootKeys.getPrivate(), true);
+        byte[] blob = blob(payload(), signerKeys.getPrivate());
+
+        // Act + Assert
+        MetadataBlobParser parser = new MetadataBlobParser(objectMapper, otherRoot);
+        assertThrows(MetadataBlobException.class, () -> parser.parse(blob));
+    }
+
+    private String payload() throws Exception {
+        String root = Base64.getEncoder().encodeToString(rootCertificate.getEncoded());
+        return "{\"no\": 42, \"nextUpdate\": \"2099-01-01\", \"entries\": [{" +
+                "\"aaguid\": \"" + AAGUID_VALUE + "\"," +
+                "\"metadataStatement\": {\"description\": \"Test Key\", \"attestationRootCertificates\": [\"" + root + "\"]}," +
+                "\"statusReports\": [{\"status\": \"FIDO_CERTIFIED\"}, {\"status\": \"REVOKED\"}]" +
+                "}]}";
+    }
+
+    private byte[] blob(String payload, PrivateKey signingKey) throws Exception {
+        String header = "{\"alg\":\"ES256\",\"typ\":\"JWT\",\"x5c\":[\"" + Base64.getEncoder().encodeToString(signerCertificate.getEncoded()) + "\"]}";
+        String signingInput = base64Url(header) + "." + base64Url(payload);
+        Signature signature = Signature.getInstance("SHA256withECDSAinP1363Format");
+        signature.initSign(signingKey);
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return (signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign()))
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String base64Url(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static KeyPair newKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        return generator.generateKeyPair();
+    }
+
+    private static X509Certificate certificate(String subject, KeyPair subjectKeys, String issuer, PrivateKey issuerKey, boolean ca) throws Exception {
+        Instant now = Instant.now();
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                new X500Name(issuer), BigInteger.valueOf(now.toEpochMilli()),
+                Date.from(now.minus(1, ChronoUnit.DAYS)), Date.from(now.plus(365, ChronoUnit.DAYS)),
+                new X500Name(subject), subjectKeys.getPublic());
+        builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(ca));
+        return new JcaX509CertificateConverter().getCertificate(
+                builder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(issuerKey)));
+    }
+}
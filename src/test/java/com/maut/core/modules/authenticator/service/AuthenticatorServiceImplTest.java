@@ -17,10 +17,12 @@ import com.maut.core.modules.authenticator.dto.CompletePasskeyRegistrationRespon
 import com.maut.core.modules.authenticator.model.AuthenticatorType;
 import com.maut.core.modules.authenticator.model.UserAuthenticator;
 import com.maut.core.modules.authenticator.repository.UserAuthenticatorRepository;
+import com.maut.core.modules.mirror.service.TurnkeyMirrorReader;
 import com.maut.core.modules.user.model.MautUser;
 import com.maut.core.modules.user.repository.MautUserRepository;
 import com.maut.core.modules.wallet.model.UserWallet;
-import com.maut.core.modules.wallet.repository.UserWalletRepository;
+import com.maut.core.modules.wallet.service.WalletBinding;
+import com.maut.core.modules.wallet.service.WalletBindingResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,7 +35,10 @@ import static org.mockito.Mockito.*;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -47,7 +52,7 @@ class AuthenticatorServiceImplTest {
     private MautUserRepository mautUserRepository;
 
     @Mock
-    private UserWalletRepository userWalletRepository; 
+    private WalletBindingResolver walletBindingResolver;
 
     @Mock
     private TurnkeyClient turnkeyClient; 
@@ -55,6 +60,9 @@ class AuthenticatorServiceImplTest {
     @Mock
     private ObjectMapper objectMapper; 
 
+    @Mock
+    private TurnkeyMirrorReader turnkeyMirrorReader;
+
     @InjectMocks
     private AuthenticatorServiceImpl authenticatorService;
 
@@ -83,8 +91,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void initiatePasskeyRegistration_successScenario_shouldReturnCorrectResponse() throws JsonProcessingException {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         String sampleChallenge = "testChallenge";
         String samplePkOptionsJson = "{\"key\":\"value\"}";
         Map<String, Object> expectedAttestationMap = Collections.singletonMap("key", "value");
@@ -120,8 +128,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void initiatePasskeyRegistration_whenTurnkeyClientReturnsNullResponse_shouldThrowAuthenticationException() {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         when(turnkeyClient.initiatePasskeyRegistration(any(TurnkeyInitiatePasskeyRegistrationRequest.class)))
                 .thenReturn(null);
 
@@ -135,8 +143,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void initiatePasskeyRegistration_whenTurnkeyClientReturnsResponseWithNullPkOptions_shouldThrowAuthenticationException() {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         TurnkeyInitiatePasskeyRegistrationResponse turnkeyResponse = TurnkeyInitiatePasskeyRegistrationResponse.builder()
                 .challenge("testChallenge")
                 .publicKeyCredentialCreationOptions(null) // Invalid part
@@ -154,8 +162,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void initiatePasskeyRegistration_whenObjectMapperThrowsJsonProcessingException_shouldThrowAuthenticationException() throws JsonProcessingException {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         String sampleChallenge = "testChallenge";
         String samplePkOptionsJson = "{\"key\":\"value\"}";
 
@@ -181,8 +189,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void completePasskeyRegistration_successScenario_shouldReturnCorrectResponseAndSaveAuthenticator() throws JsonProcessingException {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
 
         String testTurnkeyChallenge = "challenge-from-initiate";
         String testClientDataJSON = "client-data-json-base64url";
@@ -327,7 +335,7 @@ class AuthenticatorServiceImplTest {
     @Test
     void completePasskeyRegistration_whenUserWalletNotFound_shouldThrowResourceNotFoundException() {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser)).thenReturn(Collections.emptyList());
+        when(walletBindingResolver.find(testMautUser)).thenReturn(Optional.empty());
         CompletePasskeyRegistrationRequest request = CompletePasskeyRegistrationRequest.builder()
                 .turnkeyAttestation(Map.of("id", "test-id"))
                 .turnkeyChallenge("test-challenge")
@@ -344,8 +352,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void completePasskeyRegistration_whenTurnkeySubOrganizationIdIsMissing_shouldThrowIllegalStateException() {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         testUserWallet.setTurnkeySubOrganizationId(null); // Missing ID
         CompletePasskeyRegistrationRequest request = CompletePasskeyRegistrationRequest.builder()
                 .turnkeyAttestation(Map.of("id", "test-id"))
@@ -365,8 +373,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void completePasskeyRegistration_whenObjectMapperThrowsJsonProcessingException_shouldThrowAuthenticationException() throws JsonProcessingException {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         Map<String, Object> attestationMap = Map.of("id", "test-id");
         CompletePasskeyRegistrationRequest request = CompletePasskeyRegistrationRequest.builder()
                 .turnkeyAttestation(attestationMap)
@@ -385,8 +393,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void completePasskeyRegistration_whenExternalCredentialIdIsMissingInAttestation_shouldThrowInvalidRequestException() {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         Map<String, Object> attestationMapWithoutId = Map.of("type", "public-key"); // Missing 'id' or 'rawId'
         CompletePasskeyRegistrationRequest request = CompletePasskeyRegistrationRequest.builder()
                 .turnkeyAttestation(attestationMapWithoutId)
@@ -404,8 +412,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void completePasskeyRegistration_whenAttestationCredentialIdIsNotString_shouldThrowInvalidRequestException() {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         // 'rawId' is present but is an Integer, not a String
         Map<String, Object> attestationMapWithInvalidIdType = Map.of("rawId", 12345);
         CompletePasskeyRegistrationRequest request = CompletePasskeyRegistrationRequest.builder()
@@ -424,8 +432,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void completePasskeyRegistration_whenTurnkeyClientThrowsException_shouldThrowAuthenticationException() throws JsonProcessingException {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         Map<String, Object> attestationMap = Map.of("rawId", "test-raw-id");
         String attestationJsonString = "{\"rawId\":\"test-raw-id\"}";
         CompletePasskeyRegistrationRequest request = CompletePasskeyRegistrationRequest.builder()
@@ -445,11 +453,37 @@ class AuthenticatorServiceImplTest {
         assertEquals("Failed to communicate with Turnkey to finalize passkey registration.", exception.getMessage());
     }
 
+    @Test
+    void completePasskeyRegistrationAsync_whenTurnkeyFutureFails_shouldCompleteWithAuthenticationException() throws JsonProcessingException {
+        // Arrange
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
+        Map<String, Object> attestationMap = Map.of("rawId", "test-raw-id");
+        CompletePasskeyRegistrationRequest request = CompletePasskeyRegistrationRequest.builder()
+                .turnkeyAttestation(attestationMap)
+                .turnkeyChallenge("test-challenge")
+                .clientDataJSON("test-client-json")
+                .build();
+
+        when(objectMapper.writeValueAsString(attestationMap)).thenReturn("{\"rawId\":\"test-raw-id\"}");
+        when(turnkeyClient.finalizePasskeyRegistrationAsync(any(TurnkeyFinalizePasskeyRegistrationRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Turnkey communication error")));
+
+        // Act
+        CompletableFuture<CompletePasskeyRegistrationResponse> future = authenticatorService.completePasskeyRegistrationAsync(testMautUser, request);
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(AuthenticationException.class, exception.getCause());
+        assertEquals("Failed to communicate with Turnkey to finalize passkey registration.", exception.getCause().getMessage());
+        verify(userAuthenticatorRepository, never()).save(any());
+    }
+
     @Test
     void completePasskeyRegistration_whenTurnkeyClientReturnsNullResponse_shouldThrowAuthenticationException() throws JsonProcessingException {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         Map<String, Object> attestationMap = Map.of("rawId", "test-raw-id");
         String attestationJsonString = "{\"rawId\":\"test-raw-id\"}";
         CompletePasskeyRegistrationRequest request = CompletePasskeyRegistrationRequest.builder()
@@ -472,8 +506,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void completePasskeyRegistration_whenTurnkeyClientReturnsSuccessFalse_shouldThrowAuthenticationException() throws JsonProcessingException {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         Map<String, Object> attestationMap = Map.of("rawId", "test-raw-id");
         String attestationJsonString = "{\"rawId\":\"test-raw-id\"}";
         CompletePasskeyRegistrationRequest request = CompletePasskeyRegistrationRequest.builder()
@@ -500,8 +534,8 @@ class AuthenticatorServiceImplTest {
     @Test
     void completePasskeyRegistration_whenTurnkeyClientReturnsResponseMissingAuthenticatorId_shouldThrowAuthenticationException() throws JsonProcessingException {
         // Arrange
-        when(userWalletRepository.findByMautUser(testMautUser))
-                .thenReturn(Collections.singletonList(testUserWallet));
+        when(walletBindingResolver.find(testMautUser))
+                .thenAnswer(invocation -> Optional.of(WalletBinding.of(testUserWallet)));
         Map<String, Object> attestationMap = Map.of("rawId", "test-raw-id");
         String attestationJsonString = "{\"rawId\":\"test-raw-id\"}";
         CompletePasskeyRegistrationRequest request = CompletePasskeyRegistrationRequest.builder()
@@ -0,0 +1,208 @@
+package com.maut.core.modules.authenticator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maut.core.common.config.ApplicationConfig;
+import com.maut.core.integration.turnkey.TurnkeyClient;
+import com.maut.core.modules.authenticator.challenge.ChallengeCeremony;
+import com.maut.core.modules.authenticator.challenge.InMemoryChallengeStore;
+import com.maut.core.modules.authenticator.challenge.StoredChallenge;
+import com.maut.core.modules.authenticator.credential.CredentialPublicKeyCache;
+import com.maut.core.modules.authenticator.credential.CredentialUsageBuffer;
+import com.maut.core.modules.authenticator.dto.webauthn.CompletePasskeyAuthenticationServerRequestDto;
+import com.maut.core.modules.authenticator.dto.webauthn.PasskeyAuthenticationResultDto;
+import com.maut.core.modules.authenticator.model.MautUserWebauthnCredential;
+import com.maut.core.modules.authenticator.repository.MautUserWebauthnCredentialRepository;
+import com.maut.core.modules.authenticator.repository.UserAuthenticatorRepository;
+import com.maut.core.modules.mirror.service.TurnkeyMirrorReader;
+import com.maut.core.modules.user.model.MautUser;
+import com.maut.core.modules.wallet.service.WalletBindingResolver;
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.util.Base64UrlUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Exercises local verification of vanilla passkey assertions end to end with a software P-256 authenticator.
+ */
+class VanillaPasskeyAssertionTest {
+
+    private static final String RP_ID = "example.com";
+    private static final String ORIGIN = "https://example.com";
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final MautUserWebauthnCredentialRepository credentialRepository = mock(MautUserWebauthnCredentialRepository.class);
+    private final InMemoryChallengeStore challengeStore = new InMemoryChallengeStore(1000);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CredentialUsageBuffer usageBuffer = new CredentialUsageBuffer(mock(JdbcTemplate.class), meterRegistry);
+
+    private AuthenticatorServiceImpl service;
+    private KeyPair keyPair;
+    private MautUser mautUser;
+    private MautUserWebauthnCredential credential;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ApplicationConfig.WebAuthnConfig webAuthnConfig = new ApplicationConfig.WebAuthnConfig();
+        webAuthnConfig.setRelyingPartyId(RP_ID);
+        webAuthnConfig.setRelyingPartyOrigins(List.of(ORIGIN));
+        ApplicationConfig applicationConfig = new ApplicationConfig(webAuthnConfig);
+
+        service = new AuthenticatorServiceImpl(
+                mock(UserAuthenticatorRepository.class),
+                mock(WalletBindingResolver.class),
+                WebAuthnManager.createNonStrictWebAuthnManager(objectConverter),
+                objectConverter,
+                new ObjectMapper(),
+                credentialRepository,
+                mock(TurnkeyClient.class),
+                applicationConfig,
+                challengeStore,
+                new CredentialPublicKeyCache(applicationConfig, objectConverter, meterRegistry),
+                usageBuffer,
+                mock(TurnkeyMirrorReader.class));
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        keyPair = generator.generateKeyPair();
+
+        mautUser = new MautUser();
+        mautUser.setId(UUID.randomUUID());
+        credential = new MautUserWebauthnCredential();
+        credential.setId(UUID.randomUUID());
+        credential.setMautUser(mautUser);
+        credential.setExternalId(Base64UrlUtil.encodeToString(new byte[]{1, 2, 3, 4}));
+        credential.setPublicKeyCose(objectConverter.getCborConverter().writeValueAsBytes(
+                EC2COSEKey.create((ECPublicKey) keyPair.getPublic(), COSEAlgorithmIdentifier.ES256)));
+        credential.setSignatureCounter(5);
+        when(credentialRepository.findByMautUserAndExternalId(mautUser, credential.getExternalId())).thenReturn(Optional.of(credential));
+    }
+
+    @Test
+    void completeVanillaPasskeyAuthentication_withValidAssertion_succeedsAndBuffersCounter() throws Exception {
+        // Arrange
+        CompletePasskeyAuthenticationServerRequestDto request = assertion(issueChallenge(), 6, false);
+
+        // Act
+        PasskeyAuthenticationResultDto result = service.completeVanillaPasskeyAuthentication(mautUser, request);
+
+        // Assert
+        assertTrue(result.isSuccess(), result.getMessage());
+        assertEquals(6, usageBuffer.effectiveSignCount(credential.getId(), credential.getSignatureCounter()));
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "webauthn.publicKeys").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void completeVanillaPasskeyAuthentication_secondVerificationHitsKeyCache() throws Exception {
+        // Act
+        service.completeVanillaPasskeyAuthentication(mautUser, assertion(issueChallenge(), 6, false));
+        PasskeyAuthenticationResultDto second = service.completeVanillaPasskeyAuthentication(mautUser, assertion(issueChallenge(), 7, false));
+
+        // Assert
+        assertTrue(second.isSuccess(), second.getMessage());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "webauthn.publicKeys").tag("result", "miss").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "webauthn.publicKeys").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void completeVanillaPasskeyAuthentication_withBadSignature_fails() throws Exception {
+        // Arrange
+        CompletePasskeyAuthenticationServerRequestDto request = assertion(issueChallenge(), 6, true);
+
+        // Act
+        PasskeyAuthenticationResultDto result = service.completeVanillaPasskeyAuthentication(mautUser, request);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals(5, usageBuffer.effectiveSignCount(credential.getId(), credential.getSignatureCounter()));
+    }
+
+    @Test
+    void completeVanillaPasskeyAuthentication_whenSignCountRegresses_fails() throws Exception {
+        // Arrange: a counter at or below the stored one indicates a cloned authenticator
+        CompletePasskeyAuthenticationServerRequestDto request = assertion(issueChallenge(), 5, false);
+
+        // Act
+        PasskeyAuthenticationResultDto result = service.completeVanillaPasskeyAuthentication(mautUser, request);
+
+        // Assert
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    void completeVanillaPasskeyAuthentication_whenChallengeWasNotIssued_fails() throws Exception {
+        // Arrange
+        CompletePasskeyAuthenticationServerRequestDto request = assertion(Base64UrlUtil.encodeToString(new byte[32]), 6, false);
+
+        // Act
+        PasskeyAuthenticationResultDto result = service.completeVanillaPasskeyAuthentication(mautUser, request);
+
+        // Assert
+        assertFalse(result.isSuccess());
+    }
+
+    private String issueChallenge() {
+        byte[] raw = new byte[32];
+        new SecureRandom().nextBytes(raw);
+        String challenge = Base64UrlUtil.encodeToString(raw);
+        challengeStore.save(StoredChallenge.builder()
+                .mautUserId(mautUser.getId())
+                .challenge(challenge)
+                .relyingPartyId(RP_ID)
+                .expiresAt(Instant.now().plusSeconds(60))
+                .ceremony(ChallengeCeremony.AUTHENTICATION)
+                .build());
+        return challenge;
+    }
+
+    private CompletePasskeyAuthenticationServerRequestDto assertion(String challenge, long signCount, boolean corruptSignature) throws Exception {
+        byte[] clientDataJson = ("{\"type\":\"webauthn.get\",\"challenge\":\"" + challenge + "\",\"origin\":\"" + ORIGIN + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream authenticatorData = new ByteArrayOutputStream();
+        authenticatorData.write(MessageDigest.getInstance("SHA-256").digest(RP_ID.getBytes(StandardCharsets.UTF_8)));
+        authenticatorData.write(0x05); // user present + user verified
+        authenticatorData.write(ByteBuffer.allocate(4).putInt((int) signCount).array());
+
+        Signature signer = Signature.getInstance("SHA256withECDSA");
+        signer.initSign(keyPair.getPrivate());
+        signer.update(authenticatorData.toByteArray());
+        signer.update(MessageDigest.getInstance("SHA-256").digest(clientDataJson));
+        byte[] signature = signer.sign();
+        if (corruptSignature) {
+            signature[signature.length - 1] ^= 0x01;
+        }
+
+        CompletePasskeyAuthenticationServerRequestDto.AuthenticatorAssertionResponseDto response =
+                new CompletePasskeyAuthenticationServerRequestDto.AuthenticatorAssertionResponseDto();
+        response.setClientDataJSON(Base64UrlUtil.encodeToString(clientDataJson));
+        response.setAuthenticatorData(Base64UrlUtil.encodeToString(authenticatorData.toByteArray()));
+        response.setSignature(Base64UrlUtil.encodeToString(signature));
+        CompletePasskeyAuthenticationServerRequestDto request = new CompletePasskeyAuthenticationServerRequestDto();
+        request.setId(credential.getExternalId());
+        request.setResponse(response);
+        return request;
+    }
+}
@@ -0,0 +1,171 @@
+package com.maut.core.modules.mirror.service;
+
+import com.maut.core.common.config.properties.TurnkeyMirrorProperties;
+import com.maut.core.common.exception.TurnkeyOperationException;
+import com.maut.core.external.turnkey.TurnkeyService;
+import com.maut.core.external.turnkey.model.TurnkeyActivityStatus;
+import com.maut.core.external.turnkey.model.TurnkeySubOrganizationState;
+import com.maut.core.modules.activity.event.TurnkeyActivityStatusChangedEvent;
+import com.maut.core.modules.mirror.repository.TurnkeyMirrorSyncRepository;
+import com.maut.core.modules.wallet.model.UserWallet;
+import com.maut.core.modules.wallet.repository.UserWalletRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TurnkeyMirrorSynchronizerTest {
+
+    @Mock
+    private TurnkeyService turnkeyService;
+
+    @Mock
+    private TurnkeyMirrorWriter mirrorWriter;
+
+    @Mock
+    private TurnkeyMirrorSyncRepository syncRepository;
+
+    @Mock
+    private UserWalletRepository userWalletRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadLocal<Boolean> onWriteExecutor = ThreadLocal.withInitial(() -> false);
+    private TurnkeyMirrorSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        synchronizer = new TurnkeyMirrorSynchronizer(turnkeyService, mirrorWriter, syncRepository,
+                userWalletRepository, new TurnkeyMirrorProperties(), meterRegistry, runnable -> {
+                    onWriteExecutor.set(true);
+                    try {
+                        runnable.run();
+                    } finally {
+                        onWriteExecutor.set(false);
+                    }
+                });
+    }
+
+    @Test
+    void refresh_writesMirrorOnWriteExecutorNotOnCompletingThread() {
+        // Arrange
+        CompletableFuture<TurnkeySubOrganizationState> read = new CompletableFuture<>();
+        when(turnkeyService.getSubOrganizationStateAsync("sub-org-1")).thenReturn(read);
+        TurnkeySubOrganizationState state = state("sub-org-1");
+        AtomicBoolean writtenOnExecutor = new AtomicBoolean();
+        when(mirrorWriter.replace(state)).thenAnswer(invocation -> {
+            writtenOnExecutor.set(onWriteExecutor.get());
+            return true;
+        });
+
+        // Act
+        CompletableFuture<Boolean> refreshed = synchronizer.refresh("sub-org-1");
+        read.complete(state);
+
+        // Assert
+        assertTrue(refreshed.join());
+        assertTrue(writtenOnExecutor.get());
+    }
+
+    @Test
+    void refresh_recordsFailedReadOnWriteExecutor() {
+        // Arrange
+        CompletableFuture<TurnkeySubOrganizationState> read = new CompletableFuture<>();
+        when(turnkeyService.getSubOrganizationStateAsync("sub-org-1")).thenReturn(read);
+        AtomicBoolean recordedOnExecutor = new AtomicBoolean();
+        doAnswer(invocation -> {
+            recordedOnExecutor.set(onWriteExecutor.get());
+            return null;
+        }).when(mirrorWriter).recordFailure(eq("sub-org-1"), any());
+
+        // Act
+        CompletableFuture<Boolean> refreshed = synchronizer.refresh("sub-org-1");
+        read.completeExceptionally(new RuntimeException("Turnkey unavailable"));
+
+        // Assert
+        assertTrue(refreshed.isCompletedExceptionally());
+        assertTrue(recordedOnExecutor.get());
+        verify(mirrorWriter, never()).replace(any());
+    }
+
+    @Test
+    void refresh_concurrentCallsForSameSubOrganization_shareOneRead() {
+        // Arrange
+        CompletableFuture<TurnkeySubOrganizationState> read = new CompletableFuture<>();
+        when(turnkeyService.getSubOrganizationStateAsync("sub-org-1")).thenReturn(read);
+        TurnkeySubOrganizationState state = state("sub-org-1");
+        when(mirrorWriter.replace(state)).thenReturn(true);
+
+        // Act
+        CompletableFuture<Boolean> first = synchronizer.refresh("sub-org-1");
+        CompletableFuture<Boolean> second = synchronizer.refresh("sub-org-1");
+        read.complete(state);
+
+        // Assert
+        assertSame(first, second);
+        assertTrue(first.join());
+        verify(turnkeyService, times(1)).getSubOrganizationStateAsync("sub-org-1");
+        assertEquals(1, meterRegistry.get("turnkey.mirror.refreshes").tag("outcome", "refreshed").counter().count());
+    }
+
+    @Test
+    void refresh_whenTurnkeyReadFails_recordsFailureAndKeepsMirror() {
+        // Arrange
+        when(turnkeyService.getSubOrganizationStateAsync("sub-org-1"))
+                .thenReturn(CompletableFuture.failedFuture(new TurnkeyOperationException("boom")));
+
+        // Act
+        CompletableFuture<Boolean> result = synchronizer.refresh("sub-org-1");
+
+        // Assert
+        assertTrue(result.isCompletedExceptionally());
+        verify(mirrorWriter).recordFailure("sub-org-1", "boom");
+        verify(mirrorWriter, never()).replace(any());
+    }
+
+    @Test
+    void onActivityStatusChanged_completedActivityOfWallet_refreshesIt_demoAndParentOrgsAreIgnored() {
+        // Arrange
+        when(userWalletRepository.findByTurnkeySubOrganizationId("sub-org-1")).thenReturn(Optional.of(new UserWallet()));
+        when(userWalletRepository.findByTurnkeySubOrganizationId("parent-org")).thenReturn(Optional.empty());
+        when(turnkeyService.getSubOrganizationStateAsync("sub-org-1")).thenReturn(CompletableFuture.completedFuture(state("sub-org-1")));
+
+        // Act
+        synchronizer.onActivityStatusChanged(event("sub-org-1", TurnkeyActivityStatus.COMPLETED));
+        synchronizer.onActivityStatusChanged(event("parent-org", TurnkeyActivityStatus.COMPLETED));
+        synchronizer.onActivityStatusChanged(event("sub-org-1", TurnkeyActivityStatus.PENDING));
+        CompletableFuture<Boolean> demo = synchronizer.refresh("DEMO-123");
+
+        // Assert
+        verify(turnkeyService, times(1)).getSubOrganizationStateAsync(any());
+        assertFalse(demo.join());
+    }
+
+    private static TurnkeySubOrganizationState state(String subOrganizationId) {
+        return TurnkeySubOrganizationState.builder()
+                .subOrganizationId(subOrganizationId)
+                .privateKeys(List.of())
+                .users(List.of())
+                .policies(List.of())
+                .fetchedAt(Instant.now())
+                .build();
+    }
+
+    private static TurnkeyActivityStatusChangedEvent event(String organizationId, String status) {
+        return new TurnkeyActivityStatusChangedEvent("activity-1", organizationId, null, "ACTIVITY_TYPE_CREATE_POLICY_V3",
+                TurnkeyActivityStatus.PENDING, status, null, Instant.now());
+    }
+}
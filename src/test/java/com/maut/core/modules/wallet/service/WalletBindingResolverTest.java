@@ -0,0 +1,67 @@
+package com.maut.core.modules.wallet.service;
+
+import com.maut.core.modules.user.model.MautUser;
+import com.maut.core.modules.wallet.model.UserWallet;
+import com.maut.core.modules.wallet.repository.UserWalletRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WalletBindingResolverTest {
+
+    private UserWalletRepository userWalletRepository;
+    private WalletBindingResolver resolver;
+    private MautUser mautUser;
+
+    @BeforeEach
+    void setUp() {
+        userWalletRepository = mock(UserWalletRepository.class);
+        resolver = new WalletBindingResolver(userWalletRepository, new SimpleMeterRegistry(), 100);
+        mautUser = new MautUser();
+        mautUser.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void find_loadsOnceAndServesLaterLookupsFromCache() {
+        // Arrange
+        UserWallet wallet = new UserWallet();
+        wallet.setId(UUID.randomUUID());
+        wallet.setTurnkeySubOrganizationId("sub-org");
+        when(userWalletRepository.findByMautUser(mautUser)).thenReturn(Collections.singletonList(wallet));
+
+        // Act
+        Optional<WalletBinding> first = resolver.find(mautUser);
+        Optional<WalletBinding> second = resolver.find(mautUser);
+
+        // Assert
+        assertEquals("sub-org", first.orElseThrow().getTurnkeySubOrganizationId());
+        assertEquals(first, second);
+        verify(userWalletRepository, times(1)).findByMautUser(mautUser);
+    }
+
+    @Test
+    void find_doesNotCacheMissingWallet() {
+        // Arrange
+        when(userWalletRepository.findByMautUser(mautUser)).thenReturn(Collections.emptyList());
+        UserWallet wallet = new UserWallet();
+        wallet.setId(UUID.randomUUID());
+        wallet.setTurnkeySubOrganizationId("sub-org");
+
+        // Act
+        Optional<WalletBinding> beforeEnrollment = resolver.find(mautUser);
+        resolver.register(mautUser.getId(), wallet);
+        Optional<WalletBinding> afterEnrollment = resolver.find(mautUser);
+
+        // Assert
+        assertTrue(beforeEnrollment.isEmpty());
+        assertEquals(wallet.getId(), afterEnrollment.orElseThrow().getWalletId());
+        verify(userWalletRepository, times(1)).findByMautUser(mautUser);
+    }
+}
@@ -0,0 +1,177 @@
+package com.maut.core.modules.wallet.service;
+
+import com.maut.core.common.config.properties.WalletEnrollmentProperties;
+import com.maut.core.common.config.properties.WalletPoolProperties;
+import com.maut.core.common.exception.TurnkeyOperationException;
+import com.maut.core.common.exception.UserAlreadyHasWalletException;
+import com.maut.core.external.turnkey.TurnkeyService;
+import com.maut.core.external.turnkey.model.TurnkeyPrivateKey;
+import com.maut.core.external.turnkey.model.TurnkeySubOrganization;
+import com.maut.core.modules.user.model.MautUser;
+import com.maut.core.modules.user.repository.MautUserRepository;
+import com.maut.core.modules.wallet.dto.EnrollWalletResponse;
+import com.maut.core.modules.wallet.model.WalletEnrollmentJob;
+import com.maut.core.modules.wallet.repository.WalletEnrollmentJobRepository;
+import com.maut.core.modules.webhook.service.WebhookDispatcherService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WalletEnrollmentWorkerTest {
+
+    @Mock
+    private WalletEnrollmentJobRepository jobRepository;
+
+    @Mock
+    private WalletEnrollmentJobService jobService;
+
+    @Mock
+    private MautUserRepository mautUserRepository;
+
+    @Mock
+    private WalletService walletService;
+
+    @Mock
+    private WalletPoolProvisioner walletPoolProvisioner;
+
+    @Mock
+    private TurnkeyService turnkeyService;
+
+    @Mock
+    private WebhookDispatcherService webhookDispatcherService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WalletEnrollmentWorker worker;
+    private WalletEnrollmentJob job;
+
+    @BeforeEach
+    void setUp() {
+        WalletEnrollmentProperties properties = new WalletEnrollmentProperties();
+        properties.setProvisionWithTurnkey(true);
+        properties.setMaxAttempts(3);
+        worker = new WalletEnrollmentWorker(jobRepository, jobService, mautUserRepository, walletService, walletPoolProvisioner,
+                turnkeyService, webhookDispatcherService, properties, new WalletPoolProperties(), meterRegistry);
+
+        MautUser mautUser = new MautUser();
+        mautUser.setId(UUID.randomUUID());
+        job = new WalletEnrollmentJob();
+        job.setId(UUID.randomUUID());
+        job.setMautUserId(mautUser.getId());
+        job.setStatus(WalletEnrollmentJob.STATUS_RUNNING);
+        job.setAttempts(1);
+        job.setTurnkeySubOrganizationId("sub-org-1");
+        when(jobRepository.claim(eq(job.getId()), any(), any())).thenReturn(1);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(mautUserRepository.findById(mautUser.getId())).thenReturn(Optional.of(mautUser));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.destroy();
+    }
+
+    @Test
+    void run_whenOneKeyFails_recordsTheOtherAndReleasesForRetry() {
+        // Arrange
+        when(turnkeyService.createMautManagedPrivateKeyAsync(eq("sub-org-1"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(key("maut-key-1", "0xmaut")))
+                .thenReturn(CompletableFuture.failedFuture(new TurnkeyOperationException("unavailable")));
+
+        // Act
+        worker.run(job.getId());
+
+        // Assert
+        verify(turnkeyService, never()).createSubOrganizationAsync(any(), any());
+        verify(jobService).recordKeys(job.getId(), "maut-key-1", null, null);
+        verify(jobService).release(eq(job.getId()), contains("unavailable"));
+        verify(jobService, never()).fail(any(), any());
+        verifyNoInteractions(walletPoolProvisioner);
+        assertEquals(1, meterRegistry.get("wallet.enrollment.jobs").tag("outcome", "retried").counter().count());
+    }
+
+    @Test
+    void run_keysEveryTurnkeyCallOnTheJob() {
+        // Arrange
+        job.setTurnkeySubOrganizationId(null);
+        when(turnkeyService.createSubOrganizationAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(TurnkeySubOrganization.builder().subOrganizationId("sub-org-1").build()));
+        when(turnkeyService.createMautManagedPrivateKeyAsync(eq("sub-org-1"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(key("maut-key-1", "0xmaut")))
+                .thenReturn(CompletableFuture.completedFuture(key("user-key-1", "0xuser")));
+        when(walletService.enrollProvisionedWallet(any(), any(), any())).thenReturn(new EnrollWalletResponse(UUID.randomUUID().toString(), "0xuser"));
+
+        // Act
+        worker.run(job.getId());
+
+        // Assert
+        String name = "maut-wallet-" + job.getId();
+        InOrder inOrder = inOrder(turnkeyService, jobService);
+        inOrder.verify(turnkeyService).createSubOrganizationAsync(name, "ACTIVITY_TYPE_CREATE_SUB_ORGANIZATION_V7:enrollment:" + job.getId());
+        inOrder.verify(jobService).recordSubOrganization(job.getId(), "sub-org-1");
+        verify(turnkeyService).createMautManagedPrivateKeyAsync("sub-org-1", name + "-maut", "ACTIVITY_TYPE_CREATE_PRIVATE_KEYS_V2:" + job.getId() + ":maut");
+        verify(turnkeyService).createMautManagedPrivateKeyAsync("sub-org-1", name + "-user", "ACTIVITY_TYPE_CREATE_PRIVATE_KEYS_V2:" + job.getId() + ":user");
+        verify(jobService).recordKeys(job.getId(), "maut-key-1", null, null);
+        verify(jobService).recordKeys(job.getId(), null, "user-key-1", "0xuser");
+        verify(jobService).complete(eq(job.getId()), any());
+    }
+
+    @Test
+    void run_whenAttemptsExhaustedWithPartialKeys_handsSubOrganizationToPool() {
+        // Arrange
+        job.setAttempts(3);
+        when(turnkeyService.createMautManagedPrivateKeyAsync(eq("sub-org-1"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(key("maut-key-1", "0xmaut")))
+                .thenReturn(CompletableFuture.failedFuture(new TurnkeyOperationException("unavailable")));
+
+        // Act
+        worker.run(job.getId());
+
+        // Assert
+        InOrder inOrder = inOrder(jobService, walletPoolProvisioner);
+        inOrder.verify(jobService).fail(eq(job.getId()), contains("unavailable"));
+        inOrder.verify(walletPoolProvisioner).adopt("sub-org-1", "maut-key-1", null, null);
+        assertEquals(1, meterRegistry.get("wallet.enrollment.jobs").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    void run_whenUserAlreadyHasWallet_handsResourcesToPoolAndFails() {
+        // Arrange
+        job.setTurnkeyMautPrivateKeyId("maut-key-1");
+        job.setTurnkeyUserPrivateKeyId("user-key-1");
+        job.setWalletAddress("0xuser");
+        when(walletService.enrollProvisionedWallet(any(), any(), any()))
+                .thenThrow(new UserAlreadyHasWalletException("User already has an enrolled wallet."));
+
+        // Act
+        worker.run(job.getId());
+
+        // Assert
+        verifyNoInteractions(turnkeyService);
+        verify(walletPoolProvisioner).adopt("sub-org-1", "maut-key-1", "user-key-1", "0xuser");
+        verify(jobService).fail(eq(job.getId()), contains("already has"));
+        verify(webhookDispatcherService, never()).dispatchEvent(any(), any(), any());
+    }
+
+    private static TurnkeyPrivateKey key(String id, String address) {
+        TurnkeyPrivateKey key = new TurnkeyPrivateKey();
+        key.setPrivateKeyId(id);
+        key.setAddress(address);
+        return key;
+    }
+}
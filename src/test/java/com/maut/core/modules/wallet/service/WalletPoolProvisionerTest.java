@@ -0,0 +1,119 @@
+package com.maut.core.modules.wallet.service;
+
+import com.maut.core.common.config.properties.WalletPoolProperties;
+import com.maut.core.external.turnkey.TurnkeyService;
+import com.maut.core.external.turnkey.model.TurnkeyPrivateKey;
+import com.maut.core.external.turnkey.model.TurnkeySubOrganization;
+import com.maut.core.modules.wallet.model.ProvisionedWallet;
+import com.maut.core.modules.wallet.repository.ProvisionedWalletRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WalletPoolProvisionerTest {
+
+    private static final String ENVIRONMENT = "test";
+
+    @Mock
+    private ProvisionedWalletRepository repository;
+
+    @Mock
+    private TurnkeyService turnkeyService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WalletPoolProvisioner provisioner;
+
+    @BeforeEach
+    void setUp() {
+        WalletPoolProperties properties = new WalletPoolProperties();
+        properties.setEnabled(true);
+        properties.setEnvironment(ENVIRONMENT);
+        properties.setTargetSize(1);
+        properties.setMaxProvisionPerRound(1);
+        properties.setRoundTimeoutMs(1_000);
+        provisioner = new WalletPoolProvisioner(repository, turnkeyService, properties, meterRegistry, Runnable::run);
+    }
+
+    @Test
+    void refill_whenKeyCreationFails_keepsSubOrganizationAsProvisioning() {
+        // Arrange
+        when(repository.acquireRefillLease(eq(ENVIRONMENT), any(), any())).thenReturn(1);
+        when(turnkeyService.createSubOrganizationAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(TurnkeySubOrganization.builder().subOrganizationId("sub-org-1").build()));
+        when(repository.save(any(ProvisionedWallet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(turnkeyService.createMautManagedPrivateKeyAsync(eq("sub-org-1"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Turnkey unavailable")));
+
+        // Act
+        provisioner.refill();
+
+        // Assert
+        ArgumentCaptor<ProvisionedWallet> saved = ArgumentCaptor.forClass(ProvisionedWallet.class);
+        verify(repository).save(saved.capture());
+        assertEquals(ProvisionedWallet.STATUS_PROVISIONING, saved.getValue().getStatus());
+        assertEquals("sub-org-1", saved.getValue().getTurnkeySubOrganizationId());
+        verify(repository, never()).completeProvisioning(any(), any(), any(), any(), any());
+        assertEquals(1, meterRegistry.get("wallet.pool.provisioned").tag("outcome", "failed").counter().count());
+        verify(repository).releaseRefillLease(eq(ENVIRONMENT), any(), any());
+    }
+
+    @Test
+    void refill_resumesStaleProvisioningWalletUnderItsOwnKeys() {
+        // Arrange
+        ProvisionedWallet stale = new ProvisionedWallet();
+        stale.setId(UUID.randomUUID());
+        stale.setEnvironment(ENVIRONMENT);
+        stale.setStatus(ProvisionedWallet.STATUS_PROVISIONING);
+        stale.setTurnkeySubOrganizationId("sub-org-1");
+        stale.setCreatedAt(Instant.now().minusSeconds(60));
+        when(repository.acquireRefillLease(eq(ENVIRONMENT), any(), any())).thenReturn(1);
+        when(repository.countByEnvironmentAndStatus(ENVIRONMENT, ProvisionedWallet.STATUS_AVAILABLE)).thenReturn(0L);
+        when(repository.countByEnvironmentAndStatus(ENVIRONMENT, ProvisionedWallet.STATUS_PROVISIONING)).thenReturn(1L);
+        when(repository.findStaleProvisioning(eq(ENVIRONMENT), any(), eq(1))).thenReturn(List.of(stale));
+        when(turnkeyService.createMautManagedPrivateKeyAsync(eq("sub-org-1"), anyString(), anyString()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(TurnkeyPrivateKey.builder()
+                        .privateKeyId(invocation.getArgument(1) + "-id")
+                        .address("0xabc")
+                        .build()));
+
+        // Act
+        provisioner.refill();
+
+        // Assert
+        String name = "maut-pool-" + ENVIRONMENT + "-" + stale.getId();
+        verify(turnkeyService, never()).createSubOrganizationAsync(anyString(), anyString());
+        verify(turnkeyService).createMautManagedPrivateKeyAsync("sub-org-1", name + "-maut",
+                "ACTIVITY_TYPE_CREATE_PRIVATE_KEYS_V2:sub-org-1:" + name + "-maut");
+        verify(repository).completeProvisioning(eq(stale.getId()), eq(name + "-maut-id"), eq(name + "-user-id"), eq("0xabc"), any());
+    }
+
+    @Test
+    void refill_whenAnotherNodeHoldsTheLease_doesNothing() {
+        // Arrange
+        when(repository.acquireRefillLease(eq(ENVIRONMENT), any(), any())).thenReturn(0);
+
+        // Act
+        provisioner.refill();
+
+        // Assert
+        verify(repository, never()).countByEnvironmentAndStatus(any(), any());
+        verifyNoInteractions(turnkeyService);
+        verify(repository, never()).releaseRefillLease(any(), any(), any());
+    }
+}
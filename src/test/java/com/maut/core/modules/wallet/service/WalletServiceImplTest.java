@@ -0,0 +1,97 @@
+package com.maut.core.modules.wallet.service;
+
+import com.maut.core.common.config.properties.WalletPoolProperties;
+import com.maut.core.common.exception.WalletPoolExhaustedException;
+import com.maut.core.modules.mirror.service.TurnkeyMirrorReader;
+import com.maut.core.modules.user.model.MautUser;
+import com.maut.core.modules.wallet.dto.EnrollWalletResponse;
+import com.maut.core.modules.wallet.model.ProvisionedWallet;
+import com.maut.core.modules.wallet.model.UserWallet;
+import com.maut.core.modules.wallet.repository.ProvisionedWalletRepository;
+import com.maut.core.modules.wallet.repository.UserWalletRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WalletServiceImplTest {
+
+    @Mock
+    private UserWalletRepository userWalletRepository;
+
+    @Mock
+    private WalletBindingResolver walletBindingResolver;
+
+    @Mock
+    private ProvisionedWalletRepository provisionedWalletRepository;
+
+    @Mock
+    private TurnkeyMirrorReader turnkeyMirrorReader;
+
+    private WalletServiceImpl walletService;
+    private MautUser mautUser;
+
+    @BeforeEach
+    void setUp() {
+        WalletPoolProperties properties = new WalletPoolProperties();
+        properties.setEnabled(true);
+        properties.setEnvironment("test");
+        walletService = new WalletServiceImpl(userWalletRepository, walletBindingResolver, provisionedWalletRepository, properties, turnkeyMirrorReader);
+
+        mautUser = new MautUser();
+        mautUser.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void enrollNewWallet_withPoolEnabled_claimsProvisionedWallet() {
+        // Arrange
+        ProvisionedWallet provisioned = new ProvisionedWallet();
+        provisioned.setId(UUID.randomUUID());
+        provisioned.setStatus(ProvisionedWallet.STATUS_AVAILABLE);
+        provisioned.setWalletAddress("0xabc");
+        provisioned.setTurnkeySubOrganizationId("sub-org-1");
+        provisioned.setTurnkeyMautPrivateKeyId("maut-key-1");
+        provisioned.setTurnkeyUserPrivateKeyId("user-key-1");
+        when(userWalletRepository.existsByMautUser(mautUser)).thenReturn(false);
+        when(provisionedWalletRepository.lockNextAvailable("test")).thenReturn(Optional.of(provisioned));
+        when(userWalletRepository.save(any(UserWallet.class))).thenAnswer(invocation -> {
+            UserWallet wallet = invocation.getArgument(0);
+            wallet.setId(UUID.randomUUID());
+            return wallet;
+        });
+
+        // Act
+        EnrollWalletResponse response = walletService.enrollNewWallet(mautUser, "Main");
+
+        // Assert
+        assertEquals("0xabc", response.getWalletAddress());
+        assertEquals(ProvisionedWallet.STATUS_CLAIMED, provisioned.getStatus());
+        assertEquals(mautUser.getId(), provisioned.getClaimedByMautUserId());
+        ArgumentCaptor<UserWallet> saved = ArgumentCaptor.forClass(UserWallet.class);
+        verify(userWalletRepository).save(saved.capture());
+        assertEquals("sub-org-1", saved.getValue().getTurnkeySubOrganizationId());
+        assertEquals("user-key-1", saved.getValue().getTurnkeyUserPrivateKeyId());
+        verify(walletBindingResolver).register(mautUser.getId(), saved.getValue());
+    }
+
+    @Test
+    void enrollNewWallet_withEmptyPool_throwsWalletPoolExhausted() {
+        // Arrange
+        when(userWalletRepository.existsByMautUser(mautUser)).thenReturn(false);
+        when(provisionedWalletRepository.lockNextAvailable("test")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(WalletPoolExhaustedException.class, () -> walletService.enrollNewWallet(mautUser, null));
+        verify(userWalletRepository, never()).save(any());
+    }
+}